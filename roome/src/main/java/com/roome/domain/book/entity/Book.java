@@ -6,12 +6,14 @@ import lombok.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 @Getter
 @Entity
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_book_isbn", columnNames = "isbn"))
 public class Book {
 
     @Id
@@ -39,4 +41,12 @@ public class Book {
     public void addBookGenre(BookGenre bookGenre) {
         bookGenres.add(bookGenre);
     }
+
+    // 카탈로그 키 (하이픈/공백 제거, 체크 문자 X는 대문자)
+    public static String normalizeIsbn(String isbn) {
+        if (isbn == null) {
+            return null;
+        }
+        return isbn.replaceAll("[\\s-]", "").toUpperCase(Locale.ROOT);
+    }
 }
@@ -4,6 +4,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.*;
 
 @Getter
@@ -11,6 +13,7 @@ import lombok.*;
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_genre_name", columnNames = "name"))
 public class Genre {
 
     @Id
@@ -24,4 +27,9 @@ public class Genre {
         genre.name = name;
         return genre;
     }
+
+    // 이미 저장된 장르 참조 (장르 사전의 id/이름으로 조회 없이 연관관계 설정)
+    public static Genre reference(Long id, String name) {
+        return Genre.builder().id(id).name(name).build();
+    }
 }
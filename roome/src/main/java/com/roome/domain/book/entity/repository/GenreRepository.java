@@ -11,7 +11,20 @@ public interface GenreRepository extends JpaRepository<Genre, Long> {
 
     Optional<Genre> findByName(String name);
 
+    // 삭제할 책들의 장르 (책마다 장르 하나씩, 장르 분포 차감용)
     @Query("SELECT bg.genre.name FROM BookGenre bg WHERE bg.book.id IN " +
-            "(SELECT mb.book.id FROM MyBook mb WHERE mb.room.id = :roomId)")
-    List<String> findGenresByRoomId(Long roomId);
+            "(SELECT mb.book.id FROM MyBook mb WHERE mb.id IN :myBookIds)")
+    List<String> findGenresByMyBookIds(List<Long> myBookIds);
+
+    // 사용자가 등록한 책의 장르별 개수 (장르 분포 재구성용)
+    @Query("SELECT bg.genre.name AS name, COUNT(bg) AS count FROM BookGenre bg WHERE bg.book.id IN " +
+            "(SELECT mb.book.id FROM MyBook mb WHERE mb.user.id = :userId) GROUP BY bg.genre.name")
+    List<GenreCountRow> countGenresByUserId(Long userId);
+
+    interface GenreCountRow {
+
+        String getName();
+
+        Long getCount();
+    }
 }
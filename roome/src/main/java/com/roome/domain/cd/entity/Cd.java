@@ -1,8 +1,14 @@
 package com.roome.domain.cd.entity;
 
 import jakarta.persistence.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Locale;
 import lombok.*;
 
 import java.util.List;
@@ -12,6 +18,7 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_cd_catalog_key", columnNames = "catalog_key"))
 public class Cd {
 
   @Id
@@ -38,6 +45,10 @@ public class Cd {
 
   private long duration;
 
+  // 정규화한 제목 + 아티스트의 SHA-256 (기존 데이터는 null)
+  @Column(name = "catalog_key", length = 64)
+  private String catalogKey;
+
   @OneToMany(mappedBy = "cd", cascade = CascadeType.ALL, orphanRemoval = true)
   @Builder.Default
   private List<CdGenre> cdGenres = new ArrayList<>();
@@ -52,10 +63,33 @@ public class Cd {
         .coverUrl(coverUrl)
         .youtubeUrl(youtubeUrl)
         .duration(duration)
+        .catalogKey(catalogKey(title, artist))
         .cdGenres(new ArrayList<>())
         .build();
   }
 
+  // 대소문자, 유니코드 조합 형태, 연속 공백 차이는 같은 CD로 취급
+  public static String catalogKey(String title, String artist) {
+    String normalized = normalize(title) + "\u0000" + normalize(artist);
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(normalized.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String normalize(String value) {
+    if (value == null) {
+      return "";
+    }
+    return Normalizer.normalize(value, Normalizer.Form.NFC)
+        .trim()
+        .replaceAll("\\s+", " ")
+        .toLowerCase(Locale.ROOT);
+  }
+
   public void addGenre(CdGenre cdGenre) {
     this.cdGenres.add(cdGenre);
   }
@@ -22,6 +22,11 @@ public class CdGenreType {
     return CdGenreType.builder().name(name).build();
   }
 
+  // 이미 저장된 장르 참조 (장르 사전의 id/이름으로 조회 없이 연관관계 설정)
+  public static CdGenreType reference(Long id, String name) {
+    return CdGenreType.builder().id(id).name(name).build();
+  }
+
   public CdGenreType(String name) {
     this.name = name;
   }
@@ -10,7 +10,20 @@ import java.util.Optional;
 public interface CdGenreTypeRepository extends JpaRepository<CdGenreType, Long> {
   Optional<CdGenreType> findByName(String name);
 
+  // 삭제할 CD들의 장르 (CD마다 장르 하나씩, 장르 분포 차감용)
   @Query("SELECT cg.genreType.name FROM CdGenre cg WHERE cg.cd.id IN " +
-          "(SELECT mc.cd.id FROM MyCd mc WHERE mc.room.id = :roomId)")
-  List<String> findGenresByRoomId(Long roomId);
+          "(SELECT mc.cd.id FROM MyCd mc WHERE mc.id IN :myCdIds)")
+  List<String> findGenresByMyCdIds(List<Long> myCdIds);
+
+  // 사용자가 등록한 CD의 장르별 개수 (장르 분포 재구성용)
+  @Query("SELECT cg.genreType.name AS name, COUNT(cg) AS count FROM CdGenre cg WHERE cg.cd.id IN " +
+          "(SELECT mc.cd.id FROM MyCd mc WHERE mc.user.id = :userId) GROUP BY cg.genreType.name")
+  List<GenreCountRow> countGenresByUserId(Long userId);
+
+  interface GenreCountRow {
+
+    String getName();
+
+    Long getCount();
+  }
 }
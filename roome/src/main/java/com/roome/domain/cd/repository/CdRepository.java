@@ -1,11 +1,22 @@
 package com.roome.domain.cd.repository;
 
 import com.roome.domain.cd.entity.Cd;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CdRepository extends JpaRepository<Cd, Long> {
 
-  Optional<Cd> findByTitleAndArtist(String title, String artist);
+  @Query("select distinct c from Cd c left join fetch c.cdGenres cg left join fetch cg.genreType "
+      + "where c.catalogKey = :catalogKey")
+  Optional<Cd> findWithGenresByCatalogKey(@Param("catalogKey") String catalogKey);
+
+  // catalog_key가 없는 기존 데이터 (중복 행이 있을 수 있어 목록으로 조회)
+  @Query("select distinct c from Cd c left join fetch c.cdGenres cg left join fetch cg.genreType "
+      + "where c.catalogKey is null and c.title = :title and c.artist = :artist order by c.id")
+  List<Cd> findLegacyWithGenresByTitleAndArtist(@Param("title") String title,
+      @Param("artist") String artist);
 
 }
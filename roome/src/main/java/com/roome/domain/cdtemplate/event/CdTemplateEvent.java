@@ -0,0 +1,31 @@
+package com.roome.domain.cdtemplate.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public abstract class CdTemplateEvent extends ApplicationEvent {
+
+  private final Long userId;
+
+  public CdTemplateEvent(Object source, Long userId) {
+    super(source);
+    this.userId = userId;
+  }
+
+  // 음악 로그 작성 이벤트
+  public static class CdTemplateCreatedEvent extends CdTemplateEvent {
+
+    public CdTemplateCreatedEvent(Object source, Long userId) {
+      super(source, userId);
+    }
+  }
+
+  // 음악 로그 삭제 이벤트
+  public static class CdTemplateDeletedEvent extends CdTemplateEvent {
+
+    public CdTemplateDeletedEvent(Object source, Long userId) {
+      super(source, userId);
+    }
+  }
+}
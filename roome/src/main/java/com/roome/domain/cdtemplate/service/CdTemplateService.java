@@ -3,6 +3,7 @@ package com.roome.domain.cdtemplate.service;
 import com.roome.domain.cdtemplate.dto.CdTemplateRequest;
 import com.roome.domain.cdtemplate.dto.CdTemplateResponse;
 import com.roome.domain.cdtemplate.entity.CdTemplate;
+import com.roome.domain.cdtemplate.event.CdTemplateEvent;
 import com.roome.domain.cdtemplate.exception.CdTemplateNotFoundException;
 import com.roome.domain.cdtemplate.exception.DuplicateCdTemplateException;
 import com.roome.domain.cdtemplate.exception.UnauthorizedCdTemplateAccessException;
@@ -15,6 +16,7 @@ import com.roome.global.jwt.exception.UserNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -25,6 +27,7 @@ public class CdTemplateService {
   private final CdTemplateRepository cdTemplateRepository;
   private final MyCdRepository myCdRepository;
   private final UserRepository userRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   public CdTemplateResponse createTemplate(Long myCdId, Long userId, CdTemplateRequest request) {
@@ -53,6 +56,7 @@ public class CdTemplateService {
           .build();
 
       cdTemplateRepository.save(cdTemplate);
+      eventPublisher.publishEvent(new CdTemplateEvent.CdTemplateCreatedEvent(this, userId));
       return CdTemplateResponse.from(cdTemplate);
     }
 
@@ -89,5 +93,6 @@ public class CdTemplateService {
     }
 
     cdTemplateRepository.delete(cdTemplate);
+    eventPublisher.publishEvent(new CdTemplateEvent.CdTemplateDeletedEvent(this, userId));
   }
 }
\ No newline at end of file
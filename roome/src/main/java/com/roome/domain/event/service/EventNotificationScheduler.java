@@ -3,6 +3,7 @@ package com.roome.domain.event.service;
 import com.roome.domain.event.notificationEvent.EventUpcomingNotificationEvent;
 import com.roome.domain.user.entity.User;
 import com.roome.domain.user.repository.UserRepository;
+import com.roome.global.scheduler.SchedulerLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -22,6 +23,7 @@ public class EventNotificationScheduler {
     private static final Long SYSTEM_USER_ID = 0L;
     // 모든 사용자에게 이벤트 알림 발송
     @Scheduled(cron = "0 0 11 ? * *")
+    @SchedulerLock(name = "event-notification", minIntervalSeconds = 3600)
     public  void sendEventNotifications() {
         log.info("이벤트 알림 발송 시작: 이벤트 ID={}, 이벤트명={}", "0", "선찬순 이벤트");
         int page = 0;
@@ -3,6 +3,7 @@ package com.roome.domain.event.service;
 import com.roome.domain.event.entity.EventStatus;
 import com.roome.domain.event.entity.FirstComeEvent;
 import com.roome.domain.event.repository.FirstComeEventRepository;
+import com.roome.global.scheduler.SchedulerLock;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ public class FirstComeEventScheduler {
 
   // 테스트 환경: 5분마다 이벤트 자동 생성
   @Scheduled(cron = "0 */5 * * * *")
+  @SchedulerLock(name = "first-come-event-create", minIntervalSeconds = 60)
   public void createTestEvent() {
     log.info("🔹 [테스트] 주간 선착순 이벤트 자동 생성 시작");
 
@@ -36,6 +38,7 @@ public class FirstComeEventScheduler {
 
   // 테스트 환경: 5분 이상 지난 이벤트 자동 종료
   @Scheduled(cron = "0 */3 * * * *") // 1분마다 실행
+  @SchedulerLock(name = "first-come-event-end", minIntervalSeconds = 60)
   public void updateEndedTestEvents() {
     List<FirstComeEvent> ongoingEvents = firstComeEventRepository.findByStatus(EventStatus.ONGOING);
     LocalDateTime now = LocalDateTime.now().minusMinutes(10); // 5분 이상 지난 이벤트 종료
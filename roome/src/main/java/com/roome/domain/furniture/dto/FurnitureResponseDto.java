@@ -1,6 +1,7 @@
 package com.roome.domain.furniture.dto;
 
 import com.roome.domain.furniture.entity.Furniture;
+import com.roome.domain.room.entity.RoomSummary;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -35,4 +36,13 @@ public class FurnitureResponseDto {
                 .topGenres(topGenres)
                 .build();
     }
+
+    public static FurnitureResponseDto from(RoomSummary.FurnitureState furniture) {
+        return FurnitureResponseDto.builder()
+                .furnitureType(furniture.getFurnitureType())
+                .isVisible(furniture.getIsVisible())
+                .level(furniture.getLevel())
+                .maxCapacity(furniture.getMaxCapacity())
+                .build();
+    }
 }
@@ -7,10 +7,12 @@ import com.roome.domain.furniture.repository.FurnitureRepository;
 import com.roome.domain.point.entity.PointReason;
 import com.roome.domain.point.service.PointService;
 import com.roome.domain.room.entity.Room;
+import com.roome.domain.room.event.RoomLayoutChangedEvent;
 import com.roome.domain.user.entity.User;
 import com.roome.domain.user.repository.UserRepository;
 import com.roome.domain.furniture.exception.CdRackNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ public class FurnitureService {
   private final PointService pointService;
   private final UserRepository userRepository;
   private final FurnitureRepository furnitureRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   public void upgradeBookshelf(Long loginUserId, Long roomId) {
@@ -33,6 +36,7 @@ public class FurnitureService {
         .orElseThrow(BookshelfNotFound::new);
     pointService.usePoints(user, PointReason.getBookShelfUpgradeReason(furniture.getLevel()));
     furniture.upgradeLevel();
+    eventPublisher.publishEvent(new RoomLayoutChangedEvent(this, loginUserId));
   }
 
   @Transactional
@@ -48,6 +52,7 @@ public class FurnitureService {
     // 업그레이드 시 필요한 포인트 사용
     pointService.usePoints(user, PointReason.getCdRackUpgradeReason(furniture.getLevel()));
     furniture.upgradeLevel();
+    eventPublisher.publishEvent(new RoomLayoutChangedEvent(this, loginUserId));
   }
 
   public int getCdRackLevel(Room room) {
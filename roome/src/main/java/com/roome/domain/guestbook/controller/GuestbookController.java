@@ -29,7 +29,7 @@ public class GuestbookController {
 
   private final GuestbookService guestbookService;
 
-  @Operation(summary = "방명록 조회", description = "주어진 방 ID에 대한 방명록을 페이지별로 조회")
+  @Operation(summary = "방명록 조회", description = "주어진 방 ID에 대한 방명록을 최신순으로 커서 기반 조회")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "방명록 조회 성공"),
       @ApiResponse(responseCode = "400", description = "잘못된 요청 (INVALID_REQUEST)"),
@@ -39,9 +39,10 @@ public class GuestbookController {
   @GetMapping("/{roomId}")
   public ResponseEntity<GuestbookListResponseDto> getGuestbook(
       @Parameter(description = "방 ID") @PathVariable Long roomId,
-      @RequestParam int page,
+      @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+      @RequestParam(required = false) Long cursor,
       @RequestParam int size) {
-    return ResponseEntity.ok(guestbookService.getGuestbook(roomId, page, size));
+    return ResponseEntity.ok(guestbookService.getGuestbook(roomId, cursor, size));
   }
 
   @Operation(summary = "방명록 추가", description = "주어진 방 ID에 방명록 추가")
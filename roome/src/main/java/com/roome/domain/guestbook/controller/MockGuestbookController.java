@@ -26,11 +26,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/mock/guestbooks")
 public class MockGuestbookController {
 
-  @Operation(summary = "Mock - 방명록 조회", description = "roomId에 해당하는 방명록 목록 조회 (페이징 포함)")
+  @Operation(summary = "Mock - 방명록 조회", description = "roomId에 해당하는 방명록 목록 조회 (커서 기반 페이징 포함)")
   @GetMapping("/{roomId}")
   public ResponseEntity<GuestbookListResponseDto> getMockGuestbook(
       @PathVariable Long roomId,
-      @RequestParam int page,
+      @RequestParam(required = false) Long cursor,
       @RequestParam int size
   ) {
     List<GuestbookResponseDto> mockGuestbooks = List.of(
@@ -41,7 +41,7 @@ public class MockGuestbookController {
 
     );
 
-    PaginationDto pagination = new PaginationDto(page, size, 5);
+    PaginationDto pagination = new PaginationDto(size, 1L, true);
     GuestbookListResponseDto response = new GuestbookListResponseDto(roomId, mockGuestbooks,
         pagination);
     return ResponseEntity.ok(response);
@@ -8,7 +8,7 @@ import lombok.Getter;
 @Builder
 @AllArgsConstructor
 public class PaginationDto {
-    private int page;
     private int size;
-    private int totalPages;
+    private Long nextCursor; // 다음 페이지 조회 시 전달할 커서 (마지막 방명록 ID)
+    private boolean hasNext;
 }
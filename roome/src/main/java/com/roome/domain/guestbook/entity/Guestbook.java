@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "guestbook")
+@Table(name = "guestbook",
+        indexes = @Index(name = "idx_guestbook_room_id_guestbook_id", columnList = "room_id, guestbook_id"))
 public class Guestbook {
 
     @Id
@@ -0,0 +1,28 @@
+package com.roome.domain.guestbook.entity;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 방명록 첫 페이지 캐시 항목 (하우스메이트 여부는 조회 시점에 계산하므로 저장하지 않음)
+@Getter
+public class GuestbookQueryModel {
+
+    Long guestbookId;
+    Long userId;
+    String nickname;
+    String profileImage;
+    String message;
+    LocalDateTime createdAt;
+
+    public static GuestbookQueryModel create(Guestbook guestbook) {
+        GuestbookQueryModel guestbookQueryModel = new GuestbookQueryModel();
+        guestbookQueryModel.guestbookId = guestbook.getGuestbookId();
+        guestbookQueryModel.userId = guestbook.getUser().getId();
+        guestbookQueryModel.nickname = guestbook.getNickname();
+        guestbookQueryModel.profileImage = guestbook.getProfileImage();
+        guestbookQueryModel.message = guestbook.getMessage();
+        guestbookQueryModel.createdAt = guestbook.getCreatedAt();
+        return guestbookQueryModel;
+    }
+}
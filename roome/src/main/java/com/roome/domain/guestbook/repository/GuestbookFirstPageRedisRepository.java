@@ -0,0 +1,116 @@
+package com.roome.domain.guestbook.repository;
+
+import com.roome.domain.guestbook.entity.GuestbookQueryModel;
+import com.roome.global.cache.VersionedRedisCache;
+import com.roome.global.dataserializer.CompactCodec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+// 방별 방명록 첫 페이지 캐시 (score: guestbookId인 ZSET, 최신 MAX_PAGE_SIZE + 1건 유지)
+// - 새 방명록은 커밋 후 ZADD로 반영 (write-through), 삭제 시에는 무효화
+// - 쓰기마다 버전을 올리고 채우기는 조회 전 버전과 같을 때만 (VersionedRedisCache)
+@Repository
+public class GuestbookFirstPageRedisRepository {
+
+  // 캐시로 응답할 수 있는 최대 페이지 크기 (다음 페이지 여부 확인을 위해 1건 더 보관)
+  public static final int MAX_PAGE_SIZE = 20;
+
+  private static final String KEY_FORMAT = "guestbook:firstPage:%s";
+  private static final String VERSION_KEY_FORMAT = "guestbook:firstPage:%s:version";
+  private static final Duration TTL = Duration.ofMinutes(30);
+  private static final Duration VERSION_TTL = Duration.ofHours(1);
+  private static final CompactCodec<GuestbookQueryModel> CODEC =
+      CompactCodec.of(GuestbookQueryModel.class, 1);
+
+  // KEYS[1]: 첫 페이지, KEYS[2]: 버전, ARGV: 조회 전 버전, TTL(초), (score, 항목)...
+  private static final RedisScript<Long> FILL_SCRIPT = VersionedRedisCache.fillScript("""
+      if redis.call('EXISTS', KEYS[1]) == 1 then
+        return 0
+      end
+      for i = 3, #ARGV, 2 do
+        redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+      end
+      redis.call('EXPIRE', KEYS[1], ARGV[2])
+      return 1
+      """);
+
+  // KEYS[1]: 첫 페이지, KEYS[2]: 버전, ARGV: 버전 TTL(초), score, 항목, 최대 건수
+  private static final RedisScript<Long> PUSH_SCRIPT = VersionedRedisCache.writeScript("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        return 0
+      end
+      redis.call('ZADD', KEYS[1], ARGV[2], ARGV[3])
+      redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[4]) + 1))
+      return 1
+      """);
+
+  private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+  private final VersionedRedisCache versionedCache;
+
+  public GuestbookFirstPageRedisRepository(RedisTemplate<String, byte[]> binaryRedisTemplate) {
+    this.binaryRedisTemplate = binaryRedisTemplate;
+    this.versionedCache = new VersionedRedisCache(binaryRedisTemplate, VERSION_TTL);
+  }
+
+  public long readVersion(Long roomId) {
+    return versionedCache.readVersion(generateVersionKey(roomId));
+  }
+
+  // 최신순으로 count건 조회, 캐시가 없거나 해석할 수 없는 항목이 있으면 empty
+  public Optional<List<GuestbookQueryModel>> read(Long roomId, int count) {
+    Set<byte[]> values = binaryRedisTemplate.opsForZSet()
+        .reverseRange(generateKey(roomId), 0, count - 1);
+    if (values == null || values.isEmpty()) {
+      return Optional.empty();
+    }
+    List<GuestbookQueryModel> models = values.stream().map(CODEC::deserialize).toList();
+    if (models.stream().anyMatch(Objects::isNull)) {
+      return Optional.empty();
+    }
+    return Optional.of(models);
+  }
+
+  // DB에서 읽은 최신 목록으로 채우기 (조회 전 버전과 같고 캐시가 없을 때만)
+  public void fill(Long roomId, long version, List<GuestbookQueryModel> models) {
+    if (models.isEmpty()) {
+      return;
+    }
+    List<byte[]> args = new ArrayList<>();
+    args.add(bytes(TTL.toSeconds()));
+    for (GuestbookQueryModel model : models.subList(0, Math.min(models.size(), MAX_PAGE_SIZE + 1))) {
+      args.add(bytes(model.getGuestbookId()));
+      args.add(CODEC.serialize(model));
+    }
+    versionedCache.fill(FILL_SCRIPT, generateKey(roomId), generateVersionKey(roomId), version,
+        args);
+  }
+
+  public void push(Long roomId, GuestbookQueryModel model) {
+    versionedCache.write(PUSH_SCRIPT, generateKey(roomId), generateVersionKey(roomId),
+        List.of(bytes(model.getGuestbookId()), CODEC.serialize(model), bytes(MAX_PAGE_SIZE + 1)));
+  }
+
+  public void evict(Long roomId) {
+    versionedCache.evict(generateKey(roomId), generateVersionKey(roomId));
+  }
+
+  private static byte[] bytes(long value) {
+    return Long.toString(value).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private String generateKey(Long roomId) {
+    return KEY_FORMAT.formatted(roomId);
+  }
+
+  private String generateVersionKey(Long roomId) {
+    return VERSION_KEY_FORMAT.formatted(roomId);
+  }
+}
@@ -4,7 +4,6 @@ import com.roome.domain.guestbook.entity.Guestbook;
 import com.roome.domain.guestbook.entity.RelationType;
 import com.roome.domain.room.entity.Room;
 import java.util.List;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -13,7 +12,12 @@ import org.springframework.data.repository.query.Param;
 
 public interface GuestbookRepository extends JpaRepository<Guestbook, Long> {
 
-  Page<Guestbook> findByRoom(Room room, Pageable pageable);
+  // 방의 최신 방명록부터 조회 (room_id, guestbook_id 인덱스, count 쿼리 없음)
+  List<Guestbook> findByRoomIdOrderByGuestbookIdDesc(Long roomId, Pageable pageable);
+
+  // 커서(guestbookId) 이전 방명록을 최신순으로 조회
+  List<Guestbook> findByRoomIdAndGuestbookIdLessThanOrderByGuestbookIdDesc(Long roomId, Long cursor,
+      Pageable pageable);
 
   // 특정 방의 방명록이거나 특정 사용자가 작성한 방명록 목록 조회
   @Query("SELECT g FROM Guestbook g WHERE g.room = :room OR g.user.id = :userId")
@@ -5,8 +5,10 @@ import com.roome.domain.guestbook.dto.GuestbookRequestDto;
 import com.roome.domain.guestbook.dto.GuestbookResponseDto;
 import com.roome.domain.guestbook.dto.PaginationDto;
 import com.roome.domain.guestbook.entity.Guestbook;
+import com.roome.domain.guestbook.entity.GuestbookQueryModel;
 import com.roome.domain.guestbook.entity.RelationType;
 import com.roome.domain.guestbook.notificationEvent.GuestBookCreatedEvent;
+import com.roome.domain.guestbook.repository.GuestbookFirstPageRedisRepository;
 import com.roome.domain.guestbook.repository.GuestbookRepository;
 import com.roome.domain.houseMate.repository.HousemateRepository;
 import com.roome.domain.point.entity.PointReason;
@@ -20,17 +22,19 @@ import com.roome.domain.user.entity.User;
 import com.roome.domain.user.repository.UserRepository;
 import com.roome.global.exception.BusinessException;
 import com.roome.global.exception.ErrorCode;
+import com.roome.global.util.TransactionUtil;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -38,6 +42,8 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class GuestbookService {
 
+  private static final int MAX_LIMIT = 100;
+
   private final GuestbookRepository guestbookRepository;
   private final RoomRepository roomRepository;
   private final UserRepository userRepository;
@@ -46,63 +52,74 @@ public class GuestbookService {
   private final PointService pointService;
   private final ApplicationEventPublisher eventPublisher; // 이벤트 발행자
   private final UserActivityService userActivityService;
+  private final GuestbookFirstPageRedisRepository guestbookFirstPageRedisRepository;
+
+  // 커서(guestbookId) 기반 최신순 조회, 첫 페이지는 방별 캐시에서 응답
+  public GuestbookListResponseDto getGuestbook(Long roomId, Long cursor, int size) {
+    validatePageRequest(cursor, size);
 
-  public GuestbookListResponseDto getGuestbook(Long roomId, int page, int size) {
     Room room = roomRepository.findById(roomId)
         .orElseThrow(() -> new BusinessException(ErrorCode.ROOM_NOT_FOUND));
 
-    Page<Guestbook> guestbookPage = guestbookRepository.findByRoom(
-        room,
-        PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt")));
+    List<GuestbookQueryModel> guestbooks;
+    if (cursor == null && size <= GuestbookFirstPageRedisRepository.MAX_PAGE_SIZE) {
+      guestbooks = readFirstPage(roomId, size);
+    } else {
+      guestbooks = findPage(roomId, cursor, size + 1);
+    }
 
-    Long roomOwnerId = room.getUser().getId();
+    return toListResponse(roomId, room.getUser().getId(), guestbooks, size);
+  }
 
-    List<Guestbook> guestbooks = guestbookPage.getContent();
-
-    List<Long> userIds = guestbooks.stream()
-            .map(guestbook -> guestbook.getUser().getId())
-            .distinct()
-            .collect(Collectors.toList());
-
-    Map<Long, Boolean> housemateStatusMap = userIds.stream()
-            .collect(Collectors.toMap(
-                    userId -> userId,
-                    userId -> housemateRepository.existsByUserIdAndAddedId(roomOwnerId, userId)
-            ));
-
-    List<GuestbookResponseDto> guestbookResponses = guestbooks.stream()
-            .map(guestbook -> {
-              Long guestUserId = guestbook.getUser().getId();
-              boolean isHousemate = housemateStatusMap.getOrDefault(guestUserId, false);
-
-              // 방명록 RelationType을 현재 하우스메이트 여부에 따라 업데이트
-              RelationType updatedRelation = isHousemate ? RelationType.하우스메이트 : RelationType.지나가던_나그네;
-
-              return GuestbookResponseDto.builder()
-                      .userId(guestUserId)
-                      .guestbookId(guestbook.getGuestbookId())
-                      .nickname(guestbook.getNickname())
-                      .profileImage(guestbook.getProfileImage())
-                      .message(guestbook.getMessage())
-                      .relation(updatedRelation.name()) // 현재 상태 반영
-                      .createdAt(guestbook.getCreatedAt())
-                      .build();
-            })
-            .collect(Collectors.toList());
+  @Transactional
+  public void addGuestbook(Long roomId, Long userId, GuestbookRequestDto requestDto) {
+    createGuestbook(roomId, userId, requestDto);
+  }
 
-    return GuestbookListResponseDto.builder()
-            .roomId(roomId)
-            .guestbook(guestbookResponses)
-            .pagination(PaginationDto.builder()
-                    .page(page)
-                    .size(size)
-                    .totalPages(guestbookPage.getTotalPages())
-                    .build())
-            .build();
+  @Transactional
+  public GuestbookListResponseDto addGuestbookWithPagination(Long roomId, Long userId,
+      GuestbookRequestDto requestDto, int size) {
+    validatePageRequest(null, size);
+
+    Guestbook guestbook = createGuestbook(roomId, userId, requestDto);
+    Long roomOwnerId = guestbook.getRoom().getUser().getId();
+
+    // 첫 페이지 캐시는 커밋 후 갱신되므로, 캐시가 있으면 새 방명록을 앞에 붙여 응답
+    List<GuestbookQueryModel> guestbooks = null;
+    if (size <= GuestbookFirstPageRedisRepository.MAX_PAGE_SIZE) {
+      guestbooks = readCachedFirstPage(roomId, size)
+          .map(cached -> prepend(GuestbookQueryModel.create(guestbook), cached))
+          .orElse(null);
+    }
+    if (guestbooks == null) {
+      // 커밋 전이므로 DB에서 읽은 목록으로 캐시를 채우지 않음
+      guestbooks = findPage(roomId, null, size + 1);
+    }
+
+    return toListResponse(roomId, roomOwnerId, guestbooks, size);
   }
 
   @Transactional
-  public void addGuestbook(Long roomId, Long userId, GuestbookRequestDto requestDto) {
+  public void deleteGuestbook(Long guestbookId, Long userId) {
+    Guestbook guestbook = guestbookRepository.findById(guestbookId)
+        .orElseThrow(() -> new BusinessException(ErrorCode.GUESTBOOK_NOT_FOUND));
+
+    User user = userRepository.findById(userId)
+        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+    Long roomOwnerId = guestbook.getRoom().getUser().getId();
+    boolean isOwner = roomOwnerId.equals(userId);
+    boolean isWriter = guestbook.getUser().equals(user);
+
+    if (!isOwner && !isWriter) { // 둘 다 아니면 예외 발생
+      throw new BusinessException(ErrorCode.GUESTBOOK_DELETE_FORBIDDEN);
+    }
+
+    guestbookRepository.delete(guestbook);
+    evictFirstPageAfterCommit(guestbook.getRoom().getId());
+  }
+
+  private Guestbook createGuestbook(Long roomId, Long userId, GuestbookRequestDto requestDto) {
     Room room = roomRepository.findById(roomId)
         .orElseThrow(() -> new BusinessException(ErrorCode.ROOM_NOT_FOUND));
 
@@ -125,6 +142,7 @@ public class GuestbookService {
         .build();
 
     guestbookRepository.save(guestbook);
+    pushFirstPageAfterCommit(roomId, GuestbookQueryModel.create(guestbook));
 
     // 방명록 보상 포인트 적립 (본인 방명록 제외)
     if (!isSelfRoom) {
@@ -158,32 +176,137 @@ public class GuestbookService {
       }
     }
 
-    GuestbookResponseDto.from(guestbook);
+    return guestbook;
   }
 
-  @Transactional
-  public GuestbookListResponseDto addGuestbookWithPagination(Long roomId, Long userId,
-      GuestbookRequestDto requestDto, int size) {
-    addGuestbook(roomId, userId, requestDto); // 기존 메서드 호출 (방명록 추가)
-    return getGuestbook(roomId, 1, size); // 첫 번째 페이지 데이터 반환
+  private void validatePageRequest(Long cursor, int size) {
+    if (size < 1 || size > MAX_LIMIT) {
+      throw new BusinessException(ErrorCode.INVALID_LIMIT_VALUE);
+    }
+    if (cursor != null && cursor < 1) {
+      throw new BusinessException(ErrorCode.INVALID_CURSOR_VALUE);
+    }
   }
 
-  @Transactional
-  public void deleteGuestbook(Long guestbookId, Long userId) {
-    Guestbook guestbook = guestbookRepository.findById(guestbookId)
-        .orElseThrow(() -> new BusinessException(ErrorCode.GUESTBOOK_NOT_FOUND));
+  // 첫 페이지: 캐시 조회, 없으면 DB에서 캐시 크기만큼 읽어 채움
+  private List<GuestbookQueryModel> readFirstPage(Long roomId, int size) {
+    Optional<List<GuestbookQueryModel>> cached = readCachedFirstPage(roomId, size);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
 
-    User user = userRepository.findById(userId)
-        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    // 버전은 DB 조회 전에 읽어야 그 사이의 쓰기를 감지할 수 있음
+    long version = readFirstPageVersion(roomId);
+    List<GuestbookQueryModel> guestbooks = findPage(roomId, null,
+        GuestbookFirstPageRedisRepository.MAX_PAGE_SIZE + 1);
+    try {
+      guestbookFirstPageRedisRepository.fill(roomId, version, guestbooks);
+    } catch (Exception e) {
+      log.warn("방명록 첫 페이지 캐시 저장 실패: roomId={}, error={}", roomId, e.getMessage());
+    }
+    return guestbooks.subList(0, Math.min(guestbooks.size(), size + 1));
+  }
 
-    Long roomOwnerId = guestbook.getRoom().getUser().getId();
-    boolean isOwner = roomOwnerId.equals(userId);
-    boolean isWriter = guestbook.getUser().equals(user);
+  // 다음 페이지 여부 확인을 위해 size + 1건 조회
+  private Optional<List<GuestbookQueryModel>> readCachedFirstPage(Long roomId, int size) {
+    try {
+      return guestbookFirstPageRedisRepository.read(roomId, size + 1);
+    } catch (Exception e) {
+      log.warn("방명록 첫 페이지 캐시 조회 실패: roomId={}, error={}", roomId, e.getMessage());
+      return Optional.empty();
+    }
+  }
 
-    if (!isOwner && !isWriter) { // 둘 다 아니면 예외 발생
-      throw new BusinessException(ErrorCode.GUESTBOOK_DELETE_FORBIDDEN);
+  private long readFirstPageVersion(Long roomId) {
+    try {
+      return guestbookFirstPageRedisRepository.readVersion(roomId);
+    } catch (Exception e) {
+      // 버전을 알 수 없으면 채우기가 거부되도록 존재할 수 없는 값 사용
+      return -1L;
     }
+  }
 
-    guestbookRepository.delete(guestbook);
+  private List<GuestbookQueryModel> findPage(Long roomId, Long cursor, int limit) {
+    PageRequest pageRequest = PageRequest.of(0, limit);
+    List<Guestbook> guestbooks = cursor == null
+        ? guestbookRepository.findByRoomIdOrderByGuestbookIdDesc(roomId, pageRequest)
+        : guestbookRepository.findByRoomIdAndGuestbookIdLessThanOrderByGuestbookIdDesc(roomId,
+            cursor, pageRequest);
+    return guestbooks.stream()
+        .map(GuestbookQueryModel::create)
+        .toList();
+  }
+
+  private List<GuestbookQueryModel> prepend(GuestbookQueryModel created,
+      List<GuestbookQueryModel> guestbooks) {
+    List<GuestbookQueryModel> merged = new ArrayList<>(guestbooks.size() + 1);
+    merged.add(created);
+    guestbooks.stream()
+        .filter(guestbook -> !guestbook.getGuestbookId().equals(created.getGuestbookId()))
+        .forEach(merged::add);
+    return merged;
+  }
+
+  // guestbooks: 최대 size + 1건 (초과분은 다음 페이지 여부 판단용)
+  private GuestbookListResponseDto toListResponse(Long roomId, Long roomOwnerId,
+      List<GuestbookQueryModel> guestbooks, int size) {
+    boolean hasNext = guestbooks.size() > size;
+    List<GuestbookQueryModel> page = hasNext ? guestbooks.subList(0, size) : guestbooks;
+
+    // 작성자들의 하우스메이트 여부를 한 번의 IN 쿼리로 확인
+    Set<Long> userIds = page.stream()
+        .map(GuestbookQueryModel::getUserId)
+        .collect(Collectors.toSet());
+    Set<Long> housemateIds = userIds.isEmpty()
+        ? Set.of()
+        : new HashSet<>(housemateRepository.findAddedIdsByUserIdAndAddedIdIn(roomOwnerId, userIds));
+
+    List<GuestbookResponseDto> guestbookResponses = page.stream()
+        .map(guestbook -> {
+          boolean isHousemate = housemateIds.contains(guestbook.getUserId());
+
+          // 방명록 RelationType을 현재 하우스메이트 여부에 따라 업데이트
+          RelationType updatedRelation = isHousemate ? RelationType.하우스메이트 : RelationType.지나가던_나그네;
+
+          return GuestbookResponseDto.builder()
+              .userId(guestbook.getUserId())
+              .guestbookId(guestbook.getGuestbookId())
+              .nickname(guestbook.getNickname())
+              .profileImage(guestbook.getProfileImage())
+              .message(guestbook.getMessage())
+              .relation(updatedRelation.name()) // 현재 상태 반영
+              .createdAt(guestbook.getCreatedAt())
+              .build();
+        })
+        .collect(Collectors.toList());
+
+    return GuestbookListResponseDto.builder()
+        .roomId(roomId)
+        .guestbook(guestbookResponses)
+        .pagination(PaginationDto.builder()
+            .size(size)
+            .nextCursor(hasNext ? page.get(page.size() - 1).getGuestbookId() : null)
+            .hasNext(hasNext)
+            .build())
+        .build();
+  }
+
+  private void pushFirstPageAfterCommit(Long roomId, GuestbookQueryModel guestbook) {
+    runAfterCommit(roomId, () -> guestbookFirstPageRedisRepository.push(roomId, guestbook));
+  }
+
+  private void evictFirstPageAfterCommit(Long roomId) {
+    runAfterCommit(roomId, () -> guestbookFirstPageRedisRepository.evict(roomId));
+  }
+
+  private void runAfterCommit(Long roomId, Runnable cacheUpdate) {
+    TransactionUtil.runAfterCommit(() -> {
+      try {
+        cacheUpdate.run();
+      } catch (Exception e) {
+        // 갱신에 실패한 첫 페이지 캐시는 TTL(30분) 후 만료
+        log.warn("방명록 첫 페이지 캐시 갱신 실패: roomId={}, error={}", roomId, e.getMessage());
+      }
+    });
   }
 }
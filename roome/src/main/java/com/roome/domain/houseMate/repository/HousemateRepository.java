@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface HousemateRepository extends JpaRepository<AddedHousemate, Long>,
@@ -24,4 +25,12 @@ public interface HousemateRepository extends JpaRepository<AddedHousemate, Long>
   /// @return 하우스메이트로 추가한 사용자 ID 목록
   @Query("SELECT h.addedId FROM AddedHousemate h WHERE h.userId = :userId")
   List<Long> findAddedIdsByUserId(@Param("userId") Long userId);
+
+  /// 주어진 사용자 중 하우스메이트로 추가한 사용자 ID 목록 조회
+  /// @param userId 사용자 ID
+  /// @param addedIds 확인할 사용자 ID 목록
+  /// @return addedIds 중 하우스메이트로 추가한 사용자 ID 목록
+  @Query("SELECT h.addedId FROM AddedHousemate h WHERE h.userId = :userId AND h.addedId IN :addedIds")
+  List<Long> findAddedIdsByUserIdAndAddedIdIn(@Param("userId") Long userId,
+      @Param("addedIds") Collection<Long> addedIds);
 }
\ No newline at end of file
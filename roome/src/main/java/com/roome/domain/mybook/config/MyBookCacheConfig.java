@@ -0,0 +1,88 @@
+package com.roome.domain.mybook.config;
+
+import com.roome.domain.mybook.entity.MyBookQueryModel;
+import com.roome.domain.mybook.entity.repository.MyBookCountRedisRepository;
+import com.roome.domain.mybook.entity.repository.MyBookQueryModelRedisRepository;
+import com.roome.global.cache.RemoteCacheStore;
+import com.roome.global.cache.TwoTierCache;
+import com.roome.global.cache.TwoTierCacheManager;
+import com.roome.global.cache.TwoTierCacheSettings;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@RequiredArgsConstructor
+public class MyBookCacheConfig {
+
+    private final TwoTierCacheManager twoTierCacheManager;
+    private final MyBookQueryModelRedisRepository myBookQueryModelRedisRepository;
+    private final MyBookCountRedisRepository myBookCountRedisRepository;
+
+    @Bean
+    public TwoTierCache<Long, MyBookQueryModel> myBookCache() {
+        return twoTierCacheManager.create("mybook",
+                TwoTierCacheSettings.<MyBookQueryModel>builder()
+                        .localMaxWeightBytes(16L * 1024 * 1024)
+                        .weigher(model -> TwoTierCacheSettings.estimateWeight(model.getTitle(),
+                                model.getAuthor(), model.getPublisher(), model.getImageUrl(),
+                                model.getGenreNames(), model.getId(), model.getPublishedDate(),
+                                model.getPage()))
+                        .build(),
+                new RemoteCacheStore<>() {
+                    @Override
+                    public MyBookQueryModel read(Long myBookId) {
+                        return myBookQueryModelRedisRepository.read(myBookId).orElse(null);
+                    }
+
+                    @Override
+                    public Map<Long, MyBookQueryModel> readAll(List<Long> myBookIds) {
+                        return myBookQueryModelRedisRepository.readAll(myBookIds);
+                    }
+
+                    @Override
+                    public void write(Long myBookId, MyBookQueryModel myBookQueryModel, Duration ttl) {
+                        myBookQueryModelRedisRepository.create(myBookQueryModel, ttl);
+                    }
+
+                    @Override
+                    public void writeAll(Map<Long, MyBookQueryModel> myBookQueryModels, Duration ttl) {
+                        myBookQueryModelRedisRepository.createAll(List.copyOf(myBookQueryModels.values()), ttl);
+                    }
+
+                    @Override
+                    public void delete(Long myBookId) {
+                        myBookQueryModelRedisRepository.delete(myBookId);
+                    }
+                });
+    }
+
+    @Bean
+    public TwoTierCache<Long, Long> myBookCountCache() {
+        return twoTierCacheManager.create("mybook-count",
+                TwoTierCacheSettings.<Long>builder()
+                        .localMaxWeightBytes(1024 * 1024)
+                        .weigher(count -> 64)
+                        .build(),
+                new RemoteCacheStore<>() {
+                    @Override
+                    public Long read(Long roomOwnerId) {
+                        return myBookCountRedisRepository.read(roomOwnerId);
+                    }
+
+                    @Override
+                    public void write(Long roomOwnerId, Long count, Duration ttl) {
+                        myBookCountRedisRepository.createOrUpdate(roomOwnerId, count, ttl);
+                    }
+
+                    @Override
+                    public void delete(Long roomOwnerId) {
+                        myBookCountRedisRepository.delete(roomOwnerId);
+                    }
+                });
+    }
+}
@@ -0,0 +1,16 @@
+package com.roome.domain.mybook.config;
+
+import com.roome.global.search.SearchIndex;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+public class MyBookSearchConfig {
+
+    // 책장 목록과 같이 최근 등록 순(ID 내림차순)으로 검색 결과 반환
+    @Bean
+    public SearchIndex myBookSearchIndex(StringRedisTemplate stringRedisTemplate) {
+        return new SearchIndex("mybook", stringRedisTemplate, true);
+    }
+}
@@ -23,6 +23,10 @@ public class MyBookCountRedisRepository {
         return result == null ? null : Long.parseLong(result);
     }
 
+    public void delete(Long roomOwnerId) {
+        redisTemplate.delete(generateKey(roomOwnerId));
+    }
+
     private String generateKey(Long roomOwnerId) {
         return KEY_FORMAT.formatted(roomOwnerId);
     }
@@ -1,42 +1,86 @@
 package com.roome.domain.mybook.entity.repository;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Range;
-import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.DefaultStringTuple;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection.StringTuple;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
+// 방별 등록 도서 ID 인덱스 (score = myBookId, DB의 order by mb.id desc와 같은 순서)
+// 전체 ID가 채워진 경우에만 완료 표식(score 0)이 있으며, 표식이 없으면 인덱스를 신뢰하지 않음
 @Repository
 @RequiredArgsConstructor
 public class MyBookIdsRedisRepository {
 
     private final StringRedisTemplate redisTemplate;
 
-    private static final String KEY_FORMAT = "mybook::user::%s::ids";
+    private static final String KEY_FORMAT = "mybook::user::%s::idx";
+    private static final String COMPLETE_MARKER = "complete";
+    private static final int FILL_CHUNK_SIZE = 1000;
 
     public void add(Long roomOwnerId, Long myBookId, Duration ttl) {
-        redisTemplate.opsForZSet().add(generateKey(roomOwnerId), String.valueOf(myBookId), 0);
-        redisTemplate.expire(generateKey(roomOwnerId), ttl);
+        String key = generateKey(roomOwnerId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.zAdd(key, myBookId.doubleValue(), String.valueOf(myBookId));
+            stringConnection.expire(key, ttl.toSeconds());
+            return null;
+        });
     }
 
-    public List<Long> readAll(Long roomOwnerId, Long pageSize, Long lastMyBookId, String keyword) {
-        Set<String> myBookIds = redisTemplate.opsForZSet().reverseRangeByLex(
-                generateKey(roomOwnerId),
-                lastMyBookId == null ?
-                        Range.unbounded() :
-                        Range.leftUnbounded(Range.Bound.exclusive(String.valueOf(lastMyBookId))),
-                Limit.limit().count(pageSize.intValue())
-        );
-        if (keyword != null || myBookIds == null || myBookIds.isEmpty()) {
-            return List.of();
+    // 완료 표식이 없으면 empty (호출 측에서 fill 후 다시 조회)
+    public Optional<List<Long>> readAll(Long roomOwnerId, Long pageSize, Long lastMyBookId) {
+        String key = generateKey(roomOwnerId);
+        double max = lastMyBookId == null ? Double.POSITIVE_INFINITY : lastMyBookId - 1;
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.zScore(key, COMPLETE_MARKER);
+            stringConnection.zRevRangeByScore(key, 1, max, 0, pageSize);
+            return null;
+        });
+        if (results.size() < 2 || results.get(0) == null) {
+            return Optional.empty();
         }
-        return myBookIds.stream().map(Long::valueOf).toList();
+        @SuppressWarnings("unchecked")
+        Set<String> myBookIds = (Set<String>) results.get(1);
+        if (myBookIds == null) {
+            return Optional.of(List.of());
+        }
+        return Optional.of(myBookIds.stream().map(Long::valueOf).toList());
+    }
+
+    // DB에서 읽은 전체 ID로 인덱스를 채우고 완료 표식 저장 (기존 항목과 합쳐지므로 동시 등록분도 유지)
+    public void fill(Long roomOwnerId, Stream<Long> myBookIds, Duration ttl) {
+        String key = generateKey(roomOwnerId);
+        Iterator<Long> iterator = myBookIds.iterator();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            Set<StringTuple> chunk = new HashSet<>();
+            while (iterator.hasNext()) {
+                Long myBookId = iterator.next();
+                chunk.add(new DefaultStringTuple(String.valueOf(myBookId), myBookId.doubleValue()));
+                if (chunk.size() == FILL_CHUNK_SIZE) {
+                    stringConnection.zAdd(key, chunk);
+                    chunk = new HashSet<>();
+                }
+            }
+            chunk.add(new DefaultStringTuple(COMPLETE_MARKER, 0));
+            stringConnection.zAdd(key, chunk);
+            stringConnection.expire(key, ttl.toSeconds());
+            return null;
+        });
     }
-    
+
     public void delete(Long roomOwnerId, List<String> myBookIds) {
         redisTemplate.opsForZSet().remove(generateKey(roomOwnerId), myBookIds.toArray());
     }
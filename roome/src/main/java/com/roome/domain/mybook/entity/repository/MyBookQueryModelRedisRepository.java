@@ -1,11 +1,13 @@
 package com.roome.domain.mybook.entity.repository;
 
 import com.roome.domain.mybook.entity.MyBookQueryModel;
-import com.roome.global.dataserializer.DataSerializer;
+import com.roome.global.dataserializer.CompactCodec;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -20,35 +22,54 @@ import static java.util.stream.Collectors.*;
 @RequiredArgsConstructor
 public class MyBookQueryModelRedisRepository {
 
-    private final StringRedisTemplate redisTemplate;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
 
     private static final String KEY_FORMAT = "mybook::%s";
+    private static final CompactCodec<MyBookQueryModel> CODEC = CompactCodec.of(MyBookQueryModel.class, 1);
 
     public void create(MyBookQueryModel myBookQueryModel, Duration ttl) {
-        redisTemplate.opsForValue()
-                .set(generateKey(myBookQueryModel), DataSerializer.serialize(myBookQueryModel), ttl);
+        binaryRedisTemplate.opsForValue()
+                .set(generateKey(myBookQueryModel), CODEC.serialize(myBookQueryModel), ttl);
+    }
+
+    // 파이프라인 한 번으로 여러 건 저장 (MSET은 만료 시간을 지정할 수 없어 SET EX를 묶어 전송)
+    public void createAll(List<MyBookQueryModel> myBookQueryModels, Duration ttl) {
+        if (myBookQueryModels.isEmpty()) {
+            return;
+        }
+        binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (MyBookQueryModel myBookQueryModel : myBookQueryModels) {
+                connection.stringCommands().setEx(
+                        generateKey(myBookQueryModel).getBytes(StandardCharsets.UTF_8),
+                        ttl.toSeconds(),
+                        CODEC.serialize(myBookQueryModel));
+            }
+            return null;
+        });
     }
 
     public Optional<MyBookQueryModel> read(Long myBookId) {
         return Optional.ofNullable(
-                redisTemplate.opsForValue().get(generateKey(myBookId))
-        ).map(json -> DataSerializer.deserialize(json, MyBookQueryModel.class));
+                binaryRedisTemplate.opsForValue().get(generateKey(myBookId))
+        ).map(CODEC::deserialize);
     }
 
     public Map<Long, MyBookQueryModel> readAll(List<Long> myBookIds) {
         List<String> keys = myBookIds.stream().map(this::generateKey).toList();
-        List<String> jsons = redisTemplate.opsForValue().multiGet(keys);
-        if (jsons == null || jsons.isEmpty()) {
+        List<byte[]> values = binaryRedisTemplate.opsForValue().multiGet(keys);
+        if (values == null || values.isEmpty()) {
             return Map.of();
         }
-        return jsons.stream()
+        // 스키마 버전이 다르거나 해석할 수 없는 값은 미스로 처리
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(CODEC::deserialize)
                 .filter(Objects::nonNull)
-                .map(json -> DataSerializer.deserialize(json, MyBookQueryModel.class))
                 .collect(toMap(MyBookQueryModel::getId, identity()));
     }
 
     public void delete(Long myBookId) {
-        redisTemplate.delete(generateKey(myBookId));
+        binaryRedisTemplate.delete(generateKey(myBookId));
     }
 
     private String generateKey(MyBookQueryModel myBookQueryModel) {
@@ -2,13 +2,18 @@ package com.roome.domain.mybook.entity.repository;
 
 import com.roome.domain.mybook.entity.MyBook;
 import com.roome.domain.mybook.exception.MyBookNotFoundException;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MyBookRepository extends JpaRepository<MyBook, Long> {
 
@@ -20,6 +25,20 @@ public interface MyBookRepository extends JpaRepository<MyBook, Long> {
     @Query("select distinct mb from MyBook mb join fetch mb.book b join fetch b.bookGenres bg join fetch bg.genre where mb.id = :id")
     Optional<MyBook> findFetchById(Long id);
 
+    // 캐시 미스 ID를 한 번에 조회 (장르가 없는 도서도 포함)
+    @Query("select distinct mb from MyBook mb join fetch mb.book b left join fetch b.bookGenres bg left join fetch bg.genre where mb.id in :ids")
+    List<MyBook> findAllFetchByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Redis ID 인덱스 채우기용 (ID만 조회, 결과를 나눠서 읽음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select mb.id from MyBook mb where mb.user.id = :roomOwnerId")
+    Stream<Long> streamIdsByUserId(@Param("roomOwnerId") Long roomOwnerId);
+
+    // 검색 색인 재구성용
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select mb.id as id, b.title as title, b.author as author, b.publisher as publisher from MyBook mb join mb.book b where mb.user.id = :roomOwnerId")
+    Stream<MyBookSearchRow> streamSearchRowsByUserId(@Param("roomOwnerId") Long roomOwnerId);
+
     Optional<MyBook> findByRoomIdAndBookId(Long roomId, Long bookId);
 
     @Query(
@@ -70,4 +89,15 @@ public interface MyBookRepository extends JpaRepository<MyBook, Long> {
     void deleteAllIn(List<String> ids);
     // 특정 사용자가 가지고 있는 모든 도서 목록 조회
     List<MyBook> findAllByUserId(Long userId);
+
+    interface MyBookSearchRow {
+
+        Long getId();
+
+        String getTitle();
+
+        String getAuthor();
+
+        String getPublisher();
+    }
 }
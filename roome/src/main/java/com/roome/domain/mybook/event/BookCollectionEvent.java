@@ -3,13 +3,22 @@ package com.roome.domain.mybook.event;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
+import java.util.List;
+
 @Getter
 public abstract class BookCollectionEvent extends ApplicationEvent {
     private final Long userId;
+    // 추가/삭제된 책들의 장르 (책마다 한 번씩 포함, null이면 알 수 없음)
+    private final List<String> genres;
 
     public BookCollectionEvent(Object source, Long userId) {
+        this(source, userId, null);
+    }
+
+    public BookCollectionEvent(Object source, Long userId, List<String> genres) {
         super(source);
         this.userId = userId;
+        this.genres = genres;
     }
 
     // 책 추가 이벤트
@@ -17,12 +26,31 @@ public abstract class BookCollectionEvent extends ApplicationEvent {
         public BookAddedEvent(Object source, Long userId) {
             super(source, userId);
         }
+
+        public BookAddedEvent(Object source, Long userId, List<String> genres) {
+            super(source, userId, genres);
+        }
     }
 
-    // 책 삭제 이벤트
+    // 책 삭제 이벤트 (bookCount: 삭제한 책 수, reviewCount: 함께 삭제된 서평 수)
+    @Getter
     public static class BookRemovedEvent extends BookCollectionEvent {
+        private final int bookCount;
+        private final int reviewCount;
+
         public BookRemovedEvent(Object source, Long userId) {
-            super(source, userId);
+            this(source, userId, 1, 0);
+        }
+
+        public BookRemovedEvent(Object source, Long userId, int bookCount, int reviewCount) {
+            this(source, userId, bookCount, reviewCount, null);
+        }
+
+        public BookRemovedEvent(Object source, Long userId, int bookCount, int reviewCount,
+                                List<String> genres) {
+            super(source, userId, genres);
+            this.bookCount = bookCount;
+            this.reviewCount = reviewCount;
         }
     }
-}
\ No newline at end of file
+}
@@ -19,7 +19,7 @@ import com.roome.domain.mybook.exception.MyBookNotFoundException;
 import com.roome.domain.mybook.service.request.MyBookCreateRequest;
 import com.roome.domain.mybook.service.response.MyBookResponse;
 import com.roome.domain.mybook.service.response.MyBooksResponse;
-import com.roome.domain.mybookreview.entity.repository.MyBookReviewQueryModelRedisRepository;
+import com.roome.domain.mybookreview.entity.MyBookReviewQueryModel;
 import com.roome.domain.mybookreview.entity.repository.MyBookReviewRepository;
 import com.roome.domain.rank.entity.ActivityType;
 import com.roome.domain.rank.service.RankingService;
@@ -28,12 +28,20 @@ import com.roome.domain.room.entity.Room;
 import com.roome.domain.room.repository.RoomRepository;
 import com.roome.domain.user.entity.User;
 import com.roome.domain.user.repository.UserRepository;
+import com.roome.global.cache.CatalogCache;
+import com.roome.global.cache.NameIdDictionary;
+import com.roome.global.cache.TwoTierCache;
+import com.roome.global.search.SearchDocument;
+import com.roome.global.search.SearchIndex;
+import com.roome.global.util.TransactionUtil;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,18 +55,21 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class MyBookService {
 
-    private final MyBookQueryModelRedisRepository myBookQueryModelRedisRepository;
-    private final MyBookCountRedisRepository myBookCountRedisRepository;
+    private final TwoTierCache<Long, MyBookQueryModel> myBookCache;
+    private final TwoTierCache<Long, Long> myBookCountCache;
+    private final TwoTierCache<Long, MyBookReviewQueryModel> myBookReviewCache;
     private final MyBookIdsRedisRepository myBookIdsRedisRepository;
-    private final MyBookReviewQueryModelRedisRepository myBookReviewQueryModelRedisRepository;
+    private final SearchIndex myBookSearchIndex;
+    private final NameIdDictionary genreDictionary;
+    private final CatalogCache<Book> bookCatalogCache;
 
     private final MyBookRepository myBookRepository;
     private final MyBookReviewRepository myBookReviewRepository;
     private final MyBookCountRepository myBookCountRepository;
     private final BookRepository bookRepository;
+    private final GenreRepository genreRepository;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
-    private final GenreRepository genreRepository;
     private final UserActivityService userActivityService;
     private final RankingService rankingService;
     private final ApplicationEventPublisher eventPublisher; // 이벤트 발행을 위해 추가
@@ -71,8 +82,9 @@ public class MyBookService {
         room.checkBookshelfIsFull(count(roomOwnerId));
 
         Book bookEntity = request.toBookEntity();
-        Book book = bookRepository.findByIsbn(bookEntity.getIsbn())
-                .orElseGet(() -> {
+        Book book = bookCatalogCache.resolve(bookEntity.getIsbn(),
+                () -> bookRepository.findByIsbn(bookEntity.getIsbn()),
+                () -> {
                     addGenres(bookEntity, request.genreNames());
                     return bookRepository.save(bookEntity);
                 });
@@ -83,45 +95,58 @@ public class MyBookService {
                 });
 
         MyBook myBook = myBookRepository.save(MyBook.create(loginUser, room, book));
+        MyBookQueryModel myBookQueryModel = MyBookQueryModel.create(myBook);
         int result = myBookCountRepository.increase(roomOwnerId);
         if (result == 0) {
             myBookCountRepository.save(MyBookCount.init(room, loginUser));
         }
 
-        if (rankingService.isRanker(roomOwnerId)) {
-            myBookQueryModelRedisRepository.create(MyBookQueryModel.create(myBook), Duration.ofHours(1));
-            myBookIdsRedisRepository.add(roomOwnerId, myBook.getId(), Duration.ofHours(1));
-            myBookCountRedisRepository.createOrUpdate(roomOwnerId, count(roomOwnerId) + 1, Duration.ofHours(1));
-        }
+        // ID 인덱스가 없으면 완료 표식 없는 키가 생기므로 다음 조회 시 전체를 다시 채움
+        Long myBookId = myBook.getId();
+        SearchDocument document =
+                SearchDocument.of(myBookId, book.getTitle(), book.getAuthor(), book.getPublisher());
+        updateCachesAfterCommit(roomOwnerId, () -> {
+            myBookIdsRedisRepository.add(roomOwnerId, myBookId, Duration.ofHours(1));
+            myBookCountCache.evict(roomOwnerId);
+            myBookSearchIndex.add(roomOwnerId, document);
+        });
 
         // 도서 등록 활동 기록 추가
         userActivityService.recordUserActivity(loginUserId, ActivityType.BOOK_REGISTRATION, book.getId());
 
         // 이벤트 발행
-        eventPublisher.publishEvent(new BookCollectionEvent.BookAddedEvent(this, loginUserId));
+        eventPublisher.publishEvent(new BookCollectionEvent.BookAddedEvent(
+                this, loginUserId, myBookQueryModel.getGenreNames()));
         log.debug("북 추가 완료 후 이벤트 발행 user: {}", loginUserId);
       
-        return MyBookResponse.from(MyBookQueryModel.create(myBook));
+        return MyBookResponse.from(myBookQueryModel);
     }
 
     public MyBookResponse read(Long myBookId) {
-        return MyBookResponse.from(
-                myBookQueryModelRedisRepository.read(myBookId)
-                        .orElseGet(() -> fetch(myBookId))
-        );
+        return MyBookResponse.from(myBookCache.get(myBookId, this::fetch));
     }
 
     public MyBooksResponse readAll(Long roomOwnerId, Long pageSize, Long lastMyBookId, String keyword) {
         keyword = keyword == null || keyword.isBlank() ? null : keyword.toLowerCase();
-        if (keyword == null && rankingService.isRanker(roomOwnerId)) {
+        // 랭커의 방은 랭킹 화면에서 바로 유입되므로 조회 빈도가 쌓이기 전부터 ID 색인 사용
+        if (keyword == null && (myBookCountCache.isHot(roomOwnerId) || rankingService.isRanker(roomOwnerId))) {
             return MyBooksResponse.of(
-                    readAll(readAllMyBookIds(roomOwnerId, pageSize, lastMyBookId, keyword)),
+                    readAll(readAllMyBookIds(roomOwnerId, pageSize, lastMyBookId)),
                     count(roomOwnerId)
             );
         }
+        if (keyword != null) {
+            // 색인을 쓸 수 없으면 DB 원본을 같은 규칙으로 검사 (색인 상태에 따라 결과가 달라지지 않도록)
+            String searchKeyword = keyword;
+            List<Long> myBookIds = myBookSearchIndex.search(
+                            roomOwnerId, searchKeyword, lastMyBookId, pageSize.intValue(), this::readAllSearchDocuments)
+                    .orElseGet(() -> myBookSearchIndex.scan(
+                            roomOwnerId, searchKeyword, lastMyBookId, pageSize.intValue(), this::readAllSearchDocuments));
+            return MyBooksResponse.of(readAll(myBookIds), count(roomOwnerId));
+        }
         List<MyBook> myBooks = lastMyBookId == null ?
-                myBookRepository.findAll(roomOwnerId, pageSize, keyword) :
-                myBookRepository.findAll(roomOwnerId, pageSize, lastMyBookId, keyword);
+                myBookRepository.findAll(roomOwnerId, pageSize, null) :
+                myBookRepository.findAll(roomOwnerId, pageSize, lastMyBookId, null);
         return MyBooksResponse.of(
                 myBooks.stream().map(MyBookQueryModel::create).toList(),
                 count(roomOwnerId)
@@ -134,85 +159,92 @@ public class MyBookService {
         room.validateOwner(loginUserId);
 
         List<String> ids = convertStringToList(myBookIds);
-        myBookReviewRepository.deleteAllByMyBookIds(ids);
+        List<String> deletedGenres = genreRepository.findGenresByMyBookIds(ids.stream().map(Long::valueOf).toList());
+        int deletedReviewCount = myBookReviewRepository.deleteAllByMyBookIds(ids);
         myBookRepository.deleteAllIn(ids);
         myBookCountRepository.decrease(roomOwnerId, ids.size());
       
         //이벤트 발행
-        eventPublisher.publishEvent(new BookCollectionEvent.BookRemovedEvent(this, loginUserId));
+        eventPublisher.publishEvent(new BookCollectionEvent.BookRemovedEvent(
+                this, loginUserId, ids.size(), deletedReviewCount, deletedGenres));
         log.debug("북 삭제 완료 후 이벤트 발행 user: {}", loginUserId);
 
-        if (rankingService.isRanker(roomOwnerId)) {
+        updateCachesAfterCommit(roomOwnerId, () -> {
             myBookIdsRedisRepository.delete(roomOwnerId, ids);
+            myBookSearchIndex.remove(roomOwnerId, ids.stream().map(Long::valueOf).toList());
             ids.forEach(myBookId -> {
-                myBookReviewQueryModelRedisRepository.delete(Long.valueOf(myBookId));
-                myBookQueryModelRedisRepository.delete(Long.valueOf(myBookId));
+                myBookReviewCache.evict(Long.valueOf(myBookId));
+                myBookCache.evict(Long.valueOf(myBookId));
             });
-            myBookCountRedisRepository.createOrUpdate(roomOwnerId, count(roomOwnerId) - ids.size(), Duration.ofHours(1));
-        }
+            myBookCountCache.evict(roomOwnerId);
+        });
+    }
+
+    // 커밋 전에 지우면 다른 요청이 커밋 전 데이터로 캐시/인덱스를 다시 채울 수 있으므로 커밋 후 실행
+    private void updateCachesAfterCommit(Long roomOwnerId, Runnable cacheUpdate) {
+        TransactionUtil.runAfterCommit(() -> {
+            try {
+                cacheUpdate.run();
+            } catch (Exception e) {
+                // 갱신하지 못한 캐시/인덱스는 각자의 TTL이 지나면 DB에서 다시 채워짐
+                log.warn("도서 캐시 갱신 실패: roomOwnerId={}, error={}", roomOwnerId, e.getMessage());
+            }
+        });
     }
 
     private MyBookQueryModel fetch(Long myBookId) {
         MyBook myBook = myBookRepository.findFetchById(myBookId)
                 .orElseThrow(MyBookNotFoundException::new);
-        if (rankingService.isRanker(myBook.getUser().getId())) {
-            myBookQueryModelRedisRepository.create(MyBookQueryModel.create(myBook), Duration.ofHours(1));
-        }
         return MyBookQueryModel.create(myBook);
     }
 
     private List<MyBookQueryModel> readAll(List<Long> myBookIds) {
-        Map<Long, MyBookQueryModel> myBookMap = myBookQueryModelRedisRepository.readAll(myBookIds);
-        return myBookIds.stream()
-                .map(myBookId -> myBookMap.containsKey(myBookId) ?
-                        myBookMap.get(myBookId) :
-                        fetch(myBookId))
-                .filter(Objects::nonNull)
-                .toList();
+        return List.copyOf(myBookCache.getAll(myBookIds, this::fetchAll).values());
+    }
+
+    // 캐시에 없는 ID를 IN 조회 한 번으로 가져옴
+    private Map<Long, MyBookQueryModel> fetchAll(List<Long> myBookIds) {
+        return myBookRepository.findAllFetchByIdIn(myBookIds).stream()
+                .map(MyBookQueryModel::create)
+                .collect(Collectors.toMap(MyBookQueryModel::getId, Function.identity()));
     }
 
-    private List<Long> readAllMyBookIds(Long roomOwnerId, Long pageSize, Long lastMyBookId, String keyword) {
-        List<Long> myBookIds = myBookIdsRedisRepository.readAll(roomOwnerId, pageSize, lastMyBookId, keyword);
-        if (pageSize == myBookIds.size()) {
-            return myBookIds;
+    private List<Long> readAllMyBookIds(Long roomOwnerId, Long pageSize, Long lastMyBookId) {
+        Optional<List<Long>> myBookIds = myBookIdsRedisRepository.readAll(roomOwnerId, pageSize, lastMyBookId);
+        if (myBookIds.isPresent()) {
+            return myBookIds.get();
         }
-        List<MyBook> myBooks = lastMyBookId == null ?
-                myBookRepository.findAll(roomOwnerId, pageSize, keyword) :
-                myBookRepository.findAll(roomOwnerId, pageSize, lastMyBookId, keyword);
-        return myBooks.stream().map(MyBook::getId).toList();
+
+        // 인덱스가 없거나 불완전하면 DB에서 ID만 읽어 한 번에 채운 뒤 다시 조회
+        try (Stream<Long> ids = myBookRepository.streamIdsByUserId(roomOwnerId)) {
+            myBookIdsRedisRepository.fill(roomOwnerId, ids, Duration.ofHours(1));
+        }
+        return myBookIdsRedisRepository.readAll(roomOwnerId, pageSize, lastMyBookId)
+                .orElseGet(() -> {
+                    List<MyBook> myBooks = lastMyBookId == null ?
+                            myBookRepository.findAll(roomOwnerId, pageSize, null) :
+                            myBookRepository.findAll(roomOwnerId, pageSize, lastMyBookId, null);
+                    return myBooks.stream().map(MyBook::getId).toList();
+                });
+    }
+
+    private Stream<SearchDocument> readAllSearchDocuments(Long roomOwnerId) {
+        return myBookRepository.streamSearchRowsByUserId(roomOwnerId)
+                .map(row -> SearchDocument.of(row.getId(), row.getTitle(), row.getAuthor(), row.getPublisher()));
     }
 
     private Long count(Long roomOwnerId) {
-        Long result = myBookCountRedisRepository.read(roomOwnerId);
-        if (result != null) {
-            return result;
-        }
-        Long count = myBookCountRepository.findByUserId(roomOwnerId)
+        return myBookCountCache.get(roomOwnerId, ownerId -> myBookCountRepository.findByUserId(ownerId)
                 .map(MyBookCount::getCount)
-                .orElse(0L);
-        if (rankingService.isRanker(roomOwnerId)) {
-            myBookCountRedisRepository.createOrUpdate(roomOwnerId, count, Duration.ofHours(1));
-        }
-        return count;
+                .orElse(0L));
     }
 
     private void addGenres(Book book, List<String> genreNames) {
-        List<Genre> genres = findGenresFrom(genreNames);
-        for (Genre genre : genres) {
+        // 사전에 없는 장르만 한 번에 upsert
+        for (NameIdDictionary.Entry genre : genreDictionary.resolve(genreNames)) {
             book.addBookGenre(
-                    BookGenre.builder().book(book).genre(genre).build()
+                    BookGenre.builder().book(book).genre(Genre.reference(genre.id(), genre.name())).build()
             );
         }
     }
-
-    private List<Genre> findGenresFrom(List<String> genreNames) {
-        return genreNames.stream()
-                .map(genreName -> genreRepository.findByName(genreName)
-                        .orElseGet(() -> {
-                            Genre genre = Genre.create(genreName);
-                            genreRepository.save(genre);
-                            return genre;
-                        })
-                ).toList();
-    }
 }
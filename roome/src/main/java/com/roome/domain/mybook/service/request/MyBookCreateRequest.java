@@ -18,7 +18,7 @@ public record MyBookCreateRequest(
 
     public Book toBookEntity() {
         return Book.builder()
-                .isbn(isbn())
+                .isbn(Book.normalizeIsbn(isbn()))
                 .title(title())
                 .author(author())
                 .publisher(publisher())
@@ -0,0 +1,50 @@
+package com.roome.domain.mybookreview.config;
+
+import com.roome.domain.mybookreview.entity.MyBookReviewQueryModel;
+import com.roome.domain.mybookreview.entity.repository.MyBookReviewQueryModelRedisRepository;
+import com.roome.global.cache.RemoteCacheStore;
+import com.roome.global.cache.TwoTierCache;
+import com.roome.global.cache.TwoTierCacheManager;
+import com.roome.global.cache.TwoTierCacheSettings;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@RequiredArgsConstructor
+public class MyBookReviewCacheConfig {
+
+    private final TwoTierCacheManager twoTierCacheManager;
+    private final MyBookReviewQueryModelRedisRepository myBookReviewQueryModelRedisRepository;
+
+    @Bean
+    public TwoTierCache<Long, MyBookReviewQueryModel> myBookReviewCache() {
+        // 서평은 본문이 길어 항목당 크기가 크므로 L1 상한을 넉넉히 둠
+        return twoTierCacheManager.create("mybook-review",
+                TwoTierCacheSettings.<MyBookReviewQueryModel>builder()
+                        .localMaxWeightBytes(32L * 1024 * 1024)
+                        .weigher(model -> TwoTierCacheSettings.estimateWeight(model.getTitle(),
+                                model.getQuote(), model.getTakeaway(), model.getMotivate(),
+                                model.getTopic(), model.getFreeFormText(), model.getCoverColor(),
+                                model.getId(), model.getWriteDateTime()))
+                        .build(),
+                new RemoteCacheStore<>() {
+                    @Override
+                    public MyBookReviewQueryModel read(Long myBookId) {
+                        return myBookReviewQueryModelRedisRepository.read(myBookId).orElse(null);
+                    }
+
+                    @Override
+                    public void write(Long myBookId, MyBookReviewQueryModel myBookReviewQueryModel, Duration ttl) {
+                        myBookReviewQueryModelRedisRepository.create(myBookId, myBookReviewQueryModel, ttl);
+                    }
+
+                    @Override
+                    public void delete(Long myBookId) {
+                        myBookReviewQueryModelRedisRepository.delete(myBookId);
+                    }
+                });
+    }
+}
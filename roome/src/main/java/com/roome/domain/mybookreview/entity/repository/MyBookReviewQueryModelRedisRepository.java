@@ -1,9 +1,9 @@
 package com.roome.domain.mybookreview.entity.repository;
 
 import com.roome.domain.mybookreview.entity.MyBookReviewQueryModel;
-import com.roome.global.dataserializer.DataSerializer;
+import com.roome.global.dataserializer.CompactCodec;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
@@ -13,28 +13,25 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class MyBookReviewQueryModelRedisRepository {
 
-    private final StringRedisTemplate redisTemplate;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
 
     private static final String KEY_FORMAT = "mybook::%s::review";
+    private static final CompactCodec<MyBookReviewQueryModel> CODEC =
+            CompactCodec.of(MyBookReviewQueryModel.class, 1);
 
     public void create(Long myBookId, MyBookReviewQueryModel myBookReviewQueryModel, Duration ttl) {
-        redisTemplate.opsForValue()
-                .set(generateKey(myBookId), DataSerializer.serialize(myBookReviewQueryModel), ttl);
+        binaryRedisTemplate.opsForValue()
+                .set(generateKey(myBookId), CODEC.serialize(myBookReviewQueryModel), ttl);
     }
 
     public Optional<MyBookReviewQueryModel> read(Long myBookId) {
         return Optional.ofNullable(
-                redisTemplate.opsForValue().get(generateKey(myBookId))
-        ).map(json -> DataSerializer.deserialize(json, MyBookReviewQueryModel.class));
-    }
-
-    public void update(Long myBookId, MyBookReviewQueryModel myBookReviewQueryModel) {
-        redisTemplate.opsForValue()
-                .setIfPresent(generateKey(myBookId), DataSerializer.serialize(myBookReviewQueryModel));
+                binaryRedisTemplate.opsForValue().get(generateKey(myBookId))
+        ).map(CODEC::deserialize);
     }
 
     public void delete(Long myBookId) {
-        redisTemplate.delete(generateKey(myBookId));
+        binaryRedisTemplate.delete(generateKey(myBookId));
     }
 
     private String generateKey(Long myBookId) {
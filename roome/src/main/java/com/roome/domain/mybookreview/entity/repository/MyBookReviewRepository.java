@@ -29,5 +29,5 @@ public interface MyBookReviewRepository extends JpaRepository<MyBookReview, Long
                     delete from MyBookReview mbr where mbr.myBook.id in(:myBookIds)
                     """
     )
-    void deleteAllByMyBookIds(List<String> myBookIds);
+    int deleteAllByMyBookIds(List<String> myBookIds);
 }
@@ -0,0 +1,28 @@
+package com.roome.domain.mybookreview.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public abstract class MyBookReviewEvent extends ApplicationEvent {
+    private final Long userId;
+
+    public MyBookReviewEvent(Object source, Long userId) {
+        super(source);
+        this.userId = userId;
+    }
+
+    // 서평 작성 이벤트
+    public static class MyBookReviewCreatedEvent extends MyBookReviewEvent {
+        public MyBookReviewCreatedEvent(Object source, Long userId) {
+            super(source, userId);
+        }
+    }
+
+    // 서평 삭제 이벤트
+    public static class MyBookReviewDeletedEvent extends MyBookReviewEvent {
+        public MyBookReviewDeletedEvent(Object source, Long userId) {
+            super(source, userId);
+        }
+    }
+}
@@ -4,36 +4,35 @@ import com.roome.domain.mybook.entity.MyBook;
 import com.roome.domain.mybook.entity.repository.MyBookRepository;
 import com.roome.domain.mybookreview.entity.MyBookReview;
 import com.roome.domain.mybookreview.entity.MyBookReviewQueryModel;
-import com.roome.domain.mybookreview.entity.repository.MyBookReviewQueryModelRedisRepository;
 import com.roome.domain.mybookreview.entity.repository.MyBookReviewRepository;
+import com.roome.domain.mybookreview.event.MyBookReviewEvent;
 import com.roome.domain.mybookreview.exception.MyBookReviewDuplicateException;
 import com.roome.domain.mybookreview.exception.MyBookReviewNotFoundException;
 import com.roome.domain.mybookreview.service.request.MyBookReviewCreateRequest;
 import com.roome.domain.mybookreview.service.request.MyBookReviewUpdateRequest;
 import com.roome.domain.mybookreview.service.response.MyBookReviewResponse;
 import com.roome.domain.rank.entity.ActivityType;
-import com.roome.domain.rank.service.RankingService;
 import com.roome.domain.rank.service.UserActivityService;
 import com.roome.domain.user.entity.User;
 import com.roome.domain.user.repository.UserRepository;
+import com.roome.global.cache.TwoTierCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
-
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class MyBookReviewService {
 
-    private final MyBookReviewQueryModelRedisRepository myBookReviewQueryModelRedisRepository;
+    private final TwoTierCache<Long, MyBookReviewQueryModel> myBookReviewCache;
 
     private final MyBookReviewRepository myBookReviewRepository;
     private final MyBookRepository myBookRepository;
     private final UserRepository userRepository;
     private final UserActivityService userActivityService;
-    private final RankingService rankingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public MyBookReviewResponse create(Long loginUserId, Long myBookId, MyBookReviewCreateRequest request) {
@@ -47,9 +46,7 @@ public class MyBookReviewService {
                 });
 
         MyBookReview review = myBookReviewRepository.save(request.toEntity(myBook, user));
-        if (rankingService.isRanker(loginUserId)) {
-            myBookReviewQueryModelRedisRepository.create(myBookId, MyBookReviewQueryModel.create(review), Duration.ofHours(1));
-        }
+        eventPublisher.publishEvent(new MyBookReviewEvent.MyBookReviewCreatedEvent(this, loginUserId));
 
         // 서평 작성 활동 기록 추가 - 길이 체크
         userActivityService.recordUserActivity(
@@ -63,10 +60,7 @@ public class MyBookReviewService {
     }
 
     public MyBookReviewResponse read(Long myBookId) {
-        return MyBookReviewResponse.from(
-                myBookReviewQueryModelRedisRepository.read(myBookId)
-                                .orElseGet(() -> fetch(myBookId))
-        );
+        return MyBookReviewResponse.from(myBookReviewCache.get(myBookId, this::fetch));
     }
 
     @Transactional
@@ -76,13 +70,8 @@ public class MyBookReviewService {
         review.validateOwner(loginUserId);
 
         review.update(request.toEntity());
-        if (rankingService.isRanker(loginUserId)) {
-            myBookReviewQueryModelRedisRepository.read(myBookId)
-                    .ifPresent(myBookReviewQueryModel -> {
-                        myBookReviewQueryModel.updateBy(review);
-                        myBookReviewQueryModelRedisRepository.update(myBookId, myBookReviewQueryModel);
-                    });
-        }
+        // 캐시된 객체는 여러 요청이 공유하므로 수정하지 않고 제거 후 다음 조회 시 다시 채움
+        myBookReviewCache.evict(myBookId);
 
         return MyBookReviewResponse.from(MyBookReviewQueryModel.create(review));
     }
@@ -94,17 +83,13 @@ public class MyBookReviewService {
         review.validateOwner(loginUserId);
 
         myBookReviewRepository.delete(review);
-        if (rankingService.isRanker(loginUserId)) {
-            myBookReviewQueryModelRedisRepository.delete(myBookId);
-        }
+        myBookReviewCache.evict(myBookId);
+        eventPublisher.publishEvent(new MyBookReviewEvent.MyBookReviewDeletedEvent(this, loginUserId));
     }
 
     private MyBookReviewQueryModel fetch(Long myBookId) {
         MyBookReview review = myBookReviewRepository.findByMyBookId(myBookId)
                 .orElseThrow(MyBookReviewNotFoundException::new);
-        if (rankingService.isRanker(review.getUser().getId())) {
-            myBookReviewQueryModelRedisRepository.create(myBookId, MyBookReviewQueryModel.create(review), Duration.ofHours(1));
-        }
         return MyBookReviewQueryModel.create(review);
     }
 }
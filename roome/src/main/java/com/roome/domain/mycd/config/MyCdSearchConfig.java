@@ -0,0 +1,16 @@
+package com.roome.domain.mycd.config;
+
+import com.roome.global.search.SearchIndex;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+public class MyCdSearchConfig {
+
+  // CD 목록과 같이 등록 순(ID 오름차순)으로 검색 결과 반환
+  @Bean
+  public SearchIndex myCdSearchIndex(StringRedisTemplate stringRedisTemplate) {
+    return new SearchIndex("mycd", stringRedisTemplate, false);
+  }
+}
@@ -1,9 +1,7 @@
 package com.roome.domain.mycd.dto;
 
-import com.roome.domain.mycd.entity.MyCd;
 import java.io.Serializable;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -28,14 +26,9 @@ public class MyCdListResponse implements Serializable {
     this.lastMyCdId = lastMyCdId;
   }
 
-  public static MyCdListResponse fromEntities(List<MyCd> myCds, long totalCount, long firstMyCdId,
-      long lastMyCdId) {
-    List<MyCdResponse> responses = myCds.stream()
-        .map(MyCdResponse::fromEntity)
-        .collect(Collectors.toList());
-
-    Long nextCursor = myCds.isEmpty() ? null : myCds.get(myCds.size() - 1).getId();
-
+  public static MyCdListResponse of(List<MyCdResponse> responses, long totalCount,
+      long firstMyCdId, long lastMyCdId) {
+    Long nextCursor = responses.isEmpty() ? null : responses.get(responses.size() - 1).getMyCdId();
     return new MyCdListResponse(responses, nextCursor, totalCount, firstMyCdId, lastMyCdId);
   }
 }
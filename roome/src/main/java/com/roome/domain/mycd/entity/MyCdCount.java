@@ -18,6 +18,11 @@ public class MyCdCount {
 
   private Long count;
 
+  // 목록 페이지의 첫/마지막 CD (기존 데이터는 null이면 다시 계산)
+  private Long firstMyCdId;
+
+  private Long lastMyCdId;
+
   @OneToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "room_id", nullable = false)
   private Room room;
@@ -29,13 +34,17 @@ public class MyCdCount {
         .build();
   }
 
-  public void increment() {
-    this.count++;
+  // 첫 CD 추가 시 생성
+  public static MyCdCount init(Room room, Long myCdId) {
+    return MyCdCount.builder()
+        .count(1L)
+        .firstMyCdId(myCdId)
+        .lastMyCdId(myCdId)
+        .room(room)
+        .build();
   }
 
-  public void decrement() {
-    if (this.count > 0) {
-      this.count--;
-    }
+  public boolean isSummaryMissing() {
+    return count != null && count > 0 && (firstMyCdId == null || lastMyCdId == null);
   }
 }
@@ -3,13 +3,22 @@ package com.roome.domain.mycd.event;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
+import java.util.List;
+
 @Getter
 public abstract class CdCollectionEvent extends ApplicationEvent {
     private final Long userId;
+    // 추가/제거된 CD들의 장르 (CD마다 한 번씩 포함, null이면 알 수 없음)
+    private final List<String> genres;
 
     public CdCollectionEvent(Object source, Long userId) {
+        this(source, userId, null);
+    }
+
+    public CdCollectionEvent(Object source, Long userId, List<String> genres) {
         super(source);
         this.userId = userId;
+        this.genres = genres;
     }
 
     //CD 추가 이벤트
@@ -17,12 +26,28 @@ public abstract class CdCollectionEvent extends ApplicationEvent {
         public CdAddedEvent(Object source, Long userId) {
             super(source, userId);
         }
+
+        public CdAddedEvent(Object source, Long userId, List<String> genres) {
+            super(source, userId, genres);
+        }
     }
 
-    //CD 제거 이벤트
+    //CD 제거 이벤트 (count: 한 번에 제거한 CD 수)
+    @Getter
     public static class CdRemovedEvent extends CdCollectionEvent {
+        private final int count;
+
         public CdRemovedEvent(Object source, Long userId) {
-            super(source, userId);
+            this(source, userId, 1);
+        }
+
+        public CdRemovedEvent(Object source, Long userId, int count) {
+            this(source, userId, count, null);
+        }
+
+        public CdRemovedEvent(Object source, Long userId, int count, List<String> genres) {
+            super(source, userId, genres);
+            this.count = count;
         }
     }
-}
\ No newline at end of file
+}
@@ -4,8 +4,33 @@ import com.roome.domain.mycd.entity.MyCdCount;
 import com.roome.domain.room.entity.Room;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MyCdCountRepository extends JpaRepository<MyCdCount, Long> {
 
   Optional<MyCdCount> findByRoom(Room room);
+
+  @Query("SELECT c FROM MyCdCount c WHERE c.room.user.id = :userId")
+  Optional<MyCdCount> findByUserId(@Param("userId") Long userId);
+
+  // 추가한 CD를 요약에 반영, 용량을 넘으면 반영하지 않음 (반영된 행 수 반환)
+  // 같은 방의 동시 추가는 이 행의 잠금으로 직렬화되어 용량 검사가 정확함
+  @Modifying
+  @Query("UPDATE MyCdCount c SET c.count = c.count + 1, "
+      + "c.firstMyCdId = COALESCE(c.firstMyCdId, (SELECT MIN(mc.id) FROM MyCd mc WHERE mc.room.id = :roomId)), "
+      + "c.lastMyCdId = :myCdId "
+      + "WHERE c.room.id = :roomId AND c.count < :maxCount")
+  int increase(@Param("roomId") Long roomId, @Param("myCdId") Long myCdId,
+      @Param("maxCount") long maxCount);
+
+  // 삭제 후, 또는 첫/마지막 CD가 없는 기존 데이터의 요약을 다시 계산
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE MyCdCount c SET "
+      + "c.count = (SELECT COUNT(mc) FROM MyCd mc WHERE mc.room.id = :roomId), "
+      + "c.firstMyCdId = (SELECT MIN(mc.id) FROM MyCd mc WHERE mc.room.id = :roomId), "
+      + "c.lastMyCdId = (SELECT MAX(mc.id) FROM MyCd mc WHERE mc.room.id = :roomId) "
+      + "WHERE c.room.id = :roomId")
+  int refresh(@Param("roomId") Long roomId);
 }
@@ -0,0 +1,39 @@
+package com.roome.domain.mycd.repository;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+// 사용자별 CD 목록 캐시 버전 (캐시 키에 포함하여 쓰기 시 버전만 올려 해당 사용자 캐시를 무효화)
+@Repository
+@RequiredArgsConstructor
+public class MyCdListVersionRedisRepository {
+
+  private static final String KEY_FORMAT = "myCdList:version:%s";
+  // 목록 캐시 TTL(1시간)보다 길어야 버전 키가 만료되어 0부터 다시 시작해도 이전 항목과 겹치지 않음
+  private static final Duration TTL = Duration.ofHours(2);
+
+  private final StringRedisTemplate redisTemplate;
+
+  public long read(Long userId) {
+    String version = redisTemplate.opsForValue().get(generateKey(userId));
+    return version == null ? 0L : Long.parseLong(version);
+  }
+
+  public void increase(Long userId) {
+    String key = generateKey(userId);
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      StringRedisConnection stringConnection = (StringRedisConnection) connection;
+      stringConnection.incr(key);
+      stringConnection.expire(key, TTL.toSeconds());
+      return null;
+    });
+  }
+
+  private String generateKey(Long userId) {
+    return KEY_FORMAT.formatted(userId);
+  }
+}
@@ -1,9 +1,18 @@
 package com.roome.domain.mycd.repository;
 
-import com.roome.domain.mycd.entity.MyCd;
-import org.springframework.data.domain.Page;
+import com.roome.domain.mycd.dto.MyCdResponse;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Slice;
 
+// CD 목록/상세 조회 모델 (엔티티를 로딩하지 않고 CD 컬럼 1회 + 장르 1회 조회로 조립)
 public interface MyCdQueryRepository {
 
-  Page<MyCd> searchMyCd(Long userId, String keyword, Long cursor, int size);
+  Slice<MyCdResponse> findMyCdResponses(Long userId, Long cursor, int size);
+
+  // ids 순서는 보장하지 않음
+  List<MyCdResponse> findMyCdResponsesByIds(Long userId, Collection<Long> myCdIds);
+
+  // 사용자가 등록한 CD에서 가장 많이 등장한 장르
+  List<String> findTopCdGenreNames(Long userId, int limit);
 }
@@ -1,35 +1,118 @@
 package com.roome.domain.mycd.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.roome.domain.cd.entity.QCd;
-import com.roome.domain.mycd.entity.MyCd;
+import com.roome.domain.cd.entity.QCdGenre;
+import com.roome.domain.cd.entity.QCdGenreType;
+import com.roome.domain.mycd.dto.MyCdResponse;
 import com.roome.domain.mycd.entity.QMyCd;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 @RequiredArgsConstructor
 public class MyCdQueryRepositoryImpl implements MyCdQueryRepository {
 
+  private static final QMyCd myCd = QMyCd.myCd;
+  private static final QCd cd = QCd.cd;
+  private static final QCdGenre cdGenre = QCdGenre.cdGenre;
+  private static final QCdGenreType cdGenreType = QCdGenreType.cdGenreType;
+
   private final JPAQueryFactory queryFactory;
 
   @Override
-  public Page<MyCd> searchMyCd(Long userId, String keyword, Long cursor, int size) {
-    QMyCd myCd = QMyCd.myCd;
-    QCd cd = QCd.cd;
+  public Slice<MyCdResponse> findMyCdResponses(Long userId, Long cursor, int size) {
+    return toSlice(selectRows()
+        .where(myCd.user.id.eq(userId), cursorGreaterThan(cursor))
+        .orderBy(myCd.id.asc())
+        .limit(size + 1L)
+        .fetch(), size);
+  }
+
+  @Override
+  public List<MyCdResponse> findMyCdResponsesByIds(Long userId, Collection<Long> myCdIds) {
+    if (myCdIds.isEmpty()) {
+      return List.of();
+    }
+    return toResponses(selectRows()
+        .where(myCd.user.id.eq(userId), myCd.id.in(myCdIds))
+        .fetch());
+  }
 
-    List<MyCd> result = queryFactory
-        .selectFrom(myCd)
+  @Override
+  public List<String> findTopCdGenreNames(Long userId, int limit) {
+    return queryFactory
+        .select(cdGenreType.name)
+        .from(myCd)
         .join(myCd.cd, cd)
-        .where(myCd.user.id.eq(userId)
-            .and(cursor != null ? myCd.id.gt(cursor) : null)
-            .and(keyword != null ? cd.title.containsIgnoreCase(keyword)
-                .or(cd.artist.containsIgnoreCase(keyword)) : null))
-        .orderBy(myCd.id.asc())
-        .limit(size)
+        .join(cd.cdGenres, cdGenre)
+        .join(cdGenre.genreType, cdGenreType)
+        .where(myCd.user.id.eq(userId))
+        .groupBy(cdGenreType.name)
+        .orderBy(cdGenreType.name.count().desc(), cdGenreType.name.asc())
+        .limit(limit)
         .fetch();
+  }
+
+  private JPAQuery<Tuple> selectRows() {
+    return queryFactory
+        .select(myCd.id, cd.id, cd.title, cd.artist, cd.album, cd.releaseDate, cd.coverUrl,
+            cd.youtubeUrl, cd.duration)
+        .from(myCd)
+        .join(myCd.cd, cd);
+  }
+
+  // size + 1건을 조회하여 다음 페이지 여부 확인 (count 쿼리 없음)
+  private Slice<MyCdResponse> toSlice(List<Tuple> rows, int size) {
+    boolean hasNext = rows.size() > size;
+    List<Tuple> content = hasNext ? rows.subList(0, size) : rows;
+    return new SliceImpl<>(toResponses(content), PageRequest.of(0, size), hasNext);
+  }
+
+  // 페이지의 모든 CD 장르를 한 번에 조회하여 조립
+  private List<MyCdResponse> toResponses(List<Tuple> rows) {
+    if (rows.isEmpty()) {
+      return List.of();
+    }
+    List<Long> cdIds = rows.stream().map(row -> row.get(cd.id)).distinct().toList();
+    // transform(groupBy)은 Hibernate 6에서 scroll 호환 문제가 있어 조회 후 직접 묶음
+    Map<Long, List<String>> genresByCdId = new HashMap<>();
+    queryFactory
+        .select(cdGenre.cd.id, cdGenreType.name)
+        .from(cdGenre)
+        .join(cdGenre.genreType, cdGenreType)
+        .where(cdGenre.cd.id.in(cdIds))
+        .orderBy(cdGenre.id.asc())
+        .fetch()
+        .forEach(genre -> genresByCdId
+            .computeIfAbsent(genre.get(cdGenre.cd.id), cdId -> new ArrayList<>())
+            .add(genre.get(cdGenreType.name)));
+
+    return rows.stream()
+        .map(row -> MyCdResponse.builder()
+            .myCdId(row.get(myCd.id))
+            .title(row.get(cd.title))
+            .artist(row.get(cd.artist))
+            .album(row.get(cd.album))
+            .releaseDate(row.get(cd.releaseDate))
+            .genres(genresByCdId.getOrDefault(row.get(cd.id), List.of()))
+            .coverUrl(row.get(cd.coverUrl))
+            .youtubeUrl(row.get(cd.youtubeUrl))
+            .duration(row.get(cd.duration))
+            .build())
+        .toList();
+  }
 
-    return new PageImpl<>(result);
+  private BooleanExpression cursorGreaterThan(Long cursor) {
+    return cursor == null || cursor == 0 ? null : myCd.id.gt(cursor);
   }
 }
@@ -1,8 +1,5 @@
 package com.roome.domain.mycd.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.roome.domain.cd.entity.Cd;
 import com.roome.domain.cd.entity.CdGenre;
 import com.roome.domain.cd.entity.CdGenreType;
@@ -24,6 +21,7 @@ import com.roome.domain.mycd.exception.MyCdNotFoundException;
 import com.roome.domain.mycd.exception.MyCdPaginationException;
 import com.roome.domain.mycd.exception.MyCdUnauthorizedException;
 import com.roome.domain.mycd.repository.MyCdCountRepository;
+import com.roome.domain.mycd.repository.MyCdListVersionRedisRepository;
 import com.roome.domain.mycd.repository.MyCdRepository;
 import com.roome.domain.rank.entity.ActivityType;
 import com.roome.domain.rank.service.UserActivityService;
@@ -32,21 +30,29 @@ import com.roome.domain.room.exception.RoomNoFoundException;
 import com.roome.domain.room.repository.RoomRepository;
 import com.roome.domain.user.entity.User;
 import com.roome.domain.user.repository.UserRepository;
+import com.roome.global.cache.CatalogCache;
+import com.roome.global.cache.NameIdDictionary;
 import com.roome.global.jwt.exception.UserNotFoundException;
+import com.roome.global.search.SearchDocument;
+import com.roome.global.search.SearchIndex;
+import com.roome.global.util.TransactionUtil;
 import jakarta.transaction.Transactional;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
 
@@ -58,19 +64,22 @@ public class MyCdService {
 
   private final MyCdRepository myCdRepository;
   private final CdRepository cdRepository;
+  private final CdGenreTypeRepository cdGenreTypeRepository;
   private final MyCdCountRepository myCdCountRepository;
+  private final MyCdListVersionRedisRepository myCdListVersionRedisRepository;
   private final RoomRepository roomRepository;
   private final UserRepository userRepository;
-  private final CdGenreTypeRepository cdGenreTypeRepository;
+  private final NameIdDictionary cdGenreTypeDictionary;
+  private final CatalogCache<Cd> cdCatalogCache;
   private final UserActivityService userActivityService;
   private final FurnitureService furnitureService;
   private final FurnitureCapacity furnitureCapacity;
   private final ApplicationEventPublisher eventPublisher; // 이벤트 발행을 위해 추가
+  private final SearchIndex myCdSearchIndex;
   
   @Qualifier("myCdRedisTemplate")
   private final RedisTemplate<String, MyCdResponse> redisTemplate;
 
-  @CacheEvict(value = "myCdList", allEntries = true)
   public MyCdResponse addCdToMyList(Long userId, MyCdCreateRequest request) {
     User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
     Room room = roomRepository.findByUserId(userId).orElseThrow(RoomNoFoundException::new);
@@ -79,28 +88,27 @@ public class MyCdService {
     int cdRackLevel = furnitureService.getCdRackLevel(room);
     int maxCapacity = furnitureCapacity.getMaxCdCapacity(cdRackLevel);
 
-    // 현재 등록된 CD 개수 조회
-    long currentCdCount = myCdRepository.countByUserId(userId);
+    // 현재 등록된 CD 개수 조회 (목록 요약)
+    long currentCdCount = myCdCountRepository.findByRoom(room)
+        .map(MyCdCount::getCount)
+        .orElse(0L);
     if (currentCdCount >= maxCapacity) {
       throw new CdRackCapacityExceededException();
     }
 
-    // CD 존재 여부 확인 후 저장 (없으면 새로 생성)
-    Cd cd = cdRepository.findByTitleAndArtist(request.getTitle(), request.getArtist())
-        .orElseGet(() -> {
+    // CD 존재 여부 확인 후 저장 (없으면 새로 생성, 같은 CD의 동시 생성은 한 번만 수행)
+    String catalogKey = Cd.catalogKey(request.getTitle(), request.getArtist());
+    Cd cd = cdCatalogCache.resolve(catalogKey,
+        () -> findCatalogCd(catalogKey, request.getTitle(), request.getArtist()),
+        () -> {
           Cd newCd = Cd.create(request.getTitle(), request.getArtist(), request.getAlbum(),
               request.getReleaseDate(), request.getCoverUrl(), request.getYoutubeUrl(),
               request.getDuration());
 
-          // 장르가 있을 경우만 추가
-          if (request.getGenres() != null && !request.getGenres().isEmpty()) {
-            for (String genreName : request.getGenres()) {
-              CdGenreType genreType = cdGenreTypeRepository.findByName(genreName)
-                  .orElseGet(() -> cdGenreTypeRepository.save(new CdGenreType(genreName)));
-
-              CdGenre cdGenre = new CdGenre(newCd, genreType);
-              newCd.addGenre(cdGenre);
-            }
+          // 장르가 있을 경우만 추가 (사전에 없는 장르만 한 번에 upsert)
+          for (NameIdDictionary.Entry genre : cdGenreTypeDictionary.resolve(request.getGenres())) {
+            CdGenreType genreType = CdGenreType.reference(genre.id(), genre.name());
+            newCd.addGenre(new CdGenre(newCd, genreType));
           }
 
           return cdRepository.save(newCd);
@@ -115,58 +123,63 @@ public class MyCdService {
     // MyCd 저장
     MyCd myCd = myCdRepository.save(MyCd.create(user, room, cd));
 
-    // MyCdCount 업데이트
-    MyCdCount myCdCount = myCdCountRepository.findByRoom(room)
-        .orElseGet(() -> myCdCountRepository.save(MyCdCount.init(room)));
-    myCdCount.increment();
+    // 목록 요약 업데이트 (요약 행 잠금으로 같은 방의 동시 추가를 직렬화하고, 용량을 넘으면 취소)
+    if (myCdCountRepository.increase(room.getId(), myCd.getId(), maxCapacity) == 0) {
+      if (myCdCountRepository.findByRoom(room).isPresent()) {
+        throw new CdRackCapacityExceededException();
+      }
+      myCdCountRepository.save(MyCdCount.init(room, myCd.getId()));
+    }
+
+    SearchDocument document = SearchDocument.of(myCd.getId(), cd.getTitle(), cd.getArtist());
+    updateCachesAfterCommit(userId, () -> myCdSearchIndex.add(userId, document));
 
     // 음악 등록 활동 기록 추가
     userActivityService.recordUserActivity(userId, ActivityType.MUSIC_REGISTRATION, cd.getId());
 
     // 이벤트 발행
-    eventPublisher.publishEvent(new CdCollectionEvent.CdAddedEvent(this, userId));
+    eventPublisher.publishEvent(new CdCollectionEvent.CdAddedEvent(this, userId, cd.getGenres()));
     log.debug("Published CD added event for user: {}", userId);
 
     return MyCdResponse.fromEntity(myCd);
   }
 
 
-  @Cacheable(value = "myCdList", key = "#userId + '_' + #keyword + '_' + #cursor + '_' + #size", unless = "#result == null")
+  // 키: {userId}:v{버전}:{keyword}_{cursor}_{size} (쓰기 시 해당 사용자의 버전만 올림)
+  @Cacheable(value = "myCdList",
+      key = "#userId + ':v' + @myCdListVersionRedisRepository.read(#userId) + ':' + #keyword + '_' + #cursor + '_' + #size",
+      unless = "#result == null")
   public MyCdListResponse getMyCdList(Long userId, String keyword, Long cursor, int size) {
     log.info("캐시 적용: userId={}, cursor={}, size={}", userId, cursor, size);
 
     boolean isKeywordSearch = keyword != null && !keyword.trim().isEmpty();
-    Page<MyCd> myCdsPage;
+    List<MyCdResponse> data;
 
     try {
       if (isKeywordSearch) {
-        myCdsPage = myCdRepository.searchMyCd(userId, keyword, cursor, size);
+        // 검색 색인으로 ID를 찾고 CD 단건 캐시에서 채움 (색인을 쓸 수 없으면 DB 원본을 같은 규칙으로 검사)
+        Long searchCursor = cursor == null || cursor == 0 ? null : cursor;
+        List<Long> myCdIds = myCdSearchIndex.search(userId, keyword, searchCursor, size,
+                this::readAllSearchDocuments)
+            .orElseGet(() -> myCdSearchIndex.scan(userId, keyword, searchCursor, size,
+                this::readAllSearchDocuments));
+        data = readAllMyCds(userId, myCdIds);
       } else {
-        myCdsPage = (cursor == null || cursor == 0)
-            ? myCdRepository.findByUserIdOrderByIdAsc(userId,
-            PageRequest.of(0, size, Sort.by(Sort.Direction.ASC, "id")))
-            : myCdRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId, cursor,
-                PageRequest.of(0, size, Sort.by(Sort.Direction.ASC, "id")));
+        data = myCdRepository.findMyCdResponses(userId, cursor, size).getContent();
       }
     } catch (Exception e) {
       throw new MyCdDatabaseException("CD 목록을 불러오는 중 오류가 발생했습니다.");
     }
 
-    if (myCdsPage.isEmpty()) {
+    if (data.isEmpty()) {
       throw new MyCdListEmptyException();
     }
 
-    // 유저가 등록한 전체 CD 개수 조회
-    long totalCount = myCdRepository.countByUserId(userId);
-
-    // 유저가 등록한 전체 MyCd 중에서 가장 작은 ID와 가장 큰 ID 조회
-    Long firstMyCdId = myCdRepository.findFirstByUserIdOrderByIdAsc(userId)
-        .map(MyCd::getId)
-        .orElseThrow(() -> new MyCdDatabaseException("사용자의 첫 번째 CD를 찾을 수 없습니다."));
-
-    Long lastMyCdId = myCdRepository.findFirstByUserIdOrderByIdDesc(userId)
-        .map(MyCd::getId)
-        .orElseThrow(() -> new MyCdDatabaseException("사용자의 마지막 CD를 찾을 수 없습니다."));
+    // 유저가 등록한 전체 CD 개수와 가장 작은/큰 MyCd ID (목록 요약)
+    MyCdCount summary = readSummary(userId);
+    long totalCount = summary.getCount();
+    Long firstMyCdId = summary.getFirstMyCdId();
+    Long lastMyCdId = summary.getLastMyCdId();
 
     // 커서 기반 페이지네이션의 cursor 값 검증
     if (cursor != null && cursor > lastMyCdId) {
@@ -174,31 +187,11 @@ public class MyCdService {
     }
 
     // 현재 페이지의 데이터 가져오기
-    List<MyCd> myCds = myCdsPage.getContent();
-    MyCdListResponse response = MyCdListResponse.fromEntities(myCds, totalCount, firstMyCdId,
-        lastMyCdId);
-
-    // 캐시된 데이터가 LinkedHashMap인지 확인 후 변환
-    if (response instanceof Map) {
-      log.warn("Redis에서 가져온 데이터가 Map 형태임. MyCdListResponse로 변환 중...");
-
-      ObjectMapper objectMapper = new ObjectMapper();
-      objectMapper.registerModule(new JavaTimeModule()); // LocalDate 변환 지원
-      objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-      try {
-        response = objectMapper.convertValue(response, MyCdListResponse.class);
-      } catch (Exception e) {
-        log.error("Redis 캐시 변환 실패: {}", e.getMessage(), e);
-        throw new RuntimeException("Redis 캐시 변환 중 오류 발생");
-      }
-    }
-
-    return response;
+    return MyCdListResponse.of(data, totalCount, firstMyCdId, lastMyCdId);
   }
 
   public MyCdResponse getMyCd(Long targetUserId, Long myCdId) {
-    String cacheKey = "mycd:" + myCdId + ":" + targetUserId;
+    String cacheKey = myCdCacheKey(targetUserId, myCdId);
     ValueOperations<String, MyCdResponse> valueOps = redisTemplate.opsForValue();
 
     // 1. Redis 캐시에서 조회 (Cache Hit)
@@ -208,18 +201,17 @@ public class MyCdService {
     }
 
     // 2. DB에서 조회 (Cache Miss)
-    MyCd myCd = myCdRepository.findByIdAndUserIdOptimized(myCdId, targetUserId)
+    MyCdResponse response = myCdRepository.findMyCdResponsesByIds(targetUserId, List.of(myCdId))
+        .stream()
+        .findFirst()
         .orElseThrow(MyCdNotFoundException::new);
 
-    MyCdResponse response = MyCdResponse.fromEntity(myCd);
-
     // 3. 캐싱 (TTL 30분 설정)
     valueOps.set(cacheKey, response, Duration.ofMinutes(30));
 
     return response;
   }
 
-  @CacheEvict(value = "myCdList", allEntries = true)
   public void delete(Long userId, List<Long> myCdIds) {
     // 삭제할 CD 목록을 가져오기
     List<MyCd> myCds = myCdRepository.findAllById(myCdIds);
@@ -236,20 +228,106 @@ public class MyCdService {
       }
     }
 
+    // 장르 분포 차감용 장르는 삭제 전에 한 번에 조회
+    List<String> deletedGenres = cdGenreTypeRepository.findGenresByMyCdIds(myCdIds);
+
     // 실제 삭제 수행
     myCdRepository.deleteByUserIdAndIds(userId, myCdIds);
+    updateCachesAfterCommit(userId, () -> myCdSearchIndex.remove(userId, myCdIds));
 
-    // MyCdCount 업데이트 (삭제 시 감소)
+    // 목록 요약 다시 계산 (삭제한 CD가 첫/마지막 CD일 수 있음)
     Room room = roomRepository.findByUserId(userId).orElseThrow(RoomNoFoundException::new);
-    MyCdCount myCdCount = myCdCountRepository.findByRoom(room)
-        .orElseThrow(() -> new MyCdDatabaseException("MyCdCount를 찾을 수 없습니다."));
-
-    myCdCount.decrement();  // CD 개수 감소
+    if (myCdCountRepository.refresh(room.getId()) == 0) {
+      throw new MyCdDatabaseException("MyCdCount를 찾을 수 없습니다.");
+    }
 
     // CD 삭제 후 이벤트 발행
-    eventPublisher.publishEvent(new CdCollectionEvent.CdRemovedEvent(this, userId));
+    eventPublisher.publishEvent(new CdCollectionEvent.CdRemovedEvent(this, userId, myCds.size(), deletedGenres));
     log.debug("Published CD removed event for user: {}", userId);
   }
 
+  // CD 단건 캐시에서 한 번에 조회하고 없는 항목만 DB에서 채움 (ids 순서 유지)
+  private List<MyCdResponse> readAllMyCds(Long userId, List<Long> myCdIds) {
+    if (myCdIds.isEmpty()) {
+      return List.of();
+    }
+    List<MyCdResponse> cached = redisTemplate.opsForValue()
+        .multiGet(myCdIds.stream().map(myCdId -> myCdCacheKey(userId, myCdId)).toList());
+
+    Map<Long, MyCdResponse> responses = new HashMap<>();
+    List<Long> missingIds = new ArrayList<>();
+    for (int i = 0; i < myCdIds.size(); i++) {
+      MyCdResponse response = cached == null ? null : cached.get(i);
+      if (response != null) {
+        responses.put(myCdIds.get(i), response);
+      } else {
+        missingIds.add(myCdIds.get(i));
+      }
+    }
+
+    if (!missingIds.isEmpty()) {
+      List<MyCdResponse> loaded = myCdRepository.findMyCdResponsesByIds(userId, missingIds);
+      loaded.forEach(response -> responses.put(response.getMyCdId(), response));
+      redisTemplate.executePipelined(new SessionCallback<Object>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object execute(RedisOperations<K, V> operations) {
+          RedisOperations<String, MyCdResponse> ops =
+              (RedisOperations<String, MyCdResponse>) operations;
+          for (MyCdResponse response : loaded) {
+            ops.opsForValue().set(myCdCacheKey(userId, response.getMyCdId()), response,
+                Duration.ofMinutes(30));
+          }
+          return null;
+        }
+      });
+    }
+
+    return myCdIds.stream().map(responses::get).filter(Objects::nonNull).toList();
+  }
+
+  // 첫/마지막 CD가 없는 기존 요약은 한 번 다시 계산
+  private MyCdCount readSummary(Long userId) {
+    MyCdCount summary = myCdCountRepository.findByUserId(userId)
+        .orElseThrow(() -> new MyCdDatabaseException("MyCdCount를 찾을 수 없습니다."));
+    if (!summary.isSummaryMissing()) {
+      return summary;
+    }
+    myCdCountRepository.refresh(summary.getRoom().getId());
+    return myCdCountRepository.findByUserId(userId)
+        .orElseThrow(() -> new MyCdDatabaseException("MyCdCount를 찾을 수 없습니다."));
+  }
+
+  private Stream<SearchDocument> readAllSearchDocuments(Long userId) {
+    return myCdRepository.streamSearchRowsByUserId(userId)
+        .map(row -> SearchDocument.of(row.getId(), row.getTitle(), row.getArtist()));
+  }
+
+  // 검색 색인 갱신과 목록 캐시 버전 증가는 커밋 후 실행
+  // (커밋 전에 반영하면 롤백된 변경이 색인에 남거나, 다른 요청이 커밋 전 데이터로 새 버전 캐시를 채울 수 있음)
+  private void updateCachesAfterCommit(Long userId, Runnable indexUpdate) {
+    TransactionUtil.runAfterCommit(() -> {
+      // 색인 갱신 실패는 SearchIndex가 색인을 무효화하여 처리
+      indexUpdate.run();
+      try {
+        myCdListVersionRedisRepository.increase(userId);
+      } catch (Exception e) {
+        // 이전 버전 캐시는 TTL(1시간) 후 만료
+        log.warn("CD 목록 캐시 버전 갱신 실패: userId={}, error={}", userId, e.getMessage());
+      }
+    });
+  }
+
+  // catalog_key로 조회하고 없으면 catalog_key가 없는 기존 데이터에서 조회
+  private Optional<Cd> findCatalogCd(String catalogKey, String title, String artist) {
+    return cdRepository.findWithGenresByCatalogKey(catalogKey)
+        .or(() -> cdRepository.findLegacyWithGenresByTitleAndArtist(title, artist).stream()
+            .findFirst());
+  }
+
+  private String myCdCacheKey(Long userId, Long myCdId) {
+    return "mycd:" + myCdId + ":" + userId;
+  }
+
 
 }
\ No newline at end of file
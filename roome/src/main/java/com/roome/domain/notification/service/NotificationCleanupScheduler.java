@@ -1,6 +1,7 @@
 package com.roome.domain.notification.service;
 
 import com.roome.domain.notification.repository.NotificationRepository;
+import com.roome.global.scheduler.SchedulerLock;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -15,6 +16,7 @@ public class NotificationCleanupScheduler {
     private final NotificationRepository notificationRepository;
 
     @Scheduled(cron = "0 0 0 * * *") // 매일 자정에 실행
+    @SchedulerLock(name = "notification-cleanup", minIntervalSeconds = 3600)
     @Transactional
     public void cleanupOldNotifications() {
         LocalDateTime threshold = LocalDateTime
@@ -0,0 +1,43 @@
+package com.roome.domain.rank.config;
+
+import com.roome.domain.rank.service.RankerMembershipCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class RankingRedisConfig {
+
+  private final RankerMembershipCache rankerMembershipCache;
+
+  @Bean
+  public MessageListenerAdapter rankingChangedMessageListener() {
+    MessageListenerAdapter adapter = new MessageListenerAdapter(rankerMembershipCache,
+        "handleLeaderboardChanged");
+    adapter.setSerializer(new StringRedisSerializer());
+    return adapter;
+  }
+
+  @Bean
+  public RedisMessageListenerContainer rankingListenerContainer(
+      RedisConnectionFactory connectionFactory,
+      MessageListenerAdapter rankingChangedMessageListener) {
+
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+
+    container.addMessageListener(rankingChangedMessageListener,
+        new ChannelTopic(RankerMembershipCache.CHANNEL));
+
+    log.info("Redis 랭킹 변경 구독 설정 완료: {} 채널", RankerMembershipCache.CHANNEL);
+    return container;
+  }
+}
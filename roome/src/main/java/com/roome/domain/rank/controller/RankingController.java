@@ -1,17 +1,27 @@
 package com.roome.domain.rank.controller;
 
+import com.roome.domain.rank.dto.MyRankingResponse;
+import com.roome.domain.rank.dto.RankingPageResponse;
 import com.roome.domain.rank.dto.UserRankingDto;
 import com.roome.domain.rank.service.RankingService;
+import com.roome.global.auth.AuthenticatedUser;
+import com.roome.global.exception.ControllerException;
+import com.roome.global.exception.ErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -28,19 +38,75 @@ public class RankingController {
       description = "활동 점수 기준 상위 10명의 사용자 랭킹을 조회합니다."
   )
   @ApiResponses(value = {
-      @ApiResponse(responseCode = "200", description = "랭킹 조회 성공"),
+      @ApiResponse(responseCode = "200", description = "랭킹 조회 성공",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              array = @ArraySchema(schema = @Schema(implementation = UserRankingDto.class)))),
       @ApiResponse(responseCode = "500", description = "서버 내부 오류")
   })
-  @GetMapping
-  public ResponseEntity<List<UserRankingDto>> getTopRankings() {
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<byte[]> getTopRankings() {
     try {
-      log.info("랭킹 조회 API 호출");
-      List<UserRankingDto> rankings = rankingService.getTopRankings();
-      log.info("랭킹 조회 성공: {} 명의 랭커 조회됨", rankings.size());
-      return ResponseEntity.ok(rankings);
+      log.debug("랭킹 조회 API 호출");
+      // 랭킹이 바뀌지 않았다면 미리 직렬화된 응답을 그대로 반환
+      byte[] rankings = rankingService.getTopRankingsJson();
+      return ResponseEntity.ok()
+          .contentType(MediaType.APPLICATION_JSON)
+          .body(rankings);
     } catch (Exception e) {
       log.error("랭킹 조회 중 오류 발생: {}", e.getMessage(), e);
       throw e;
     }
   }
-}
\ No newline at end of file
+
+  @Operation(
+      summary = "전체 랭킹 페이지 조회",
+      description = "활동 점수 기준 전체 랭킹을 커서 기반으로 조회합니다."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "랭킹 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 커서 형식 (INVALID_CURSOR_VALUE)"),
+      @ApiResponse(responseCode = "400", description = "유효하지 않은 limit 값 (INVALID_LIMIT_VALUE)")
+  })
+  @GetMapping("/leaderboard")
+  public ResponseEntity<RankingPageResponse> getLeaderboard(
+      @Parameter(description = "페이지네이션 커서 (이전 응답의 nextCursor)", example = "120.0_10")
+      @RequestParam(required = false) String cursor,
+      @Parameter(description = "한 페이지당 조회할 사용자 수(1-100)", example = "20")
+      @RequestParam(defaultValue = "20") int limit) {
+
+    validateLimit(limit);
+
+    return ResponseEntity.ok(rankingService.getLeaderboard(cursor, limit));
+  }
+
+  @Operation(
+      summary = "내 랭킹 조회",
+      description = "내 순위와 점수, 위아래 이웃 사용자들의 랭킹을 조회합니다."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "랭킹 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "유효하지 않은 range 값 (INVALID_LIMIT_VALUE)"),
+      @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+  })
+  @GetMapping("/me")
+  public ResponseEntity<MyRankingResponse> getMyRanking(
+      @AuthenticatedUser Long userId,
+      @Parameter(description = "위아래로 함께 조회할 사용자 수(1-10)", example = "5")
+      @RequestParam(defaultValue = "5") int range) {
+
+    if (range < 1 || range > 10) {
+      log.error("유효하지 않은 range 값: {}", range);
+      throw new ControllerException(ErrorCode.INVALID_LIMIT_VALUE);
+    }
+
+    return ResponseEntity.ok(rankingService.getRankingAroundUser(userId, range));
+  }
+
+  // 리미트 검증
+  private void validateLimit(int limit) {
+    if (limit < 1 || limit > 100) {
+      log.error("유효하지 않은 limit 값: {}", limit);
+      throw new ControllerException(ErrorCode.INVALID_LIMIT_VALUE);
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.roome.domain.rank.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MyRankingResponse {
+
+  private UserRankingDto me; // 랭킹에 없으면 null
+  private List<UserRankingDto> rankings; // 내 위아래 이웃 (나 포함)
+}
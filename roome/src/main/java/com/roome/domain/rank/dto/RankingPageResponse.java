@@ -0,0 +1,14 @@
+package com.roome.domain.rank.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class RankingPageResponse {
+
+  private List<UserRankingDto> rankings;
+  private String nextCursor; // 마지막으로 받은 항목의 "점수_사용자 ID"
+  private boolean hasNext;
+}
@@ -6,25 +6,26 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum ActivityType {
-  // 출석
-  ATTENDANCE(1, "출석"),
+  // 출석 (오전/오후 각 1회)
+  ATTENDANCE(1, "출석", -1),
 
   // 콘텐츠 등록
-  BOOK_REGISTRATION(10, "도서 등록"),
-  MUSIC_REGISTRATION(10, "음악 등록"),
+  BOOK_REGISTRATION(10, "도서 등록", 1),
+  MUSIC_REGISTRATION(10, "음악 등록", 1),
 
   // 콘텐츠 상호작용
-  BOOK_REVIEW(15, "서평 작성"),
-  MUSIC_COMMENT(5, "음악 댓글"),
+  BOOK_REVIEW(15, "서평 작성", 3),
+  MUSIC_COMMENT(5, "음악 댓글", 5),
 
   // 방 활동
-  ROOM_VISIT(1, "방 방문"),
-  VISITOR_COUNT(2, "방문자 수"),
-  GUESTBOOK(5, "방명록 작성"),
+  ROOM_VISIT(1, "방 방문", 10),
+  VISITOR_COUNT(2, "방문자 수", -1),
+  GUESTBOOK(5, "방명록 작성", 5),
 
   // 소셜 활동
-  FOLLOWER_INCREASE(5, "팔로워 증가");
+  FOLLOWER_INCREASE(5, "팔로워 증가", -1);
 
   private final int score;
   private final String description;
+  private final int dailyLimit; // 하루 최대 횟수 (-1: 제한 없음)
 }
@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.Getter;
@@ -14,7 +15,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "score_update_tasks")
+@Table(name = "score_update_tasks", indexes = {
+    @Index(name = "idx_score_update_tasks_status", columnList = "status, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -37,6 +40,14 @@ public class ScoreUpdateTask {
   @Column(nullable = false)
   private int retryCount;
 
+  // 총점(user:total) 증가분도 함께 반영해야 하는지
+  @Column(nullable = false)
+  private boolean includeTotal;
+
+  // 복구 스트림 항목과 같은 멱등 키 (스트림 기록이 일부만 성공해도 이동 시 다시 반영되지 않도록)
+  @Column(length = 36)
+  private String idempotencyKey;
+
   @Column(nullable = false)
   private LocalDateTime createdAt;
 
@@ -0,0 +1,54 @@
+package com.roome.domain.rank.entity;
+
+import com.roome.domain.user.entity.User;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 사용자 활동 일별 집계 (사용자, 날짜, 활동 유형별 한 행) - UserActivityWriter가 upsert로 갱신
+@Entity
+@Table(name = "user_activity_daily",
+    uniqueConstraints = @UniqueConstraint(name = "uk_user_activity_daily",
+        columnNames = {"user_id", "activity_date", "activity_type"}),
+    indexes = @Index(name = "idx_user_activity_daily_date", columnList = "activity_date"))
+@Getter
+@NoArgsConstructor
+public class UserActivityDaily {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", nullable = false)
+  @OnDelete(action = OnDeleteAction.CASCADE)
+  private User user;
+
+  @Column(nullable = false)
+  private LocalDate activityDate;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private ActivityType activityType;
+
+  @Column(nullable = false)
+  private int activityCount;
+
+  @Column(nullable = false)
+  private long scoreSum;
+}
@@ -9,8 +9,6 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ScoreUpdateTaskRepository extends JpaRepository<ScoreUpdateTask, Long> {
 
-  List<ScoreUpdateTask> findByStatusOrderByCreatedAtAsc(TaskStatus status);
-
-  // 특정 사용자, 점수, 상태에 해당하는 작업 찾기 (중복 체크용)
-  ScoreUpdateTask findByUserIdAndScoreAndStatus(Long userId, int score, TaskStatus status);
+  // 스트림으로 옮길 작업을 오래된 순으로 일부만 조회
+  List<ScoreUpdateTask> findTop500ByStatusOrderByIdAsc(TaskStatus status);
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.roome.domain.rank.repository;
+
+import com.roome.domain.rank.entity.UserActivityDaily;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserActivityDailyRepository extends JpaRepository<UserActivityDaily, Long> {
+
+  // 특정 날짜 이후 사용자별, 날짜별 점수 합계
+  @Query("""
+      SELECT d.user.id AS userId, d.activityDate AS activityDate, SUM(d.scoreSum) AS score
+      FROM UserActivityDaily d
+      WHERE d.activityDate >= :startDate
+      GROUP BY d.user.id, d.activityDate
+      """)
+  List<DailyScore> sumScoresByUserAndDateSince(@Param("startDate") LocalDate startDate);
+
+  // 특정 날짜 이전의 집계 삭제
+  @Modifying
+  @Query("DELETE FROM UserActivityDaily d WHERE d.activityDate < :date")
+  int deleteAllByActivityDateBefore(@Param("date") LocalDate date);
+
+  interface DailyScore {
+
+    Long getUserId();
+
+    LocalDate getActivityDate();
+
+    Long getScore();
+  }
+}
@@ -0,0 +1,121 @@
+package com.roome.domain.rank.service;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+// 노드 로컬 top10 멤버십 (랭킹 변경 신호를 받으면 다음 조회 시 갱신)
+@Slf4j
+@Component
+public class RankerMembershipCache {
+
+  public static final String CHANNEL = "ranking:changed";
+
+  private static final String RANKING_KEY = "user:ranking";
+  private static final int TOP_N = 10;
+  // 신호를 놓치더라도 이 시간 이상 오래된 멤버십은 사용하지 않음
+  private static final long MAX_STALENESS_MILLIS = 5_000;
+
+  private final RedisTemplate<String, String> rankingRedisTemplate;
+
+  // 변경 신호를 받을 때마다 증가, 스냅샷은 로드 시점의 버전을 가짐
+  private final AtomicLong version = new AtomicLong();
+  private volatile Snapshot snapshot;
+
+  public RankerMembershipCache(
+      @Qualifier("rankingRedisTemplate") RedisTemplate<String, String> rankingRedisTemplate) {
+    this.rankingRedisTemplate = rankingRedisTemplate;
+  }
+
+  public boolean contains(Long userId) {
+    return current().members().contains(String.valueOf(userId));
+  }
+
+  // 점수 변경이 top10 구성을 바꿀 수 있는지 (점수는 증가만 하므로 기존 멤버는 빠지지 않음)
+  public boolean mayAffectMembership(String userId, Double newScore) {
+    Snapshot current = snapshot;
+    if (current == null || newScore == null || current.members().size() < TOP_N) {
+      return true;
+    }
+    if (current.members().contains(userId)) {
+      return false;
+    }
+    return newScore >= current.minScore();
+  }
+
+  // 모든 노드에 랭킹 변경 알림
+  public void publishChanged() {
+    version.incrementAndGet();
+    try {
+      rankingRedisTemplate.convertAndSend(CHANNEL, String.valueOf(System.currentTimeMillis()));
+    } catch (Exception e) {
+      log.warn("랭킹 변경 알림 발행 실패: {}", e.getMessage());
+    }
+  }
+
+  // Redis에서 수신한 랭킹 변경 알림
+  public void handleLeaderboardChanged(String message, String channel) {
+    version.incrementAndGet();
+    log.debug("랭킹 변경 알림 수신: channel={}, message={}", channel, message);
+  }
+
+  private Snapshot current() {
+    Snapshot current = snapshot;
+    if (isFresh(current)) {
+      return current;
+    }
+    return reload();
+  }
+
+  private synchronized Snapshot reload() {
+    Snapshot current = snapshot;
+    if (isFresh(current)) {
+      return current;
+    }
+
+    long loadingVersion = version.get();
+    try {
+      Set<ZSetOperations.TypedTuple<String>> rankers = rankingRedisTemplate.opsForZSet()
+          .reverseRangeWithScores(RANKING_KEY, 0, TOP_N - 1);
+
+      Set<String> members = new HashSet<>();
+      double minScore = Double.MAX_VALUE;
+      if (rankers != null) {
+        for (ZSetOperations.TypedTuple<String> ranker : rankers) {
+          if (ranker.getValue() == null) {
+            continue;
+          }
+          members.add(ranker.getValue());
+          if (ranker.getScore() != null) {
+            minScore = Math.min(minScore, ranker.getScore());
+          }
+        }
+      }
+
+      snapshot = new Snapshot(loadingVersion, Set.copyOf(members), minScore,
+          System.currentTimeMillis());
+      return snapshot;
+    } catch (Exception e) {
+      if (current != null) {
+        log.warn("랭커 멤버십 갱신 실패, 이전 데이터 사용: {}", e.getMessage());
+        return current;
+      }
+      throw e;
+    }
+  }
+
+  private boolean isFresh(Snapshot current) {
+    return current != null
+        && current.version() == version.get()
+        && System.currentTimeMillis() - current.loadedAt() < MAX_STALENESS_MILLIS;
+  }
+
+  private record Snapshot(long version, Set<String> members, double minScore, long loadedAt) {
+
+  }
+}
@@ -6,19 +6,28 @@ import com.roome.domain.point.entity.PointReason;
 import com.roome.domain.point.exception.PointNotFoundException;
 import com.roome.domain.point.repository.PointHistoryRepository;
 import com.roome.domain.point.repository.PointRepository;
-import com.roome.domain.rank.entity.UserActivity;
+import com.roome.domain.rank.repository.UserActivityDailyRepository;
+import com.roome.domain.rank.repository.UserActivityDailyRepository.DailyScore;
 import com.roome.domain.rank.repository.UserActivityRepository;
 import com.roome.domain.user.entity.User;
 import com.roome.domain.user.repository.UserRepository;
+import com.roome.global.scheduler.SchedulerLock;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -36,43 +45,112 @@ public class RankingScheduler {
   private final UserRepository userRepository;
   private final PointRepository pointRepository;
   private final PointHistoryRepository pointHistoryRepository;
+  private final RankerMembershipCache rankerMembershipCache;
+  private final UserActivityDailyRepository userActivityDailyRepository;
+
+  @Value("${ranking.activity.raw-retention-days:2}")
+  private int rawRetentionDays;
+
+  @Value("${ranking.activity.daily-retention-days:90}")
+  private int dailyRetentionDays;
 
   private static final String RANKING_KEY = "user:ranking";
+  private static final String RANKING_TMP_KEY = "user:ranking:tmp";
+  private static final String RANKING_DAY_KEY_PREFIX = "user:ranking:day:";
+  private static final int RANKING_WINDOW_DAYS = 7;
+  private static final Duration RANKING_DAY_TTL = Duration.ofDays(RANKING_WINDOW_DAYS + 1);
 
-  // 최근 7일간의 활동 점수를 집계하여 Redis에 저장
+  // 최근 7일간의 일자별 버킷을 합산하여 랭킹을 원자적으로 교체
+  // fixedRate는 노드마다 기동 시점 기준이라 실행 시각이 어긋나므로, 주기에 가까운 간격으로 막아야 노드 수와 무관하게 시간당 한 번만 실행됨
   @Scheduled(fixedRate = 3600000) // 1시간마다 실행
+  @SchedulerLock(name = "ranking-update", minIntervalSeconds = 3300)
   @Transactional(readOnly = true)
   public void updateRanking() {
     log.info("랭킹 갱신 작업 시작: {}", LocalDateTime.now());
 
-    // 기존 랭킹 데이터 삭제
-    rankingRedisTemplate.delete(RANKING_KEY);
+    LocalDate today = LocalDate.now();
+    List<String> dayKeys = new ArrayList<>();
+    List<LocalDate> missingDates = new ArrayList<>();
+    for (int i = 0; i < RANKING_WINDOW_DAYS; i++) {
+      LocalDate date = today.minusDays(i);
+      dayKeys.add(dayKey(date));
+      if (!Boolean.TRUE.equals(rankingRedisTemplate.hasKey(dayKey(date)))) {
+        missingDates.add(date);
+      }
+    }
+
+    // 없는 버킷만 DB 일별 집계로 채움 (최초 배포, Redis 초기화/장애 조치 후)
+    // Redis 초기화 뒤 새 활동으로 오늘 버킷이 먼저 생겨도 지난 날짜 버킷은 각각 채워짐
+    if (!missingDates.isEmpty()) {
+      backfillDayBuckets(missingDates);
+    }
+
+    // 임시 키에 합산 후 RENAME으로 교체 -> 갱신 중에도 랭킹이 비지 않음
+    Long size = rankingRedisTemplate.opsForZSet()
+        .unionAndStore(dayKeys.get(0), dayKeys.subList(1, dayKeys.size()), RANKING_TMP_KEY);
+    if (size == null || size == 0) {
+      rankingRedisTemplate.delete(RANKING_KEY);
+    } else {
+      rankingRedisTemplate.rename(RANKING_TMP_KEY, RANKING_KEY);
+    }
+
+    // 집계 구간을 벗어난 버킷 제거
+    rankingRedisTemplate.delete(dayKey(today.minusDays(RANKING_WINDOW_DAYS)));
+    rankerMembershipCache.publishChanged();
 
-    // 최근 7일간 활동 데이터 집계
-    LocalDateTime startDate = LocalDateTime.now().minusDays(7);
+    log.info("랭킹 갱신 완료: 사용자 {}명의 점수 업데이트", size == null ? 0 : size);
+  }
 
-    // 사용자별 점수 집계
-    Map<Long, Integer> userScores = new HashMap<>();
+  // DB 일별 집계로 없는 일자별 버킷 생성
+  private void backfillDayBuckets(List<LocalDate> missingDates) {
+    LocalDate startDate = Collections.min(missingDates);
+    Set<LocalDate> targets = new HashSet<>(missingDates);
 
-    List<UserActivity> activities = userActivityRepository.findAllByCreatedAtAfter(startDate);
-    for (UserActivity activity : activities) {
-      Long userId = activity.getUser().getId();
-      userScores.put(userId, userScores.getOrDefault(userId, 0) + activity.getScore());
+    Map<LocalDate, Map<Long, Long>> dailyScores = new HashMap<>();
+    List<DailyScore> rows = userActivityDailyRepository.sumScoresByUserAndDateSince(startDate);
+    for (DailyScore row : rows) {
+      if (!targets.contains(row.getActivityDate())) {
+        continue;
+      }
+      dailyScores.computeIfAbsent(row.getActivityDate(), date -> new HashMap<>())
+          .merge(row.getUserId(), row.getScore(), Long::sum);
     }
 
-    // Redis에 랭킹 데이터 저장
-    for (Map.Entry<Long, Integer> entry : userScores.entrySet()) {
-      // userId를 문자열로 명시적으로 변환
-      String userIdStr = String.valueOf(entry.getKey());
-      rankingRedisTemplate.opsForZSet().add(RANKING_KEY, userIdStr, entry.getValue());
+    for (Map.Entry<LocalDate, Map<Long, Long>> day : dailyScores.entrySet()) {
+      Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+      day.getValue().forEach((userId, score) ->
+          tuples.add(new DefaultTypedTuple<>(String.valueOf(userId), score.doubleValue())));
+
+      String key = dayKey(day.getKey());
+      rankingRedisTemplate.opsForZSet().add(key, tuples);
+      rankingRedisTemplate.expire(key, RANKING_DAY_TTL);
     }
 
-    log.info("랭킹 갱신 완료: 사용자 {}명의 점수 업데이트", userScores.size());
+    log.info("일자별 랭킹 버킷 초기화: 없는 버킷 {}일 중 {}일, 집계 {}건", missingDates.size(),
+        dailyScores.size(), rows.size());
   }
 
+  private String dayKey(LocalDate date) {
+    return RANKING_DAY_KEY_PREFIX + date;
+  }
+
+  // 보관 기간이 지난 원본 활동 기록과 일별 집계 삭제
+  @Scheduled(cron = "0 30 3 * * *") // 매일 새벽 3시 30분
+  @SchedulerLock(name = "user-activity-retention", minIntervalSeconds = 3600)
+  @Transactional
+  public void purgeExpiredActivities() {
+    LocalDate today = LocalDate.now();
+    userActivityRepository.deleteAllByCreatedAtBefore(
+        today.minusDays(rawRetentionDays).atStartOfDay());
+    int deletedDaily = userActivityDailyRepository.deleteAllByActivityDateBefore(
+        today.minusDays(dailyRetentionDays));
+    log.info("활동 기록 정리 완료: 원본 {}일, 일별 집계 {}일 이전 삭제 (집계 {}건)",
+        rawRetentionDays, dailyRetentionDays, deletedDaily);
+  }
 
   // 포인트 지급 및 점수 리셋 (상위 3명에게 포인트 지급)
   @Scheduled(cron = "0 0 0 * * MON") // 매주 월요일 자정
+  @SchedulerLock(name = "ranking-weekly-reward", minIntervalSeconds = 86400)
   //  @Scheduled(fixedDelay = 60000) // 1분 후 실행
   @Transactional
   public void awardWeeklyPoints() {
@@ -148,10 +226,6 @@ public class RankingScheduler {
         }
       }
 
-      // 지난 주 활동 데이터 삭제
-      LocalDateTime oneWeekAgo = LocalDateTime.now().minusDays(7);
-      userActivityRepository.deleteAllByCreatedAtBefore(oneWeekAgo);
-
       // 기존 랭킹 데이터 리셋
       rankingRedisTemplate.delete(RANKING_KEY);
       log.info("주간 랭킹 보상 지급 완료 및 랭킹 리셋");
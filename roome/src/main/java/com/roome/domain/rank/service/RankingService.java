@@ -1,11 +1,23 @@
 package com.roome.domain.rank.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.roome.domain.rank.dto.MyRankingResponse;
+import com.roome.domain.rank.dto.RankingPageResponse;
 import com.roome.domain.rank.dto.UserRankingDto;
 import com.roome.domain.user.entity.User;
 import com.roome.domain.user.repository.UserRepository;
+import com.roome.global.exception.BusinessException;
+import com.roome.global.exception.ErrorCode;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -19,31 +31,170 @@ public class RankingService {
   @Qualifier("rankingRedisTemplate")
   private final RedisTemplate<String, String> rankingRedisTemplate;
   private final UserRepository userRepository;
+  private final ObjectMapper objectMapper;
+  private final RankerMembershipCache rankerMembershipCache;
 
   private static final String RANKING_KEY = "user:ranking";
+  // 랭킹이 그대로여도 프로필 변경이 반영되도록 스냅샷 최대 유지 시간
+  private static final long SNAPSHOT_MAX_AGE_MILLIS = 60_000;
+
+  // 직렬화된 top10 응답 (랭킹 구성이 바뀔 때만 재생성)
+  private final AtomicReference<TopRankingSnapshot> topRankingSnapshot = new AtomicReference<>();
 
   // 생성자를 통해 특정 RedisTemplate 주입
   public RankingService(
       @Qualifier("rankingRedisTemplate") RedisTemplate<String, String> rankingRedisTemplate,
-      UserRepository userRepository) {
+      UserRepository userRepository,
+      ObjectMapper objectMapper,
+      RankerMembershipCache rankerMembershipCache) {
     this.rankingRedisTemplate = rankingRedisTemplate;
     this.userRepository = userRepository;
+    this.objectMapper = objectMapper;
+    this.rankerMembershipCache = rankerMembershipCache;
   }
 
   // top10 랭킹 조회
   public List<UserRankingDto> getTopRankings() {
+    return buildTopRankings(readTopRankSet());
+  }
+
+  // top10 랭킹 조회 (직렬화된 JSON, 랭킹 변경이 없으면 DB 조회 없이 반환)
+  public byte[] getTopRankingsJson() {
+    Set<ZSetOperations.TypedTuple<String>> rankSet = readTopRankSet();
+    String fingerprint = fingerprint(rankSet);
+
+    TopRankingSnapshot snapshot = topRankingSnapshot.get();
+    if (snapshot != null && snapshot.matches(fingerprint)) {
+      return snapshot.json();
+    }
+
+    try {
+      byte[] json = objectMapper.writeValueAsBytes(buildTopRankings(rankSet));
+      topRankingSnapshot.set(new TopRankingSnapshot(fingerprint, json, System.currentTimeMillis()));
+      return json;
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("랭킹 응답 직렬화 실패", e);
+    }
+  }
+
+  private Set<ZSetOperations.TypedTuple<String>> readTopRankSet() {
+    return rankingRedisTemplate.opsForZSet().reverseRangeWithScores(RANKING_KEY, 0, 9);
+  }
+
+  private List<UserRankingDto> buildTopRankings(Set<ZSetOperations.TypedTuple<String>> rankSet) {
+    // top10은 탈퇴 사용자를 건너뛴 만큼 순위를 당겨서 부여
+    return hydrate(rankSet, 1, true);
+  }
+
+  // 전체 리더보드 커서 페이지 조회 (cursor: 이전 페이지 마지막 항목의 "점수_사용자 ID")
+  // 커서 위치를 순위가 아닌 (점수, 사용자 ID)로 기억하므로 페이지 사이에 점수가 바뀌어도 건너뛰거나 중복되지 않음
+  public RankingPageResponse getLeaderboard(String cursor, int limit) {
+    LeaderboardCursor after = cursor == null ? null : LeaderboardCursor.parse(cursor);
+
+    // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+    List<ZSetOperations.TypedTuple<String>> entries = readAfter(after, limit + 1);
+    boolean hasNext = entries.size() > limit;
+    if (hasNext) {
+      entries = entries.subList(0, limit);
+    }
+
+    // 표시 순위는 조회 시점 기준
+    long firstRank = 1;
+    if (after != null && !entries.isEmpty()) {
+      Long rank = rankingRedisTemplate.opsForZSet()
+          .reverseRank(RANKING_KEY, entries.get(0).getValue());
+      firstRank = rank == null ? 1 : rank + 1;
+    }
+
+    // 탈퇴 사용자가 빠져도 커서는 조회한 마지막 항목 기준
+    List<UserRankingDto> rankings = hydrate(new LinkedHashSet<>(entries), firstRank, false);
+    String nextCursor = hasNext ? LeaderboardCursor.of(entries.get(entries.size() - 1)).format()
+        : null;
+    return RankingPageResponse.builder()
+        .rankings(rankings)
+        .nextCursor(nextCursor)
+        .hasNext(hasNext)
+        .build();
+  }
+
+  // 커서 다음 항목부터 count개 (점수 내림차순, 같은 점수는 Redis 정렬대로 사용자 ID 문자열 역순)
+  private List<ZSetOperations.TypedTuple<String>> readAfter(LeaderboardCursor after, int count) {
+    if (after == null) {
+      Set<ZSetOperations.TypedTuple<String>> first = rankingRedisTemplate.opsForZSet()
+          .reverseRangeWithScores(RANKING_KEY, 0, count - 1);
+      return first == null ? new ArrayList<>() : new ArrayList<>(first);
+    }
+
+    // 커서 항목의 점수가 그대로면 그 순위 바로 다음부터 읽음 (같은 점수가 많아도 조회 한 번)
+    Double currentScore = rankingRedisTemplate.opsForZSet().score(RANKING_KEY, after.member());
+    if (currentScore != null && currentScore == after.score()) {
+      Long rank = rankingRedisTemplate.opsForZSet().reverseRank(RANKING_KEY, after.member());
+      if (rank != null) {
+        Set<ZSetOperations.TypedTuple<String>> next = rankingRedisTemplate.opsForZSet()
+            .reverseRangeWithScores(RANKING_KEY, rank + 1, rank + count);
+        return next == null ? new ArrayList<>() : new ArrayList<>(next);
+      }
+    }
+
+    // 커서 항목의 점수가 바뀌었거나 빠졌으면 커서 점수 이하부터 읽되, 같은 점수에서 커서 이전에 오는 항목은 건너뜀
+    List<ZSetOperations.TypedTuple<String>> result = new ArrayList<>(count);
+    long offset = 0;
+    while (result.size() < count) {
+      Set<ZSetOperations.TypedTuple<String>> batch = rankingRedisTemplate.opsForZSet()
+          .reverseRangeByScoreWithScores(RANKING_KEY, Double.NEGATIVE_INFINITY, after.score(),
+              offset, count);
+      if (batch == null || batch.isEmpty()) {
+        break;
+      }
+      for (ZSetOperations.TypedTuple<String> tuple : batch) {
+        if (result.size() < count && after.precedes(tuple)) {
+          result.add(tuple);
+        }
+      }
+      if (batch.size() < count) {
+        break;
+      }
+      offset += batch.size();
+    }
+    return result;
+  }
+
+  // 내 순위와 위아래 range명 조회
+  public MyRankingResponse getRankingAroundUser(Long userId, int range) {
+    Long myRank = rankingRedisTemplate.opsForZSet()
+        .reverseRank(RANKING_KEY, String.valueOf(userId));
+    if (myRank == null) {
+      return MyRankingResponse.builder().me(null).rankings(List.of()).build();
+    }
+
+    long start = Math.max(0, myRank - range);
     Set<ZSetOperations.TypedTuple<String>> rankSet = rankingRedisTemplate.opsForZSet()
-        .reverseRangeWithScores(RANKING_KEY, 0, 9);
+        .reverseRangeWithScores(RANKING_KEY, start, myRank + range);
+    List<UserRankingDto> rankings = hydrate(rankSet, start + 1, false);
+
+    UserRankingDto me = rankings.stream()
+        .filter(dto -> dto.getUserId().equals(userId))
+        .findFirst()
+        .orElse(null);
+    return MyRankingResponse.builder().me(me).rankings(rankings).build();
+  }
 
-    // 유효한 사용자 정보
-    List<UserRankingDto> validRankings = new ArrayList<>();
+  // ZSET 구간의 사용자 정보를 한 번에 조회하여 DTO로 변환
+  // compactRanks가 false면 ZSET 순위(firstRank부터)를 그대로 사용
+  private List<UserRankingDto> hydrate(Set<ZSetOperations.TypedTuple<String>> rankSet,
+      long firstRank, boolean compactRanks) {
+    List<UserRankingDto> result = new ArrayList<>();
 
     if (rankSet == null || rankSet.isEmpty()) {
-      return validRankings;
+      return result;
     }
 
-    // 유효한 사용자 정보만 수집
+    // 유효한 랭킹 데이터만 수집 (순위 순서 유지)
+    Map<Long, Double> scores = new LinkedHashMap<>();
+    Map<Long, Long> positions = new LinkedHashMap<>();
+    long position = firstRank;
     for (ZSetOperations.TypedTuple<String> tuple : rankSet) {
+      long currentPosition = position++;
       String userIdStr = tuple.getValue();
       Double score = tuple.getScore();
 
@@ -53,62 +204,108 @@ public class RankingService {
 
       try {
         Long userId = Long.valueOf(userIdStr);
-
-        // 사용자 정보 조회
-        User user = userRepository.findById(userId).orElse(null);
-
-        if (user == null) {
-          // 탈퇴한 사용자인 경우 Redis에서 해당 데이터 삭제
-          Long removed = rankingRedisTemplate.opsForZSet().remove(RANKING_KEY, userIdStr);
-          log.info("랭킹에서 탈퇴 사용자 데이터 자동 삭제: userId={}, 삭제됨={}", userIdStr, removed > 0);
-          continue;
-        }
-
-        // 유효한 사용자 정보 수집
-        UserRankingDto dto = UserRankingDto
-            .builder()
-            .userId(user.getId())
-            .nickname(user.getNickname())
-            .profileImage(user.getProfileImage())
-            .score(score.intValue())
-            .build();
-
-        validRankings.add(dto);
+        scores.put(userId, score);
+        positions.put(userId, currentPosition);
       } catch (NumberFormatException e) {
         log.warn("랭킹 데이터 처리 중 오류: 유효하지 않은 userId={}", userIdStr);
       }
     }
 
-    // 최종 랭킹 리스트
-    List<UserRankingDto> result = new ArrayList<>();
+    // 사용자 정보 일괄 조회
+    Map<Long, User> users = userRepository.findAllById(scores.keySet()).stream()
+        .collect(Collectors.toMap(User::getId, Function.identity()));
+
+    long compactRank = firstRank - 1;
+    boolean removedAny = false;
+    for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+      User user = users.get(entry.getKey());
 
-    for (int i = 0; i < validRankings.size(); i++) {
-      UserRankingDto original = validRankings.get(i);
-      int rank = i + 1;
+      if (user == null) {
+        // 탈퇴한 사용자인 경우 Redis에서 해당 데이터 삭제
+        Long removed = rankingRedisTemplate.opsForZSet()
+            .remove(RANKING_KEY, String.valueOf(entry.getKey()));
+        log.info("랭킹에서 탈퇴 사용자 데이터 자동 삭제: userId={}, 삭제됨={}", entry.getKey(),
+            removed != null && removed > 0);
+        removedAny = true;
+        continue;
+      }
 
-      UserRankingDto dto = UserRankingDto.builder()
+      compactRank++;
+      int rank = (int) (compactRanks ? compactRank : positions.get(entry.getKey()));
+      result.add(UserRankingDto.builder()
           .rank(rank)
-          .userId(original.getUserId())
-          .nickname(original.getNickname())
-          .profileImage(original.getProfileImage())
-          .score(original.getScore())
+          .userId(user.getId())
+          .nickname(user.getNickname())
+          .profileImage(user.getProfileImage())
+          .score(entry.getValue().intValue())
           .isTopRank(rank <= 3)  // 1~3위는 상위 랭커
-          .build();
+          .build());
+    }
 
-      result.add(dto);
+    if (removedAny) {
+      rankerMembershipCache.publishChanged();
     }
 
     return result;
   }
 
+  // 순위별 (userId:score) 구성
+  private String fingerprint(Set<ZSetOperations.TypedTuple<String>> rankSet) {
+    if (rankSet == null) {
+      return "";
+    }
+    StringBuilder sb = new StringBuilder();
+    for (ZSetOperations.TypedTuple<String> tuple : rankSet) {
+      sb.append(tuple.getValue()).append(':').append(tuple.getScore()).append(',');
+    }
+    return sb.toString();
+  }
+
+  private record TopRankingSnapshot(String fingerprint, byte[] json, long createdAt) {
+
+    boolean matches(String other) {
+      return fingerprint.equals(other)
+          && System.currentTimeMillis() - createdAt < SNAPSHOT_MAX_AGE_MILLIS;
+    }
+  }
+
+  private record LeaderboardCursor(double score, String member) {
+
+    static LeaderboardCursor of(ZSetOperations.TypedTuple<String> tuple) {
+      return new LeaderboardCursor(tuple.getScore(), tuple.getValue());
+    }
+
+    static LeaderboardCursor parse(String cursor) {
+      int separator = cursor.lastIndexOf('_');
+      try {
+        if (separator <= 0 || separator == cursor.length() - 1) {
+          throw new NumberFormatException(cursor);
+        }
+        double score = Double.parseDouble(cursor.substring(0, separator));
+        String member = cursor.substring(separator + 1);
+        Long.parseLong(member);
+        return new LeaderboardCursor(score, member);
+      } catch (NumberFormatException e) {
+        throw new BusinessException(ErrorCode.INVALID_CURSOR_VALUE);
+      }
+    }
+
+    String format() {
+      return score + "_" + member;
+    }
+
+    // Redis와 같은 순서(점수 내림차순, 같은 점수는 멤버 바이트 역순)에서 tuple이 커서 뒤에 오는지
+    boolean precedes(ZSetOperations.TypedTuple<String> tuple) {
+      if (tuple.getScore() == null || tuple.getValue() == null) {
+        return false;
+      }
+      int byScore = Double.compare(tuple.getScore(), score);
+      return byScore < 0 || (byScore == 0 && tuple.getValue().compareTo(member) < 0);
+    }
+  }
+
+  // top10 여부 (노드 로컬 멤버십 조회)
   public boolean isRanker(Long userId) {
-    Set<ZSetOperations.TypedTuple<String>> rankers = rankingRedisTemplate.opsForZSet()
-        .reverseRangeWithScores(RANKING_KEY, 0, 9);
-    if (rankers == null || rankers.isEmpty()) {
-      return false;
-    }
-    String userIdStr = String.valueOf(userId);
-    return rankers.stream()
-        .anyMatch(ranker -> userIdStr.equals(ranker.getValue()));
+    return rankerMembershipCache.contains(userId);
   }
 }
@@ -0,0 +1,145 @@
+package com.roome.domain.rank.service;
+
+import com.roome.domain.rank.entity.ActivityType;
+import com.roome.domain.room.repository.RoomVisitStatsRedisRepository;
+import com.roome.global.config.SchedulingConfig;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 방 방문 처리를 요청 스레드에서 분리하여 일괄 처리 (방 조회 응답은 랭킹 반영을 기다리지 않음)
+// - 방문은 방문 통계(RoomVisitStatsRedisRepository)에 배치당 파이프라인 한 번으로 기록하고,
+//   하루 중복 방문은 방별 일 방문자 Set의 SADD 결과로 판별
+// - SADD가 1을 돌려준 첫 방문만 방문자(ROOM_VISIT)/호스트(VISITOR_COUNT) 점수 부여
+@Slf4j
+@Component
+public class RoomVisitIngestor {
+
+  // 큐가 가득 찼을 때 요청 스레드가 기다리는 최대 시간, 초과 시 직접 처리
+  private static final long OFFER_TIMEOUT_MILLIS = 50;
+
+  private final RoomVisitStatsRedisRepository roomVisitStatsRedisRepository;
+  private final UserActivityService userActivityService;
+  private final BlockingQueue<PendingVisit> queue;
+  private final int batchSize;
+
+  private final AtomicLong enqueued = new AtomicLong();
+  private final AtomicLong admitted = new AtomicLong();
+  private final AtomicLong duplicated = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+
+  public RoomVisitIngestor(
+      RoomVisitStatsRedisRepository roomVisitStatsRedisRepository,
+      UserActivityService userActivityService,
+      @Value("${ranking.visit.queue-capacity:10000}") int queueCapacity,
+      @Value("${ranking.visit.batch-size:500}") int batchSize) {
+    this.roomVisitStatsRedisRepository = roomVisitStatsRedisRepository;
+    this.userActivityService = userActivityService;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSize = batchSize;
+  }
+
+  // 방문 접수 (본인 방문은 제외)
+  public boolean enqueue(Long visitorId, Long hostId, Long roomId) {
+    if (visitorId.equals(hostId)) {
+      log.info("본인 방문 제외: visitorId={}, hostId={}", visitorId, hostId);
+      return false;
+    }
+
+    PendingVisit visit = new PendingVisit(visitorId, hostId, roomId, LocalDate.now());
+    try {
+      if (queue.offer(visit, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+        enqueued.incrementAndGet();
+        return true;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    // 백프레셔: 큐가 가득 차면 호출한 스레드가 직접 처리
+    log.warn("방문 처리 큐 포화, 직접 처리: visitorId={}, hostId={}, 대기={}", visitorId, hostId, queue.size());
+    process(List.of(visit));
+    return true;
+  }
+
+  @Scheduled(fixedDelayString = "${ranking.visit.flush-interval-ms:200}",
+      scheduler = SchedulingConfig.FLUSH_TASK_SCHEDULER)
+  public void flush() {
+    List<PendingVisit> batch = new ArrayList<>(batchSize);
+    while (queue.drainTo(batch, batchSize) > 0) {
+      process(batch);
+      batch.clear();
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+    log.info("방문 처리 큐 종료: 적재={}, 첫 방문={}, 중복={}, 실패={}",
+        enqueued.get(), admitted.get(), duplicated.get(), failed.get());
+  }
+
+  @Scheduled(fixedRate = 300000) // 5분마다 노드별 통계 기록
+  public void logStats() {
+    if (enqueued.get() == 0 && admitted.get() == 0 && failed.get() == 0) {
+      return;
+    }
+    log.info("[RoomVisitIngestor] 적재={}, 첫 방문={}, 중복={}, 실패={}, 대기={}", enqueued.get(),
+        admitted.get(), duplicated.get(), failed.get(), queue.size());
+  }
+
+  public int pendingCount() {
+    return queue.size();
+  }
+
+  private void process(List<PendingVisit> batch) {
+    List<Boolean> firstVisits;
+    try {
+      firstVisits = markVisited(batch);
+    } catch (DataAccessException e) {
+      failed.addAndGet(batch.size());
+      log.error("방문 중복 판별 실패: {}건, error={}", batch.size(), e.getMessage());
+      return;
+    }
+
+    for (int i = 0; i < batch.size(); i++) {
+      PendingVisit visit = batch.get(i);
+      if (!firstVisits.get(i)) {
+        duplicated.incrementAndGet();
+        continue;
+      }
+      try {
+        // 방문자에게 점수 부여, 방문자 수 증가로 호스트에게 점수 부여
+        userActivityService.recordUserActivity(visit.visitorId(), ActivityType.ROOM_VISIT,
+            visit.roomId());
+        userActivityService.recordUserActivity(visit.hostId(), ActivityType.VISITOR_COUNT, null);
+        admitted.incrementAndGet();
+      } catch (Exception e) {
+        failed.incrementAndGet();
+        log.error("방문 점수 반영 실패: visitorId={}, hostId={}, error={}",
+            visit.visitorId(), visit.hostId(), e.getMessage());
+      }
+    }
+  }
+
+  private List<Boolean> markVisited(List<PendingVisit> batch) {
+    return roomVisitStatsRedisRepository.record(batch.stream()
+        .map(visit -> new RoomVisitStatsRedisRepository.Visit(visit.roomId(), visit.visitorId(),
+            visit.date()))
+        .toList());
+  }
+
+  private record PendingVisit(Long visitorId, Long hostId, Long roomId, LocalDate date) {
+
+  }
+}
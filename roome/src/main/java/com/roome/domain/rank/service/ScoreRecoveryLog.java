@@ -0,0 +1,124 @@
+package com.roome.domain.rank.service;
+
+import com.roome.domain.rank.entity.ScoreUpdateTask;
+import com.roome.domain.rank.entity.TaskStatus;
+import com.roome.domain.rank.repository.ScoreUpdateTaskRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+// 반영에 실패한 점수 증가분을 Redis 스트림에 기록 (스트림 기록도 실패하면 DB에 보관)
+@Slf4j
+@Component
+public class ScoreRecoveryLog {
+
+  public static final String STREAM_KEY = "user:ranking:recovery";
+
+  static final String FIELD_ID = "id";
+  static final String FIELD_USER_ID = "userId";
+  static final String FIELD_SCORE = "score";
+  static final String FIELD_DAY = "day";
+  static final String FIELD_TOTAL = "total";
+
+  private final RedisTemplate<String, String> rankingRedisTemplate;
+  private final ScoreUpdateTaskRepository scoreUpdateTaskRepository;
+
+  public ScoreRecoveryLog(
+      @Qualifier("rankingRedisTemplate") RedisTemplate<String, String> rankingRedisTemplate,
+      ScoreUpdateTaskRepository scoreUpdateTaskRepository) {
+    this.rankingRedisTemplate = rankingRedisTemplate;
+    this.scoreUpdateTaskRepository = scoreUpdateTaskRepository;
+  }
+
+  // 실패한 점수 증가분 기록 (includeTotal: 총점 증가분도 함께 실패했는지)
+  public void record(Long userId, long score, boolean includeTotal) {
+    recordAll(Map.of(userId, score), includeTotal);
+  }
+
+  public void recordAll(Map<Long, Long> deltas, boolean includeTotal) {
+    if (deltas.isEmpty()) {
+      return;
+    }
+
+    LocalDate day = LocalDate.now();
+    List<ScoreDelta> entries = new ArrayList<>(deltas.size());
+    deltas.forEach((userId, score) -> entries.add(
+        new ScoreDelta(UUID.randomUUID().toString(), userId, score, day, includeTotal)));
+
+    try {
+      append(entries);
+      log.info("점수 복구 로그 기록: {}건", entries.size());
+    } catch (Exception e) {
+      log.error("점수 복구 로그 기록 실패, DB에 보관: {}건, error={}", entries.size(), e.getMessage());
+      saveTasks(entries);
+    }
+  }
+
+  // 스트림에 파이프라인으로 일괄 추가 (실패 시 예외 전파, 일부 항목은 이미 기록되었을 수 있음)
+  void append(List<ScoreDelta> entries) {
+    rankingRedisTemplate.executePipelined(new SessionCallback<Object>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <K, V> Object execute(RedisOperations<K, V> operations) {
+        RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+        for (ScoreDelta entry : entries) {
+          ops.<String, String>opsForStream().add(
+              StreamRecords.newRecord().in(STREAM_KEY).ofMap(entry.toFields()));
+        }
+        return null;
+      }
+    });
+  }
+
+  private void saveTasks(List<ScoreDelta> entries) {
+    try {
+      List<ScoreUpdateTask> tasks = new ArrayList<>(entries.size());
+      for (ScoreDelta entry : entries) {
+        ScoreUpdateTask task = new ScoreUpdateTask(entry.userId(), (int) entry.score());
+        task.setStatus(TaskStatus.FAILED);
+        task.setIncludeTotal(entry.includeTotal());
+        task.setIdempotencyKey(entry.id());
+        tasks.add(task);
+      }
+      scoreUpdateTaskRepository.saveAll(tasks);
+    } catch (Exception e) {
+      log.error("실패 작업 저장 중 오류: {}건, error={}", entries.size(), e.getMessage());
+    }
+  }
+
+  // 멱등 키(id)를 가진 점수 증가분
+  public record ScoreDelta(String id, Long userId, long score, LocalDate day,
+                           boolean includeTotal) {
+
+    Map<String, String> toFields() {
+      return Map.of(
+          FIELD_ID, id,
+          FIELD_USER_ID, String.valueOf(userId),
+          FIELD_SCORE, String.valueOf(score),
+          FIELD_DAY, day.toString(),
+          FIELD_TOTAL, includeTotal ? "1" : "0");
+    }
+
+    static ScoreDelta fromFields(Map<?, ?> fields) {
+      Object id = fields.get(FIELD_ID);
+      if (id == null) {
+        throw new IllegalArgumentException("멱등 키 없음");
+      }
+      return new ScoreDelta(
+          String.valueOf(id),
+          Long.valueOf(String.valueOf(fields.get(FIELD_USER_ID))),
+          Long.parseLong(String.valueOf(fields.get(FIELD_SCORE))),
+          LocalDate.parse(String.valueOf(fields.get(FIELD_DAY))),
+          "1".equals(String.valueOf(fields.get(FIELD_TOTAL))));
+    }
+  }
+}
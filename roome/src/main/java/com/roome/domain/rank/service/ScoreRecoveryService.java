@@ -3,41 +3,245 @@ package com.roome.domain.rank.service;
 import com.roome.domain.rank.entity.ScoreUpdateTask;
 import com.roome.domain.rank.entity.TaskStatus;
 import com.roome.domain.rank.repository.ScoreUpdateTaskRepository;
-import com.roome.global.service.RedisService;
+import com.roome.domain.rank.service.ScoreRecoveryLog.ScoreDelta;
+import com.roome.global.scheduler.SchedulerLock;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+// 점수 복구 스트림을 소비 그룹으로 읽어 일괄 재반영 (처리 위치는 그룹 오프셋으로 관리)
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ScoreRecoveryService {
 
+  private static final String GROUP = "score-recovery";
+  private static final String CONSUMER = "recovery";
+  private static final String RANKING_KEY = "user:ranking";
+  private static final String RANKING_DAY_KEY_PREFIX = "user:ranking:day:";
+  private static final String TOTAL_KEY_PREFIX = "user:total:";
+  private static final String APPLIED_KEY_PREFIX = "user:ranking:recovery:applied:";
+  private static final int BATCH_SIZE = 200;
+  // 한 번 실행에서 처리할 최대 배치 수 (나머지는 다음 실행으로)
+  private static final int MAX_BATCHES_PER_RUN = 50;
+  private static final long APPLIED_TTL_SECONDS = Duration.ofDays(7).toSeconds();
+  private static final long RANKING_DAY_TTL_SECONDS = Duration.ofDays(8).toSeconds();
+
+  // 멱등 키가 처음일 때만 증가분 반영 (1: 반영, 0: 이미 반영됨)
+  private static final RedisScript<Long> APPLY_DELTA_SCRIPT = RedisScript.of("""
+      if not redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[3]) then
+        return 0
+      end
+      redis.call('ZINCRBY', KEYS[2], ARGV[2], ARGV[1])
+      redis.call('ZINCRBY', KEYS[3], ARGV[2], ARGV[1])
+      redis.call('EXPIRE', KEYS[3], ARGV[4])
+      if ARGV[5] == '1' then
+        redis.call('INCRBY', KEYS[4], ARGV[2])
+      end
+      return 1
+      """, Long.class);
+
+  private final RedisTemplate<String, String> rankingRedisTemplate;
+  private final ScoreRecoveryLog scoreRecoveryLog;
   private final ScoreUpdateTaskRepository scoreUpdateTaskRepository;
-  private final RedisService redisService;
+  private final RankerMembershipCache rankerMembershipCache;
+
+  private volatile boolean groupReady;
 
-  @Scheduled(fixedRate = 60000)  // 1분마다 실행
-  @Transactional
+  public ScoreRecoveryService(
+      @Qualifier("rankingRedisTemplate") RedisTemplate<String, String> rankingRedisTemplate,
+      ScoreRecoveryLog scoreRecoveryLog,
+      ScoreUpdateTaskRepository scoreUpdateTaskRepository,
+      RankerMembershipCache rankerMembershipCache) {
+    this.rankingRedisTemplate = rankingRedisTemplate;
+    this.scoreRecoveryLog = scoreRecoveryLog;
+    this.scoreUpdateTaskRepository = scoreUpdateTaskRepository;
+    this.rankerMembershipCache = rankerMembershipCache;
+  }
+
+  // 노드마다 실행 시각이 어긋나므로 최소 간격을 기본 주기(60초)에 가깝게 두어 클러스터 전체에서 주기당 한 번만 실행
+  @Scheduled(fixedDelayString = "${ranking.recovery.interval-ms:60000}")
+  @SchedulerLock(name = "score-recovery", minIntervalSeconds = 50)
   public void recoverFailedScoreUpdates() {
-    List<ScoreUpdateTask> failedTasks = scoreUpdateTaskRepository.findByStatusOrderByCreatedAtAsc(
+    try {
+      migrateFailedTasks();
+      ensureGroup();
+
+      // 이전 실행에서 읽었지만 확인(ACK)하지 못한 항목부터 처리한 뒤 새 항목 처리
+      int applied = replay(ReadOffset.from("0")) + replay(ReadOffset.lastConsumed());
+      if (applied > 0) {
+        rankerMembershipCache.publishChanged();
+        log.info("점수 업데이트 복구 완료: {}건", applied);
+      }
+    } catch (Exception e) {
+      log.warn("점수 업데이트 복구 실패, 다음 실행에서 재시도: {}", e.getMessage());
+    }
+  }
+
+  // Redis 장애 중 DB에 보관된 작업을 스트림으로 이동
+  // (기록 당시의 멱등 키를 그대로 써서 이미 스트림에 들어간 항목은 한 번만 반영, 키가 없는 이전 작업은 작업 ID 사용)
+  private void migrateFailedTasks() {
+    List<ScoreUpdateTask> tasks = scoreUpdateTaskRepository.findTop500ByStatusOrderByIdAsc(
         TaskStatus.FAILED);
+    if (tasks.isEmpty()) {
+      return;
+    }
+
+    List<ScoreDelta> entries = new ArrayList<>(tasks.size());
+    for (ScoreUpdateTask task : tasks) {
+      String id = task.getIdempotencyKey() != null
+          ? task.getIdempotencyKey()
+          : "task:" + task.getId();
+      entries.add(new ScoreDelta(id, task.getUserId(), task.getScore(),
+          task.getCreatedAt().toLocalDate(), task.isIncludeTotal()));
+    }
+    scoreRecoveryLog.append(entries);
+
+    tasks.forEach(task -> task.setStatus(TaskStatus.COMPLETED));
+    scoreUpdateTaskRepository.saveAll(tasks);
+    log.info("DB 보관 점수 작업을 복구 스트림으로 이동: {}건", tasks.size());
+  }
+
+  private void ensureGroup() {
+    if (groupReady) {
+      return;
+    }
+    try {
+      rankingRedisTemplate.opsForStream()
+          .createGroup(ScoreRecoveryLog.STREAM_KEY, ReadOffset.from("0"), GROUP);
+    } catch (Exception e) {
+      // 이미 그룹이 있으면 BUSYGROUP 오류
+      log.debug("점수 복구 소비 그룹 생성 생략: {}", e.getMessage());
+    }
+    groupReady = true;
+  }
+
+  private int replay(ReadOffset offset) {
+    int applied = 0;
+    ReadOffset next = offset;
+    for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+      List<MapRecord<String, Object, Object>> records = rankingRedisTemplate.opsForStream().read(
+          Consumer.from(GROUP, CONSUMER),
+          StreamReadOptions.empty().count(BATCH_SIZE),
+          StreamOffset.create(ScoreRecoveryLog.STREAM_KEY, next));
+      if (records == null || records.isEmpty()) {
+        break;
+      }
+      applied += applyBatch(records);
+      // 미확인 항목은 마지막으로 읽은 ID 다음부터 (반영에 실패해 남은 항목을 같은 실행에서 다시 읽지 않음)
+      if (!ReadOffset.lastConsumed().getOffset().equals(offset.getOffset())) {
+        next = ReadOffset.from(records.get(records.size() - 1).getId());
+      }
+    }
+    return applied;
+  }
+
+  // 배치 전체를 파이프라인 한 번으로 반영한 뒤, 반영 결과를 확인한 항목만 두 번째 왕복에서 확인(ACK) 후 제거
+  // 스크립트가 실패한 항목(WRONGTYPE, 스크립트 시간 초과 등)은 미확인으로 남겨 다음 실행에서 재시도
+  private int applyBatch(List<MapRecord<String, Object, Object>> records) {
+    List<ScoreDelta> deltas = new ArrayList<>(records.size());
+    List<RecordId> deltaIds = new ArrayList<>(records.size());
+    List<RecordId> completedIds = new ArrayList<>(records.size());
+    for (MapRecord<String, Object, Object> record : records) {
+      ScoreDelta delta = parse(record.getId(), record.getValue());
+      if (delta != null) {
+        deltas.add(delta);
+        deltaIds.add(record.getId());
+      } else {
+        completedIds.add(record.getId());
+      }
+    }
 
-    for (ScoreUpdateTask task : failedTasks) {
-      try {
-        redisService.incrementUserScoreWithLock(task.getUserId(), task.getScore());
-        task.setStatus(TaskStatus.COMPLETED);
-      } catch (Exception e) {
-        task.incrementRetryCount();
-        if (task.getRetryCount() > 5) {
-          task.setStatus(TaskStatus.ABANDONED);
+    List<Object> results = applyDeltas(deltas);
+
+    int applied = 0;
+    for (int i = 0; i < deltas.size(); i++) {
+      Object result = i < results.size() ? results.get(i) : null;
+      if (result instanceof Long value) {
+        completedIds.add(deltaIds.get(i));
+        if (value == 1L) {
+          applied++;
         }
-        log.warn("점수 업데이트 복구 실패: taskId={}, userId={}, retryCount={}",
-            task.getId(), task.getUserId(), task.getRetryCount());
+      } else {
+        log.error("점수 복구 항목 반영 실패, 다음 실행에서 재시도: recordId={}, error={}",
+            deltaIds.get(i), result);
       }
-      scoreUpdateTaskRepository.save(task);
+    }
+
+    acknowledge(completedIds);
+    return applied;
+  }
+
+  private List<Object> applyDeltas(List<ScoreDelta> deltas) {
+    if (deltas.isEmpty()) {
+      return List.of();
+    }
+    try {
+      List<Object> results = rankingRedisTemplate.executePipelined(new SessionCallback<Object>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object execute(RedisOperations<K, V> operations) {
+          RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+          for (ScoreDelta delta : deltas) {
+            String userIdStr = String.valueOf(delta.userId());
+            ops.execute(APPLY_DELTA_SCRIPT,
+                List.of(APPLIED_KEY_PREFIX + delta.id(), RANKING_KEY,
+                    RANKING_DAY_KEY_PREFIX + delta.day(), TOTAL_KEY_PREFIX + userIdStr),
+                userIdStr, String.valueOf(delta.score()), String.valueOf(APPLIED_TTL_SECONDS),
+                String.valueOf(RANKING_DAY_TTL_SECONDS), delta.includeTotal() ? "1" : "0");
+          }
+          return null;
+        }
+      });
+      return results == null ? List.of() : results;
+    } catch (RedisPipelineException e) {
+      // 항목별 결과(성공 값 또는 예외)가 담겨 있음
+      return e.getPipelineResult();
+    }
+  }
+
+  private void acknowledge(List<RecordId> recordIds) {
+    if (recordIds.isEmpty()) {
+      return;
+    }
+    RecordId[] ids = recordIds.toArray(RecordId[]::new);
+    rankingRedisTemplate.executePipelined(new SessionCallback<Object>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <K, V> Object execute(RedisOperations<K, V> operations) {
+        RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+        ops.opsForStream().acknowledge(ScoreRecoveryLog.STREAM_KEY, GROUP, ids);
+        ops.opsForStream().delete(ScoreRecoveryLog.STREAM_KEY, ids);
+        return null;
+      }
+    });
+  }
+
+  // 삭제되었거나 형식이 잘못된 항목은 확인(ACK)만 하고 건너뜀
+  private ScoreDelta parse(RecordId recordId, Map<Object, Object> fields) {
+    if (fields == null || fields.isEmpty()) {
+      return null;
+    }
+    try {
+      return ScoreDelta.fromFields(fields);
+    } catch (Exception e) {
+      log.error("잘못된 점수 복구 항목 무시: recordId={}, fields={}", recordId, fields);
+      return null;
     }
   }
 }
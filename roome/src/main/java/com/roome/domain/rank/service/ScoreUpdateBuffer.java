@@ -0,0 +1,134 @@
+package com.roome.domain.rank.service;
+
+import com.roome.global.config.SchedulingConfig;
+import com.roome.global.service.RedisService;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 노드 단위로 점수 증가분을 모아 짧은 주기로 한 번에 반영 (락 없음)
+@Slf4j
+@Component
+public class ScoreUpdateBuffer {
+
+  private static final String RANKING_KEY = "user:ranking";
+  private static final String RANKING_DAY_KEY_PREFIX = "user:ranking:day:";
+  private static final String TOTAL_KEY_PREFIX = "user:total:";
+  private static final Duration RANKING_DAY_TTL = Duration.ofDays(8);
+
+  private final RedisTemplate<String, String> rankingRedisTemplate;
+  private final RedisService redisService;
+  private final ScoreRecoveryLog scoreRecoveryLog;
+  private final RankerMembershipCache rankerMembershipCache;
+  private final boolean buffered;
+
+  // userId -> 아직 반영되지 않은 점수 합계
+  private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+  public ScoreUpdateBuffer(
+      @Qualifier("rankingRedisTemplate") RedisTemplate<String, String> rankingRedisTemplate,
+      RedisService redisService,
+      ScoreRecoveryLog scoreRecoveryLog,
+      RankerMembershipCache rankerMembershipCache,
+      @Value("${ranking.score.buffered:true}") boolean buffered) {
+    this.rankingRedisTemplate = rankingRedisTemplate;
+    this.redisService = redisService;
+    this.scoreRecoveryLog = scoreRecoveryLog;
+    this.rankerMembershipCache = rankerMembershipCache;
+    this.buffered = buffered;
+  }
+
+  // 점수 증가분 추가
+  public void add(Long userId, int score) {
+    if (!buffered) {
+      // 기존 방식: 총점 즉시 반영 + 락 기반 랭킹 반영
+      rankingRedisTemplate.opsForValue().increment(TOTAL_KEY_PREFIX + userId, score);
+      redisService.updateUserScoreAsync(userId, score);
+      return;
+    }
+    pending.merge(userId, (long) score, Long::sum);
+  }
+
+  // 모인 증가분을 파이프라인 한 번으로 반영
+  @Scheduled(fixedDelayString = "${ranking.score.flush-interval-ms:200}",
+      scheduler = SchedulingConfig.FLUSH_TASK_SCHEDULER)
+  public void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+
+    // 키 단위 remove는 merge와 원자적으로 동작하므로 flush 중 들어온 증가분은 다음 주기로 넘어감
+    Map<Long, Long> batch = new LinkedHashMap<>();
+    for (Long userId : pending.keySet()) {
+      Long score = pending.remove(userId);
+      if (score != null && score != 0) {
+        batch.put(userId, score);
+      }
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    String dayKey = RANKING_DAY_KEY_PREFIX + LocalDate.now();
+    try {
+      List<Object> results = rankingRedisTemplate.executePipelined(new SessionCallback<Object>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object execute(RedisOperations<K, V> operations) {
+          RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+          batch.forEach((userId, score) -> {
+            String userIdStr = String.valueOf(userId);
+            ops.opsForZSet().incrementScore(RANKING_KEY, userIdStr, score);
+            ops.opsForZSet().incrementScore(dayKey, userIdStr, score);
+            ops.opsForValue().increment(TOTAL_KEY_PREFIX + userIdStr, score);
+          });
+          ops.expire(dayKey, RANKING_DAY_TTL);
+          return null;
+        }
+      });
+      log.debug("점수 일괄 반영 완료: 사용자 {}명", batch.size());
+
+      if (affectsRankers(batch, results)) {
+        rankerMembershipCache.publishChanged();
+      }
+    } catch (DataAccessException e) {
+      log.error("점수 일괄 반영 실패, 복구 로그에 기록: 사용자 {}명, error={}", batch.size(), e.getMessage());
+      scoreRecoveryLog.recordAll(batch, true);
+    }
+  }
+
+  // 사용자별 결과는 [랭킹 ZINCRBY, 일자 버킷 ZINCRBY, 총점 INCRBY] 순서
+  private boolean affectsRankers(Map<Long, Long> batch, List<Object> results) {
+    if (results == null || results.size() < batch.size() * 3) {
+      return true;
+    }
+    int index = 0;
+    for (Long userId : batch.keySet()) {
+      Object newScore = results.get(index);
+      index += 3;
+      if (!(newScore instanceof Double score)
+          || rankerMembershipCache.mayAffectMembership(String.valueOf(userId), score)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+}
@@ -1,20 +1,17 @@
 package com.roome.domain.rank.service;
 
 import com.roome.domain.rank.entity.ActivityType;
-import com.roome.domain.rank.entity.UserActivity;
-import com.roome.domain.rank.repository.UserActivityRepository;
-import com.roome.domain.room.entity.Room;
-import com.roome.domain.room.repository.RoomRepository;
 import com.roome.domain.user.entity.User;
 import com.roome.domain.user.repository.UserRepository;
-import com.roome.global.service.RedisService;
+import com.roome.global.util.TransactionUtil;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,11 +20,30 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class UserActivityService {
 
-  private final RedisService redisService;
-  private final RedisTemplate<String, Object> redisTemplate;
-  private final UserActivityRepository userActivityRepository;
+  private static final long DAILY_TTL_SECONDS = 24 * 60 * 60;
+
+  // KEYS[1]: 일일 활동 해시, ARGV: 활동 종류, 일일 한도(-1: 무제한), 마커 필드, TTL(초)
+  private static final RedisScript<Long> ADMIT_ACTIVITY_SCRIPT = RedisScript.of("""
+      if ARGV[3] ~= '' and redis.call('HEXISTS', KEYS[1], ARGV[3]) == 1 then
+        return 0
+      end
+      local limit = tonumber(ARGV[2])
+      local count = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+      if limit >= 0 and count >= limit then
+        return 0
+      end
+      if ARGV[3] ~= '' then
+        redis.call('HSET', KEYS[1], ARGV[3], 1)
+      end
+      redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+      redis.call('EXPIRE', KEYS[1], ARGV[4])
+      return 1
+      """, Long.class);
+
+  private final StringRedisTemplate redisTemplate;
   private final UserRepository userRepository;
-  private final RoomRepository roomRepository;
+  private final ScoreUpdateBuffer scoreUpdateBuffer;
+  private final UserActivityWriter userActivityWriter;
 
   // 사용자 활동 기록 및 점수 부여
   @Transactional
@@ -45,36 +61,21 @@ public class UserActivityService {
       }
     }
 
-    String lockKey = "lock:user:activity:" + userId;
-    return redisService.executeWithLock(lockKey, 200, 2000, () -> {
-      // 제한 조건 체크
-      if (!checkDailyLimit(userId, activityType, relatedEntityId)) {
-        log.info("일일 한도 초과: 유저={}, 활동={}", userId, activityType);
-        return false;
-      }
-
-      // 사용자 정보 조회
-      User user = userRepository.findById(userId)
-          .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
-
-      // 활동 기록 및 점수 부여
-      UserActivity activity = new UserActivity();
-      activity.setUser(user);
-      activity.setActivityType(activityType);
-      activity.setCreatedAt(LocalDateTime.now());
-      activity.setScore(activityType.getScore());
-      activity.setRelatedEntityId(relatedEntityId);
-      userActivityRepository.save(activity);
+    // 일일 한도 체크 및 카운트 증가 (단일 스크립트로 원자적 처리)
+    if (!admitDailyActivity(userId, activityType, relatedEntityId)) {
+      log.info("일일 한도 초과: 유저={}, 활동={}", userId, activityType);
+      return false;
+    }
 
-      // Redis에 점수 업데이트
+    // 활동 기록 저장 및 점수 부여는 호출한 트랜잭션이 커밋된 뒤 비동기로 처리
+    LocalDateTime createdAt = LocalDateTime.now();
+    TransactionUtil.runAfterCommit(() -> {
+      userActivityWriter.enqueue(userId, activityType, relatedEntityId, createdAt);
       updateRedisScore(userId, activityType.getScore());
-
-      // 일일 활동 카운트 증가
-      incrementDailyActivityCount(userId, activityType);
-
-      log.info("활동 기록 완료: 유저={}, 활동={}, 점수={}", userId, activityType, activityType.getScore());
-      return true;
     });
+
+    log.info("활동 기록 완료: 유저={}, 활동={}, 점수={}", userId, activityType, activityType.getScore());
+    return true;
   }
 
   // 콘텐츠 길이가 필요 없는 활동
@@ -115,114 +116,28 @@ public class UserActivityService {
     }
   }
 
-  // 방문 기록 및 점수 부여
-  @Transactional
-  public boolean recordVisit(Long visitorId, Long hostId) {
-    // 본인 방문 제외
-    if (visitorId.equals(hostId)) {
-      log.info("본인 방문 제외: visitorId={}, hostId={}", visitorId, hostId);
-      return false;
-    }
-
-    LocalDate today = LocalDate.now();
-    String visitKey = "user:visit:" + hostId + ":" + visitorId + ":" + today;
-
-    // 이미 방문한 경우 체크
-    if (Boolean.TRUE.equals(redisTemplate.hasKey(visitKey))) {
-      log.info("이미 방문함: visitorId={}, hostId={}", visitorId, hostId);
-      return false;
-    }
-
-    // 방문 기록 (24시간 동안 유효)
-    redisTemplate.opsForValue().set(visitKey, 1, 24, TimeUnit.HOURS);
-
-    // 방문 점수 기록 -> 방문자에게 점수 부여
-    Room room = roomRepository.findByUserId(hostId)
-        .orElseThrow(() -> new IllegalArgumentException("방을 찾을 수 없습니다: userId=" + hostId));
-
-    recordUserActivity(visitorId, ActivityType.ROOM_VISIT, room.getId());
-
-    // 방문자 수 증가 -> 호스트에게 점수 부여
-    recordUserActivity(hostId, ActivityType.VISITOR_COUNT, null);
-
-    log.info("방문 기록 완료: 방문자={}, 호스트={}", visitorId, hostId);
-    return true;
-  }
-
-  // Redis에 사용자 점수 업데이트
+  // Redis에 사용자 점수 업데이트 (총점 + 랭킹, 버퍼에서 일괄 반영)
   private void updateRedisScore(Long userId, int score) {
-    // 총점 업데이트
-    String key = "user:total:" + userId;
-    redisTemplate.opsForValue().increment(key, score);
-
-    // 랭킹 점수 업데이트
-    redisService.updateUserScoreAsync(userId, score);
+    scoreUpdateBuffer.add(userId, score);
   }
 
-  // 일일 활동 제한 체크
-  private boolean checkDailyLimit(Long userId, ActivityType activityType, Long relatedEntityId) {
+  // 일일 활동 제한 체크 및 기록
+  // 사용자의 하루 활동 카운터는 해시 하나(user:daily:{userId}:{date})에 모아 TTL 하나로 관리
+  private boolean admitDailyActivity(Long userId, ActivityType activityType, Long relatedEntityId) {
     LocalDate today = LocalDate.now();
-    String key = "user:daily:" + activityType + ":" + userId + ":" + today;
-
-    Long count = redisTemplate.opsForValue().increment(key, 0);
-    // 키가 없는 경우 (첫 활동인 경우)
-    count = (count == null) ? 0L : count;
+    String key = "user:daily:" + userId + ":" + today;
 
-    // 방명록은 방마다 하루에 하나만 허용
+    // 같은 날 한 번만 허용되는 마커 (방명록: 방마다 1회, 출석: 오전/오후 각 1회)
+    String marker = "";
     if (activityType == ActivityType.GUESTBOOK && relatedEntityId != null) {
-      String roomGuestbookKey = "user:guestbook:" + userId + ":" + relatedEntityId + ":" + today;
-      Boolean alreadyWritten = redisTemplate.hasKey(roomGuestbookKey);
-      if (Boolean.TRUE.equals(alreadyWritten)) {
-        log.info("같은 방에 이미 방명록 작성함: userId={}, roomId={}", userId, relatedEntityId);
-        return false;
-      }
-      // 방명록 작성 기록 (24시간 유효)
-      redisTemplate.opsForValue().set(roomGuestbookKey, 1, 24, TimeUnit.HOURS);
+      marker = activityType + ":room:" + relatedEntityId;
+    } else if (activityType == ActivityType.ATTENDANCE) {
+      marker = activityType + ":" + (LocalDateTime.now().getHour() < 12 ? "AM" : "PM");
     }
 
-    // 활동별 제한
-    switch (activityType) {
-      case ATTENDANCE:
-        // 오전 / 오후 체크
-        int hour = LocalDateTime.now().getHour();
-        String timeKey =
-            "user:daily:" + activityType + ":" + userId + ":" + today + ":" + (hour < 12 ? "AM"
-                : "PM");
-        Boolean exists = redisTemplate.hasKey(timeKey);
-        if (Boolean.TRUE.equals(exists)) {
-          return false;
-        }
-        redisTemplate.opsForValue().set(timeKey, 1, 24, TimeUnit.HOURS);
-        return true;
-
-      case BOOK_REGISTRATION:
-        return count < 1; // 하루 최대 1번
-
-      case MUSIC_REGISTRATION:
-        return count < 1; // 하루 최대 1번
-
-      case BOOK_REVIEW:
-        return count < 3; // 하루 최대 3번
-
-      case MUSIC_COMMENT:
-        return count < 5; // 하루 최대 5번
-
-      case ROOM_VISIT:
-        return count < 10; // 하루 최대 10번
-
-      case GUESTBOOK:
-        return count < 5; // 하루 최대 5번
-
-      default:
-        return true; // 제한 없음
-    }
-  }
-
-  // 일일 활동 횟수 증가
-  private void incrementDailyActivityCount(Long userId, ActivityType activityType) {
-    LocalDate today = LocalDate.now();
-    String key = "user:daily:" + activityType + ":" + userId + ":" + today;
-    redisTemplate.opsForValue().increment(key, 1);
-    redisTemplate.expire(key, 24, TimeUnit.HOURS);
+    Long admitted = redisTemplate.execute(ADMIT_ACTIVITY_SCRIPT, List.of(key),
+        activityType.name(), String.valueOf(activityType.getDailyLimit()), marker,
+        String.valueOf(DAILY_TTL_SECONDS));
+    return admitted != null && admitted == 1L;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,202 @@
+package com.roome.domain.rank.service;
+
+import com.roome.domain.rank.entity.ActivityType;
+import com.roome.global.config.SchedulingConfig;
+import jakarta.annotation.PreDestroy;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// UserActivity 저장을 요청 스레드에서 분리하여 JDBC 배치로 일괄 저장 (write-behind)
+// 일별 집계(user_activity_daily)는 항상 갱신하고, 원본 활동 기록은 설정에 따라 선택적으로 저장
+@Slf4j
+@Component
+public class UserActivityWriter {
+
+  private static final String INSERT_SQL = """
+      insert into user_activities (user_id, activity_type, score, created_at, related_entity_id)
+      values (?, ?, ?, ?, ?)
+      """;
+  private static final String UPSERT_DAILY_SQL = """
+      insert into user_activity_daily (user_id, activity_date, activity_type, activity_count, score_sum)
+      values (?, ?, ?, ?, ?)
+      on duplicate key update
+        activity_count = activity_count + values(activity_count),
+        score_sum = score_sum + values(score_sum)
+      """;
+  // 큐가 가득 찼을 때 요청 스레드가 기다리는 최대 시간, 초과 시 직접 저장
+  private static final long OFFER_TIMEOUT_MILLIS = 50;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final BlockingQueue<PendingActivity> queue;
+  private final int batchSize;
+  private final boolean rawEnabled;
+
+  private final AtomicLong enqueued = new AtomicLong();
+  private final AtomicLong written = new AtomicLong();
+  private final AtomicLong writtenInline = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+
+  public UserActivityWriter(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${ranking.activity.queue-capacity:10000}") int queueCapacity,
+      @Value("${ranking.activity.batch-size:500}") int batchSize,
+      @Value("${ranking.activity.raw-enabled:true}") boolean rawEnabled) {
+    this.jdbcTemplate = jdbcTemplate;
+    // 큐 포화 시 afterCommit(이미 끝난 트랜잭션)에서 직접 저장하므로 항상 새 트랜잭션으로 커밋
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSize = batchSize;
+    this.rawEnabled = rawEnabled;
+  }
+
+  public void enqueue(Long userId, ActivityType activityType, Long relatedEntityId,
+      LocalDateTime createdAt) {
+    PendingActivity activity = new PendingActivity(userId, activityType, relatedEntityId,
+        createdAt);
+    try {
+      if (queue.offer(activity, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+        enqueued.incrementAndGet();
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    // 백프레셔: 큐가 가득 차면 호출한 스레드가 직접 저장
+    log.warn("활동 저장 큐 포화, 직접 저장: userId={}, 활동={}, 대기={}", userId, activityType, queue.size());
+    persist(List.of(activity));
+    writtenInline.incrementAndGet();
+  }
+
+  @Scheduled(fixedDelayString = "${ranking.activity.flush-interval-ms:500}",
+      scheduler = SchedulingConfig.FLUSH_TASK_SCHEDULER)
+  public void flush() {
+    List<PendingActivity> batch = new ArrayList<>(batchSize);
+    while (queue.drainTo(batch, batchSize) > 0) {
+      write(batch);
+      batch.clear();
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+    log.info("활동 저장 큐 종료: 적재={}, 저장={}, 직접 저장={}, 실패={}",
+        enqueued.get(), written.get(), writtenInline.get(), failed.get());
+  }
+
+  @Scheduled(fixedRate = 300000) // 5분마다 노드별 통계 기록
+  public void logStats() {
+    if (enqueued.get() == 0 && writtenInline.get() == 0) {
+      return;
+    }
+    log.info("[UserActivityWriter] 적재={}, 저장={}, 직접 저장={}, 실패={}, 대기={}", enqueued.get(),
+        written.get(), writtenInline.get(), failed.get(), queue.size());
+  }
+
+  public int pendingCount() {
+    return queue.size();
+  }
+
+  public long failedCount() {
+    return failed.get();
+  }
+
+  private void write(List<PendingActivity> batch) {
+    try {
+      persist(batch);
+      written.addAndGet(batch.size());
+      log.debug("활동 일괄 저장 완료: {}건, 대기={}", batch.size(), queue.size());
+    } catch (DataAccessException e) {
+      // 탈퇴 사용자 등 일부 행 때문에 전체가 실패하지 않도록 한 건씩 재시도
+      log.warn("활동 일괄 저장 실패, 개별 저장으로 재시도: {}건, error={}", batch.size(), e.getMessage());
+      for (PendingActivity activity : batch) {
+        try {
+          persist(List.of(activity));
+          written.incrementAndGet();
+        } catch (DataAccessException ex) {
+          failed.incrementAndGet();
+          log.error("활동 저장 실패: userId={}, 활동={}, error={}",
+              activity.userId(), activity.activityType(), ex.getMessage());
+        }
+      }
+    }
+  }
+
+  // 원본 기록과 일별 집계를 한 트랜잭션으로 저장
+  private void persist(List<PendingActivity> activities) {
+    transactionTemplate.executeWithoutResult(status -> {
+      if (rawEnabled) {
+        insert(activities);
+      }
+      upsertDaily(activities);
+    });
+  }
+
+  private void insert(List<PendingActivity> activities) {
+    jdbcTemplate.batchUpdate(INSERT_SQL, activities, activities.size(), (ps, activity) -> {
+      ps.setLong(1, activity.userId());
+      ps.setString(2, activity.activityType().name());
+      ps.setInt(3, activity.activityType().getScore());
+      ps.setTimestamp(4, Timestamp.valueOf(activity.createdAt()));
+      if (activity.relatedEntityId() == null) {
+        ps.setNull(5, Types.BIGINT);
+      } else {
+        ps.setLong(5, activity.relatedEntityId());
+      }
+    });
+  }
+
+  // 배치 안에서 (사용자, 날짜, 활동 유형)별로 미리 합산한 뒤 upsert
+  private void upsertDaily(List<PendingActivity> activities) {
+    Map<DailyKey, long[]> rollup = new LinkedHashMap<>();
+    for (PendingActivity activity : activities) {
+      DailyKey key = new DailyKey(activity.userId(), activity.createdAt().toLocalDate(),
+          activity.activityType());
+      long[] sums = rollup.computeIfAbsent(key, k -> new long[2]);
+      sums[0]++;
+      sums[1] += activity.activityType().getScore();
+    }
+
+    List<Map.Entry<DailyKey, long[]>> rows = new ArrayList<>(rollup.entrySet());
+    jdbcTemplate.batchUpdate(UPSERT_DAILY_SQL, rows, rows.size(), (ps, row) -> {
+      ps.setLong(1, row.getKey().userId());
+      ps.setDate(2, Date.valueOf(row.getKey().date()));
+      ps.setString(3, row.getKey().activityType().name());
+      ps.setLong(4, row.getValue()[0]);
+      ps.setLong(5, row.getValue()[1]);
+    });
+  }
+
+  private record DailyKey(Long userId, LocalDate date, ActivityType activityType) {
+
+  }
+
+  private record PendingActivity(Long userId, ActivityType activityType, Long relatedEntityId,
+                                 LocalDateTime createdAt) {
+
+  }
+}
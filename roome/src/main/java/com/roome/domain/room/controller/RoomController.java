@@ -5,9 +5,11 @@ import com.roome.domain.furniture.dto.FurnitureResponseDto;
 import com.roome.domain.furniture.dto.ToggleFurnitureResponseDto;
 import com.roome.domain.room.dto.PurchaseRoomThemeResponseDto;
 import com.roome.domain.room.dto.RoomResponseDto;
+import com.roome.domain.room.dto.RoomVisitStatsResponseDto;
 import com.roome.domain.room.dto.UpdateRoomThemeRequestDto;
 import com.roome.domain.room.dto.UpdateRoomThemeResponseDto;
 import com.roome.domain.room.service.RoomService;
+import com.roome.domain.room.service.RoomVisitStatsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -33,6 +35,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class RoomController {
 
   private final RoomService roomService;
+  private final RoomVisitStatsService roomVisitStatsService;
 
   @Operation(summary = "방 조회", description = "방 ID를 통해 방 정보를 조회한다.")
   @ApiResponses(value = {
@@ -62,6 +65,21 @@ public class RoomController {
     return ResponseEntity.ok(roomResponseDto);
   }
 
+  @Operation(summary = "방 방문 통계 조회", description = "방 소유자가 최근 7일/30일 일별 방문 통계와 이번 주/이번 달 방문 통계를 조회한다. (고유 방문자 수는 추정값)")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "방문 통계 조회 성공"),
+      @ApiResponse(responseCode = "403", description = "방 소유자가 아님 (ROOM_ACCESS_DENIED)"),
+      @ApiResponse(responseCode = "404", description = "존재하지 않는 방 (ROOM_NOT_FOUND)")
+  })
+  @GetMapping("/{roomId}/stats")
+  public ResponseEntity<RoomVisitStatsResponseDto> getVisitStats(
+      @AuthenticationPrincipal Long userId,
+      @Parameter(description = "조회할 방의 ID")
+      @PathVariable Long roomId
+  ) {
+    return ResponseEntity.ok(roomVisitStatsService.getVisitStats(userId, roomId));
+  }
+
   @Operation(summary = "방 테마 변경", description = "사용자가 소유한 방의 테마를 업데이트한다. (구매한 테마만 변경 가능)")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "테마 변경 성공"),
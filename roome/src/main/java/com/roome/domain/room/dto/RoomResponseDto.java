@@ -2,6 +2,7 @@ package com.roome.domain.room.dto;
 
 import com.roome.domain.furniture.dto.FurnitureResponseDto;
 import com.roome.domain.room.entity.Room;
+import com.roome.domain.room.entity.RoomSummary;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -62,4 +63,23 @@ public class RoomResponseDto {
                 .topCdGenres(topCdGenres)
                 .build();
     }
+
+    public static RoomResponseDto from(RoomSummary summary) {
+        RoomSummary.Layout layout = summary.getLayout();
+        return RoomResponseDto.builder()
+                .roomId(layout.getRoomId())
+                .userId(layout.getUserId())
+                .theme(layout.getTheme())
+                .nickname(layout.getNickname())
+                .createdAt(layout.getCreatedAt())
+                .furnitures(layout.getFurnitures() != null
+                        ? layout.getFurnitures().stream().map(FurnitureResponseDto::from).collect(Collectors.toList())
+                        : Collections.emptyList())
+                .storageLimits(new StorageLimitsDto(layout.getMaxMusic(), layout.getMaxBooks()))
+                .userStorage(UserStorageDto.from(summary.getSavedMusic(), summary.getSavedBooks(),
+                        summary.getWrittenReviews(), summary.getWrittenMusicLogs()))
+                .topBookGenres(summary.getTopBookGenres())
+                .topCdGenres(summary.getTopCdGenres())
+                .build();
+    }
 }
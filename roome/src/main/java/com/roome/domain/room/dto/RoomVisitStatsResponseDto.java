@@ -0,0 +1,77 @@
+package com.roome.domain.room.dto;
+
+import com.roome.domain.room.repository.RoomVisitStatsRedisRepository;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// 고유 방문자 수는 HyperLogLog 추정값 (오차 약 1%)
+@Getter
+@Builder
+@AllArgsConstructor
+public class RoomVisitStatsResponseDto {
+    public static final int WEEK_DAYS = 7;
+    public static final int MONTH_DAYS = 30;
+
+    private Long roomId;
+    private SeriesDto last7Days;
+    private SeriesDto last30Days;
+    private PeriodDto thisWeek;
+    private PeriodDto thisMonth;
+
+    public static RoomVisitStatsResponseDto from(Long roomId, RoomVisitStatsRedisRepository.Snapshot snapshot) {
+        return RoomVisitStatsResponseDto.builder()
+                .roomId(roomId)
+                .last7Days(SeriesDto.from(snapshot, WEEK_DAYS))
+                .last30Days(SeriesDto.from(snapshot, MONTH_DAYS))
+                .thisWeek(PeriodDto.from(snapshot.weekly()))
+                .thisMonth(PeriodDto.from(snapshot.monthly()))
+                .build();
+    }
+
+    // 기간 고유 방문자는 일별 값의 합이 아니라 기간 전체에서 중복을 제거한 값
+    @Getter
+    @AllArgsConstructor
+    public static class SeriesDto {
+        private long uniqueVisitors;
+        private long totalVisits;
+        private List<DailyDto> daily;
+
+        static SeriesDto from(RoomVisitStatsRedisRepository.Snapshot snapshot, int days) {
+            List<RoomVisitStatsRedisRepository.Counts> counts = snapshot.daily()
+                    .subList(snapshot.daily().size() - days, snapshot.daily().size());
+            return new SeriesDto(
+                    snapshot.windowUniqueVisitors().getOrDefault(days, 0L),
+                    counts.stream().mapToLong(RoomVisitStatsRedisRepository.Counts::totalVisits).sum(),
+                    counts.stream().map(DailyDto::from).toList()
+            );
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class DailyDto {
+        private LocalDate date;
+        private long uniqueVisitors;
+        private long totalVisits;
+
+        static DailyDto from(RoomVisitStatsRedisRepository.Counts counts) {
+            return new DailyDto(counts.start(), counts.uniqueVisitors(), counts.totalVisits());
+        }
+    }
+
+    // startDate: 주 시작일(월요일) 또는 월 1일
+    @Getter
+    @AllArgsConstructor
+    public static class PeriodDto {
+        private LocalDate startDate;
+        private long uniqueVisitors;
+        private long totalVisits;
+
+        static PeriodDto from(RoomVisitStatsRedisRepository.Counts counts) {
+            return new PeriodDto(counts.start(), counts.uniqueVisitors(), counts.totalVisits());
+        }
+    }
+}
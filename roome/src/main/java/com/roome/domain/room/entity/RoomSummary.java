@@ -0,0 +1,90 @@
+package com.roome.domain.room.entity;
+
+import com.roome.domain.furniture.entity.Furniture;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// 방 조회 읽기 모델 (방 구성 + 보관/작성 개수 + 상위 장르)
+// - 항목별로 따로 저장되므로 일부만 비어 있을 수 있음 (비어 있는 항목만 DB에서 다시 계산)
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RoomSummary {
+
+  private Layout layout;
+  private Long savedMusic;
+  private Long savedBooks;
+  private Long writtenReviews;
+  private Long writtenMusicLogs;
+  private List<String> topBookGenres;
+  private List<String> topCdGenres;
+
+  public boolean isComplete() {
+    return layout != null && savedMusic != null && savedBooks != null && writtenReviews != null
+        && writtenMusicLogs != null && topBookGenres != null && topCdGenres != null;
+  }
+
+  // 비어 있는 항목을 other의 값으로 채운 요약
+  public RoomSummary merge(RoomSummary other) {
+    return RoomSummary.builder()
+        .layout(layout != null ? layout : other.layout)
+        .savedMusic(savedMusic != null ? savedMusic : other.savedMusic)
+        .savedBooks(savedBooks != null ? savedBooks : other.savedBooks)
+        .writtenReviews(writtenReviews != null ? writtenReviews : other.writtenReviews)
+        .writtenMusicLogs(writtenMusicLogs != null ? writtenMusicLogs : other.writtenMusicLogs)
+        .topBookGenres(topBookGenres != null ? topBookGenres : other.topBookGenres)
+        .topCdGenres(topCdGenres != null ? topCdGenres : other.topCdGenres)
+        .build();
+  }
+
+  // 테마, 가구, 소유자 정보 (변경 시 통째로 무효화)
+  @Getter
+  public static class Layout {
+
+    Long roomId;
+    Long userId;
+    String nickname;
+    String theme;
+    LocalDateTime createdAt;
+    List<FurnitureState> furnitures;
+    int maxMusic;
+    int maxBooks;
+
+    public static Layout create(Room room) {
+      Layout layout = new Layout();
+      layout.roomId = room.getId();
+      layout.userId = room.getUser().getId();
+      layout.nickname = room.getUser().getNickname();
+      layout.theme = room.getTheme().name();
+      layout.createdAt = room.getCreatedAt();
+      layout.furnitures = room.getFurnitures() != null
+          ? room.getFurnitures().stream().map(FurnitureState::create).toList()
+          : List.of();
+      layout.maxMusic = room.getMaxMusic();
+      layout.maxBooks = room.getMaxBooks();
+      return layout;
+    }
+  }
+
+  @Getter
+  public static class FurnitureState {
+
+    String furnitureType;
+    Boolean isVisible;
+    int level;
+    int maxCapacity;
+
+    static FurnitureState create(Furniture furniture) {
+      FurnitureState furnitureState = new FurnitureState();
+      furnitureState.furnitureType = furniture.getFurnitureType().name();
+      furnitureState.isVisible = furniture.getIsVisible();
+      furnitureState.level = furniture.getLevel();
+      furnitureState.maxCapacity = furniture.getMaxCapacity();
+      return furnitureState;
+    }
+  }
+}
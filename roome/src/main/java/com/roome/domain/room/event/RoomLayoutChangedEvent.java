@@ -0,0 +1,16 @@
+package com.roome.domain.room.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+// 방 구성(테마, 가구, 소유자 닉네임) 변경 또는 방 삭제 이벤트
+@Getter
+public class RoomLayoutChangedEvent extends ApplicationEvent {
+
+  private final Long userId;
+
+  public RoomLayoutChangedEvent(Object source, Long userId) {
+    super(source);
+    this.userId = userId;
+  }
+}
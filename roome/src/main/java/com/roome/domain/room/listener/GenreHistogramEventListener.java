@@ -0,0 +1,100 @@
+package com.roome.domain.room.listener;
+
+import com.roome.domain.mybook.event.BookCollectionEvent;
+import com.roome.domain.mycd.event.CdCollectionEvent;
+import com.roome.domain.room.service.GenreHistogramService;
+import com.roome.domain.userGenrePreference.entity.GenreType;
+import com.roome.global.util.TransactionUtil;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 커밋된 책/CD 추가·삭제를 장르 분포에 반영 (트랜잭션 밖에서 발행된 이벤트는 즉시 반영)
+// - 이벤트를 받은 시점(커밋 전)에 분포 채우기를 막고 트랜잭션이 끝나면 반영 후 해제
+//   (커밋과 반영 사이에 커밋된 집계로 채운 분포에 증감을 한 번 더 더하지 않도록), 막지 못했으면 분포를 지움
+// - 방 조회 요약의 상위 장르 무효화(RoomSummaryEventListener)보다 먼저 실행되어야 다시 계산할 때 반영된 분포를 읽음
+// - 리스너 순서는 클래스가 아니라 메서드의 @Order로 정해지므로 핸들러마다 지정
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GenreHistogramEventListener {
+
+  public static final int ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+  private final GenreHistogramService genreHistogramService;
+
+  @Order(ORDER)
+  @EventListener
+  public void handleCdAdded(CdCollectionEvent.CdAddedEvent event) {
+    update(GenreType.CD, event.getUserId(), event.getGenres(), 1L);
+  }
+
+  @Order(ORDER)
+  @EventListener
+  public void handleCdRemoved(CdCollectionEvent.CdRemovedEvent event) {
+    update(GenreType.CD, event.getUserId(), event.getGenres(), -1L);
+  }
+
+  @Order(ORDER)
+  @EventListener
+  public void handleBookAdded(BookCollectionEvent.BookAddedEvent event) {
+    update(GenreType.BOOK, event.getUserId(), event.getGenres(), 1L);
+  }
+
+  @Order(ORDER)
+  @EventListener
+  public void handleBookRemoved(BookCollectionEvent.BookRemovedEvent event) {
+    update(GenreType.BOOK, event.getUserId(), event.getGenres(), -1L);
+  }
+
+  private void update(GenreType type, Long userId, List<String> genres, long delta) {
+    boolean reserved = reserve(type, userId);
+    TransactionUtil.runAfterCompletion(committed -> {
+      if (committed) {
+        apply(type, userId, reserved ? genres : null, delta);
+      }
+      if (reserved) {
+        release(type, userId);
+      }
+    });
+  }
+
+  private boolean reserve(GenreType type, Long userId) {
+    try {
+      genreHistogramService.reserve(type, userId);
+      return true;
+    } catch (Exception e) {
+      log.warn("[GenreHistogram] 분포 채우기 금지 실패: type={}, userId={}, error={}", type, userId,
+          e.getMessage());
+      return false;
+    }
+  }
+
+  private void release(GenreType type, Long userId) {
+    try {
+      genreHistogramService.release(type, userId);
+    } catch (Exception e) {
+      // 채우기 금지는 TTL 후 풀림
+      log.warn("[GenreHistogram] 분포 채우기 금지 해제 실패: type={}, userId={}, error={}", type,
+          userId, e.getMessage());
+    }
+  }
+
+  // genres가 null이거나 반영에 실패하면 분포를 지워 다음 조회에서 DB 집계로 채움
+  private void apply(GenreType type, Long userId, List<String> genres, long delta) {
+    try {
+      genreHistogramService.apply(type, userId, genres, delta);
+    } catch (Exception e) {
+      log.warn("[GenreHistogram] 분포 갱신 실패: type={}, userId={}, error={}", type, userId, e.getMessage());
+      try {
+        genreHistogramService.apply(type, userId, null, delta);
+      } catch (Exception evictException) {
+        log.error("[GenreHistogram] 분포 삭제 실패: type={}, userId={}", type, userId, evictException);
+      }
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package com.roome.domain.room.listener;
+
+import com.roome.domain.cdtemplate.event.CdTemplateEvent;
+import com.roome.domain.mybook.event.BookCollectionEvent;
+import com.roome.domain.mybookreview.event.MyBookReviewEvent;
+import com.roome.domain.mycd.event.CdCollectionEvent;
+import com.roome.domain.room.event.RoomLayoutChangedEvent;
+import com.roome.domain.room.repository.RoomSummaryRedisRepository;
+import com.roome.domain.room.repository.RoomSummaryRedisRepository.Field;
+import com.roome.global.util.TransactionUtil;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 커밋된 변경만 방 조회 요약에 반영 (트랜잭션 밖에서 발행된 이벤트는 즉시 반영)
+// - 보관/작성 개수는 증감, 상위 장르와 방 구성은 필드를 지워 다음 조회에서 다시 계산
+// - 이벤트를 받은 시점(커밋 전)에 요약 채우기를 막고 트랜잭션이 끝나면 반영 후 해제
+//   (커밋과 반영 사이에 커밋된 개수로 채운 요약에 증감을 한 번 더 더하지 않도록)
+// - 채우기를 막지 못했으면 증감 대신 요약을 지움
+// - 장르 분포 반영(GenreHistogramEventListener) 뒤에 실행되어야 상위 장르를 다시 계산할 때 반영된 분포를 읽음
+//   (트랜잭션 완료 작업은 등록 순서대로 실행되므로 이벤트 처리 순서로 정함)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomSummaryEventListener {
+
+  public static final int ORDER = GenreHistogramEventListener.ORDER + 1;
+
+  private final RoomSummaryRedisRepository roomSummaryRedisRepository;
+
+  @Order(ORDER)
+  @EventListener
+  public void handleCdAdded(CdCollectionEvent.CdAddedEvent event) {
+    update(event.getUserId(), Map.of(Field.SAVED_MUSIC, 1L), List.of(Field.TOP_CD_GENRES));
+  }
+
+  // 삭제된 CD의 음악 로그도 함께 지워질 수 있으므로 음악 로그 개수는 다시 계산
+  @Order(ORDER)
+  @EventListener
+  public void handleCdRemoved(CdCollectionEvent.CdRemovedEvent event) {
+    update(event.getUserId(), Map.of(Field.SAVED_MUSIC, (long) -event.getCount()),
+        List.of(Field.TOP_CD_GENRES, Field.WRITTEN_MUSIC_LOGS));
+  }
+
+  @Order(ORDER)
+  @EventListener
+  public void handleBookAdded(BookCollectionEvent.BookAddedEvent event) {
+    update(event.getUserId(), Map.of(Field.SAVED_BOOKS, 1L), List.of(Field.TOP_BOOK_GENRES));
+  }
+
+  @Order(ORDER)
+  @EventListener
+  public void handleBookRemoved(BookCollectionEvent.BookRemovedEvent event) {
+    update(event.getUserId(), Map.of(
+            Field.SAVED_BOOKS, (long) -event.getBookCount(),
+            Field.WRITTEN_REVIEWS, (long) -event.getReviewCount()),
+        List.of(Field.TOP_BOOK_GENRES));
+  }
+
+  @Order(ORDER)
+  @EventListener
+  public void handleReviewCreated(MyBookReviewEvent.MyBookReviewCreatedEvent event) {
+    update(event.getUserId(), Map.of(Field.WRITTEN_REVIEWS, 1L), List.of());
+  }
+
+  @Order(ORDER)
+  @EventListener
+  public void handleReviewDeleted(MyBookReviewEvent.MyBookReviewDeletedEvent event) {
+    update(event.getUserId(), Map.of(Field.WRITTEN_REVIEWS, -1L), List.of());
+  }
+
+  @Order(ORDER)
+  @EventListener
+  public void handleTemplateCreated(CdTemplateEvent.CdTemplateCreatedEvent event) {
+    update(event.getUserId(), Map.of(Field.WRITTEN_MUSIC_LOGS, 1L), List.of());
+  }
+
+  @Order(ORDER)
+  @EventListener
+  public void handleTemplateDeleted(CdTemplateEvent.CdTemplateDeletedEvent event) {
+    update(event.getUserId(), Map.of(Field.WRITTEN_MUSIC_LOGS, -1L), List.of());
+  }
+
+  @Order(ORDER)
+  @EventListener
+  public void handleLayoutChanged(RoomLayoutChangedEvent event) {
+    update(event.getUserId(), Map.of(), List.of(Field.LAYOUT));
+  }
+
+  private void update(Long userId, Map<Field, Long> deltas, List<Field> evicted) {
+    boolean reserved = reserve(userId);
+    TransactionUtil.runAfterCompletion(committed -> {
+      if (committed) {
+        apply(userId, reserved ? deltas : null, evicted);
+      }
+      if (reserved) {
+        release(userId);
+      }
+    });
+  }
+
+  private boolean reserve(Long userId) {
+    try {
+      roomSummaryRedisRepository.reserve(userId);
+      return true;
+    } catch (Exception e) {
+      log.warn("[RoomSummary] 요약 채우기 금지 실패: userId={}, error={}", userId, e.getMessage());
+      return false;
+    }
+  }
+
+  private void release(Long userId) {
+    try {
+      roomSummaryRedisRepository.release(userId);
+    } catch (Exception e) {
+      // 채우기 금지는 TTL 후 풀림
+      log.warn("[RoomSummary] 요약 채우기 금지 해제 실패: userId={}, error={}", userId, e.getMessage());
+    }
+  }
+
+  // deltas가 null이거나 반영에 실패하면 요약 전체를 지워 다음 조회에서 DB 값으로 채움
+  private void apply(Long userId, Map<Field, Long> deltas, List<Field> evicted) {
+    try {
+      if (deltas != null) {
+        roomSummaryRedisRepository.update(userId, deltas, evicted);
+        return;
+      }
+    } catch (Exception e) {
+      log.warn("[RoomSummary] 요약 갱신 실패: userId={}, error={}", userId, e.getMessage());
+    }
+    try {
+      roomSummaryRedisRepository.evict(userId);
+    } catch (Exception evictException) {
+      log.error("[RoomSummary] 요약 삭제 실패: userId={}", userId, evictException);
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package com.roome.domain.room.repository;
+
+import com.roome.domain.userGenrePreference.entity.GenreType;
+import com.roome.global.cache.VersionedRedisCache;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+// 사용자(방)별 장르 분포 (Hash: 장르 → 등록한 항목 수)
+// - 항목 추가/삭제 시 커밋 후 HINCRBY로 증감 (분포가 만들어져 있을 때만), 0 이하가 된 장르는 삭제
+// - 분포가 없으면 DB 집계로 채우고, 재구성 작업이 주기적으로 DB 값으로 덮어써 어긋난 값을 바로잡음
+// - 증감마다 버전을 올리고 채우기/재구성은 읽기 전 버전과 같을 때만 (VersionedRedisCache), 반영된 증감을 잃지 않음
+// - 커밋 전 reserve부터 커밋 후 increment/release까지는 채우지 않음 (커밋된 집계에 증감이 한 번 더 더해지지 않도록)
+@Repository
+public class GenreHistogramRedisRepository {
+
+  // 장르가 하나도 없는 분포도 만들어진 것으로 구분하기 위한 필드
+  private static final String BUILT_FIELD = "\u0000";
+  private static final String KEY_PREFIX = "genreHistogram:";
+  private static final String KEY_FORMAT = KEY_PREFIX + "%s:%s";
+  private static final String VERSION_KEY_FORMAT = KEY_PREFIX + "%s:%s:version";
+  private static final Duration TTL = Duration.ofDays(3);
+  private static final Duration VERSION_TTL = Duration.ofDays(4);
+
+  // KEYS[1]: 분포, KEYS[2]: 버전, ARGV: 조회 전 버전, TTL(초), 덮어쓰기 여부, (장르, 개수)...
+  private static final RedisScript<Long> FILL_SCRIPT = VersionedRedisCache.fillScript("""
+      if ARGV[3] == '1' then
+        redis.call('DEL', KEYS[1])
+      elseif redis.call('EXISTS', KEYS[1]) == 1 then
+        return 0
+      end
+      redis.call('HSET', KEYS[1], '\\0', 0)
+      for i = 4, #ARGV, 2 do
+        redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+      end
+      redis.call('EXPIRE', KEYS[1], ARGV[2])
+      return 1
+      """);
+
+  // KEYS[1]: 분포, KEYS[2]: 버전, ARGV: 버전 TTL(초), (장르, 증감)...
+  private static final RedisScript<Long> INCREMENT_SCRIPT = VersionedRedisCache.writeScript("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        return 0
+      end
+      for i = 2, #ARGV, 2 do
+        if redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) <= 0 then
+          redis.call('HDEL', KEYS[1], ARGV[i])
+        end
+      end
+      return 1
+      """);
+
+  private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+  private final VersionedRedisCache versionedCache;
+
+  public GenreHistogramRedisRepository(RedisTemplate<String, byte[]> binaryRedisTemplate) {
+    this.binaryRedisTemplate = binaryRedisTemplate;
+    this.versionedCache = new VersionedRedisCache(binaryRedisTemplate, VERSION_TTL);
+  }
+
+  public long readVersion(GenreType type, Long userId) {
+    return versionedCache.readVersion(generateVersionKey(type, userId));
+  }
+
+  // 장르별 개수, 분포가 만들어지지 않았으면 empty
+  public Optional<Map<String, Long>> read(GenreType type, Long userId) {
+    Map<Object, Object> entries = binaryRedisTemplate.opsForHash().entries(generateKey(type, userId));
+    if (entries == null || entries.isEmpty()) {
+      return Optional.empty();
+    }
+    Map<String, Long> counts = new HashMap<>();
+    entries.forEach((genre, count) -> {
+      if (!BUILT_FIELD.equals(genre)) {
+        counts.put((String) genre, Long.parseLong(string((byte[]) count)));
+      }
+    });
+    return Optional.of(counts);
+  }
+
+  // 분포가 없을 때만 채움 (조회 전 버전과 같을 때만)
+  public void fill(GenreType type, Long userId, long version, Map<String, Long> counts) {
+    write(type, userId, version, counts, false);
+  }
+
+  // DB 집계로 덮어씀 (조회 전 버전과 같을 때만)
+  public boolean replace(GenreType type, Long userId, long version, Map<String, Long> counts) {
+    return write(type, userId, version, counts, true);
+  }
+
+  public void increment(GenreType type, Long userId, Map<String, Long> deltas) {
+    List<byte[]> args = new ArrayList<>();
+    deltas.forEach((genre, delta) -> {
+      args.add(bytes(genre));
+      args.add(bytes(Long.toString(delta)));
+    });
+    versionedCache.write(INCREMENT_SCRIPT, generateKey(type, userId),
+        generateVersionKey(type, userId), args);
+  }
+
+  // 증감을 알 수 없는 변경: 분포를 지워 다음 조회에서 DB 집계로 채움
+  public void evict(GenreType type, Long userId) {
+    versionedCache.evict(generateKey(type, userId), generateVersionKey(type, userId));
+  }
+
+  public void reserve(GenreType type, Long userId) {
+    versionedCache.reserve(generateVersionKey(type, userId));
+  }
+
+  public void release(GenreType type, Long userId) {
+    versionedCache.release(generateVersionKey(type, userId));
+  }
+
+  // 만들어져 있는 분포의 사용자 ID (재구성 대상)
+  public void forEachUserId(GenreType type, Consumer<Long> action) {
+    String prefix = KEY_PREFIX + type.name() + ":";
+    ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(500).build();
+    try (Cursor<String> cursor = binaryRedisTemplate.scan(options)) {
+      while (cursor.hasNext()) {
+        String userId = cursor.next().substring(prefix.length());
+        if (!userId.contains(":")) {
+          action.accept(Long.valueOf(userId));
+        }
+      }
+    }
+  }
+
+  private boolean write(GenreType type, Long userId, long version, Map<String, Long> counts,
+      boolean overwrite) {
+    List<byte[]> args = new ArrayList<>();
+    args.add(bytes(Long.toString(TTL.toSeconds())));
+    args.add(bytes(overwrite ? "1" : "0"));
+    counts.forEach((genre, count) -> {
+      if (count > 0) {
+        args.add(bytes(genre));
+        args.add(bytes(Long.toString(count)));
+      }
+    });
+    return versionedCache.fill(FILL_SCRIPT, generateKey(type, userId),
+        generateVersionKey(type, userId), version, args);
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String string(byte[] value) {
+    return new String(value, StandardCharsets.UTF_8);
+  }
+
+  private String generateKey(GenreType type, Long userId) {
+    return KEY_FORMAT.formatted(type.name(), userId);
+  }
+
+  private String generateVersionKey(GenreType type, Long userId) {
+    return VERSION_KEY_FORMAT.formatted(type.name(), userId);
+  }
+}
@@ -0,0 +1,191 @@
+package com.roome.domain.room.repository;
+
+import com.roome.domain.room.entity.RoomSummary;
+import com.roome.global.cache.VersionedRedisCache;
+import com.roome.global.dataserializer.CompactCodec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+// 사용자별 방 조회 요약 (Hash, 방 조회는 HGETALL 한 번)
+// - 개수 필드는 커밋 후 이벤트로 HINCRBY (필드가 있을 때만), 구성/장르 변경은 해당 필드를 삭제해 다음 조회에서 채움
+// - 변경마다 버전을 올리고 채우기는 조회 전 버전과 같을 때만 (VersionedRedisCache)
+// - 커밋 전 reserve부터 커밋 후 update/release까지는 채우지 않음 (커밋된 개수에 증감이 한 번 더 더해지지 않도록)
+// - TTL은 처음 만들 때만 설정 (이벤트 유실로 어긋난 개수도 TTL이 지나면 DB 값으로 다시 채워짐)
+@Repository
+public class RoomSummaryRedisRepository {
+
+  public enum Field {
+    LAYOUT, SAVED_MUSIC, SAVED_BOOKS, WRITTEN_REVIEWS, WRITTEN_MUSIC_LOGS, TOP_BOOK_GENRES, TOP_CD_GENRES
+  }
+
+  private static final String KEY_FORMAT = "roomSummary:%s";
+  private static final String VERSION_KEY_FORMAT = "roomSummary:%s:version";
+  private static final Duration TTL = Duration.ofHours(1);
+  private static final Duration VERSION_TTL = Duration.ofHours(2);
+  private static final String GENRE_DELIMITER = "\u001F";
+  private static final CompactCodec<RoomSummary.Layout> LAYOUT_CODEC =
+      CompactCodec.of(RoomSummary.Layout.class, 1);
+
+  // KEYS[1]: 요약, KEYS[2]: 버전, ARGV: 조회 전 버전, TTL(초), (필드, 값)...
+  private static final RedisScript<Long> FILL_SCRIPT = VersionedRedisCache.fillScript("""
+      local created = redis.call('EXISTS', KEYS[1]) == 0
+      for i = 3, #ARGV, 2 do
+        redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+      end
+      if created then
+        redis.call('EXPIRE', KEYS[1], ARGV[2])
+      end
+      return 1
+      """);
+
+  // KEYS[1]: 요약, KEYS[2]: 버전, ARGV: 버전 TTL(초), 증감 필드 수 n, (필드, 증감) x n, 삭제할 필드...
+  private static final RedisScript<Long> UPDATE_SCRIPT = VersionedRedisCache.writeScript("""
+      local last = 2 + tonumber(ARGV[2]) * 2
+      for i = 3, last, 2 do
+        if redis.call('HEXISTS', KEYS[1], ARGV[i]) == 1 then
+          redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+        end
+      end
+      for i = last + 1, #ARGV do
+        redis.call('HDEL', KEYS[1], ARGV[i])
+      end
+      return 1
+      """);
+
+  private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+  private final VersionedRedisCache versionedCache;
+
+  public RoomSummaryRedisRepository(RedisTemplate<String, byte[]> binaryRedisTemplate) {
+    this.binaryRedisTemplate = binaryRedisTemplate;
+    this.versionedCache = new VersionedRedisCache(binaryRedisTemplate, VERSION_TTL);
+  }
+
+  public long readVersion(Long userId) {
+    return versionedCache.readVersion(generateVersionKey(userId));
+  }
+
+  // 저장된 항목만 채운 요약, 키가 없으면 empty (해석할 수 없는 항목은 비어 있는 것으로 처리)
+  public Optional<RoomSummary> read(Long userId) {
+    Map<Object, Object> entries = binaryRedisTemplate.opsForHash().entries(generateKey(userId));
+    if (entries == null || entries.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(RoomSummary.builder()
+        .layout(LAYOUT_CODEC.deserialize(value(entries, Field.LAYOUT)))
+        .savedMusic(toLong(value(entries, Field.SAVED_MUSIC)))
+        .savedBooks(toLong(value(entries, Field.SAVED_BOOKS)))
+        .writtenReviews(toLong(value(entries, Field.WRITTEN_REVIEWS)))
+        .writtenMusicLogs(toLong(value(entries, Field.WRITTEN_MUSIC_LOGS)))
+        .topBookGenres(toGenres(value(entries, Field.TOP_BOOK_GENRES)))
+        .topCdGenres(toGenres(value(entries, Field.TOP_CD_GENRES)))
+        .build());
+  }
+
+  // DB에서 다시 계산한 항목만 저장 (조회 전 버전과 같을 때만)
+  public void fill(Long userId, long version, RoomSummary summary) {
+    List<byte[]> args = new ArrayList<>();
+    args.add(bytes(Long.toString(TTL.toSeconds())));
+    addField(args, Field.LAYOUT, summary.getLayout() == null ? null
+        : LAYOUT_CODEC.serialize(summary.getLayout()));
+    addField(args, Field.SAVED_MUSIC, fromLong(summary.getSavedMusic()));
+    addField(args, Field.SAVED_BOOKS, fromLong(summary.getSavedBooks()));
+    addField(args, Field.WRITTEN_REVIEWS, fromLong(summary.getWrittenReviews()));
+    addField(args, Field.WRITTEN_MUSIC_LOGS, fromLong(summary.getWrittenMusicLogs()));
+    addField(args, Field.TOP_BOOK_GENRES, fromGenres(summary.getTopBookGenres()));
+    addField(args, Field.TOP_CD_GENRES, fromGenres(summary.getTopCdGenres()));
+    if (args.size() == 1) {
+      return;
+    }
+    versionedCache.fill(FILL_SCRIPT, generateKey(userId), generateVersionKey(userId), version,
+        args);
+  }
+
+  // 개수 필드 증감과 필드 삭제를 한 번에 반영
+  public void update(Long userId, Map<Field, Long> deltas, Collection<Field> evicted) {
+    List<byte[]> args = new ArrayList<>();
+    args.add(bytes(Integer.toString(deltas.size())));
+    deltas.forEach((field, delta) -> {
+      args.add(bytes(field.name()));
+      args.add(bytes(Long.toString(delta)));
+    });
+    evicted.forEach(field -> args.add(bytes(field.name())));
+    versionedCache.write(UPDATE_SCRIPT, generateKey(userId), generateVersionKey(userId), args);
+  }
+
+  public void evict(Long userId) {
+    versionedCache.evict(generateKey(userId), generateVersionKey(userId));
+  }
+
+  public void reserve(Long userId) {
+    versionedCache.reserve(generateVersionKey(userId));
+  }
+
+  public void release(Long userId) {
+    versionedCache.release(generateVersionKey(userId));
+  }
+
+  private static void addField(List<byte[]> args, Field field, byte[] value) {
+    if (value == null || (field == Field.LAYOUT && value.length == 0)) {
+      return;
+    }
+    args.add(bytes(field.name()));
+    args.add(value);
+  }
+
+  private static byte[] value(Map<Object, Object> entries, Field field) {
+    return (byte[]) entries.get(field.name());
+  }
+
+  private static Long toLong(byte[] value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Long.parseLong(string(value));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static byte[] fromLong(Long value) {
+    return value == null ? null : bytes(Long.toString(value));
+  }
+
+  // 빈 문자열은 장르가 없는 것 (필드가 없는 것과 구분)
+  private static List<String> toGenres(byte[] value) {
+    if (value == null) {
+      return null;
+    }
+    String genres = string(value);
+    return genres.isEmpty() ? List.of() : Arrays.asList(genres.split(GENRE_DELIMITER));
+  }
+
+  private static byte[] fromGenres(List<String> genres) {
+    return genres == null ? null : bytes(String.join(GENRE_DELIMITER, genres));
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String string(byte[] value) {
+    return new String(value, StandardCharsets.UTF_8);
+  }
+
+  private String generateKey(Long userId) {
+    return KEY_FORMAT.formatted(userId);
+  }
+
+  private String generateVersionKey(Long userId) {
+    return VERSION_KEY_FORMAT.formatted(userId);
+  }
+}
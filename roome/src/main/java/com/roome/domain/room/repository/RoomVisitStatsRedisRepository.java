@@ -0,0 +1,177 @@
+package com.roome.domain.room.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+// 방별 방문 통계 (고유 방문자: HyperLogLog, 전체 방문: 카운터)
+// - 일/주/월 키에 방문 시점에 함께 기록 (주/월 집계를 위해 일 키를 다시 읽지 않음)
+// - 통계 키는 키마다 최대 12KB HLL + 카운터, 보관 기간이 정해져 있어 방문량과 무관하게 제한됨
+//   (일 31개, 주 3개, 월 3개 이하)
+// - 점수 부여용 하루 첫 방문 판별은 HLL(근사값)이 아닌 방별 일 방문자 Set의 SADD 결과로 정확히 판별
+//   (이 Set은 제한되지 않고 방의 하루 고유 방문자 수에 비례, 이틀 뒤 만료되므로 방마다 최대 이틀치 유지
+//    방문자 ID가 정수라 작은 Set은 intset으로 저장됨)
+@Repository
+@RequiredArgsConstructor
+public class RoomVisitStatsRedisRepository {
+
+  public static final int MAX_SERIES_DAYS = 30;
+
+  private static final String VISITORS_KEY_FORMAT = "room:visitors:%s:%s";
+  private static final String VISITS_KEY_FORMAT = "room:visits:%s:%s";
+  private static final String DEDUP_KEY_FORMAT = "room:visit:dedup:%s:%s";
+  private static final Duration DAILY_TTL = Duration.ofDays(MAX_SERIES_DAYS + 1);
+  private static final Duration WEEKLY_TTL = Duration.ofDays(15);
+  private static final Duration MONTHLY_TTL = Duration.ofDays(62);
+  private static final Duration DEDUP_TTL = Duration.ofDays(2);
+  // 방문마다 [SADD, 일/주/월 PFADD, 일/주/월 INCR]
+  private static final int COMMANDS_PER_VISIT = 7;
+
+  private final StringRedisTemplate redisTemplate;
+
+  // 방문 기록, 방문마다 그날 처음 본 방문자인지 (일 방문자 Set의 SADD 결과) 반환
+  // 같은 배치 안의 중복 방문도 파이프라인 순서대로 처리되어 첫 번째만 true
+  public List<Boolean> record(List<Visit> visits) {
+    Map<String, Duration> expirations = new LinkedHashMap<>();
+    List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      for (Visit visit : visits) {
+        byte[] visitor = bytes(String.valueOf(visit.visitorId()));
+        String dedupKey = DEDUP_KEY_FORMAT.formatted(visit.roomId(), visit.date());
+        connection.setCommands().sAdd(bytes(dedupKey), visitor);
+        expirations.putIfAbsent(dedupKey, DEDUP_TTL);
+        for (Bucket bucket : Bucket.of(visit.date())) {
+          String visitorsKey = VISITORS_KEY_FORMAT.formatted(visit.roomId(), bucket.suffix());
+          connection.hyperLogLogCommands().pfAdd(bytes(visitorsKey), visitor);
+          expirations.putIfAbsent(visitorsKey, bucket.ttl());
+        }
+        for (Bucket bucket : Bucket.of(visit.date())) {
+          String visitsKey = VISITS_KEY_FORMAT.formatted(visit.roomId(), bucket.suffix());
+          connection.stringCommands().incr(bytes(visitsKey));
+          expirations.putIfAbsent(visitsKey, bucket.ttl());
+        }
+      }
+      // 배치 안에서 같은 키는 한 번만 만료 갱신
+      expirations.forEach((key, ttl) -> connection.keyCommands().expire(bytes(key), ttl.toSeconds()));
+      return null;
+    });
+
+    List<Boolean> firstVisits = new ArrayList<>(visits.size());
+    for (int i = 0; i < visits.size(); i++) {
+      int index = i * COMMANDS_PER_VISIT;
+      Object added = results.size() > index ? results.get(index) : null;
+      firstVisits.add(added instanceof Long count && count == 1L);
+    }
+    return firstVisits;
+  }
+
+  // 오늘까지 30일의 일별 통계, 기간(windows, 30일 이하)별 고유 방문자, 이번 주/이번 달 통계를 파이프라인 한 번으로 조회
+  // 기간 고유 방문자는 일 HLL들을 PFCOUNT로 합쳐 계산 (날짜를 넘나드는 재방문은 한 명으로 셈)
+  public Snapshot read(Long roomId, LocalDate today, List<Integer> windows) {
+    List<LocalDate> dates = new ArrayList<>(MAX_SERIES_DAYS);
+    for (int i = MAX_SERIES_DAYS - 1; i >= 0; i--) {
+      dates.add(today.minusDays(i));
+    }
+    Bucket week = Bucket.week(today);
+    Bucket month = Bucket.month(today);
+
+    List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      for (LocalDate date : dates) {
+        connection.hyperLogLogCommands().pfCount(visitorsKey(roomId, date.toString()));
+        connection.stringCommands().get(visitsKey(roomId, date.toString()));
+      }
+      for (int window : windows) {
+        byte[][] keys = dates.subList(dates.size() - window, dates.size()).stream()
+            .map(date -> visitorsKey(roomId, date.toString()))
+            .toArray(byte[][]::new);
+        connection.hyperLogLogCommands().pfCount(keys);
+      }
+      for (Bucket bucket : List.of(week, month)) {
+        connection.hyperLogLogCommands().pfCount(visitorsKey(roomId, bucket.suffix()));
+        connection.stringCommands().get(visitsKey(roomId, bucket.suffix()));
+      }
+      return null;
+    });
+
+    int index = 0;
+    List<Counts> daily = new ArrayList<>(dates.size());
+    for (LocalDate date : dates) {
+      daily.add(new Counts(date, toLong(results.get(index)), toLong(results.get(index + 1))));
+      index += 2;
+    }
+    Map<Integer, Long> windowUniqueVisitors = new LinkedHashMap<>();
+    for (int window : windows) {
+      windowUniqueVisitors.put(window, toLong(results.get(index++)));
+    }
+    Counts weekly = new Counts(week.start(), toLong(results.get(index)),
+        toLong(results.get(index + 1)));
+    Counts monthly = new Counts(month.start(), toLong(results.get(index + 2)),
+        toLong(results.get(index + 3)));
+    return new Snapshot(daily, windowUniqueVisitors, weekly, monthly);
+  }
+
+  private static long toLong(Object value) {
+    if (value instanceof Long number) {
+      return number;
+    }
+    if (value instanceof String text) {
+      return Long.parseLong(text);
+    }
+    return 0L;
+  }
+
+  private static byte[] visitorsKey(Long roomId, String suffix) {
+    return bytes(VISITORS_KEY_FORMAT.formatted(roomId, suffix));
+  }
+
+  private static byte[] visitsKey(Long roomId, String suffix) {
+    return bytes(VISITS_KEY_FORMAT.formatted(roomId, suffix));
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  public record Visit(Long roomId, Long visitorId, LocalDate date) {
+
+  }
+
+  // start: 일자, 주 시작일(월요일) 또는 월 1일
+  public record Counts(LocalDate start, long uniqueVisitors, long totalVisits) {
+
+  }
+
+  // windowUniqueVisitors: 기간(일) → 기간 고유 방문자 수
+  public record Snapshot(List<Counts> daily, Map<Integer, Long> windowUniqueVisitors,
+                         Counts weekly, Counts monthly) {
+
+  }
+
+  // 키 접미사: 일 {date}, 주 week:{월요일}, 월 month:{yyyy-MM}
+  private record Bucket(String suffix, LocalDate start, Duration ttl) {
+
+    static List<Bucket> of(LocalDate date) {
+      return List.of(new Bucket(date.toString(), date, DAILY_TTL), week(date), month(date));
+    }
+
+    static Bucket week(LocalDate date) {
+      LocalDate monday = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+      return new Bucket("week:" + monday, monday, WEEKLY_TTL);
+    }
+
+    static Bucket month(LocalDate date) {
+      YearMonth yearMonth = YearMonth.from(date);
+      return new Bucket("month:" + yearMonth, yearMonth.atDay(1), MONTHLY_TTL);
+    }
+  }
+}
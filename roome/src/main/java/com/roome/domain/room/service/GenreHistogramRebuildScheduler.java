@@ -0,0 +1,25 @@
+package com.roome.domain.room.service;
+
+import com.roome.domain.userGenrePreference.entity.GenreType;
+import com.roome.global.scheduler.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GenreHistogramRebuildScheduler {
+
+  private final GenreHistogramService genreHistogramService;
+
+  @Scheduled(cron = "0 30 4 * * *") // 매일 새벽 4시 30분에 실행
+  @SchedulerLock(name = "genre-histogram-rebuild", minIntervalSeconds = 3600)
+  public void rebuildGenreHistograms() {
+    for (GenreType type : GenreType.values()) {
+      int rebuilt = genreHistogramService.rebuildAll(type);
+      log.info("[GenreHistogram] 분포 재구성 완료: type={}, count={}", type, rebuilt);
+    }
+  }
+}
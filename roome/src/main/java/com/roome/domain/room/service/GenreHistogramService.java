@@ -0,0 +1,112 @@
+package com.roome.domain.room.service;
+
+import com.roome.domain.book.entity.repository.GenreRepository;
+import com.roome.domain.cd.repository.CdGenreTypeRepository;
+import com.roome.domain.room.repository.GenreHistogramRedisRepository;
+import com.roome.domain.userGenrePreference.entity.GenreType;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+// 사용자(방)별 장르 분포 조회/증감/재구성
+// - 상위 장르는 분포(장르 수만큼의 카운터)에서 계산, 등록한 항목 전체의 장르를 읽지 않음
+// - Redis 장애 시 DB 집계로 동작
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GenreHistogramService {
+
+  private final GenreHistogramRedisRepository genreHistogramRedisRepository;
+  private final GenreRepository genreRepository;
+  private final CdGenreTypeRepository cdGenreTypeRepository;
+
+  // 개수 내림차순 상위 limit개 (개수가 같으면 장르 이름순)
+  public List<String> getTopGenres(GenreType type, Long userId, int limit) {
+    return readHistogram(type, userId).entrySet().stream()
+        .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+            .thenComparing(Map.Entry.comparingByKey()))
+        .limit(limit)
+        .map(Map.Entry::getKey)
+        .toList();
+  }
+
+  public Map<String, Long> readHistogram(GenreType type, Long userId) {
+    try {
+      Optional<Map<String, Long>> cached = genreHistogramRedisRepository.read(type, userId);
+      if (cached.isPresent()) {
+        return cached.get();
+      }
+      // 버전은 DB 집계 전에 읽어야 집계 도중 반영된 증감을 덮어쓰지 않음
+      long version = genreHistogramRedisRepository.readVersion(type, userId);
+      Map<String, Long> counts = countFromDatabase(type, userId);
+      genreHistogramRedisRepository.fill(type, userId, version, counts);
+      return counts;
+    } catch (Exception e) {
+      log.warn("[GenreHistogram] 분포 조회 실패, DB 집계 사용: type={}, userId={}, error={}",
+          type, userId, e.getMessage());
+      return countFromDatabase(type, userId);
+    }
+  }
+
+  // genres: 추가(+1) 또는 삭제(-1)된 항목들의 장르, null이면 분포를 지워 다시 집계
+  public void apply(GenreType type, Long userId, List<String> genres, long delta) {
+    if (genres == null) {
+      genreHistogramRedisRepository.evict(type, userId);
+      return;
+    }
+    if (genres.isEmpty()) {
+      return;
+    }
+    Map<String, Long> deltas = new HashMap<>();
+    genres.forEach(genre -> deltas.merge(genre, delta, Long::sum));
+    genreHistogramRedisRepository.increment(type, userId, deltas);
+  }
+
+  // 커밋 전에 채우기를 막고 커밋 후 apply 다음에 해제
+  public void reserve(GenreType type, Long userId) {
+    genreHistogramRedisRepository.reserve(type, userId);
+  }
+
+  public void release(GenreType type, Long userId) {
+    genreHistogramRedisRepository.release(type, userId);
+  }
+
+  // 만들어져 있는 분포를 DB 집계로 덮어써 유실된 증감을 바로잡음 (집계 중 증감이 있었던 분포는 다음 주기로 미룸)
+  public int rebuildAll(GenreType type) {
+    AtomicInteger rebuilt = new AtomicInteger();
+    genreHistogramRedisRepository.forEachUserId(type, userId -> {
+      try {
+        if (rebuild(type, userId)) {
+          rebuilt.incrementAndGet();
+        }
+      } catch (Exception e) {
+        log.warn("[GenreHistogram] 분포 재구성 실패: type={}, userId={}, error={}",
+            type, userId, e.getMessage());
+      }
+    });
+    return rebuilt.get();
+  }
+
+  boolean rebuild(GenreType type, Long userId) {
+    long version = genreHistogramRedisRepository.readVersion(type, userId);
+    Map<String, Long> counts = countFromDatabase(type, userId);
+    return genreHistogramRedisRepository.replace(type, userId, version, counts);
+  }
+
+  private Map<String, Long> countFromDatabase(GenreType type, Long userId) {
+    Map<String, Long> counts = new HashMap<>();
+    switch (type) {
+      case BOOK -> genreRepository.countGenresByUserId(userId)
+          .forEach(row -> counts.put(row.getName(), row.getCount()));
+      case CD -> cdGenreTypeRepository.countGenresByUserId(userId)
+          .forEach(row -> counts.put(row.getName(), row.getCount()));
+    }
+    return counts;
+  }
+}
@@ -1,7 +1,5 @@
 package com.roome.domain.room.service;
 
-import com.roome.domain.book.entity.repository.GenreRepository;
-import com.roome.domain.cd.repository.CdGenreTypeRepository;
 import com.roome.domain.cdcomment.repository.CdCommentRepository;
 import com.roome.domain.cdtemplate.repository.CdTemplateRepository;
 import com.roome.domain.furniture.dto.FurnitureResponseDto;
@@ -15,32 +13,42 @@ import com.roome.domain.mycd.entity.MyCdCount;
 import com.roome.domain.mycd.repository.MyCdCountRepository;
 import com.roome.domain.point.entity.PointReason;
 import com.roome.domain.point.service.PointService;
-import com.roome.domain.rank.service.UserActivityService;
+import com.roome.domain.rank.service.RoomVisitIngestor;
 import com.roome.domain.room.dto.RoomResponseDto;
 import com.roome.domain.room.entity.Room;
+import com.roome.domain.room.entity.RoomSummary;
 import com.roome.domain.room.entity.RoomTheme;
 import com.roome.domain.room.entity.RoomThemeUnlock;
+import com.roome.domain.room.event.RoomLayoutChangedEvent;
 import com.roome.domain.room.repository.RoomRepository;
+import com.roome.domain.room.repository.RoomSummaryRedisRepository;
 import com.roome.domain.room.repository.RoomThemeUnlockRepository;
 import com.roome.domain.user.entity.User;
 import com.roome.domain.user.repository.UserRepository;
+import com.roome.domain.userGenrePreference.entity.GenreType;
 import com.roome.global.exception.BusinessException;
 import com.roome.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RoomService {
 
+  private static final int ROOM_OWNER_CACHE_SIZE = 10_000;
+
   private final RoomRepository roomRepository;
   private final UserRepository userRepository;
   private final FurnitureRepository furnitureRepository;
@@ -48,11 +56,21 @@ public class RoomService {
   private final MyBookCountRepository myBookCountRepository;
   private final MyBookReviewRepository myBookReviewRepository;
   private final CdTemplateRepository cdTemplateRepository;
-  private final UserActivityService userActivityService;
-  private final GenreRepository genreRepository;
-  private final CdGenreTypeRepository cdGenreTypeRepository;
+  private final RoomVisitIngestor roomVisitIngestor;
+  private final GenreHistogramService genreHistogramService;
   private final RoomThemeUnlockRepository roomThemeUnlockRepository;
   private final PointService pointService;
+  private final RoomSummaryRedisRepository roomSummaryRedisRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  // roomId → 소유자 userId (방 소유자는 바뀌지 않으므로 노드 내에 보관, 방 조회 요약은 userId로 저장)
+  private final Map<Long, Long> roomOwnerIds = Collections.synchronizedMap(
+      new LinkedHashMap<Long, Long>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+          return size() > ROOM_OWNER_CACHE_SIZE;
+        }
+      });
 
   @Transactional
   public RoomResponseDto createRoom(Long userId) {
@@ -107,67 +125,114 @@ public class RoomService {
 
   @Transactional(readOnly = true)
   public RoomResponseDto getRoomById(Long roomId) {
+    RoomSummary summary = readSummaryByRoomId(roomId);
+
+    log.info("방 조회 성공: 방(roomId={}) 조회 완료", roomId);
+    return RoomResponseDto.from(summary);
+  }
+
+  @Transactional(readOnly = true)
+  public RoomResponseDto getRoomByUserId(Long userId) {
+    RoomSummary summary = readSummary(userId, () -> roomRepository.findByUserId(userId));
+
+    log.info("방 조회 성공: 사용자의 방(roomId={})을 조회 완료 (userId={})",
+        summary.getLayout().getRoomId(), userId);
+    return RoomResponseDto.from(summary);
+  }
+
+  // 방 조회 요약: 캐시된 항목은 그대로 쓰고 비어 있는 항목만 DB에서 계산해 채움
+  private RoomSummary readSummaryByRoomId(Long roomId) {
+    Long userId = roomOwnerIds.get(roomId);
+    if (userId != null) {
+      return readSummary(userId, () -> roomRepository.findById(roomId));
+    }
+
     Room room = roomRepository.findById(roomId)
         .orElseThrow(() -> {
           log.error("방 조회 실패: 존재하지 않는 방 (roomId={})", roomId);
           return new BusinessException(ErrorCode.ROOM_NOT_FOUND);
         });
-
-    Long savedMusic = fetchSavedMusicCount(room);
-    Long savedBooks = fetchSavedBooksCount(roomId);
-    Long writtenReviews = fetchWrittenReviewsCount(room.getUser().getId());
-    Long writtenMusicLogs = fetchWrittenMusicLogsCount(room.getUser().getId());
-
-    List<String> topBookGenres = getTop3BookGenres(roomId);
-    List<String> topCdGenres = getTop3CdGenres(roomId);
-
-    log.info("방 조회 성공: 방(roomId={}) 조회 완료", roomId);
-    return RoomResponseDto.from(room, savedMusic, savedBooks, writtenReviews, writtenMusicLogs,
-        topBookGenres, topCdGenres);
+    Long ownerId = room.getUser().getId();
+    roomOwnerIds.put(roomId, ownerId);
+    return readSummary(ownerId, () -> Optional.of(room));
   }
 
-  @Transactional(readOnly = true)
-  public RoomResponseDto getRoomByUserId(Long userId) {
-    Room room = roomRepository.findByUserId(userId)
+  private RoomSummary readSummary(Long userId, Supplier<Optional<Room>> roomLoader) {
+    RoomSummary cached = readCachedSummary(userId);
+    if (cached != null && cached.isComplete()) {
+      return cached;
+    }
+
+    // 버전은 DB 조회 전에 읽어야 조회 도중 반영된 변경을 덮어쓰지 않음
+    long version = readSummaryVersion(userId);
+    Room room = roomLoader.get()
         .orElseThrow(() -> {
           log.error("방 조회 실패: 해당 사용자의 방이 존재하지 않음 (userId={})", userId);
           return new BusinessException(ErrorCode.ROOM_NOT_FOUND);
         });
 
-    Long savedMusic = fetchSavedMusicCount(room);
-    Long savedBooks = fetchSavedBooksCount(room.getId());
-    Long writtenReviews = fetchWrittenReviewsCount(userId);
-    Long writtenMusicLogs = fetchWrittenMusicLogsCount(userId);
+    RoomSummary loaded = loadSummary(room, cached);
+    try {
+      roomSummaryRedisRepository.fill(userId, version, loaded);
+    } catch (Exception e) {
+      log.warn("방 조회 요약 저장 실패 (userId={}): {}", userId, e.getMessage());
+    }
+    return cached == null ? loaded : cached.merge(loaded);
+  }
 
-    List<String> topBookGenres = getTop3BookGenres(room.getId());
-    List<String> topCdGenres = getTop3CdGenres(room.getId());
+  // cached에 없는 항목만 계산 (cached가 null이면 전체)
+  private RoomSummary loadSummary(Room room, RoomSummary cached) {
+    Long userId = room.getUser().getId();
+    RoomSummary.RoomSummaryBuilder builder = RoomSummary.builder();
+    if (cached == null || cached.getLayout() == null) {
+      builder.layout(RoomSummary.Layout.create(room));
+    }
+    if (cached == null || cached.getSavedMusic() == null) {
+      builder.savedMusic(fetchSavedMusicCount(room));
+    }
+    if (cached == null || cached.getSavedBooks() == null) {
+      builder.savedBooks(fetchSavedBooksCount(room.getId()));
+    }
+    if (cached == null || cached.getWrittenReviews() == null) {
+      builder.writtenReviews(fetchWrittenReviewsCount(userId));
+    }
+    if (cached == null || cached.getWrittenMusicLogs() == null) {
+      builder.writtenMusicLogs(fetchWrittenMusicLogsCount(userId));
+    }
+    if (cached == null || cached.getTopBookGenres() == null) {
+      builder.topBookGenres(getTop3BookGenres(userId));
+    }
+    if (cached == null || cached.getTopCdGenres() == null) {
+      builder.topCdGenres(getTop3CdGenres(userId));
+    }
+    return builder.build();
+  }
 
-    log.info("방 조회 성공: 사용자의 방(roomId={})을 조회 완료 (userId={})", room.getId(), userId);
+  private RoomSummary readCachedSummary(Long userId) {
+    try {
+      return roomSummaryRedisRepository.read(userId).orElse(null);
+    } catch (Exception e) {
+      log.warn("방 조회 요약 조회 실패 (userId={}): {}", userId, e.getMessage());
+      return null;
+    }
+  }
 
-    return RoomResponseDto.from(room, savedMusic, savedBooks, writtenReviews, writtenMusicLogs,
-        topBookGenres, topCdGenres);
+  private long readSummaryVersion(Long userId) {
+    try {
+      return roomSummaryRedisRepository.readVersion(userId);
+    } catch (Exception e) {
+      log.warn("방 조회 요약 버전 조회 실패 (userId={}): {}", userId, e.getMessage());
+      return -1L;
+    }
   }
 
-  private List<String> getTop3BookGenres(Long roomId) {
-    List<String> genres = genreRepository.findGenresByRoomId(roomId);
-    return genres.stream()
-        .collect(Collectors.groupingBy(genre -> genre, Collectors.counting())) // 장르별 개수 집계
-        .entrySet().stream()
-        .sorted((a, b) -> Long.compare(b.getValue(), a.getValue())) // 개수 내림차순 정렬
-        .limit(3) // 상위 3개 선택
-        .map(Map.Entry::getKey)
-        .toList();
+  // 장르 분포 카운터에서 상위 3개 장르 조회
+  private List<String> getTop3BookGenres(Long userId) {
+    return genreHistogramService.getTopGenres(GenreType.BOOK, userId, 3);
   }
 
-  private List<String> getTop3CdGenres(Long roomId) {
-    List<String> genres = cdGenreTypeRepository.findGenresByRoomId(roomId);
-    return genres.stream()
-        .collect(Collectors.groupingBy(genre -> genre, Collectors.counting())) // 장르별 개수 집계
-        .entrySet().stream()
-        .sorted((a, b) -> Long.compare(b.getValue(), a.getValue())) // 개수 내림차순 정렬
-        .limit(3) // 상위 3개 선택
-        .map(Map.Entry::getKey)
-        .toList();
+  private List<String> getTop3CdGenres(Long userId) {
+    return genreHistogramService.getTopGenres(GenreType.CD, userId, 3);
   }
 
 
@@ -175,7 +240,7 @@ public class RoomService {
   @Transactional
   public RoomResponseDto getOrCreateRoomByUserId(Long userId) {
     return roomRepository.findByUserId(userId)
-        .map(this::buildRoomResponse)
+        .map(room -> RoomResponseDto.from(readSummary(userId, () -> Optional.of(room))))
         .orElseGet(() -> {
           try {
             return createRoom(userId);
@@ -237,6 +302,7 @@ public class RoomService {
     }
 
     room.updateTheme(theme);
+    eventPublisher.publishEvent(new RoomLayoutChangedEvent(this, userId));
     log.info("방 테마 변경 완료: 방(roomId={}) → 새 테마({})", roomId, newTheme);
 
     return theme.name();
@@ -276,10 +342,11 @@ public class RoomService {
     // 가구 활성화/비활성화 토글
     boolean newVisibility = !furniture.getIsVisible();
     furniture.setVisible(newVisibility);
+    eventPublisher.publishEvent(new RoomLayoutChangedEvent(this, userId));
 
     List<String> topGenres = switch (furnitureType) {
-      case BOOKSHELF -> getTop3BookGenres(roomId);
-      case CD_RACK -> getTop3CdGenres(roomId);
+      case BOOKSHELF -> getTop3BookGenres(userId);
+      case CD_RACK -> getTop3CdGenres(userId);
     };
 
     log.info("가구 상태 변경 완료: 방(roomId={}), 가구({}), 새 상태={}, Top3 장르={}", roomId, furnitureType,
@@ -309,19 +376,6 @@ public class RoomService {
 
 
 
-  private RoomResponseDto buildRoomResponse(Room room) {
-    Long savedMusic = fetchSavedMusicCount(room);
-    Long savedBooks = fetchSavedBooksCount(room.getId());
-    Long writtenReviews = fetchWrittenReviewsCount(room.getUser().getId());
-    Long writtenMusicLogs = fetchWrittenMusicLogsCount(room.getUser().getId());
-
-    log.info("방 정보 생성 완료: 방(roomId={}), 저장된 음악={}, 저장된 책={}, 작성한 리뷰={}, 작성한 음악 로그={}",
-        room.getId(), savedMusic, savedBooks, writtenReviews, writtenMusicLogs);
-
-    return RoomResponseDto.from(room, savedMusic, savedBooks, writtenReviews, writtenMusicLogs);
-  }
-
-
   Long fetchSavedMusicCount(Room room) {
     try {
       return myCdCountRepository.findByRoom(room)
@@ -365,36 +419,24 @@ public class RoomService {
   // 방문
   @Transactional
   public RoomResponseDto visitRoomByRoomId(Long visitorId, Long roomId) {
-    return visitRoomInternal(visitorId, roomId, null);
+    return visitRoomInternal(visitorId, readSummaryByRoomId(roomId));
   }
 
   @Transactional
   public RoomResponseDto visitRoomByHostId(Long visitorId, Long hostId) {
-    Room room = roomRepository.findByUserId(hostId)
-        .orElseThrow(() -> {
-          log.error("방 조회 실패: 해당 사용자의 방이 존재하지 않음 (userId={})", hostId);
-          return new BusinessException(ErrorCode.ROOM_NOT_FOUND);
-        });
-
-    return visitRoomInternal(visitorId, room.getId(), hostId);
+    return visitRoomInternal(visitorId,
+        readSummary(hostId, () -> roomRepository.findByUserId(hostId)));
   }
 
-  private RoomResponseDto visitRoomInternal(Long visitorId, Long roomId, Long hostId) {
-    Room room = roomRepository.findById(roomId)
-        .orElseThrow(() -> {
-          log.error("방 방문 실패: 존재하지 않는 방 (roomId={})", roomId);
-          return new BusinessException(ErrorCode.ROOM_NOT_FOUND);
-        });
-
-    if (hostId == null) {
-      hostId = room.getUser().getId();
-    }
+  private RoomResponseDto visitRoomInternal(Long visitorId, RoomSummary summary) {
+    Long roomId = summary.getLayout().getRoomId();
+    Long hostId = summary.getLayout().getUserId();
 
-    // 방문 활동 기록
-    userActivityService.recordVisit(visitorId, hostId);
+    // 방문 점수 반영은 큐에 넣고 응답 (중복 판별과 점수 부여는 RoomVisitIngestor가 일괄 처리)
+    roomVisitIngestor.enqueue(visitorId, hostId, roomId);
 
     log.info("방 방문 처리 완료: 방문자(userId={})가 방(roomId={}, 소유자={})을 방문함", visitorId, roomId, hostId);
 
-    return buildRoomResponse(room);
+    return RoomResponseDto.from(summary);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package com.roome.domain.room.service;
+
+import com.roome.domain.room.dto.RoomVisitStatsResponseDto;
+import com.roome.domain.room.entity.Room;
+import com.roome.domain.room.repository.RoomRepository;
+import com.roome.domain.room.repository.RoomVisitStatsRedisRepository;
+import com.roome.global.exception.BusinessException;
+import com.roome.global.exception.ErrorCode;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 방 소유자용 방문 통계 (user_activities를 집계하지 않고 방문 시 기록한 Redis 카운터에서 조회)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomVisitStatsService {
+
+  private final RoomRepository roomRepository;
+  private final RoomVisitStatsRedisRepository roomVisitStatsRedisRepository;
+
+  @Transactional(readOnly = true)
+  public RoomVisitStatsResponseDto getVisitStats(Long userId, Long roomId) {
+    Room room = roomRepository.findById(roomId)
+        .orElseThrow(() -> {
+          log.error("방문 통계 조회 실패: 존재하지 않는 방 (roomId={})", roomId);
+          return new BusinessException(ErrorCode.ROOM_NOT_FOUND);
+        });
+
+    if (!room.getUser().getId().equals(userId)) {
+      log.error("방문 통계 조회 실패: 사용자(userId={})가 방(roomId={})의 소유자가 아님", userId, roomId);
+      throw new BusinessException(ErrorCode.ROOM_ACCESS_DENIED);
+    }
+
+    RoomVisitStatsRedisRepository.Snapshot snapshot = roomVisitStatsRedisRepository.read(roomId,
+        LocalDate.now(),
+        List.of(RoomVisitStatsResponseDto.WEEK_DAYS, RoomVisitStatsResponseDto.MONTH_DAYS));
+    return RoomVisitStatsResponseDto.from(roomId, snapshot);
+  }
+}
@@ -2,6 +2,7 @@ package com.roome.domain.user.service;
 
 import com.roome.domain.houseMate.repository.HousemateRepository;
 import com.roome.domain.recommendedUser.service.RecommendedUserService;
+import com.roome.domain.room.event.RoomLayoutChangedEvent;
 import com.roome.domain.user.dto.RecommendedUserDto;
 import com.roome.domain.user.dto.request.UpdateProfileRequest;
 import com.roome.domain.user.dto.response.UserProfileResponse;
@@ -12,6 +13,7 @@ import com.roome.global.exception.BusinessException;
 import com.roome.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +30,7 @@ public class UserProfileService {
     private final HousemateRepository housemateRepository;
     private final GenrePreferenceService genrePreferenceService;
     private final RecommendedUserService recommendedUserService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserProfileResponse getUserProfile(Long userId, Long authUserId) {
         // 사용자 정보 한 번만 조회
@@ -68,6 +71,8 @@ public class UserProfileService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         user.updateProfile(request.getNickname(), request.getBio());
+        // 방 조회 요약에 닉네임이 포함되어 있음
+        eventPublisher.publishEvent(new RoomLayoutChangedEvent(this, userId));
         return getUserProfile(userId, userId);
     }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.roome.domain.point.repository.PointRepository;
 import com.roome.domain.recommendedUser.repository.RecommendedUserRepository;
 import com.roome.domain.room.entity.Room;
 import com.roome.domain.room.entity.RoomThemeUnlock;
+import com.roome.domain.room.event.RoomLayoutChangedEvent;
 import com.roome.domain.room.repository.RoomRepository;
 import com.roome.domain.room.repository.RoomThemeUnlockRepository;
 import com.roome.domain.user.entity.User;
@@ -33,6 +34,7 @@ import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -60,6 +62,7 @@ public class UserService {
   private final RecommendedUserRepository recommendedUserRepository;
   private final RoomThemeUnlockRepository roomThemeUnlockRepository;
   private final RedisService redisService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional(rollbackFor = Exception.class, noRollbackFor = BusinessException.class)
   public void deleteUser(Long userId) {
@@ -120,6 +123,9 @@ public class UserService {
       // 9-3. Room 삭제
       roomRepository.delete(room);
       log.debug("[회원탈퇴] 방 삭제 완료: roomId={}", room.getId());
+
+      // 방 조회 요약의 구성 정보를 지워 다음 조회에서 없는 방으로 처리
+      eventPublisher.publishEvent(new RoomLayoutChangedEvent(this, userId));
     }
 
     // 10. Redis에서 랭킹 데이터 삭제
@@ -2,7 +2,6 @@ package com.roome.domain.userGenrePreference.service;
 
 import com.roome.domain.mybook.entity.MyBook;
 import com.roome.domain.mybook.entity.repository.MyBookRepository;
-import com.roome.domain.mycd.entity.MyCd;
 import com.roome.domain.mycd.repository.MyCdRepository;
 import com.roome.domain.user.entity.User;
 import com.roome.domain.user.repository.UserRepository;
@@ -30,29 +29,11 @@ public class GenrePreferenceService {
     private final MyBookRepository myBookRepository;
     private final UserGenrePreferenceRepository userGenrePreferenceRepository;
 
-    // 사용자의 CD 장르 선호도 조회
-    public List<String> getTopCdGenres(Long userId) {
-        List<MyCd> userCds = myCdRepository.findByUserId(userId);
-
-        if (userCds.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        // 장르 카운팅
-        Map<String, Integer> genreCounts = new HashMap<>();
-        for (MyCd myCd : userCds) {
-            List<String> genres = myCd.getCd().getGenres();
-            for (String genre : genres) {
-                genreCounts.put(genre, genreCounts.getOrDefault(genre, 0) + 1);
-            }
-        }
+    private static final int TOP_GENRE_COUNT = 3;
 
-        // 상위 3개 장르 반환
-        return genreCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .limit(3)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
+    // 사용자의 CD 장르 선호도 조회 (장르 집계는 DB에서 수행)
+    public List<String> getTopCdGenres(Long userId) {
+        return myCdRepository.findTopCdGenreNames(userId, TOP_GENRE_COUNT);
     }
 
     // 사용자의 책 장르 선호도 조회
@@ -89,34 +70,15 @@ public class GenrePreferenceService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        List<MyCd> userCds = myCdRepository.findByUserId(userId);
+        List<String> topGenres = myCdRepository.findTopCdGenreNames(userId, TOP_GENRE_COUNT);
 
         // 기존 선호도 삭제
         userGenrePreferenceRepository.deleteByUserIdAndGenreType(userId, GenreType.CD);
 
-        if (userCds.isEmpty()) {
-            return;
-        }
-
-        // 장르 카운팅
-        Map<String, Integer> genreCounts = new HashMap<>();
-        for (MyCd myCd : userCds) {
-            List<String> genres = myCd.getCd().getGenres();
-            for (String genre : genres) {
-                genreCounts.put(genre, genreCounts.getOrDefault(genre, 0) + 1);
-            }
-        }
-
         // 상위 3개 장르 저장
-        genreCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .limit(3)
-                .forEach(entry -> {
-                    UserGenrePreference preference = UserGenrePreference.create(
-                            user, GenreType.CD, entry.getKey()
-                    );
-                    userGenrePreferenceRepository.save(preference);
-                });
+        topGenres.forEach(genre -> userGenrePreferenceRepository.save(
+                UserGenrePreference.create(user, GenreType.CD, genre)
+        ));
     }
 
     // 책 장르 선호도 저장 (캐싱 목적)
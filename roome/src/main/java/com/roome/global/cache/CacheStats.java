@@ -0,0 +1,22 @@
+package com.roome.global.cache;
+
+public record CacheStats(
+    String name,
+    long localHits,
+    long remoteHits,
+    long misses,
+    long remoteErrors,
+    long localSize,
+    long localWeightBytes,
+    long localEvictions
+) {
+
+  public long requests() {
+    return localHits + remoteHits + misses;
+  }
+
+  public double hitRatio() {
+    long requests = requests();
+    return requests == 0 ? 0 : (double) (localHits + remoteHits) / requests;
+  }
+}
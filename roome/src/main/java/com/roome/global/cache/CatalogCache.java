@@ -0,0 +1,193 @@
+package com.roome.global.cache;
+
+import com.roome.global.exception.BusinessException;
+import com.roome.global.exception.ErrorCode;
+import com.roome.global.exception.LockAcquisitionFailedException;
+import com.roome.global.service.RedisLockService;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 카탈로그(Book, Cd) 조회 캐시
+// - 정규화 키 -> 준영속 엔티티를 노드 내 캐시, 없는 키는 짧게 음성 캐시
+// - 같은 키의 최초 생성은 노드 내 single-flight + 분산 락으로 한 번만 수행하고 별도 트랜잭션으로 커밋
+// - 락을 얻지 못해도 유니크 인덱스가 중복을 막으므로 충돌 시 다시 조회
+// - 캐시 미스 조회는 호출 측 트랜잭션에서 하고 영속성 컨텍스트에서 분리한 뒤 캐시
+// - 생성 경로는 호출 측 연결을 잡은 채 새 연결을 하나 더 쓰므로 노드 내 동시 생성 수와 대기 시간을 제한
+//   (대기 중인 요청이 커넥션 풀을 모두 차지하지 않도록)
+// - 키가 없으면(ISBN 없는 도서 등) 같은 항목으로 볼 수 없으므로 캐시/single-flight 없이 호출 측 트랜잭션에서 바로 생성
+@Slf4j
+public class CatalogCache<V> {
+
+  private static final String LOCK_PREFIX = "lock:catalog:";
+  private static final long LOCK_WAIT_SECONDS = 1;
+  private static final long PERMIT_WAIT_MILLIS = 500;
+  private static final long LOCK_LEASE_SECONDS = 5;
+
+  private final String name;
+  private final RedisLockService redisLockService;
+  private final TransactionTemplate requiresNew;
+  private final Consumer<? super V> detacher;
+  private final Semaphore createPermits;
+  private final Duration ttl;
+  private final Duration negativeTtl;
+  private final LongSupplier clock;
+  private final LocalCache<V> found;
+  private final LocalCache<Boolean> missing;
+  private final ConcurrentMap<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong lookups = new AtomicLong();
+  private final AtomicLong creates = new AtomicLong();
+
+  // detacher: 호출 측 영속성 컨텍스트에서 분리 (EntityManager::detach)
+  // maxConcurrentCreates: 노드 내 동시 생성 수 (커넥션 풀 크기보다 충분히 작게)
+  public CatalogCache(String name, RedisLockService redisLockService,
+      PlatformTransactionManager transactionManager, Consumer<? super V> detacher,
+      int maxConcurrentCreates, int maxEntries, Duration ttl, Duration negativeTtl) {
+    this(name, redisLockService, transactionManager, detacher, maxConcurrentCreates, maxEntries,
+        ttl, negativeTtl, System::currentTimeMillis);
+  }
+
+  CatalogCache(String name, RedisLockService redisLockService,
+      PlatformTransactionManager transactionManager, Consumer<? super V> detacher,
+      int maxConcurrentCreates, int maxEntries, Duration ttl, Duration negativeTtl,
+      LongSupplier clock) {
+    this.name = name;
+    this.redisLockService = redisLockService;
+    this.requiresNew = new TransactionTemplate(transactionManager);
+    this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.detacher = detacher;
+    this.createPermits = new Semaphore(maxConcurrentCreates);
+    this.ttl = ttl;
+    this.negativeTtl = negativeTtl;
+    this.clock = clock;
+    // 항목 수 기준 (항목당 가중치 1)
+    this.found = new LocalCache<>(maxEntries);
+    this.missing = new LocalCache<>(maxEntries);
+  }
+
+  // 키에 해당하는 항목, 없으면 creator로 한 번만 생성 (반환 값은 준영속 상태)
+  public V resolve(String key, Supplier<Optional<V>> finder, Supplier<V> creator) {
+    if (key == null || key.isBlank()) {
+      creates.incrementAndGet();
+      return creator.get();
+    }
+
+    long now = clock.getAsLong();
+    V cached = found.get(key, now);
+    if (cached != null) {
+      hits.incrementAndGet();
+      return cached;
+    }
+
+    // 최근에 없었던 키는 바로 생성 경로로 (생성 경로에서 다시 확인하므로 다른 노드가 만든 항목도 찾음)
+    if (missing.get(key, now) == null) {
+      lookups.incrementAndGet();
+      Optional<V> existing = finder.get();
+      if (existing.isPresent()) {
+        // 관리 상태로 캐시하면 다른 요청/스레드가 이 영속성 컨텍스트의 엔티티를 공유하게 됨
+        detacher.accept(existing.get());
+        found.put(key, existing.get(), 1, now + ttl.toMillis());
+        return existing.get();
+      }
+      missing.put(key, Boolean.TRUE, 1, now + negativeTtl.toMillis());
+    }
+    return createOnce(key, finder, creator);
+  }
+
+  public void evict(String key) {
+    found.remove(key);
+    missing.remove(key);
+  }
+
+  public String stats() {
+    return String.format("%s: hits=%d, lookups=%d, creates=%d, size=%d", name, hits.get(),
+        lookups.get(), creates.get(), found.size());
+  }
+
+  private V createOnce(String key, Supplier<Optional<V>> finder, Supplier<V> creator) {
+    CompletableFuture<V> flight = new CompletableFuture<>();
+    CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+    if (running != null) {
+      return await(running);
+    }
+
+    try {
+      V value = findOrCreateWithLock(key, finder, creator);
+      found.put(key, value, 1, clock.getAsLong() + ttl.toMillis());
+      missing.remove(key);
+      flight.complete(value);
+      return value;
+    } catch (RuntimeException e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  private V findOrCreateWithLock(String key, Supplier<Optional<V>> finder, Supplier<V> creator) {
+    acquireCreatePermit(key);
+    try {
+      return redisLockService.executeWithLock(LOCK_PREFIX + name + ":" + key, LOCK_WAIT_SECONDS,
+          LOCK_LEASE_SECONDS, () -> findOrCreate(finder, creator));
+    } catch (LockAcquisitionFailedException e) {
+      log.warn("[CatalogCache] 락 획득 실패, 락 없이 생성: cache={}, key={}", name, key);
+      return findOrCreate(finder, creator);
+    } finally {
+      createPermits.release();
+    }
+  }
+
+  // 허용 수를 넘는 동시 생성은 짧게 기다린 뒤 실패 (호출 측이 연결을 오래 잡고 있지 않도록)
+  private void acquireCreatePermit(String key) {
+    try {
+      if (createPermits.tryAcquire(PERMIT_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    log.warn("[CatalogCache] 동시 생성 한도 초과: cache={}, key={}", name, key);
+    throw new BusinessException(ErrorCode.CATALOG_CREATION_BUSY);
+  }
+
+  // 호출 측 트랜잭션의 스냅샷으로는 다른 트랜잭션이 방금 커밋한 항목이 보이지 않으므로 새 트랜잭션에서 확인
+  private V findOrCreate(Supplier<Optional<V>> finder, Supplier<V> creator) {
+    try {
+      return requiresNew.execute(status -> finder.get().orElseGet(() -> {
+        creates.incrementAndGet();
+        return creator.get();
+      }));
+    } catch (DataIntegrityViolationException e) {
+      // 다른 노드가 먼저 생성 (유니크 인덱스 충돌)
+      return requiresNew.execute(status -> finder.get()).orElseThrow(() -> e);
+    }
+  }
+
+  private V await(CompletableFuture<V> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
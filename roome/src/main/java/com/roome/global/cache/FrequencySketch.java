@@ -0,0 +1,70 @@
+package com.roome.global.cache;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 키별 최근 요청 빈도를 근사하는 Count-Min 스케치 (키 수와 무관하게 고정 메모리)
+// 일정 횟수마다 모든 카운터를 절반으로 줄여 과거 인기 키가 계속 남지 않도록 함
+class FrequencySketch {
+
+  private static final int DEPTH = 4;
+  private static final int MAX_COUNT = 15;
+  private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+  private final AtomicIntegerArray counters;
+  private final int mask;
+  private final long resetThreshold;
+  private final AtomicLong additions = new AtomicLong();
+
+  FrequencySketch(int width) {
+    int size = Integer.highestOneBit(Math.max(16, width - 1) << 1);
+    this.counters = new AtomicIntegerArray(size * DEPTH);
+    this.mask = size - 1;
+    this.resetThreshold = 10L * size;
+  }
+
+  // 요청 1회를 기록하고 기록 후 추정 빈도 반환
+  int increment(Object key) {
+    int hash = spread(key.hashCode());
+    int min = MAX_COUNT;
+    for (int row = 0; row < DEPTH; row++) {
+      int index = indexOf(hash, row);
+      int count = counters.get(index);
+      if (count < MAX_COUNT) {
+        count = counters.incrementAndGet(index);
+      }
+      min = Math.min(min, count);
+    }
+    if (additions.incrementAndGet() >= resetThreshold) {
+      reset();
+    }
+    return min;
+  }
+
+  int frequency(Object key) {
+    int hash = spread(key.hashCode());
+    int min = MAX_COUNT;
+    for (int row = 0; row < DEPTH; row++) {
+      min = Math.min(min, counters.get(indexOf(hash, row)));
+    }
+    return min;
+  }
+
+  private void reset() {
+    additions.set(0);
+    for (int i = 0; i < counters.length(); i++) {
+      counters.set(i, counters.get(i) >>> 1);
+    }
+  }
+
+  private int indexOf(int hash, int row) {
+    int h = (hash ^ SEEDS[row]) * SEEDS[(row + 1) % DEPTH];
+    h ^= h >>> 16;
+    return row * (mask + 1) + (h & mask);
+  }
+
+  private static int spread(int hash) {
+    int h = hash * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+}
@@ -0,0 +1,81 @@
+package com.roome.global.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 노드 내 L1 캐시: 항목 크기(근사 바이트) 합이 상한을 넘으면 가장 오래 사용되지 않은 항목부터 제거
+class LocalCache<V> {
+
+  private final long maxWeight;
+  private final LinkedHashMap<String, Entry<V>> entries = new LinkedHashMap<>(256, 0.75f, true);
+  private long totalWeight;
+  private long evictions;
+
+  LocalCache(long maxWeight) {
+    this.maxWeight = maxWeight;
+  }
+
+  synchronized V get(String key, long now) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expiresAt() <= now) {
+      remove(key);
+      return null;
+    }
+    return entry.value();
+  }
+
+  // 한 항목이 전체 상한의 1/8을 넘으면 다른 항목을 밀어내지 않도록 저장하지 않음
+  synchronized boolean put(String key, V value, long weight, long expiresAt) {
+    if (weight > maxWeight / 8) {
+      return false;
+    }
+    Entry<V> previous = entries.put(key, new Entry<>(value, weight, expiresAt));
+    if (previous != null) {
+      totalWeight -= previous.weight();
+    }
+    totalWeight += weight;
+    evictIfNeeded();
+    return true;
+  }
+
+  synchronized void remove(String key) {
+    Entry<V> previous = entries.remove(key);
+    if (previous != null) {
+      totalWeight -= previous.weight();
+    }
+  }
+
+  synchronized void clear() {
+    entries.clear();
+    totalWeight = 0;
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  synchronized long weight() {
+    return totalWeight;
+  }
+
+  synchronized long evictions() {
+    return evictions;
+  }
+
+  private void evictIfNeeded() {
+    Iterator<Map.Entry<String, Entry<V>>> iterator = entries.entrySet().iterator();
+    while (totalWeight > maxWeight && iterator.hasNext()) {
+      totalWeight -= iterator.next().getValue().weight();
+      iterator.remove();
+      evictions++;
+    }
+  }
+
+  private record Entry<V>(V value, long weight, long expiresAt) {
+
+  }
+}
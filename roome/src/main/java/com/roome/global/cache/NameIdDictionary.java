@@ -0,0 +1,126 @@
+package com.roome.global.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 이름 -> ID 사전 (장르처럼 작고 거의 바뀌지 않는 테이블용, 시작 시 전체 적재)
+// - 없는 이름은 한 번의 다중 행 upsert로 추가 (name 유니크 제약으로 노드 간 동시 추가에도 안전)
+// - upsert는 별도 트랜잭션으로 커밋하여 호출 측 트랜잭션이 롤백되어도 사전의 ID가 유효
+// - DB 콜레이션은 대소문자 외에 악센트/끝 공백도 무시하므로, 추가 후 DB 비교로 찾은 행을 요청한 이름에도 등록
+@Slf4j
+public class NameIdDictionary {
+
+  private final String table;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate requiresNew;
+  // 키: 앞뒤 공백을 제거한 소문자 이름, DB가 같다고 본 다른 표기도 같은 항목을 가리킴
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  public NameIdDictionary(String table, JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager) {
+    this.table = table;
+    this.jdbcTemplate = jdbcTemplate;
+    this.requiresNew = new TransactionTemplate(transactionManager);
+    this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    try {
+      jdbcTemplate.query("select id, name from " + table,
+          rs -> {
+            put(rs.getLong("id"), rs.getString("name"));
+          });
+      log.info("[NameIdDictionary] {} 사전 적재 완료: {}건", table, entries.size());
+    } catch (Exception e) {
+      // 조회 시 필요한 항목부터 채워짐
+      log.warn("[NameIdDictionary] {} 사전 적재 실패: {}", table, e.getMessage());
+    }
+  }
+
+  // 이름 목록을 사전 항목으로 변환 (앞뒤 공백 제거, 중복/빈 이름 제외, 입력 순서 유지)
+  public List<Entry> resolve(Collection<String> names) {
+    if (names == null || names.isEmpty()) {
+      return List.of();
+    }
+
+    Map<String, String> requested = new LinkedHashMap<>();
+    for (String name : names) {
+      if (name != null && !name.isBlank()) {
+        requested.putIfAbsent(key(name), name.strip());
+      }
+    }
+
+    List<String> missing = new ArrayList<>();
+    requested.forEach((key, name) -> {
+      if (!entries.containsKey(key)) {
+        missing.add(name);
+      }
+    });
+    if (!missing.isEmpty()) {
+      insertMissing(missing);
+    }
+
+    // DB가 같다고 보는 이름들은 같은 항목으로 합침
+    Map<Long, Entry> result = new LinkedHashMap<>();
+    requested.forEach((key, name) -> {
+      Entry entry = entries.get(key);
+      if (entry == null) {
+        log.warn("[NameIdDictionary] {} 항목을 찾을 수 없어 제외: {}", table, name);
+        return;
+      }
+      result.putIfAbsent(entry.id(), entry);
+    });
+    return List.copyOf(result.values());
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  private void insertMissing(List<String> names) {
+    String placeholders = String.join(",", Collections.nCopies(names.size(), "(?)"));
+    // 요청한 이름마다 컬럼 콜레이션으로 같은 행을 찾음 (저장된 표기와 요청 표기가 달라도 연결)
+    String lookup = String.join(" union all ", Collections.nCopies(names.size(),
+        "select ? as requested, id, name from " + table + " where name = ?"));
+    Object[] lookupArgs = names.stream().flatMap(name -> Stream.of(name, name)).toArray();
+    requiresNew.executeWithoutResult(status -> {
+      jdbcTemplate.update("insert into " + table + " (name) values " + placeholders
+          + " on duplicate key update name = name", names.toArray());
+      jdbcTemplate.query(lookup,
+          rs -> {
+            Entry entry = put(rs.getLong("id"), rs.getString("name"));
+            entries.put(key(rs.getString("requested")), entry);
+          }, lookupArgs);
+    });
+    log.info("[NameIdDictionary] {} 항목 추가: {}", table, names);
+  }
+
+  private Entry put(Long id, String name) {
+    Entry entry = new Entry(id, name);
+    entries.put(key(name), entry);
+    return entry;
+  }
+
+  private static String key(String name) {
+    return name.strip().toLowerCase(Locale.ROOT);
+  }
+
+  public record Entry(Long id, String name) {
+
+  }
+}
@@ -0,0 +1,33 @@
+package com.roome.global.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// TwoTierCache의 L2 저장소 (기존 Redis 레포지토리를 감싸서 사용)
+public interface RemoteCacheStore<K, V> {
+
+  V read(K key);
+
+  // 여러 키 조회 (없는 키는 결과에서 제외)
+  default Map<K, V> readAll(List<K> keys) {
+    Map<K, V> result = new HashMap<>();
+    for (K key : keys) {
+      V value = read(key);
+      if (value != null) {
+        result.put(key, value);
+      }
+    }
+    return result;
+  }
+
+  void write(K key, V value, Duration ttl);
+
+  // 여러 건 저장 (가능하면 파이프라인 한 번으로 전송하도록 재정의)
+  default void writeAll(Map<K, V> values, Duration ttl) {
+    values.forEach((key, value) -> write(key, value, ttl));
+  }
+
+  void delete(K key);
+}
@@ -0,0 +1,322 @@
+package com.roome.global.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+// 노드 내 L1 + Redis L2 읽기 캐시
+// - 요청 빈도가 임계값 이상인 키만 저장 (한두 번 조회되는 키가 캐시를 밀어내지 않도록)
+// - 변경 시 버전을 올리고 L2 삭제 후 다른 노드에 L1 무효화 메시지 발행
+// - DB 조회로 채울 때는 조회 전 버전을 읽어 두고, 채운 뒤 버전이 바뀌었으면 채운 값을 지움
+//   (조회와 커밋 후 삭제가 겹쳐 오래된 값이 L2 TTL 동안 남지 않도록)
+// - Redis 장애 시 DB 조회로 동작 (버전을 읽지 못하면 채우지 않음)
+@Slf4j
+public class TwoTierCache<K, V> {
+
+  private final String name;
+  private final TwoTierCacheSettings<V> settings;
+  private final RemoteCacheStore<K, V> remote;
+  private final VersionedRedisCache versions;
+  private final Consumer<String> invalidationPublisher;
+  private final LongSupplier clock;
+  private final LocalCache<V> local;
+  private final FrequencySketch sketch;
+
+  private final AtomicLong localHits = new AtomicLong();
+  private final AtomicLong remoteHits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong remoteErrors = new AtomicLong();
+
+  TwoTierCache(String name, TwoTierCacheSettings<V> settings, RemoteCacheStore<K, V> remote,
+      VersionedRedisCache versions, Consumer<String> invalidationPublisher, LongSupplier clock) {
+    this.name = name;
+    this.settings = settings;
+    this.remote = remote;
+    this.versions = versions;
+    this.invalidationPublisher = invalidationPublisher;
+    this.clock = clock;
+    this.local = new LocalCache<>(settings.getLocalMaxWeightBytes());
+    this.sketch = new FrequencySketch(settings.getSketchWidth());
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public V get(K key, Function<K, V> loader) {
+    return get(key, loader, settings.getRemoteTtl());
+  }
+
+  // ttl: 키별 L2 만료 시간 (L1은 설정된 L1 만료 시간과 비교해 더 짧은 값 사용)
+  public V get(K key, Function<K, V> loader, Duration ttl) {
+    String localKey = String.valueOf(key);
+    int frequency = sketch.increment(localKey);
+
+    V value = local.get(localKey, clock.getAsLong());
+    if (value != null) {
+      localHits.incrementAndGet();
+      return value;
+    }
+
+    value = readRemote(key);
+    if (value != null) {
+      remoteHits.incrementAndGet();
+      admitLocal(localKey, value, frequency, ttl);
+      return value;
+    }
+
+    misses.incrementAndGet();
+    Long version = readVersion(key);
+    value = loader.apply(key);
+    if (value == null || version == null) {
+      return value;
+    }
+    boolean writtenRemote = frequency >= settings.getRemoteAdmissionFrequency();
+    if (writtenRemote) {
+      writeRemote(key, value, ttl);
+    }
+    if ((admitLocal(localKey, value, frequency, ttl) || writtenRemote)
+        && !version.equals(readVersion(key))) {
+      discard(key, writtenRemote);
+    }
+    return value;
+  }
+
+  // 여러 키 조회 (L1 -> L2 일괄 조회 -> 남은 키만 batchLoader 한 번 호출, 결과는 keys 순서 유지)
+  // batchLoader가 돌려주지 않은 키(삭제된 항목 등)는 결과에서 제외
+  public Map<K, V> getAll(List<K> keys, Function<List<K>, Map<K, V>> batchLoader) {
+    Map<K, V> result = new LinkedHashMap<>();
+    Map<K, Integer> frequencies = new LinkedHashMap<>();
+    List<K> localMisses = new ArrayList<>();
+    long now = clock.getAsLong();
+    for (K key : keys) {
+      String localKey = String.valueOf(key);
+      int frequency = sketch.increment(localKey);
+      V value = local.get(localKey, now);
+      result.put(key, value);
+      if (value != null) {
+        localHits.incrementAndGet();
+      } else {
+        frequencies.put(key, frequency);
+        localMisses.add(key);
+      }
+    }
+    if (localMisses.isEmpty()) {
+      return result;
+    }
+
+    Map<K, V> remoteValues = readAllRemote(localMisses);
+    List<K> remoteMisses = new ArrayList<>();
+    for (K key : localMisses) {
+      V value = remoteValues.get(key);
+      if (value == null) {
+        remoteMisses.add(key);
+        continue;
+      }
+      remoteHits.incrementAndGet();
+      admitLocal(String.valueOf(key), value, frequencies.get(key), settings.getRemoteTtl());
+      result.put(key, value);
+    }
+
+    if (!remoteMisses.isEmpty()) {
+      misses.addAndGet(remoteMisses.size());
+      List<Long> loadedVersions = readVersions(remoteMisses);
+      Map<K, V> loaded = batchLoader.apply(remoteMisses);
+      Map<K, V> remoteAdmitted = new LinkedHashMap<>();
+      Set<K> admitted = new HashSet<>();
+      for (K key : remoteMisses) {
+        V value = loaded.get(key);
+        if (value == null) {
+          continue;
+        }
+        result.put(key, value);
+        if (loadedVersions == null) {
+          continue;
+        }
+        int frequency = frequencies.get(key);
+        boolean writtenRemote = frequency >= settings.getRemoteAdmissionFrequency();
+        if (writtenRemote) {
+          remoteAdmitted.put(key, value);
+        }
+        if (admitLocal(String.valueOf(key), value, frequency, settings.getRemoteTtl())
+            || writtenRemote) {
+          admitted.add(key);
+        }
+      }
+      writeAllRemote(remoteAdmitted, settings.getRemoteTtl());
+      discardChanged(remoteMisses, loadedVersions, admitted, remoteAdmitted);
+    }
+
+    result.values().removeIf(Objects::isNull);
+    return result;
+  }
+
+  // 최근 요청이 잦은 키인지 (캐시 외의 인덱스 적재 여부 판단에 사용)
+  public boolean isHot(K key) {
+    return sketch.frequency(String.valueOf(key)) >= settings.getRemoteAdmissionFrequency();
+  }
+
+  // 변경된 값을 L2에 반영하고 모든 노드의 L1에서 제거
+  public void put(K key, V value) {
+    increaseVersion(key);
+    writeRemote(key, value, settings.getRemoteTtl());
+    invalidateLocal(key);
+  }
+
+  // 버전을 올리고 L2에서 삭제, 모든 노드의 L1에서 제거 (버전을 먼저 올려야 진행 중인 채우기가 삭제 뒤에 남지 않음)
+  public void evict(K key) {
+    increaseVersion(key);
+    deleteRemote(key);
+    invalidateLocal(key);
+  }
+
+  // 이 노드와 다른 노드의 L1에서만 제거 (L2는 호출 측에서 갱신)
+  public void invalidateLocal(K key) {
+    String localKey = String.valueOf(key);
+    local.remove(localKey);
+    invalidationPublisher.accept(localKey);
+  }
+
+  // 다른 노드의 무효화 메시지 처리
+  void onInvalidation(String localKey) {
+    local.remove(localKey);
+  }
+
+  void clearLocal() {
+    local.clear();
+  }
+
+  public CacheStats stats() {
+    return new CacheStats(name, localHits.get(), remoteHits.get(), misses.get(),
+        remoteErrors.get(), local.size(), local.weight(), local.evictions());
+  }
+
+  // L1에 저장했으면 true
+  private boolean admitLocal(String localKey, V value, int frequency, Duration ttl) {
+    if (frequency < settings.getLocalAdmissionFrequency()) {
+      return false;
+    }
+    Duration localTtl = ttl.compareTo(settings.getLocalTtl()) < 0 ? ttl : settings.getLocalTtl();
+    long weight = settings.getWeigher().applyAsLong(value);
+    local.put(localKey, value, weight, clock.getAsLong() + localTtl.toMillis());
+    return true;
+  }
+
+  // 조회 전 버전과 달라진 키는 채운 값을 지움 (버전을 다시 읽지 못해도 지움)
+  private void discardChanged(List<K> keys, List<Long> loadedVersions, Set<K> admitted,
+      Map<K, V> remoteAdmitted) {
+    if (admitted.isEmpty()) {
+      return;
+    }
+    List<Long> current = readVersions(keys);
+    for (int i = 0; i < keys.size(); i++) {
+      K key = keys.get(i);
+      if (!admitted.contains(key)) {
+        continue;
+      }
+      if (current == null || !current.get(i).equals(loadedVersions.get(i))) {
+        discard(key, remoteAdmitted.containsKey(key));
+      }
+    }
+  }
+
+  private void discard(K key, boolean remoteWritten) {
+    log.debug("[TwoTierCache] 조회 중 변경되어 채운 값 삭제: cache={}, key={}", name, key);
+    local.remove(String.valueOf(key));
+    if (remoteWritten) {
+      deleteRemote(key);
+    }
+  }
+
+  private String versionKey(K key) {
+    return "cache:" + name + ":" + key + ":version";
+  }
+
+  // 읽지 못하면 null (채우지 않음)
+  private Long readVersion(K key) {
+    List<Long> result = readVersions(List.of(key));
+    return result == null ? null : result.get(0);
+  }
+
+  private List<Long> readVersions(List<K> keys) {
+    try {
+      return versions.readVersions(keys.stream().map(this::versionKey).toList());
+    } catch (Exception e) {
+      remoteErrors.incrementAndGet();
+      log.warn("[TwoTierCache] 버전 조회 실패: cache={}, size={}, error={}", name, keys.size(),
+          e.getMessage());
+      return null;
+    }
+  }
+
+  private void increaseVersion(K key) {
+    try {
+      versions.increaseVersion(versionKey(key));
+    } catch (Exception e) {
+      remoteErrors.incrementAndGet();
+      log.warn("[TwoTierCache] 버전 증가 실패: cache={}, key={}, error={}", name, key, e.getMessage());
+    }
+  }
+
+  private void deleteRemote(K key) {
+    try {
+      remote.delete(key);
+    } catch (Exception e) {
+      remoteErrors.incrementAndGet();
+      log.warn("[TwoTierCache] L2 삭제 실패: cache={}, key={}, error={}", name, key, e.getMessage());
+    }
+  }
+
+  private V readRemote(K key) {
+    try {
+      return remote.read(key);
+    } catch (Exception e) {
+      remoteErrors.incrementAndGet();
+      log.warn("[TwoTierCache] L2 조회 실패: cache={}, key={}, error={}", name, key, e.getMessage());
+      return null;
+    }
+  }
+
+  private Map<K, V> readAllRemote(List<K> keys) {
+    try {
+      return remote.readAll(keys);
+    } catch (Exception e) {
+      remoteErrors.incrementAndGet();
+      log.warn("[TwoTierCache] L2 일괄 조회 실패: cache={}, size={}, error={}", name, keys.size(),
+          e.getMessage());
+      return Map.of();
+    }
+  }
+
+  private void writeAllRemote(Map<K, V> values, Duration ttl) {
+    if (values.isEmpty()) {
+      return;
+    }
+    try {
+      remote.writeAll(values, ttl);
+    } catch (Exception e) {
+      remoteErrors.incrementAndGet();
+      log.warn("[TwoTierCache] L2 일괄 저장 실패: cache={}, size={}, error={}", name, values.size(),
+          e.getMessage());
+    }
+  }
+
+  private void writeRemote(K key, V value, Duration ttl) {
+    try {
+      remote.write(key, value, ttl);
+    } catch (Exception e) {
+      remoteErrors.incrementAndGet();
+      log.warn("[TwoTierCache] L2 저장 실패: cache={}, key={}, error={}", name, key, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.roome.global.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// TwoTierCache 생성과 노드 간 L1 무효화 메시지 송수신, 캐시 통계 기록
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TwoTierCacheManager {
+
+  public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+  private static final String SEPARATOR = "|";
+  // 채우기 전후 버전 비교용 (조회 한 번보다 충분히 길면 됨)
+  private static final Duration VERSION_TTL = Duration.ofHours(1);
+
+  private final StringRedisTemplate redisTemplate;
+  private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+  private final Map<String, TwoTierCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+  public <K, V> TwoTierCache<K, V> create(String name, TwoTierCacheSettings<V> settings,
+      RemoteCacheStore<K, V> remote) {
+    TwoTierCache<K, V> cache = new TwoTierCache<>(name, settings, remote,
+        new VersionedRedisCache(binaryRedisTemplate, VERSION_TTL),
+        localKey -> publishInvalidation(name, localKey), System::currentTimeMillis);
+    if (caches.putIfAbsent(name, cache) != null) {
+      throw new IllegalStateException("이미 등록된 캐시 이름: " + name);
+    }
+    return cache;
+  }
+
+  public Map<String, CacheStats> stats() {
+    Map<String, CacheStats> result = new ConcurrentHashMap<>();
+    caches.forEach((name, cache) -> result.put(name, cache.stats()));
+    return result;
+  }
+
+  // 메시지 형식: {캐시 이름}|{키}
+  public void handleInvalidation(String message, String channel) {
+    int index = message.indexOf(SEPARATOR);
+    if (index < 0) {
+      return;
+    }
+    TwoTierCache<?, ?> cache = caches.get(message.substring(0, index));
+    if (cache != null) {
+      cache.onInvalidation(message.substring(index + 1));
+    }
+  }
+
+  // 구독이 끊겼다 다시 연결된 경우 등 무효화 메시지를 놓쳤을 수 있을 때 L1 전체 비움
+  public void clearLocal() {
+    caches.values().forEach(TwoTierCache::clearLocal);
+  }
+
+  @Scheduled(fixedRate = 300000) // 5분마다 노드별 통계 기록
+  public void logStats() {
+    for (TwoTierCache<?, ?> cache : caches.values()) {
+      CacheStats stats = cache.stats();
+      if (stats.requests() == 0) {
+        continue;
+      }
+      log.info("[TwoTierCache] {} 요청={}, L1 적중={}, L2 적중={}, 미스={}, 적중률={}, L1 항목={}, L1 크기={}B, "
+              + "L1 제거={}, L2 오류={}", stats.name(), stats.requests(), stats.localHits(),
+          stats.remoteHits(), stats.misses(), String.format("%.3f", stats.hitRatio()),
+          stats.localSize(), stats.localWeightBytes(), stats.localEvictions(),
+          stats.remoteErrors());
+    }
+  }
+
+  private void publishInvalidation(String name, String localKey) {
+    try {
+      redisTemplate.convertAndSend(INVALIDATION_CHANNEL, name + SEPARATOR + localKey);
+    } catch (Exception e) {
+      // 다른 노드는 L1 만료 시간 이후 갱신된 값을 읽게 됨
+      log.warn("[TwoTierCache] 무효화 메시지 발행 실패: cache={}, key={}, error={}", name, localKey,
+          e.getMessage());
+    }
+  }
+}
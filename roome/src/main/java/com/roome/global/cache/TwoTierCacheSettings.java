@@ -0,0 +1,65 @@
+package com.roome.global.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.ToLongFunction;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TwoTierCacheSettings<V> {
+
+  private static final long DEFAULT_ENTRY_WEIGHT = 1024;
+  private static final long OBJECT_OVERHEAD = 64;
+  private static final long FIELD_OVERHEAD = 16;
+
+  // L1 항목 크기 합 상한 (근사 바이트)
+  @Builder.Default
+  private final long localMaxWeightBytes = 8L * 1024 * 1024;
+
+  // L1은 다른 노드의 무효화 메시지를 놓칠 수 있으므로 L2보다 짧게 유지
+  @Builder.Default
+  private final Duration localTtl = Duration.ofSeconds(30);
+
+  @Builder.Default
+  private final Duration remoteTtl = Duration.ofHours(1);
+
+  // 최근 요청 빈도가 이 값 이상인 키만 L1/L2에 저장
+  @Builder.Default
+  private final int localAdmissionFrequency = 3;
+
+  @Builder.Default
+  private final int remoteAdmissionFrequency = 2;
+
+  // 빈도 스케치 폭 (대략 동시에 추적할 인기 키 수)
+  @Builder.Default
+  private final int sketchWidth = 4096;
+
+  // 항목 크기 추정 (L1 저장마다 호출되므로 직렬화하지 않고 계산, 기본: 항목당 고정 크기)
+  @Builder.Default
+  private final ToLongFunction<V> weigher = value -> DEFAULT_ENTRY_WEIGHT;
+
+  // 필드 값으로 근사한 항목 크기 (문자열은 UTF-16 2바이트, 컬렉션은 원소마다 합산)
+  public static long estimateWeight(Object... fields) {
+    long weight = OBJECT_OVERHEAD;
+    for (Object field : fields) {
+      weight += estimateFieldWeight(field);
+    }
+    return weight;
+  }
+
+  private static long estimateFieldWeight(Object field) {
+    if (field instanceof CharSequence text) {
+      return FIELD_OVERHEAD + 2L * text.length();
+    }
+    if (field instanceof Collection<?> values) {
+      long weight = FIELD_OVERHEAD;
+      for (Object value : values) {
+        weight += estimateFieldWeight(value);
+      }
+      return weight;
+    }
+    return FIELD_OVERHEAD;
+  }
+}
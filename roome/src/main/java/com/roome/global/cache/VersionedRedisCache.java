@@ -0,0 +1,140 @@
+package com.roome.global.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+// 버전 키로 보호하는 Redis 캐시 (조회 후 채우기가 그 사이의 쓰기를 덮어쓰지 않도록)
+// - 쓰기: 버전 키를 올린 뒤 캐시를 고침 (writeScript)
+// - 채우기: 조회 전에 읽은 버전과 현재 버전이 같을 때만 저장 (fillScript)
+//   스크립트를 쓰지 않는 저장소는 채운 뒤 버전을 다시 읽어 바뀌었으면 채운 값을 지움
+//   (쓰기 측이 버전을 올린 뒤 삭제하므로 어느 순서로 겹쳐도 오래된 값이 남지 않음)
+// - 커밋 후 증감하는 저장소는 커밋 전에 reserve로 채우기를 막고 증감 후 release
+//   (커밋과 증감 사이에 커밋된 값으로 채우면 증감이 한 번 더 더해지므로)
+// - 스크립트 규약: KEYS[1] 캐시 키, KEYS[2] 버전 키, KEYS[3] 채우기 금지 키,
+//   ARGV[1] 조회 전 버전(채우기) 또는 버전 TTL(쓰기), 나머지 ARGV는 스크립트마다 정의
+public class VersionedRedisCache {
+
+  private static final String VERSION_GUARD = """
+      if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+        return 0
+      end
+      if tonumber(redis.call('GET', KEYS[3]) or '0') > 0 then
+        return 0
+      end
+      """;
+  private static final String VERSION_INCREASE = """
+      redis.call('INCR', KEYS[2])
+      redis.call('EXPIRE', KEYS[2], ARGV[1])
+      """;
+
+  // KEYS[1]: 채우기 금지 키
+  private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+      if redis.call('DECR', KEYS[1]) <= 0 then
+        redis.call('DEL', KEYS[1])
+      end
+      return 1
+      """, Long.class);
+  // release하지 못한 채우기 금지는 이 시간 후 풀림
+  private static final Duration RESERVE_TTL = Duration.ofSeconds(30);
+
+  private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+  private final Duration versionTtl;
+
+  public VersionedRedisCache(RedisTemplate<String, byte[]> binaryRedisTemplate,
+      Duration versionTtl) {
+    this.binaryRedisTemplate = binaryRedisTemplate;
+    this.versionTtl = versionTtl;
+  }
+
+  // 버전이 같을 때만 body 실행 (body는 채웠으면 1 반환)
+  public static RedisScript<Long> fillScript(String body) {
+    return RedisScript.of(VERSION_GUARD + body, Long.class);
+  }
+
+  // 버전을 올린 뒤 body 실행
+  public static RedisScript<Long> writeScript(String body) {
+    return RedisScript.of(VERSION_INCREASE + body, Long.class);
+  }
+
+  public long readVersion(String versionKey) {
+    byte[] version = binaryRedisTemplate.opsForValue().get(versionKey);
+    return version == null ? 0L : Long.parseLong(new String(version, StandardCharsets.UTF_8));
+  }
+
+  // 채웠으면 true (버전이 바뀌었거나 스크립트가 건너뛰면 false)
+  public boolean fill(RedisScript<Long> script, String key, String versionKey, long version,
+      List<byte[]> args) {
+    return execute(script, key, versionKey, Long.toString(version), args);
+  }
+
+  public boolean write(RedisScript<Long> script, String key, String versionKey,
+      List<byte[]> args) {
+    return execute(script, key, versionKey, Long.toString(versionTtl.toSeconds()), args);
+  }
+
+  // 커밋 전에 호출하여 release까지 채우기를 막음 (트랜잭션이 겹치면 모두 release될 때까지)
+  public void reserve(String versionKey) {
+    byte[] rawReserveKey = reserveKey(versionKey).getBytes(StandardCharsets.UTF_8);
+    binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      connection.stringCommands().incr(rawReserveKey);
+      connection.keyCommands().expire(rawReserveKey, RESERVE_TTL.toSeconds());
+      return null;
+    });
+  }
+
+  public void release(String versionKey) {
+    binaryRedisTemplate.execute(RELEASE_SCRIPT, List.of(reserveKey(versionKey)));
+  }
+
+  // 여러 버전 키를 한 번에 조회 (versionKeys 순서, 없는 키는 0)
+  public List<Long> readVersions(List<String> versionKeys) {
+    List<byte[]> versions = binaryRedisTemplate.opsForValue().multiGet(versionKeys);
+    List<Long> result = new ArrayList<>(versionKeys.size());
+    for (int i = 0; i < versionKeys.size(); i++) {
+      byte[] version = versions == null ? null : versions.get(i);
+      result.add(version == null ? 0L : Long.parseLong(new String(version, StandardCharsets.UTF_8)));
+    }
+    return result;
+  }
+
+  // 버전만 올림 (캐시 저장 형식이 스크립트로 다루기 어려운 저장소는 채운 뒤 버전을 다시 확인)
+  public void increaseVersion(String versionKey) {
+    byte[] rawVersionKey = versionKey.getBytes(StandardCharsets.UTF_8);
+    binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      connection.stringCommands().incr(rawVersionKey);
+      connection.keyCommands().expire(rawVersionKey, versionTtl.toSeconds());
+      return null;
+    });
+  }
+
+  // 버전을 올리고 캐시 삭제 (다음 조회에서 다시 채움)
+  public void evict(String key, String versionKey) {
+    byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+    byte[] rawVersionKey = versionKey.getBytes(StandardCharsets.UTF_8);
+    binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      connection.stringCommands().incr(rawVersionKey);
+      connection.keyCommands().expire(rawVersionKey, versionTtl.toSeconds());
+      connection.keyCommands().del(rawKey);
+      return null;
+    });
+  }
+
+  private boolean execute(RedisScript<Long> script, String key, String versionKey, String first,
+      List<byte[]> args) {
+    List<byte[]> argv = new ArrayList<>(args.size() + 1);
+    argv.add(first.getBytes(StandardCharsets.UTF_8));
+    argv.addAll(args);
+    Long result = binaryRedisTemplate.execute(script,
+        List.of(key, versionKey, reserveKey(versionKey)), argv.toArray());
+    return result != null && result == 1L;
+  }
+
+  private static String reserveKey(String versionKey) {
+    return versionKey + ":reserved";
+  }
+}
@@ -1,6 +1,7 @@
 package com.roome.global.config;
 
 import com.roome.domain.recommendedUser.service.RecommendedUserService;
+import com.roome.global.scheduler.SchedulerLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +20,7 @@ public class BatchSchedulerConfig {
     /// 현재는 임시적으로 30분 처리.
     /// cron = "초 분 시 일 월 요일"
     @Scheduled(cron = "0 0/30 * * * ?")
+    @SchedulerLock(name = "user-recommendation-update", minIntervalSeconds = 600)
     public void updateAllUserRecommendations() {
         log.info("Starting scheduled batch job: updating all user recommendations");
         try {
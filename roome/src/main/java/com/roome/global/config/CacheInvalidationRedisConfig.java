@@ -0,0 +1,48 @@
+package com.roome.global.config;
+
+import com.roome.global.cache.TwoTierCacheManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class CacheInvalidationRedisConfig {
+
+  private final TwoTierCacheManager twoTierCacheManager;
+
+  @Bean
+  public MessageListenerAdapter cacheInvalidationMessageListener() {
+    MessageListenerAdapter adapter = new MessageListenerAdapter(twoTierCacheManager,
+        "handleInvalidation");
+    adapter.setSerializer(new StringRedisSerializer());
+    return adapter;
+  }
+
+  @Bean
+  public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+      RedisConnectionFactory connectionFactory,
+      MessageListenerAdapter cacheInvalidationMessageListener) {
+
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+
+    container.addMessageListener(cacheInvalidationMessageListener,
+        new ChannelTopic(TwoTierCacheManager.INVALIDATION_CHANNEL));
+    // 리스너 오류 중 놓친 무효화 메시지가 있을 수 있으므로 L1 전체 비움
+    container.setErrorHandler(e -> {
+      log.warn("캐시 무효화 구독 오류, L1 캐시 초기화: {}", e.getMessage());
+      twoTierCacheManager.clearLocal();
+    });
+
+    log.info("Redis 캐시 무효화 구독 설정 완료: {} 채널", TwoTierCacheManager.INVALIDATION_CHANNEL);
+    return container;
+  }
+}
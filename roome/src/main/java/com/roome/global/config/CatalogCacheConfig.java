@@ -0,0 +1,38 @@
+package com.roome.global.config;
+
+import com.roome.domain.book.entity.Book;
+import com.roome.domain.cd.entity.Cd;
+import com.roome.global.cache.CatalogCache;
+import com.roome.global.service.RedisLockService;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class CatalogCacheConfig {
+
+  private static final int MAX_ENTRIES = 20_000;
+  private static final Duration TTL = Duration.ofHours(1);
+  private static final Duration NEGATIVE_TTL = Duration.ofSeconds(30);
+
+  // 생성 중인 요청은 커넥션을 두 개 사용하므로 풀 크기(기본 10)보다 충분히 작게
+  @Value("${catalog.max-concurrent-creates:2}")
+  private int maxConcurrentCreates;
+
+  @Bean
+  public CatalogCache<Book> bookCatalogCache(RedisLockService redisLockService,
+      PlatformTransactionManager transactionManager, EntityManager entityManager) {
+    return new CatalogCache<>("book", redisLockService, transactionManager,
+        entityManager::detach, maxConcurrentCreates, MAX_ENTRIES, TTL, NEGATIVE_TTL);
+  }
+
+  @Bean
+  public CatalogCache<Cd> cdCatalogCache(RedisLockService redisLockService,
+      PlatformTransactionManager transactionManager, EntityManager entityManager) {
+    return new CatalogCache<>("cd", redisLockService, transactionManager,
+        entityManager::detach, maxConcurrentCreates, MAX_ENTRIES, TTL, NEGATIVE_TTL);
+  }
+}
@@ -0,0 +1,23 @@
+package com.roome.global.config;
+
+import com.roome.global.cache.NameIdDictionary;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class GenreDictionaryConfig {
+
+  @Bean
+  public NameIdDictionary genreDictionary(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager) {
+    return new NameIdDictionary("genre", jdbcTemplate, transactionManager);
+  }
+
+  @Bean
+  public NameIdDictionary cdGenreTypeDictionary(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager) {
+    return new NameIdDictionary("cd_genre_type", jdbcTemplate, transactionManager);
+  }
+}
@@ -1,12 +1,11 @@
 package com.roome.global.config;
 
-import com.fasterxml.jackson.annotation.JsonAutoDetect;
-import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.roome.domain.mycd.dto.MyCdListResponse;
 import com.roome.domain.mycd.dto.MyCdResponse;
+import com.roome.global.dataserializer.CompactCodec;
 import jakarta.annotation.PreDestroy;
 import java.time.Duration;
 import lombok.extern.slf4j.Slf4j;
@@ -26,8 +25,8 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @EnableCaching
@@ -116,19 +115,29 @@ public class RedisConfig {
     RedisTemplate<String, MyCdResponse> template = new RedisTemplate<>();
     template.setConnectionFactory(connectionFactory);
 
-    // ObjectMapper 생성 및 JavaTimeModule 등록 (LocalDate 직렬화 문제 해결)
-    ObjectMapper objectMapper = new ObjectMapper();
-    objectMapper.registerModule(new JavaTimeModule()); // LocalDate 지원
-    objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-    // ObjectMapper를 적용한 Jackson2JsonRedisSerializer 생성
-    Jackson2JsonRedisSerializer<MyCdResponse> serializer = new Jackson2JsonRedisSerializer<>(
-        objectMapper, MyCdResponse.class);
+    // 바이너리 코덱 (이전 JSON 값도 읽기 가능)
+    CompactCodec<MyCdResponse> codec = CompactCodec.of(MyCdResponse.class, 1);
 
     template.setKeySerializer(new StringRedisSerializer()); // Key: String
-    template.setValueSerializer(serializer); // Value: JSON 직렬화
+    template.setValueSerializer(codec);
     template.setHashKeySerializer(new StringRedisSerializer());
-    template.setHashValueSerializer(serializer);
+    template.setHashValueSerializer(codec);
+
+    template.afterPropertiesSet();
+    return template;
+  }
+
+  // 캐시 모델 전용 RedisTemplate (값 직렬화는 각 저장소의 CompactCodec이 담당)
+  @Bean("binaryRedisTemplate")
+  public RedisTemplate<String, byte[]> binaryRedisTemplate(
+      RedisConnectionFactory connectionFactory) {
+    RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+    template.setConnectionFactory(connectionFactory);
+
+    template.setKeySerializer(new StringRedisSerializer());
+    template.setValueSerializer(RedisSerializer.byteArray());
+    template.setHashKeySerializer(new StringRedisSerializer());
+    template.setHashValueSerializer(RedisSerializer.byteArray());
 
     template.afterPropertiesSet();
     return template;
@@ -136,14 +145,7 @@ public class RedisConfig {
 
   @Bean
   public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-    ObjectMapper objectMapper = new ObjectMapper();
-    objectMapper.registerModule(new JavaTimeModule());  // LocalDate 변환 지원
-    objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-    objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
-
-    // setObjectMapper 대신 생성자에서 설정
-    Jackson2JsonRedisSerializer<MyCdListResponse> serializer =
-        new Jackson2JsonRedisSerializer<>(objectMapper, MyCdListResponse.class);
+    CompactCodec<MyCdListResponse> serializer = CompactCodec.of(MyCdListResponse.class, 1);
 
     RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
         .entryTtl(Duration.ofHours(1)) // 1시간 캐싱 유지
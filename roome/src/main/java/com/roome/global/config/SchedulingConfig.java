@@ -0,0 +1,46 @@
+package com.roome.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+// @Scheduled 작업용 스케줄러 설정 (웹소켓 하트비트 스케줄러와 분리)
+// - 기본: 배치/집계 작업 (랭킹 재집계, 장르 분포 재구성, 추천 갱신 등)
+// - flushTaskScheduler: 짧은 주기의 버퍼 flush 전용, 오래 걸리는 작업이 점수/활동/방문 반영을 막지 않도록 분리
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+  public static final String FLUSH_TASK_SCHEDULER = "flushTaskScheduler";
+
+  @Value("${scheduling.pool-size:4}")
+  private int poolSize;
+
+  @Override
+  public void configureTasks(ScheduledTaskRegistrar registrar) {
+    registrar.setTaskScheduler(scheduledTaskScheduler());
+  }
+
+  @Bean(name = "scheduledTaskScheduler")
+  public ThreadPoolTaskScheduler scheduledTaskScheduler() {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(poolSize);
+    scheduler.setThreadNamePrefix("scheduled-");
+    scheduler.setWaitForTasksToCompleteOnShutdown(true);
+    scheduler.setAwaitTerminationSeconds(30);
+    return scheduler;
+  }
+
+  // 버퍼마다 스레드 하나 (ScoreUpdateBuffer, UserActivityWriter, RoomVisitIngestor)
+  @Bean(name = FLUSH_TASK_SCHEDULER)
+  public ThreadPoolTaskScheduler flushTaskScheduler() {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(3);
+    scheduler.setThreadNamePrefix("buffer-flush-");
+    scheduler.setWaitForTasksToCompleteOnShutdown(true);
+    scheduler.setAwaitTerminationSeconds(10);
+    return scheduler;
+  }
+}
@@ -0,0 +1,165 @@
+package com.roome.global.dataserializer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+// Redis 캐시 값 바이너리 코덱
+// 형식: [매직 1바이트][스키마 버전 1바이트][플래그 1바이트]([원본 길이 4바이트])[본문]
+// - 본문은 Smile(바이너리 JSON, 반복되는 필드명/문자열은 역참조), 임계값 이상이면 Deflater(BEST_SPEED)로 압축
+// - 스키마 버전이 다르거나 해석할 수 없는 값은 null (캐시 미스로 처리되어 다시 채움)
+// - 이전 JSON 값('{'로 시작)도 읽을 수 있어 전환 중에도 기존 캐시를 그대로 사용
+@Slf4j
+public class CompactCodec<T> implements RedisSerializer<T> {
+
+  static final byte MAGIC = (byte) 0xC5;
+  static final byte FLAG_COMPRESSED = 0x01;
+  static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+  private static final int HEADER_SIZE = 3;
+  private static final int LENGTH_SIZE = 4;
+  private static final byte[] EMPTY = new byte[0];
+
+  private static final ObjectMapper smileMapper = new ObjectMapper(SmileFactory.builder()
+      .disable(SmileGenerator.Feature.WRITE_HEADER)
+      .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+      .disable(SmileParser.Feature.REQUIRE_HEADER)
+      .build())
+      .registerModule(new JavaTimeModule())
+      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  private static final ObjectMapper jsonMapper = new ObjectMapper()
+      .registerModule(new JavaTimeModule())
+      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  private final Class<T> type;
+  private final byte schemaVersion;
+  private final int compressionThreshold;
+
+  private CompactCodec(Class<T> type, int schemaVersion, int compressionThreshold) {
+    if (schemaVersion < 0 || schemaVersion > Byte.MAX_VALUE) {
+      throw new IllegalArgumentException("schemaVersion은 0~127 사이여야 합니다: " + schemaVersion);
+    }
+    this.type = type;
+    this.schemaVersion = (byte) schemaVersion;
+    this.compressionThreshold = compressionThreshold;
+  }
+
+  // 모델 필드 구성이 호환되지 않게 바뀌면 schemaVersion을 올려 이전 값을 미스로 처리
+  public static <T> CompactCodec<T> of(Class<T> type, int schemaVersion) {
+    return new CompactCodec<>(type, schemaVersion, DEFAULT_COMPRESSION_THRESHOLD);
+  }
+
+  public static <T> CompactCodec<T> of(Class<T> type, int schemaVersion, int compressionThreshold) {
+    return new CompactCodec<>(type, schemaVersion, compressionThreshold);
+  }
+
+  @Override
+  public byte[] serialize(T value) {
+    if (value == null) {
+      return EMPTY;
+    }
+    try {
+      byte[] body = smileMapper.writeValueAsBytes(value);
+      if (body.length >= compressionThreshold) {
+        byte[] compressed = deflate(body);
+        if (compressed.length + LENGTH_SIZE < body.length) {
+          return ByteBuffer.allocate(HEADER_SIZE + LENGTH_SIZE + compressed.length)
+              .put(MAGIC).put(schemaVersion).put(FLAG_COMPRESSED)
+              .putInt(body.length)
+              .put(compressed)
+              .array();
+        }
+      }
+      return ByteBuffer.allocate(HEADER_SIZE + body.length)
+          .put(MAGIC).put(schemaVersion).put((byte) 0)
+          .put(body)
+          .array();
+    } catch (Exception e) {
+      log.error("[CompactCodec.serialize] type={}", type.getSimpleName(), e);
+      return EMPTY;
+    }
+  }
+
+  @Override
+  public T deserialize(byte[] bytes) {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+    try {
+      if (bytes[0] == '{') {
+        return jsonMapper.readValue(bytes, type);
+      }
+      if (bytes.length < HEADER_SIZE || bytes[0] != MAGIC) {
+        log.warn("[CompactCodec.deserialize] 알 수 없는 형식: type={}", type.getSimpleName());
+        return null;
+      }
+      if (bytes[1] != schemaVersion) {
+        return null;
+      }
+      if ((bytes[2] & FLAG_COMPRESSED) == 0) {
+        return smileMapper.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, type);
+      }
+      int length = ByteBuffer.wrap(bytes, HEADER_SIZE, LENGTH_SIZE).getInt();
+      byte[] body = inflate(bytes, HEADER_SIZE + LENGTH_SIZE, length);
+      return smileMapper.readValue(body, type);
+    } catch (Exception e) {
+      log.warn("[CompactCodec.deserialize] type={}, error={}", type.getSimpleName(), e.getMessage());
+      return null;
+    }
+  }
+
+  @Override
+  public Class<?> getTargetType() {
+    return type;
+  }
+
+  private static byte[] deflate(byte[] body) {
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+    try {
+      deflater.setInput(body);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2);
+      byte[] buffer = new byte[1024];
+      while (!deflater.finished()) {
+        out.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private static byte[] inflate(byte[] bytes, int offset, int length) throws DataFormatException {
+    Inflater inflater = new Inflater(true);
+    try {
+      inflater.setInput(bytes, offset, bytes.length - offset);
+      byte[] body = new byte[length];
+      int read = 0;
+      while (read < length && !inflater.finished()) {
+        int count = inflater.inflate(body, read, length - read);
+        if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+        read += count;
+      }
+      if (read != length) {
+        throw new DataFormatException("압축 해제 길이 불일치: " + read + "/" + length);
+      }
+      return read == body.length ? body : Arrays.copyOf(body, read);
+    } finally {
+      inflater.end();
+    }
+  }
+}
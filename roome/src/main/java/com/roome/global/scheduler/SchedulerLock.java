@@ -0,0 +1,21 @@
+package com.roome.global.scheduler;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 여러 노드 중 한 곳에서만 실행되어야 하는 @Scheduled 작업에 적용
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SchedulerLock {
+
+  // 작업 이름 (락 키와 실행 기록 키에 사용)
+  String name();
+
+  // 마지막 실행 시작 후 이 시간(초)이 지나기 전에는 다른 노드에서도 다시 실행하지 않음
+  // 노드 간 시계 차이로 같은 주기의 작업이 두 번 실행되는 것을 방지
+  long minIntervalSeconds() default 0;
+}
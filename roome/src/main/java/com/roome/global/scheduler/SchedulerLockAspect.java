@@ -0,0 +1,113 @@
+package com.roome.global.scheduler;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.redisson.api.RLock;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// @SchedulerLock 작업을 클러스터에서 한 노드만 실행하도록 제어하고 마지막 실행 정보를 기록
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE) // 트랜잭션보다 바깥에서 실행 여부 결정
+@RequiredArgsConstructor
+public class SchedulerLockAspect {
+
+  static final String LOCK_KEY_PREFIX = "scheduler:lock:";
+  static final String JOB_KEY_PREFIX = "scheduler:job:";
+
+  static final String FIELD_STARTED_AT = "lastStartedAt";
+  static final String FIELD_FINISHED_AT = "lastFinishedAt";
+  static final String FIELD_DURATION_MS = "lastDurationMs";
+  static final String FIELD_STATUS = "lastStatus";
+  static final String FIELD_NODE = "lastNode";
+  static final String FIELD_ERROR = "lastError";
+
+  // pid@hostname
+  private static final String NODE_ID = ManagementFactory.getRuntimeMXBean().getName();
+
+  private final RedissonClient redissonClient;
+
+  @Around("@annotation(schedulerLock)")
+  public Object runOnSingleNode(ProceedingJoinPoint joinPoint, SchedulerLock schedulerLock)
+      throws Throwable {
+    String name = schedulerLock.name();
+    RLock lock = redissonClient.getLock(LOCK_KEY_PREFIX + name);
+
+    // 대기 없이 시도하여 다른 노드에서 실행 중이거나 이전 실행이 끝나지 않았으면 건너뜀
+    // leaseTime을 지정하지 않으므로 실행 중에는 watchdog이 임대를 연장하고, 노드가 죽으면 만료됨
+    boolean acquired;
+    try {
+      acquired = lock.tryLock(0, TimeUnit.MILLISECONDS);
+    } catch (Exception e) {
+      log.warn("스케줄 작업 락 획득 실패, 이번 실행 건너뜀: job={}, error={}", name, e.getMessage());
+      return null;
+    }
+    if (!acquired) {
+      log.debug("다른 노드에서 실행 중인 스케줄 작업 건너뜀: job={}", name);
+      return null;
+    }
+
+    try {
+      RMap<String, String> job = redissonClient.getMap(JOB_KEY_PREFIX + name, StringCodec.INSTANCE);
+      long startedAt = System.currentTimeMillis();
+      if (ranRecently(job, schedulerLock.minIntervalSeconds(), startedAt)) {
+        log.debug("최근 실행된 스케줄 작업 건너뜀: job={}", name);
+        return null;
+      }
+
+      job.putAll(Map.of(
+          FIELD_STARTED_AT, String.valueOf(startedAt),
+          FIELD_NODE, NODE_ID,
+          FIELD_STATUS, "RUNNING"));
+      try {
+        Object result = joinPoint.proceed();
+        recordFinish(job, name, startedAt, "SUCCESS", "");
+        return result;
+      } catch (Throwable e) {
+        recordFinish(job, name, startedAt, "FAILED", String.valueOf(e.getMessage()));
+        throw e;
+      }
+    } finally {
+      if (lock.isHeldByCurrentThread()) {
+        lock.unlock();
+      }
+    }
+  }
+
+  private boolean ranRecently(RMap<String, String> job, long minIntervalSeconds, long now) {
+    if (minIntervalSeconds <= 0) {
+      return false;
+    }
+    String lastStartedAt = job.get(FIELD_STARTED_AT);
+    return lastStartedAt != null
+        && now - Long.parseLong(lastStartedAt) < TimeUnit.SECONDS.toMillis(minIntervalSeconds);
+  }
+
+  private void recordFinish(RMap<String, String> job, String name, long startedAt, String status,
+      String error) {
+    long finishedAt = System.currentTimeMillis();
+    try {
+      job.putAll(Map.of(
+          FIELD_FINISHED_AT, String.valueOf(finishedAt),
+          FIELD_DURATION_MS, String.valueOf(finishedAt - startedAt),
+          FIELD_STATUS, status,
+          FIELD_ERROR, error));
+      log.info("스케줄 작업 완료: job={}, status={}, node={}, {}ms", name, status, NODE_ID,
+          finishedAt - startedAt);
+    } catch (Exception e) {
+      log.warn("스케줄 작업 실행 기록 실패: job={}, error={}", name, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package com.roome.global.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 검색 색인용 n-gram 추출
+// - 공백 제거, 소문자, NFC 정규화 후 1-gram/2-gram (한글은 음절 단위)
+// - 한글 음절은 초성 gram도 함께 색인하여 "ㅇㅇ" 같은 초성 검색 지원
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class NgramTokenizer {
+
+  static final String CHOSEONG_PREFIX = "c:";
+
+  private static final char HANGUL_BASE = '가';
+  private static final char HANGUL_LAST = '힣';
+  private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+  private static final char COMPAT_CONSONANT_FIRST = 'ㄱ';
+  private static final char COMPAT_CONSONANT_LAST = 'ㅎ';
+  private static final char BREAK = ' ';
+  private static final char[] CHOSEONG = {
+      'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+      'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+  };
+
+  public static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    StringBuilder builder = new StringBuilder(normalized.length());
+    for (int i = 0; i < normalized.length(); i++) {
+      char c = normalized.charAt(i);
+      if (!Character.isWhitespace(c)) {
+        builder.append(c);
+      }
+    }
+    return builder.toString();
+  }
+
+  // 검색어가 초성(ㄱ~ㅎ)으로만 이루어졌는지
+  public static boolean isChoseongQuery(String normalizedKeyword) {
+    if (normalizedKeyword.isEmpty()) {
+      return false;
+    }
+    for (int i = 0; i < normalizedKeyword.length(); i++) {
+      if (!isCompatConsonant(normalizedKeyword.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // 한글 음절은 초성으로, 초성 문자는 그대로, 나머지는 구분자로 변환
+  public static String toChoseong(String normalized) {
+    StringBuilder builder = new StringBuilder(normalized.length());
+    for (int i = 0; i < normalized.length(); i++) {
+      char c = normalized.charAt(i);
+      if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+        builder.append(CHOSEONG[(c - HANGUL_BASE) / SYLLABLES_PER_CHOSEONG]);
+      } else if (isCompatConsonant(c)) {
+        builder.append(c);
+      } else {
+        builder.append(BREAK);
+      }
+    }
+    return builder.toString();
+  }
+
+  // 문서의 각 필드(정규화된 값)에서 색인할 gram (필드 경계를 넘는 gram은 만들지 않음)
+  public static Set<String> documentGrams(List<String> normalizedFields) {
+    Set<String> grams = new LinkedHashSet<>();
+    for (String field : normalizedFields) {
+      addGrams(grams, field, "");
+      String choseong = toChoseong(field);
+      for (String run : choseong.split(String.valueOf(BREAK))) {
+        addGrams(grams, run, CHOSEONG_PREFIX);
+      }
+    }
+    return grams;
+  }
+
+  // 검색어 gram (한 글자면 1-gram, 그 외 2-gram)
+  public static Set<String> queryGrams(String normalizedKeyword) {
+    String prefix = isChoseongQuery(normalizedKeyword) ? CHOSEONG_PREFIX : "";
+    Set<String> grams = new LinkedHashSet<>();
+    if (normalizedKeyword.length() == 1) {
+      grams.add(prefix + normalizedKeyword);
+      return grams;
+    }
+    for (int i = 0; i + 1 < normalizedKeyword.length(); i++) {
+      grams.add(prefix + normalizedKeyword.substring(i, i + 2));
+    }
+    return grams;
+  }
+
+  // 후보 문서가 실제로 검색어를 포함하는지 확인 (gram 교집합은 포함 여부를 보장하지 않음)
+  public static boolean matches(List<String> normalizedFields, String normalizedKeyword) {
+    boolean choseong = isChoseongQuery(normalizedKeyword);
+    for (String field : normalizedFields) {
+      String target = choseong ? toChoseong(field) : field;
+      if (target.contains(normalizedKeyword)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void addGrams(Set<String> grams, String text, String prefix) {
+    for (int i = 0; i < text.length(); i++) {
+      grams.add(prefix + text.charAt(i));
+      if (i + 1 < text.length()) {
+        grams.add(prefix + text.substring(i, i + 2));
+      }
+    }
+  }
+
+  private static boolean isCompatConsonant(char c) {
+    return c >= COMPAT_CONSONANT_FIRST && c <= COMPAT_CONSONANT_LAST;
+  }
+}
@@ -0,0 +1,14 @@
+package com.roome.global.search;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 검색 색인 대상 (id와 검색할 필드 값)
+public record SearchDocument(Long id, List<String> fields) {
+
+  public static SearchDocument of(Long id, String... fields) {
+    return new SearchDocument(id, Arrays.stream(fields)
+        .map(NgramTokenizer::normalize)
+        .toList());
+  }
+}
@@ -0,0 +1,280 @@
+package com.roome.global.search;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+// 사용자별 n-gram 역색인 (Redis)
+// - gram마다 문서 ID ZSET(score = ID), 문서 원문은 HASH에 보관하여 후보 검증
+// - 색인은 버전 단위로 만들고 완료 후 버전 포인터를 교체 (포인터가 없으면 DB에서 재구성)
+// - 재구성 중에도 추가/삭제가 빠지지 않도록 재구성 중인 버전에도 함께 반영
+// - 색인을 쓸 수 없으면 원본 문서를 같은 규칙(공백 무시, 초성 검색)으로 검사 (scan)
+@Slf4j
+public class SearchIndex {
+
+  private static final String KEY_PREFIX = "search:";
+  private static final String FIELD_SEPARATOR = "\n";
+  // 버전 포인터가 데이터보다 먼저 만료되어야 만료된 gram 키를 읽지 않음
+  private static final Duration READY_TTL = Duration.ofDays(1);
+  private static final Duration DATA_TTL = Duration.ofDays(2);
+  private static final Duration BUILD_TTL = Duration.ofSeconds(30);
+  private static final int BUILD_CHUNK_SIZE = 500;
+  private static final int MIN_SCAN_BATCH = 20;
+
+  private final String name;
+  private final StringRedisTemplate redisTemplate;
+  private final boolean descending;
+
+  // descending: 커서보다 작은 ID를 큰 순서로 (false면 커서보다 큰 ID를 작은 순서로)
+  public SearchIndex(String name, StringRedisTemplate redisTemplate, boolean descending) {
+    this.name = name;
+    this.redisTemplate = redisTemplate;
+    this.descending = descending;
+  }
+
+  // 검색 결과 ID 목록, 색인을 사용할 수 없으면 empty (호출 측에서 scan으로 대체)
+  public Optional<List<Long>> search(Long ownerId, String keyword, Long cursor, int limit,
+      Function<Long, Stream<SearchDocument>> source) {
+    String normalizedKeyword = NgramTokenizer.normalize(keyword);
+    if (normalizedKeyword.isEmpty()) {
+      return Optional.empty();
+    }
+    try {
+      String version = redisTemplate.opsForValue().get(readyKey(ownerId));
+      if (version == null) {
+        version = build(ownerId, source);
+      }
+      if (version == null) {
+        return Optional.empty();
+      }
+      return Optional.of(find(ownerId, version, normalizedKeyword, cursor, limit));
+    } catch (Exception e) {
+      log.warn("[SearchIndex] 검색 색인 조회 실패, DB 검색으로 대체: index={}, ownerId={}, error={}",
+          name, ownerId, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  // 색인 없이 원본 문서를 하나씩 검사 (재구성 중이거나 Redis 장애 시에도 색인 검색과 같은 결과)
+  // 사용자 한 명의 보관 목록만 읽으므로 문서 수는 보관 용량으로 제한됨
+  public List<Long> scan(Long ownerId, String keyword, Long cursor, int limit,
+      Function<Long, Stream<SearchDocument>> source) {
+    String normalizedKeyword = NgramTokenizer.normalize(keyword);
+    if (normalizedKeyword.isEmpty()) {
+      return List.of();
+    }
+    Comparator<Long> order = descending ? Comparator.reverseOrder() : Comparator.naturalOrder();
+    try (Stream<SearchDocument> documents = source.apply(ownerId)) {
+      return documents
+          .filter(document -> cursor == null || order.compare(document.id(), cursor) > 0)
+          .filter(document -> NgramTokenizer.matches(document.fields(), normalizedKeyword))
+          .map(SearchDocument::id)
+          .sorted(order)
+          .limit(limit)
+          .toList();
+    }
+  }
+
+  public void add(Long ownerId, SearchDocument document) {
+    try {
+      for (String version : activeVersions(ownerId)) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+          writeDocument((StringRedisConnection) connection, ownerId, version, document);
+          return null;
+        });
+      }
+    } catch (Exception e) {
+      log.warn("[SearchIndex] 색인 추가 실패: index={}, ownerId={}, id={}, error={}", name, ownerId,
+          document.id(), e.getMessage());
+      invalidate(ownerId);
+    }
+  }
+
+  public void remove(Long ownerId, List<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    try {
+      List<Object> fields = ids.stream().map(String::valueOf).map(Object.class::cast).toList();
+      for (String version : activeVersions(ownerId)) {
+        String docsKey = docsKey(ownerId, version);
+        List<Object> texts = redisTemplate.opsForHash().multiGet(docsKey, fields);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+          StringRedisConnection stringConnection = (StringRedisConnection) connection;
+          for (int i = 0; i < ids.size(); i++) {
+            Object text = texts.get(i);
+            if (text == null) {
+              continue;
+            }
+            String id = String.valueOf(ids.get(i));
+            for (String gram : NgramTokenizer.documentGrams(splitFields(text))) {
+              stringConnection.zRem(gramKey(ownerId, version, gram), id);
+            }
+            stringConnection.hDel(docsKey, id);
+          }
+          return null;
+        });
+      }
+    } catch (Exception e) {
+      log.warn("[SearchIndex] 색인 삭제 실패: index={}, ownerId={}, ids={}, error={}", name, ownerId,
+          ids, e.getMessage());
+      invalidate(ownerId);
+    }
+  }
+
+  // 다음 검색 시 DB에서 다시 구성
+  public void invalidate(Long ownerId) {
+    try {
+      redisTemplate.delete(readyKey(ownerId));
+    } catch (Exception e) {
+      log.warn("[SearchIndex] 색인 무효화 실패: index={}, ownerId={}, error={}", name, ownerId,
+          e.getMessage());
+    }
+  }
+
+  private List<Long> find(Long ownerId, String version, String normalizedKeyword, Long cursor,
+      int limit) {
+    // 가장 작은 gram 집합을 후보로 사용하고 원문으로 포함 여부 확인
+    List<String> gramKeys = NgramTokenizer.queryGrams(normalizedKeyword).stream()
+        .map(gram -> gramKey(ownerId, version, gram))
+        .toList();
+    List<Object> sizes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      StringRedisConnection stringConnection = (StringRedisConnection) connection;
+      gramKeys.forEach(stringConnection::zCard);
+      return null;
+    });
+    String candidateKey = null;
+    long candidateSize = Long.MAX_VALUE;
+    for (int i = 0; i < gramKeys.size(); i++) {
+      long size = sizes.get(i) == null ? 0 : ((Number) sizes.get(i)).longValue();
+      if (size == 0) {
+        return List.of();
+      }
+      if (size < candidateSize) {
+        candidateSize = size;
+        candidateKey = gramKeys.get(i);
+      }
+    }
+
+    String docsKey = docsKey(ownerId, version);
+    int batchSize = Math.max(limit * 2, MIN_SCAN_BATCH);
+    List<Long> result = new ArrayList<>(limit);
+    Long position = cursor;
+    while (result.size() < limit) {
+      Set<String> batch = descending
+          ? redisTemplate.opsForZSet().reverseRangeByScore(candidateKey, Double.NEGATIVE_INFINITY,
+          position == null ? Double.POSITIVE_INFINITY : position - 1, 0, batchSize)
+          : redisTemplate.opsForZSet().rangeByScore(candidateKey,
+              position == null ? Double.NEGATIVE_INFINITY : position + 1, Double.POSITIVE_INFINITY,
+              0, batchSize);
+      if (batch == null || batch.isEmpty()) {
+        break;
+      }
+
+      List<String> ids = new ArrayList<>(batch);
+      List<Object> texts = redisTemplate.opsForHash()
+          .multiGet(docsKey, ids.stream().map(Object.class::cast).toList());
+      for (int i = 0; i < ids.size() && result.size() < limit; i++) {
+        Object text = texts.get(i);
+        if (text != null && NgramTokenizer.matches(splitFields(text), normalizedKeyword)) {
+          result.add(Long.valueOf(ids.get(i)));
+        }
+      }
+      position = Long.valueOf(ids.get(ids.size() - 1));
+      if (ids.size() < batchSize) {
+        break;
+      }
+    }
+    return result;
+  }
+
+  // 다른 요청이 재구성 중이면 null (이번 요청은 DB 검색)
+  private String build(Long ownerId, Function<Long, Stream<SearchDocument>> source) {
+    String version = String.valueOf(System.currentTimeMillis());
+    Boolean acquired = redisTemplate.opsForValue()
+        .setIfAbsent(buildingKey(ownerId), version, BUILD_TTL);
+    if (!Boolean.TRUE.equals(acquired)) {
+      return null;
+    }
+
+    try (Stream<SearchDocument> documents = source.apply(ownerId)) {
+      Iterator<SearchDocument> iterator = documents.iterator();
+      int count = 0;
+      while (iterator.hasNext()) {
+        List<SearchDocument> chunk = new ArrayList<>(BUILD_CHUNK_SIZE);
+        while (iterator.hasNext() && chunk.size() < BUILD_CHUNK_SIZE) {
+          chunk.add(iterator.next());
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+          StringRedisConnection stringConnection = (StringRedisConnection) connection;
+          chunk.forEach(document -> writeDocument(stringConnection, ownerId, version, document));
+          return null;
+        });
+        count += chunk.size();
+      }
+      redisTemplate.opsForValue().set(readyKey(ownerId), version, READY_TTL);
+      log.info("[SearchIndex] 검색 색인 재구성: index={}, ownerId={}, documents={}", name, ownerId,
+          count);
+      return version;
+    } finally {
+      redisTemplate.delete(buildingKey(ownerId));
+    }
+  }
+
+  private void writeDocument(StringRedisConnection connection, Long ownerId, String version,
+      SearchDocument document) {
+    String id = String.valueOf(document.id());
+    String docsKey = docsKey(ownerId, version);
+    connection.hSet(docsKey, id, String.join(FIELD_SEPARATOR, document.fields()));
+    connection.expire(docsKey, DATA_TTL.toSeconds());
+    for (String gram : NgramTokenizer.documentGrams(document.fields())) {
+      String gramKey = gramKey(ownerId, version, gram);
+      connection.zAdd(gramKey, document.id().doubleValue(), id);
+      connection.expire(gramKey, DATA_TTL.toSeconds());
+    }
+  }
+
+  // 사용 중인 버전과 재구성 중인 버전
+  private Set<String> activeVersions(Long ownerId) {
+    List<String> versions = redisTemplate.opsForValue()
+        .multiGet(List.of(readyKey(ownerId), buildingKey(ownerId)));
+    Set<String> result = new HashSet<>();
+    if (versions != null) {
+      versions.stream().filter(Objects::nonNull).forEach(result::add);
+    }
+    return result;
+  }
+
+  private static List<String> splitFields(Object text) {
+    return Arrays.asList(String.valueOf(text).split(FIELD_SEPARATOR, -1));
+  }
+
+  private String readyKey(Long ownerId) {
+    return KEY_PREFIX + name + ":" + ownerId;
+  }
+
+  private String buildingKey(Long ownerId) {
+    return readyKey(ownerId) + ":building";
+  }
+
+  private String docsKey(Long ownerId, String version) {
+    return readyKey(ownerId) + ":" + version + ":docs";
+  }
+
+  private String gramKey(Long ownerId, String version, String gram) {
+    return readyKey(ownerId) + ":" + version + ":g:" + gram;
+  }
+}
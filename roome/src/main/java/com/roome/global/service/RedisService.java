@@ -1,8 +1,10 @@
 package com.roome.global.service;
 
-import com.roome.domain.rank.entity.ScoreUpdateTask;
-import com.roome.domain.rank.entity.TaskStatus;
-import com.roome.domain.rank.repository.ScoreUpdateTaskRepository;
+import com.roome.domain.rank.service.RankerMembershipCache;
+import com.roome.domain.rank.service.ScoreRecoveryLog;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
@@ -12,7 +14,9 @@ import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -28,10 +32,15 @@ public class RedisService {
   private final RedisTemplate<String, String> rankingRedisTemplate;
   private final StringRedisTemplate redisTemplate;
   private final RedissonClient redissonClient;
-  private final ScoreUpdateTaskRepository scoreUpdateTaskRepository;
+  private final ScoreRecoveryLog scoreRecoveryLog;
+  private final RankerMembershipCache rankerMembershipCache;
   private static final String REFRESH_TOKEN_PREFIX = "RT:";
   private static final String BLACKLIST_PREFIX = "BL:";
   private static final String RANKING_KEY = "user:ranking";
+  private static final String RANKING_DAY_KEY_PREFIX = "user:ranking:day:";
+  private static final String TOTAL_KEY_PREFIX = "user:total:";
+  // 7일 집계 구간 + 여유 1일
+  private static final Duration RANKING_DAY_TTL = Duration.ofDays(8);
 
   // 분산 락 사용
   public <T> T executeWithLock(String lockKey, long waitTime, long leaseTime,
@@ -71,24 +80,8 @@ public class RedisService {
       incrementUserScoreWithLock(userId, score);
       return CompletableFuture.completedFuture(true);
     } catch (Exception e) {
+      // 실패한 증가분은 incrementUserScoreWithLock에서 복구 로그에 기록됨
       log.error("비동기 점수 업데이트 실패: userId={}, score={}, error={}", userId, score, e.getMessage());
-
-      try {
-        // 중복 저장 방지를 위한 조건 확인
-        ScoreUpdateTask existingTask = scoreUpdateTaskRepository.findByUserIdAndScoreAndStatus(
-            userId, score, TaskStatus.FAILED);
-
-        if (existingTask == null) {
-          ScoreUpdateTask task = new ScoreUpdateTask(userId, score);
-          task.setStatus(TaskStatus.FAILED);
-          scoreUpdateTaskRepository.save(task);
-          log.info("실패한 점수 업데이트 작업 저장: userId={}, score={}", userId, score);
-        }
-      } catch (Exception saveEx) {
-        log.error("실패 작업 저장 중 오류: userId={}, score={}, error={}",
-            userId, score, saveEx.getMessage());
-      }
-
       return CompletableFuture.completedFuture(false);
     }
   }
@@ -101,15 +94,19 @@ public class RedisService {
         // userId를 문자열로 명시적으로 변환
         String userIdStr = String.valueOf(userId);
         rankingRedisTemplate.opsForZSet().incrementScore(RANKING_KEY, userIdStr, score);
+
+        // 일자별 버킷에도 누적 (주간 랭킹 재집계용)
+        String dayKey = RANKING_DAY_KEY_PREFIX + LocalDate.now();
+        rankingRedisTemplate.opsForZSet().incrementScore(dayKey, userIdStr, score);
+        rankingRedisTemplate.expire(dayKey, RANKING_DAY_TTL);
+        rankerMembershipCache.publishChanged();
         log.debug("점수 업데이트 완료 - UserId: {}, Score: {}", userId, score);
         return null;
       });
     } catch (Exception e) {
       log.error("점수 업데이트 실패, 복구 대기열에 추가: userId={}, score={}", userId, score, e);
-      // 실패한 작업 저장
-      ScoreUpdateTask task = new ScoreUpdateTask(userId, score);
-      task.setStatus(TaskStatus.FAILED);
-      scoreUpdateTaskRepository.save(task);
+      // 실패한 증가분을 복구 로그에 기록 (총점은 호출 전에 이미 반영됨)
+      scoreRecoveryLog.record(userId, score, false);
       throw e;
     }
   }
@@ -186,17 +183,34 @@ public class RedisService {
   }
 
   // 사용자 랭킹 데이터 삭제
+  // 랭킹, 일자별 버킷(다음 재집계에서 되살아나지 않도록), 총점을 파이프라인 한 번으로 삭제
   @Retryable(value = {
       RedisConnectionFailureException.class}, maxAttempts = 2, backoff = @Backoff(delay = 500))
   public boolean deleteUserRankingData(String userId) {
     try {
-      // 랭킹 Sorted Set에서 사용자 제거
-      Long removed = rankingRedisTemplate.opsForZSet().remove(RANKING_KEY, userId);
-      boolean result = removed != null && removed > 0;
+      LocalDate today = LocalDate.now();
+      List<Object> results = rankingRedisTemplate.executePipelined(new SessionCallback<Object>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object execute(RedisOperations<K, V> operations) {
+          RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+          // 랭킹 Sorted Set에서 사용자 제거
+          ops.opsForZSet().remove(RANKING_KEY, userId);
+          // 버킷 보관 기간(TTL) 안의 모든 일자별 버킷에서 제거
+          for (long i = 0; i < RANKING_DAY_TTL.toDays(); i++) {
+            ops.opsForZSet().remove(RANKING_DAY_KEY_PREFIX + today.minusDays(i), userId);
+          }
+          // 사용자 총점 데이터 삭제
+          ops.delete(TOTAL_KEY_PREFIX + userId);
+          return null;
+        }
+      });
 
-      // 사용자 총점 데이터 삭제
-      String totalScoreKey = "user:total:" + userId;
-      redisTemplate.delete(totalScoreKey);
+      Object removed = results.isEmpty() ? null : results.get(0);
+      boolean result = removed instanceof Long count && count > 0;
+      if (result) {
+        rankerMembershipCache.publishChanged();
+      }
 
       log.debug("사용자 랭킹 데이터 삭제 결과 - UserId: {}, 성공여부: {}", userId, result);
       return result;
@@ -205,4 +219,4 @@ public class RedisService {
       return false;
     }
   }
-}
\ No newline at end of file
+}
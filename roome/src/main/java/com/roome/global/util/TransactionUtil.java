@@ -0,0 +1,38 @@
+package com.roome.global.util;
+
+import java.util.function.Consumer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public abstract class TransactionUtil {
+
+    // 트랜잭션 안이면 커밋 후, 아니면 즉시 실행
+    // 커밋 전에 캐시를 고치면 다른 요청이 커밋 전 데이터로 다시 채울 수 있으므로 캐시/인덱스 갱신은 커밋 후 실행
+    public static void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // 트랜잭션 안이면 완료 후 커밋 여부와 함께 실행 (롤백에도 실행), 아니면 커밋된 것으로 즉시 실행
+    // 커밋 전에 잡아 둔 Redis 표식을 롤백 시에도 풀어야 하는 경우에 사용
+    public static void runAfterCompletion(Consumer<Boolean> task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                task.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+}
@@ -49,12 +49,12 @@ public class GuestbookControllerTest {
         // given
         GuestbookListResponseDto guestbookListResponseDto = new GuestbookListResponseDto(
                 roomId, Collections.singletonList(new GuestbookResponseDto(guestbookId, userId, "User", "profile.jpg", "Great room!", LocalDateTime.now(), "하우스메이트")),
-                new PaginationDto(1, 10, 1)
+                new PaginationDto(10, null, false)
         );
-        when(guestbookService.getGuestbook(roomId, 1, 10)).thenReturn(guestbookListResponseDto);
+        when(guestbookService.getGuestbook(roomId, null, 10)).thenReturn(guestbookListResponseDto);
 
         // when
-        ResponseEntity<GuestbookListResponseDto> response = guestbookController.getGuestbook(roomId, 1, 10);
+        ResponseEntity<GuestbookListResponseDto> response = guestbookController.getGuestbook(roomId, null, 10);
 
         // then
         assertNotNull(response);
@@ -66,10 +66,10 @@ public class GuestbookControllerTest {
     @DisplayName("존재하지 않는 방에 대한 방명록 조회 시 예외가 발생한다")
     public void testGetGuestbook_RoomNotFound() {
         // given
-        when(guestbookService.getGuestbook(roomId, 1, 10)).thenThrow(new BusinessException(ErrorCode.ROOM_NOT_FOUND));
+        when(guestbookService.getGuestbook(roomId, null, 10)).thenThrow(new BusinessException(ErrorCode.ROOM_NOT_FOUND));
 
         // when
-        BusinessException exception = assertThrows(BusinessException.class, () -> guestbookController.getGuestbook(roomId, 1, 10));
+        BusinessException exception = assertThrows(BusinessException.class, () -> guestbookController.getGuestbook(roomId, null, 10));
 
         // then
         assertEquals(ErrorCode.ROOM_NOT_FOUND, exception.getErrorCode());
@@ -86,7 +86,7 @@ public class GuestbookControllerTest {
                         guestbookId, userId, "User", "profile.jpg", "Nice place!",
                         LocalDateTime.now(), "하우스메이트")
                 ),
-                new PaginationDto(1, size, 1)
+                new PaginationDto(size, null, false)
         );
         when(guestbookService.addGuestbookWithPagination(roomId, userId, requestDto, size))
                 .thenReturn(guestbookListResponseDto);
@@ -28,7 +28,6 @@ public class MockGuestbookControllerTest {
     @Test
     public void testGetMockGuestbook_Success() throws Exception {
         Long roomId = 1L;
-        int page = 1;
         int size = 10;
 
         // Mock 데이터 설정
@@ -37,14 +36,13 @@ public class MockGuestbookControllerTest {
 
         // Mock 호출 설정
         mockMvc.perform(get("/mock/guestbooks/{roomId}", roomId)
-                        .param("page", String.valueOf(page))
                         .param("size", String.valueOf(size)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.roomId").value(roomId))
                 .andExpect(jsonPath("$.guestbook[0].message").value("방 정말 예쁘네요!"))
                 .andExpect(jsonPath("$.guestbook[1].message").value("분위기가 너무 좋아요!"))
-                .andExpect(jsonPath("$.pagination.page").value(page))
-                .andExpect(jsonPath("$.pagination.size").value(size));
+                .andExpect(jsonPath("$.pagination.size").value(size))
+                .andExpect(jsonPath("$.pagination.hasNext").value(true));
     }
 
     @Test
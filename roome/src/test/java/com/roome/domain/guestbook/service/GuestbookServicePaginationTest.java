@@ -0,0 +1,160 @@
+package com.roome.domain.guestbook.service;
+
+import com.roome.domain.guestbook.dto.GuestbookListResponseDto;
+import com.roome.domain.guestbook.entity.Guestbook;
+import com.roome.domain.guestbook.entity.GuestbookQueryModel;
+import com.roome.domain.guestbook.repository.GuestbookFirstPageRedisRepository;
+import com.roome.domain.guestbook.repository.GuestbookRepository;
+import com.roome.domain.houseMate.repository.HousemateRepository;
+import com.roome.domain.room.entity.Room;
+import com.roome.domain.room.repository.RoomRepository;
+import com.roome.domain.user.entity.User;
+import com.roome.global.exception.BusinessException;
+import com.roome.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GuestbookServicePaginationTest {
+
+    @InjectMocks
+    private GuestbookService guestbookService;
+
+    @Mock
+    private GuestbookRepository guestbookRepository;
+    @Mock
+    private RoomRepository roomRepository;
+    @Mock
+    private HousemateRepository housemateRepository;
+    @Mock
+    private GuestbookFirstPageRedisRepository guestbookFirstPageRedisRepository;
+
+    private static final Long ROOM_ID = 10L;
+    private static final Long OWNER_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        User owner = mock(User.class);
+        lenient().when(owner.getId()).thenReturn(OWNER_ID);
+        Room room = mock(Room.class);
+        lenient().when(room.getUser()).thenReturn(owner);
+        lenient().when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.of(room));
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 캐시에서 응답하고 작성자들의 하우스메이트 여부는 한 번에 조회한다")
+    void getGuestbook_FirstPageFromCache() {
+        // Given
+        List<GuestbookQueryModel> cached = List.of(model(30L, 2L), model(29L, 3L), model(28L, 2L));
+        when(guestbookFirstPageRedisRepository.read(ROOM_ID, 3)).thenReturn(Optional.of(cached));
+        when(housemateRepository.findAddedIdsByUserIdAndAddedIdIn(eq(OWNER_ID), anyCollection()))
+                .thenReturn(List.of(2L));
+
+        // When
+        GuestbookListResponseDto response = guestbookService.getGuestbook(ROOM_ID, null, 2);
+
+        // Then
+        assertThat(response.getGuestbook()).extracting("guestbookId").containsExactly(30L, 29L);
+        assertThat(response.getGuestbook()).extracting("relation")
+                .containsExactly("하우스메이트", "지나가던_나그네");
+        assertThat(response.getPagination().isHasNext()).isTrue();
+        assertThat(response.getPagination().getNextCursor()).isEqualTo(29L);
+        verify(housemateRepository).findAddedIdsByUserIdAndAddedIdIn(eq(OWNER_ID), anyCollection());
+        verify(housemateRepository, never()).existsByUserIdAndAddedId(anyLong(), anyLong());
+        verify(guestbookRepository, never()).findByRoomIdOrderByGuestbookIdDesc(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("첫 페이지 캐시가 없으면 DB에서 캐시 크기만큼 읽어 조회 전 버전으로 채운다")
+    void getGuestbook_FillsFirstPageOnMiss() {
+        // Given
+        when(guestbookFirstPageRedisRepository.read(ROOM_ID, 3)).thenReturn(Optional.empty());
+        when(guestbookFirstPageRedisRepository.readVersion(ROOM_ID)).thenReturn(7L);
+        List<Guestbook> guestbooks = List.of(guestbook(30L, 2L), guestbook(29L, 3L));
+        when(guestbookRepository.findByRoomIdOrderByGuestbookIdDesc(eq(ROOM_ID), any(Pageable.class)))
+                .thenReturn(guestbooks);
+        when(housemateRepository.findAddedIdsByUserIdAndAddedIdIn(eq(OWNER_ID), anyCollection()))
+                .thenReturn(List.of());
+
+        // When
+        GuestbookListResponseDto response = guestbookService.getGuestbook(ROOM_ID, null, 2);
+
+        // Then
+        assertThat(response.getGuestbook()).extracting("guestbookId").containsExactly(30L, 29L);
+        assertThat(response.getPagination().isHasNext()).isFalse();
+        assertThat(response.getPagination().getNextCursor()).isNull();
+        verify(guestbookRepository).findByRoomIdOrderByGuestbookIdDesc(ROOM_ID,
+                Pageable.ofSize(GuestbookFirstPageRedisRepository.MAX_PAGE_SIZE + 1));
+        verify(guestbookFirstPageRedisRepository).fill(eq(ROOM_ID), eq(7L), any());
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 캐시를 거치지 않고 커서 이전 방명록을 size + 1건 조회한다")
+    void getGuestbook_WithCursor() {
+        // Given
+        when(guestbookRepository.findByRoomIdAndGuestbookIdLessThanOrderByGuestbookIdDesc(
+                eq(ROOM_ID), eq(29L), any(Pageable.class)))
+                .thenReturn(List.of(guestbook(28L, 2L), guestbook(27L, 2L), guestbook(26L, 4L)));
+        when(housemateRepository.findAddedIdsByUserIdAndAddedIdIn(eq(OWNER_ID), anyCollection()))
+                .thenReturn(List.of());
+
+        // When
+        GuestbookListResponseDto response = guestbookService.getGuestbook(ROOM_ID, 29L, 2);
+
+        // Then
+        assertThat(response.getGuestbook()).extracting("guestbookId").containsExactly(28L, 27L);
+        assertThat(response.getPagination().getNextCursor()).isEqualTo(27L);
+        verify(guestbookRepository).findByRoomIdAndGuestbookIdLessThanOrderByGuestbookIdDesc(
+                ROOM_ID, 29L, Pageable.ofSize(3));
+        verify(guestbookFirstPageRedisRepository, never()).read(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("조회 개수가 범위를 벗어나면 예외가 발생한다")
+    void getGuestbook_InvalidSize() {
+        // When & Then
+        assertThatThrownBy(() -> guestbookService.getGuestbook(ROOM_ID, null, 0))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_LIMIT_VALUE);
+    }
+
+    private GuestbookQueryModel model(Long guestbookId, Long userId) {
+        return GuestbookQueryModel.create(guestbook(guestbookId, userId));
+    }
+
+    private Guestbook guestbook(Long guestbookId, Long userId) {
+        User user = mock(User.class);
+        lenient().when(user.getId()).thenReturn(userId);
+        Guestbook guestbook = mock(Guestbook.class);
+        lenient().when(guestbook.getGuestbookId()).thenReturn(guestbookId);
+        lenient().when(guestbook.getUser()).thenReturn(user);
+        lenient().when(guestbook.getNickname()).thenReturn("user" + userId);
+        lenient().when(guestbook.getMessage()).thenReturn("message " + guestbookId);
+        lenient().when(guestbook.getCreatedAt()).thenReturn(LocalDateTime.of(2025, 3, 1, 12, 0));
+        return guestbook;
+    }
+}
@@ -16,6 +16,7 @@ import com.roome.domain.mycd.entity.MyCdCount;
 import com.roome.domain.mycd.exception.MyCdListEmptyException;
 import com.roome.domain.mycd.exception.MyCdNotFoundException;
 import com.roome.domain.mycd.repository.MyCdCountRepository;
+import com.roome.domain.mycd.repository.MyCdListVersionRedisRepository;
 import com.roome.domain.mycd.repository.MyCdRepository;
 import com.roome.domain.rank.entity.ActivityType;
 import com.roome.domain.rank.service.UserActivityService;
@@ -23,6 +24,9 @@ import com.roome.domain.room.entity.Room;
 import com.roome.domain.room.repository.RoomRepository;
 import com.roome.domain.user.entity.User;
 import com.roome.domain.user.repository.UserRepository;
+import com.roome.global.cache.CatalogCache;
+import com.roome.global.cache.NameIdDictionary;
+import com.roome.global.search.SearchIndex;
 import java.time.LocalDate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -32,12 +36,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.SliceImpl;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.security.test.context.support.WithMockUser;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -52,6 +59,8 @@ class MyCdServiceTest {
   @Mock
   private CdRepository cdRepository;
   @Mock
+  private CdGenreTypeRepository cdGenreTypeRepository;
+  @Mock
   private RoomRepository roomRepository;
   @Mock
   private UserRepository userRepository;
@@ -62,14 +71,26 @@ class MyCdServiceTest {
   @Mock
   private FurnitureType furnitureType;
   @Mock
-  private CdGenreTypeRepository cdGenreTypeRepository;
+  private NameIdDictionary cdGenreTypeDictionary;
+  @Mock
+  private CatalogCache<Cd> cdCatalogCache;
   @Mock
   private MyCdCountRepository myCdCountRepository;
   @Mock
+  private MyCdListVersionRedisRepository myCdListVersionRedisRepository;
+  @Mock
   private FurnitureService furnitureService;
   @Mock
   private UserActivityService userActivityService;
   @Mock
+  private ApplicationEventPublisher eventPublisher;
+  @Mock
+  private SearchIndex myCdSearchIndex;
+  @Mock
+  private RedisTemplate<String, MyCdResponse> redisTemplate;
+  @Mock
+  private ValueOperations<String, MyCdResponse> valueOperations;
+  @Mock
   private Room room;
   @Mock
   private Furniture furniture;
@@ -159,19 +180,32 @@ class MyCdServiceTest {
   @DisplayName("내 CD 목록 조회 성공 - 키워드 없음, 커서 없음")
   @WithMockUser(username = "1")
   void getMyCdList_Success_NoKeywordNoCursor() throws Exception {
-    PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "id"));
+    when(myCdRepository.findMyCdResponses(1L, null, 10))
+        .thenReturn(new SliceImpl<>(List.of(MyCdResponse.builder().myCdId(1L).build())));
 
-    when(myCdRepository.findByUserIdOrderByIdAsc(eq(1L), any(PageRequest.class)))
-        .thenReturn(new PageImpl<>(List.of(myCd), pageRequest, 1));
-
-    // 첫 번째 & 마지막 CD ID 조회 Mock 추가
-    when(myCdRepository.findFirstByUserIdOrderByIdAsc(1L)).thenReturn(Optional.of(myCd));
-    when(myCdRepository.findFirstByUserIdOrderByIdDesc(1L)).thenReturn(Optional.of(myCd));
+    // 전체 개수와 첫 번째 & 마지막 CD ID는 목록 요약에서 조회
+    when(myCdCountRepository.findByUserId(1L)).thenReturn(Optional.of(summary(1L, 1L, 1L)));
 
     MyCdListResponse response = myCdService.getMyCdList(1L, null, null, 10);
 
     assertThat(response).isNotNull();
-    assertThat(response.getData()).hasSize(1);
+    assertThat(response.getData()).extracting(MyCdResponse::getMyCdId).containsExactly(1L);
+    assertThat(response.getTotalCount()).isEqualTo(1L);
+    verify(myCdCountRepository, never()).refresh(anyLong());
+  }
+
+  @Test
+  @DisplayName("내 CD 목록 조회 - 첫/마지막 CD가 없는 기존 요약은 다시 계산")
+  void getMyCdList_RefreshesLegacySummary() {
+    when(myCdRepository.findMyCdResponses(1L, null, 10))
+        .thenReturn(new SliceImpl<>(List.of(MyCdResponse.builder().myCdId(1L).build())));
+    when(myCdCountRepository.findByUserId(1L))
+        .thenReturn(Optional.of(summary(1L, null, null)))
+        .thenReturn(Optional.of(summary(1L, 1L, 1L)));
+
+    myCdService.getMyCdList(1L, null, null, 10);
+
+    verify(myCdCountRepository).refresh(room.getId());
   }
 
 //  @Test
@@ -205,13 +239,46 @@ class MyCdServiceTest {
 //    verify(myCdRepository, times(1)).searchMyCd(anyLong(), anyString(), any(), anyInt());
 //  }
 
+  @Test
+  @DisplayName("내 CD 목록 검색 - 검색 색인 결과를 CD 캐시와 DB 일괄 조회로 채움")
+  @SuppressWarnings("unchecked")
+  void getMyCdList_WithKeyword_UsesSearchIndex() {
+    when(myCdSearchIndex.search(eq(1L), eq("IU"), isNull(), eq(10), any()))
+        .thenReturn(Optional.of(List.of(1L)));
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.multiGet(List.of("mycd:1:1"))).thenReturn(Arrays.asList((MyCdResponse) null));
+    when(myCdRepository.findMyCdResponsesByIds(1L, List.of(1L)))
+        .thenReturn(List.of(MyCdResponse.builder().myCdId(1L).build()));
+    when(myCdCountRepository.findByUserId(1L)).thenReturn(Optional.of(summary(1L, 1L, 1L)));
+
+    MyCdListResponse response = myCdService.getMyCdList(1L, "IU", null, 10);
+
+    assertThat(response.getData()).extracting(MyCdResponse::getMyCdId).containsExactly(1L);
+    verify(redisTemplate).executePipelined(any(SessionCallback.class));
+    verify(myCdSearchIndex, never()).scan(anyLong(), anyString(), any(), anyInt(), any());
+  }
+
+  @Test
+  @DisplayName("내 CD 목록 검색 - 검색 색인을 쓸 수 없으면 DB 원본을 같은 규칙으로 검사")
+  void getMyCdList_WithKeyword_ScansWhenIndexUnavailable() {
+    when(myCdSearchIndex.search(eq(1L), eq("ㅇㅇ"), isNull(), eq(10), any()))
+        .thenReturn(Optional.empty());
+    when(myCdSearchIndex.scan(eq(1L), eq("ㅇㅇ"), isNull(), eq(10), any()))
+        .thenReturn(List.of(1L));
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.multiGet(List.of("mycd:1:1")))
+        .thenReturn(List.of(MyCdResponse.builder().myCdId(1L).build()));
+    when(myCdCountRepository.findByUserId(1L)).thenReturn(Optional.of(summary(1L, 1L, 1L)));
+
+    MyCdListResponse response = myCdService.getMyCdList(1L, "ㅇㅇ", null, 10);
+
+    assertThat(response.getData()).extracting(MyCdResponse::getMyCdId).containsExactly(1L);
+  }
+
   @Test
   @DisplayName("내 CD 목록 조회 실패 - 결과 없음 (캐싱 적용)")
   void getMyCdList_Failure_Empty_Cache() {
-    PageRequest pageRequest = PageRequest.of(0, 10);
-
-    when(myCdRepository.searchMyCd(eq(1L), anyString(), any(), eq(10)))
-        .thenReturn(new PageImpl<>(List.of(), pageRequest, 0));
+    when(myCdSearchIndex.scan(eq(1L), eq("IU"), isNull(), eq(10), any())).thenReturn(List.of());
 
     assertThatThrownBy(() -> myCdService.getMyCdList(1L, "IU", null, 10))
         .isInstanceOf(MyCdListEmptyException.class);
@@ -250,6 +317,23 @@ class MyCdServiceTest {
 //    verify(myCdRepository, times(1)).deleteByUserIdAndIds(1L, ids);
 //  }
 
+  @Test
+  @DisplayName("CD 삭제 시 해당 사용자의 목록 캐시 버전만 증가")
+  void delete_IncreasesListCacheVersion() {
+    // Given
+    List<Long> ids = List.of(1L);
+    when(myCdRepository.findAllById(ids)).thenReturn(List.of(myCd));
+    when(roomRepository.findByUserId(1L)).thenReturn(Optional.of(room));
+    when(myCdCountRepository.refresh(room.getId())).thenReturn(1);
+
+    // When
+    myCdService.delete(1L, ids);
+
+    // Then
+    verify(myCdRepository).deleteByUserIdAndIds(1L, ids);
+    verify(myCdListVersionRedisRepository).increase(1L);
+  }
+
   @Test
   @DisplayName("CD 삭제 실패 - 존재하지 않음")
   void delete_Failure_NotFound() {
@@ -259,4 +343,13 @@ class MyCdServiceTest {
     assertThatThrownBy(() -> myCdService.delete(1L, ids))
         .isInstanceOf(MyCdNotFoundException.class);
   }
+
+  private MyCdCount summary(Long count, Long firstMyCdId, Long lastMyCdId) {
+    return MyCdCount.builder()
+        .count(count)
+        .firstMyCdId(firstMyCdId)
+        .lastMyCdId(lastMyCdId)
+        .room(room)
+        .build();
+  }
 }
@@ -0,0 +1,79 @@
+package com.roome.domain.rank.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+@ExtendWith(MockitoExtension.class)
+class RankerMembershipCacheTest {
+
+  @Mock
+  private RedisTemplate<String, String> rankingRedisTemplate;
+
+  @Mock
+  private ZSetOperations<String, String> zSetOperations;
+
+  private RankerMembershipCache rankerMembershipCache;
+
+  @BeforeEach
+  void setUp() {
+    when(rankingRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    rankerMembershipCache = new RankerMembershipCache(rankingRedisTemplate);
+  }
+
+  @Test
+  @DisplayName("변경 신호가 없으면 Redis 조회 없이 로컬 멤버십 사용")
+  void containsUsesLocalSnapshot() {
+    // Given
+    when(zSetOperations.reverseRangeWithScores("user:ranking", 0, 9))
+        .thenReturn(rankers("1", "2"));
+
+    // When
+    boolean first = rankerMembershipCache.contains(1L);
+    boolean second = rankerMembershipCache.contains(3L);
+
+    // Then
+    assertThat(first).isTrue();
+    assertThat(second).isFalse();
+    verify(zSetOperations, times(1)).reverseRangeWithScores("user:ranking", 0, 9);
+  }
+
+  @Test
+  @DisplayName("변경 신호 수신 후에는 다음 조회에서 멤버십 갱신")
+  void changeSignalTriggersReload() {
+    // Given
+    when(zSetOperations.reverseRangeWithScores("user:ranking", 0, 9))
+        .thenReturn(rankers("1"))
+        .thenReturn(rankers("2"));
+    assertThat(rankerMembershipCache.contains(2L)).isFalse();
+
+    // When
+    rankerMembershipCache.handleLeaderboardChanged("0", RankerMembershipCache.CHANNEL);
+
+    // Then
+    assertThat(rankerMembershipCache.contains(2L)).isTrue();
+    verify(zSetOperations, times(2)).reverseRangeWithScores("user:ranking", 0, 9);
+  }
+
+  private Set<ZSetOperations.TypedTuple<String>> rankers(String... userIds) {
+    Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+    double score = 100.0;
+    for (String userId : userIds) {
+      tuples.add(new DefaultTypedTuple<>(userId, score--));
+    }
+    return tuples;
+  }
+}
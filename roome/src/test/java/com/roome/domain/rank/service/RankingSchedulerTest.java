@@ -1,6 +1,12 @@
 package com.roome.domain.rank.service;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -9,11 +15,15 @@ import com.roome.domain.point.entity.Point;
 import com.roome.domain.point.entity.PointHistory;
 import com.roome.domain.point.repository.PointHistoryRepository;
 import com.roome.domain.point.repository.PointRepository;
+import com.roome.domain.rank.repository.UserActivityDailyRepository;
+import com.roome.domain.rank.repository.UserActivityDailyRepository.DailyScore;
 import com.roome.domain.rank.repository.UserActivityRepository;
 import com.roome.domain.user.entity.User;
 import com.roome.domain.user.repository.UserRepository;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
@@ -48,6 +58,12 @@ public class RankingSchedulerTest {
   @Mock
   private PointHistoryRepository pointHistoryRepository;
 
+  @Mock
+  private RankerMembershipCache rankerMembershipCache;
+
+  @Mock
+  private UserActivityDailyRepository userActivityDailyRepository;
+
   @InjectMocks
   private RankingScheduler rankingScheduler;
 
@@ -116,9 +132,76 @@ public class RankingSchedulerTest {
     verify(pointRepository, times(3)).save(any(Point.class));
     verify(pointHistoryRepository, times(3)).save(any(PointHistory.class));
 
-    verify(userActivityRepository).deleteAllByCreatedAtBefore(any(LocalDateTime.class));
+    // 활동 기록 정리는 별도 보관 기간 작업에서 처리
+    verify(userActivityRepository, never()).deleteAllByCreatedAtBefore(any(LocalDateTime.class));
 
     // redisTemplate.delete는 총 2번 호출됨 (awardWeeklyPoints와 updateRanking에서 각각)
     verify(redisTemplate, times(2)).delete("user:ranking");
   }
+
+  @DisplayName("일자별 버킷 합산 후 랭킹 키 교체 테스트")
+  @Test
+  void updateRankingSwapsUnionedBuckets() {
+    // Given
+    when(redisTemplate.hasKey(anyString())).thenReturn(true);
+    when(zSetOperations.unionAndStore(anyString(), anyCollection(), eq("user:ranking:tmp")))
+        .thenReturn(3L);
+
+    // When
+    rankingScheduler.updateRanking();
+
+    // Then
+    verify(redisTemplate).rename("user:ranking:tmp", "user:ranking");
+    verify(rankerMembershipCache).publishChanged();
+    verify(redisTemplate, never()).delete("user:ranking");
+    verify(userActivityDailyRepository, never()).sumScoresByUserAndDateSince(any(LocalDate.class));
+  }
+
+  @DisplayName("버킷이 없으면 일별 집계로 버킷 초기화")
+  @Test
+  void updateRankingBackfillsFromDailyRollup() {
+    // Given
+    DailyScore row = mock(DailyScore.class);
+    when(row.getUserId()).thenReturn(1L);
+    when(row.getActivityDate()).thenReturn(LocalDate.now());
+    when(row.getScore()).thenReturn(15L);
+    when(redisTemplate.hasKey(anyString())).thenReturn(false);
+    when(userActivityDailyRepository.sumScoresByUserAndDateSince(any(LocalDate.class)))
+        .thenReturn(List.of(row));
+    when(zSetOperations.unionAndStore(anyString(), anyCollection(), eq("user:ranking:tmp")))
+        .thenReturn(1L);
+
+    // When
+    rankingScheduler.updateRanking();
+
+    // Then
+    verify(zSetOperations).add(eq("user:ranking:day:" + LocalDate.now()), anySet());
+    verify(redisTemplate).rename("user:ranking:tmp", "user:ranking");
+  }
+
+  @DisplayName("오늘 버킷만 있으면 지난 날짜 버킷만 일별 집계로 채움")
+  @Test
+  void updateRankingBackfillsEachMissingBucket() {
+    // Given
+    LocalDate today = LocalDate.now();
+    DailyScore todayRow = mock(DailyScore.class);
+    when(todayRow.getActivityDate()).thenReturn(today);
+    DailyScore yesterdayRow = mock(DailyScore.class);
+    when(yesterdayRow.getUserId()).thenReturn(2L);
+    when(yesterdayRow.getActivityDate()).thenReturn(today.minusDays(1));
+    when(yesterdayRow.getScore()).thenReturn(7L);
+    when(redisTemplate.hasKey(anyString())).thenReturn(false);
+    when(redisTemplate.hasKey("user:ranking:day:" + today)).thenReturn(true);
+    when(userActivityDailyRepository.sumScoresByUserAndDateSince(today.minusDays(6)))
+        .thenReturn(List.of(todayRow, yesterdayRow));
+    when(zSetOperations.unionAndStore(anyString(), anyCollection(), eq("user:ranking:tmp")))
+        .thenReturn(1L);
+
+    // When
+    rankingScheduler.updateRanking();
+
+    // Then
+    verify(zSetOperations).add(eq("user:ranking:day:" + today.minusDays(1)), anySet());
+    verify(zSetOperations, never()).add(eq("user:ranking:day:" + today), anySet());
+  }
 }
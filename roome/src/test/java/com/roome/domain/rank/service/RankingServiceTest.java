@@ -1,14 +1,29 @@
 package com.roome.domain.rank.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.roome.domain.rank.dto.MyRankingResponse;
+import com.roome.domain.rank.dto.RankingPageResponse;
 import com.roome.domain.rank.dto.UserRankingDto;
 import com.roome.domain.user.entity.User;
 import com.roome.domain.user.repository.UserRepository;
+import com.roome.global.exception.BusinessException;
+import com.roome.global.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +48,9 @@ class RankingServiceTest {
   @Mock
   private UserRepository userRepository;
 
+  @Mock
+  private RankerMembershipCache rankerMembershipCache;
+
   @Mock
   private ZSetOperations<String, Object> zSetOperations;
 
@@ -40,7 +58,7 @@ class RankingServiceTest {
 
   @BeforeEach
   void setUp() {
-    when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
 
     // 테스트 유저 생성
     testUser = User.builder().id(1L).nickname("테스트유저").profileImage("profile.jpg").build();
@@ -59,10 +77,9 @@ class RankingServiceTest {
 
     when(zSetOperations.reverseRangeWithScores("user:ranking", 0, 9)).thenReturn(mockRankSet);
 
-    // 유저 정보 모킹
-    when(userRepository.findById(1L)).thenReturn(Optional.of(createUser(1L, "유저1")));
-    when(userRepository.findById(2L)).thenReturn(Optional.of(createUser(2L, "유저2")));
-    when(userRepository.findById(3L)).thenReturn(Optional.of(createUser(3L, "유저3")));
+    // 유저 정보 모킹 (한 번에 조회)
+    when(userRepository.findAllById(anyIterable())).thenReturn(
+        List.of(createUser(1L, "유저1"), createUser(2L, "유저2"), createUser(3L, "유저3")));
 
     // When
     List<UserRankingDto> result = rankingService.getTopRankings();
@@ -109,8 +126,8 @@ class RankingServiceTest {
 
     when(zSetOperations.reverseRangeWithScores("user:ranking", 0, 9)).thenReturn(mockRankSet);
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(createUser(1L, "유저1")));
-    when(userRepository.findById(999L)).thenReturn(Optional.empty()); // 유저 없음
+    // 999번 유저는 조회되지 않음
+    when(userRepository.findAllById(anyIterable())).thenReturn(List.of(createUser(1L, "유저1")));
 
     // When
     List<UserRankingDto> result = rankingService.getTopRankings();
@@ -131,7 +148,7 @@ class RankingServiceTest {
 
     when(zSetOperations.reverseRangeWithScores("user:ranking", 0, 9)).thenReturn(mockRankSet);
 
-    when(userRepository.findById(1L)).thenReturn(Optional.of(createUser(1L, "유저1")));
+    when(userRepository.findAllById(anyIterable())).thenReturn(List.of(createUser(1L, "유저1")));
 
     // When
     List<UserRankingDto> result = rankingService.getTopRankings();
@@ -141,6 +158,162 @@ class RankingServiceTest {
     assertThat(result.get(0).getUserId()).isEqualTo(1L);
   }
 
+  @Test
+  @DisplayName("랭킹 변경이 없으면 직렬화된 스냅샷 재사용")
+  void getTopRankingsJson_reusesSnapshot() {
+    // Given
+    rankingService = new RankingService(redisTemplateAsString(), userRepository, new ObjectMapper(),
+        rankerMembershipCache);
+    Set<ZSetOperations.TypedTuple<Object>> mockRankSet = new LinkedHashSet<>();
+    mockRankSet.add(createTypedTuple("1", 100.0));
+
+    when(zSetOperations.reverseRangeWithScores("user:ranking", 0, 9)).thenReturn(mockRankSet);
+    when(userRepository.findAllById(anyIterable())).thenReturn(List.of(createUser(1L, "유저1")));
+
+    // When
+    byte[] first = rankingService.getTopRankingsJson();
+    byte[] second = rankingService.getTopRankingsJson();
+
+    // Then
+    assertThat(second).isSameAs(first);
+    assertThat(new String(first, StandardCharsets.UTF_8)).contains("\"nickname\":\"유저1\"");
+    verify(userRepository, times(1)).findAllById(anyIterable());
+  }
+
+  @Test
+  @DisplayName("리더보드 커서 페이지 조회 - 커서 (점수, 사용자 ID) 다음 항목부터 limit명")
+  void getLeaderboard_fromCursor() {
+    // Given
+    Set<ZSetOperations.TypedTuple<Object>> page = new LinkedHashSet<>();
+    page.add(createTypedTuple("2", 90.0)); // 커서 자신
+    page.add(createTypedTuple("3", 80.0));
+    page.add(createTypedTuple("4", 70.0));
+
+    Set<ZSetOperations.TypedTuple<Object>> rest = new LinkedHashSet<>();
+    rest.add(createTypedTuple("5", 60.0)); // 다음 페이지 확인용
+
+    when(zSetOperations.reverseRangeByScoreWithScores("user:ranking", Double.NEGATIVE_INFINITY,
+        90.0, 0L, 3L)).thenReturn(page);
+    when(zSetOperations.reverseRangeByScoreWithScores("user:ranking", Double.NEGATIVE_INFINITY,
+        90.0, 3L, 3L)).thenReturn(rest);
+    when(zSetOperations.reverseRank("user:ranking", "3")).thenReturn(2L);
+    when(userRepository.findAllById(anyIterable())).thenReturn(
+        List.of(createUser(3L, "유저3"), createUser(4L, "유저4")));
+
+    // When
+    RankingPageResponse response = rankingService.getLeaderboard("90.0_2", 2);
+
+    // Then
+    assertThat(response.getRankings()).extracting(UserRankingDto::getRank).containsExactly(3, 4);
+    assertThat(response.isHasNext()).isTrue();
+    assertThat(response.getNextCursor()).isEqualTo("70.0_4");
+  }
+
+  @Test
+  @DisplayName("리더보드 커서 페이지 조회 - 같은 점수는 사용자 ID 역순으로 이어서 조회")
+  void getLeaderboard_tieBreakByMember() {
+    // Given
+    Set<ZSetOperations.TypedTuple<Object>> page = new LinkedHashSet<>();
+    page.add(createTypedTuple("9", 50.0));
+    page.add(createTypedTuple("7", 50.0)); // 커서 자신
+
+    Set<ZSetOperations.TypedTuple<Object>> rest = new LinkedHashSet<>();
+    rest.add(createTypedTuple("6", 50.0));
+
+    when(zSetOperations.reverseRangeByScoreWithScores("user:ranking", Double.NEGATIVE_INFINITY,
+        50.0, 0L, 2L)).thenReturn(page);
+    when(zSetOperations.reverseRangeByScoreWithScores("user:ranking", Double.NEGATIVE_INFINITY,
+        50.0, 2L, 2L)).thenReturn(rest);
+    when(zSetOperations.reverseRank("user:ranking", "6")).thenReturn(4L);
+    when(userRepository.findAllById(anyIterable())).thenReturn(List.of(createUser(6L, "유저6")));
+
+    // When
+    RankingPageResponse response = rankingService.getLeaderboard("50.0_7", 1);
+
+    // Then
+    assertThat(response.getRankings()).extracting(UserRankingDto::getUserId).containsExactly(6L);
+    assertThat(response.getRankings()).extracting(UserRankingDto::getRank).containsExactly(5);
+    assertThat(response.isHasNext()).isFalse();
+    assertThat(response.getNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("리더보드 커서 페이지 조회 - 커서 항목의 점수가 그대로면 그 순위 다음부터 한 번에 조회")
+  void getLeaderboard_fromCursorRank() {
+    // Given: 같은 점수가 많아도 점수 구간을 훑지 않음
+    Set<ZSetOperations.TypedTuple<Object>> next = new LinkedHashSet<>();
+    next.add(createTypedTuple("6", 1.0));
+    next.add(createTypedTuple("5", 1.0));
+
+    when(zSetOperations.score("user:ranking", "7")).thenReturn(1.0);
+    when(zSetOperations.reverseRank("user:ranking", "7")).thenReturn(1000L);
+    when(zSetOperations.reverseRangeWithScores("user:ranking", 1001L, 1002L)).thenReturn(next);
+    when(zSetOperations.reverseRank("user:ranking", "6")).thenReturn(1001L);
+    when(userRepository.findAllById(anyIterable())).thenReturn(List.of(createUser(6L, "유저6")));
+
+    // When
+    RankingPageResponse response = rankingService.getLeaderboard("1.0_7", 1);
+
+    // Then
+    assertThat(response.getRankings()).extracting(UserRankingDto::getRank).containsExactly(1002);
+    assertThat(response.isHasNext()).isTrue();
+    assertThat(response.getNextCursor()).isEqualTo("1.0_6");
+    verify(zSetOperations, never()).reverseRangeByScoreWithScores(anyString(), anyDouble(),
+        anyDouble(), anyLong(), anyLong());
+  }
+
+  @Test
+  @DisplayName("리더보드 커서 형식이 잘못되면 예외")
+  void getLeaderboard_invalidCursor() {
+    assertThatThrownBy(() -> rankingService.getLeaderboard("abc", 10))
+        .isInstanceOf(BusinessException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.INVALID_CURSOR_VALUE);
+  }
+
+  @Test
+  @DisplayName("내 랭킹 조회 - 내 순위 기준 위아래 이웃 포함")
+  void getRankingAroundUser() {
+    // Given
+    Set<ZSetOperations.TypedTuple<Object>> window = new LinkedHashSet<>();
+    window.add(createTypedTuple("2", 90.0));
+    window.add(createTypedTuple("1", 80.0));
+    window.add(createTypedTuple("3", 70.0));
+
+    when(zSetOperations.reverseRank("user:ranking", "1")).thenReturn(5L);
+    when(zSetOperations.reverseRangeWithScores("user:ranking", 4, 6)).thenReturn(window);
+    when(userRepository.findAllById(anyIterable())).thenReturn(
+        List.of(createUser(1L, "유저1"), createUser(2L, "유저2"), createUser(3L, "유저3")));
+
+    // When
+    MyRankingResponse response = rankingService.getRankingAroundUser(1L, 1);
+
+    // Then
+    assertThat(response.getMe().getRank()).isEqualTo(6);
+    assertThat(response.getMe().getScore()).isEqualTo(80);
+    assertThat(response.getRankings()).extracting(UserRankingDto::getUserId)
+        .containsExactly(2L, 1L, 3L);
+  }
+
+  @Test
+  @DisplayName("내 랭킹 조회 - 랭킹에 없는 사용자")
+  void getRankingAroundUser_notRanked() {
+    // Given
+    when(zSetOperations.reverseRank("user:ranking", "1")).thenReturn(null);
+
+    // When
+    MyRankingResponse response = rankingService.getRankingAroundUser(1L, 5);
+
+    // Then
+    assertThat(response.getMe()).isNull();
+    assertThat(response.getRankings()).isEmpty();
+  }
+
+  @SuppressWarnings("unchecked")
+  private RedisTemplate<String, String> redisTemplateAsString() {
+    return (RedisTemplate<String, String>) (RedisTemplate<?, ?>) redisTemplate;
+  }
+
   // TypedTuple 생성
   private ZSetOperations.TypedTuple<Object> createTypedTuple(String value, Double score) {
     return new ZSetOperations.TypedTuple<Object>() {
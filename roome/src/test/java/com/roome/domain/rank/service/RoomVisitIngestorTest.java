@@ -0,0 +1,96 @@
+package com.roome.domain.rank.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.roome.domain.rank.entity.ActivityType;
+import com.roome.domain.room.repository.RoomVisitStatsRedisRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class RoomVisitIngestorTest {
+
+  @Mock
+  private RoomVisitStatsRedisRepository roomVisitStatsRedisRepository;
+
+  @Mock
+  private UserActivityService userActivityService;
+
+  private RoomVisitIngestor roomVisitIngestor;
+
+  @BeforeEach
+  void setUp() {
+    roomVisitIngestor = new RoomVisitIngestor(roomVisitStatsRedisRepository, userActivityService, 10, 10);
+  }
+
+  @Test
+  @DisplayName("방문은 큐에 넣고 바로 반환하며, 점수는 일괄 처리 때 반영")
+  void enqueueDoesNotScoreOnRequestThread() {
+    // When
+    boolean accepted = roomVisitIngestor.enqueue(1L, 2L, 10L);
+
+    // Then
+    assertThat(accepted).isTrue();
+    assertThat(roomVisitIngestor.pendingCount()).isEqualTo(1);
+    verifyNoInteractions(roomVisitStatsRedisRepository, userActivityService);
+  }
+
+  @Test
+  @DisplayName("하루 첫 방문만 방문자/호스트 모두에게 점수 부여")
+  void flushScoresFirstVisitOnly() {
+    // Given
+    roomVisitIngestor.enqueue(1L, 2L, 10L);
+    roomVisitIngestor.enqueue(1L, 2L, 10L);
+    // 두 번째 방문은 이미 집계된 방문자
+    when(roomVisitStatsRedisRepository.record(anyList())).thenReturn(List.of(true, false));
+
+    // When
+    roomVisitIngestor.flush();
+
+    // Then
+    verify(userActivityService, times(1)).recordUserActivity(1L, ActivityType.ROOM_VISIT, 10L);
+    verify(userActivityService, times(1))
+        .recordUserActivity(2L, ActivityType.VISITOR_COUNT, null);
+    assertThat(roomVisitIngestor.pendingCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("본인 방 방문은 큐에 넣지 않음")
+  void selfVisitIsIgnored() {
+    // When
+    boolean accepted = roomVisitIngestor.enqueue(1L, 1L, 10L);
+
+    // Then
+    assertThat(accepted).isFalse();
+    assertThat(roomVisitIngestor.pendingCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("중복 판별에 실패하면 점수를 부여하지 않음")
+  void flushSkipsScoringWhenDedupFails() {
+    // Given
+    roomVisitIngestor.enqueue(1L, 2L, 10L);
+    when(roomVisitStatsRedisRepository.record(anyList()))
+        .thenThrow(new RedisConnectionFailureException("Redis 연결 실패"));
+
+    // When
+    roomVisitIngestor.flush();
+
+    // Then
+    verify(userActivityService, never()).recordUserActivity(anyLong(), any(), any());
+  }
+}
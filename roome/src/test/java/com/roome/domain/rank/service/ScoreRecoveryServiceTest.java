@@ -0,0 +1,164 @@
+package com.roome.domain.rank.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.roome.domain.rank.entity.ScoreUpdateTask;
+import com.roome.domain.rank.entity.TaskStatus;
+import com.roome.domain.rank.repository.ScoreUpdateTaskRepository;
+import com.roome.domain.rank.service.ScoreRecoveryLog.ScoreDelta;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StreamOperations;
+
+@ExtendWith(MockitoExtension.class)
+class ScoreRecoveryServiceTest {
+
+  @Mock
+  private RedisTemplate<String, String> rankingRedisTemplate;
+
+  @Mock
+  private StreamOperations<String, Object, Object> streamOperations;
+
+  @Mock
+  private ScoreRecoveryLog scoreRecoveryLog;
+
+  @Mock
+  private ScoreUpdateTaskRepository scoreUpdateTaskRepository;
+
+  @Mock
+  private RankerMembershipCache rankerMembershipCache;
+
+  private ScoreRecoveryService scoreRecoveryService;
+
+  @BeforeEach
+  void setUp() {
+    when(rankingRedisTemplate.opsForStream()).thenReturn(streamOperations);
+    scoreRecoveryService = new ScoreRecoveryService(rankingRedisTemplate, scoreRecoveryLog,
+        scoreUpdateTaskRepository, rankerMembershipCache);
+  }
+
+  @Test
+  @DisplayName("DB에 보관된 실패 작업은 작업 ID를 멱등 키로 스트림에 옮긴 뒤 완료 처리")
+  @SuppressWarnings("unchecked")
+  void migratesStoredTasksToStream() {
+    // Given
+    ScoreUpdateTask task = new ScoreUpdateTask(1L, 5);
+    task.setId(10L);
+    task.setStatus(TaskStatus.FAILED);
+    when(scoreUpdateTaskRepository.findTop500ByStatusOrderByIdAsc(TaskStatus.FAILED))
+        .thenReturn(List.of(task));
+
+    // When
+    scoreRecoveryService.recoverFailedScoreUpdates();
+
+    // Then
+    ArgumentCaptor<List<ScoreDelta>> captor = ArgumentCaptor.forClass(List.class);
+    verify(scoreRecoveryLog).append(captor.capture());
+    assertThat(captor.getValue()).extracting(ScoreDelta::id).containsExactly("task:10");
+    assertThat(task.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+    verify(scoreUpdateTaskRepository).saveAll(List.of(task));
+  }
+
+  @Test
+  @DisplayName("기록 당시의 멱등 키가 있는 작업은 같은 키로 스트림에 옮김")
+  @SuppressWarnings("unchecked")
+  void migratesStoredTasksWithOriginalKey() {
+    // Given
+    ScoreUpdateTask task = new ScoreUpdateTask(1L, 5);
+    task.setId(10L);
+    task.setStatus(TaskStatus.FAILED);
+    task.setIdempotencyKey("a");
+    when(scoreUpdateTaskRepository.findTop500ByStatusOrderByIdAsc(TaskStatus.FAILED))
+        .thenReturn(List.of(task));
+
+    // When
+    scoreRecoveryService.recoverFailedScoreUpdates();
+
+    // Then
+    ArgumentCaptor<List<ScoreDelta>> captor = ArgumentCaptor.forClass(List.class);
+    verify(scoreRecoveryLog).append(captor.capture());
+    assertThat(captor.getValue()).extracting(ScoreDelta::id).containsExactly("a");
+  }
+
+  @Test
+  @DisplayName("스트림 항목을 배치로 반영하고 반영된 항목이 있으면 랭킹 변경 알림")
+  @SuppressWarnings("unchecked")
+  void replaysStreamInBatches() {
+    // Given
+    when(scoreUpdateTaskRepository.findTop500ByStatusOrderByIdAsc(TaskStatus.FAILED))
+        .thenReturn(List.of());
+    ScoreDelta delta = new ScoreDelta("a", 1L, 5, LocalDate.now(), true);
+    MapRecord<String, Object, Object> record = StreamRecords.newRecord()
+        .in(ScoreRecoveryLog.STREAM_KEY)
+        .withId("1-0")
+        .ofMap(Map.<Object, Object>copyOf(delta.toFields()));
+    when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class),
+        any(StreamOffset.class)))
+        .thenReturn(List.of())              // 미확인 항목 없음
+        .thenReturn(List.of(record))        // 새 항목
+        .thenReturn(List.of());
+    when(rankingRedisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenReturn(List.of(1L))            // 반영 스크립트
+        .thenReturn(List.of(1L, 1L));       // 확인(ACK), 제거
+
+    // When
+    scoreRecoveryService.recoverFailedScoreUpdates();
+
+    // Then
+    verify(rankingRedisTemplate, times(2)).executePipelined(any(SessionCallback.class));
+    verify(rankerMembershipCache).publishChanged();
+    verify(scoreRecoveryLog, never()).append(anyList());
+  }
+
+  @Test
+  @DisplayName("반영 스크립트가 실패한 항목은 확인(ACK)하지 않고 다음 실행에서 재시도")
+  @SuppressWarnings("unchecked")
+  void doesNotAcknowledgeFailedDeltas() {
+    // Given
+    when(scoreUpdateTaskRepository.findTop500ByStatusOrderByIdAsc(TaskStatus.FAILED))
+        .thenReturn(List.of());
+    ScoreDelta delta = new ScoreDelta("a", 1L, 5, LocalDate.now(), true);
+    MapRecord<String, Object, Object> record = StreamRecords.newRecord()
+        .in(ScoreRecoveryLog.STREAM_KEY)
+        .withId("1-0")
+        .ofMap(Map.<Object, Object>copyOf(delta.toFields()));
+    when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class),
+        any(StreamOffset.class)))
+        .thenReturn(List.of())
+        .thenReturn(List.of(record))
+        .thenReturn(List.of());
+    when(rankingRedisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenThrow(new RedisPipelineException("WRONGTYPE",
+            List.of(new InvalidDataAccessApiUsageException("WRONGTYPE"))));
+
+    // When
+    scoreRecoveryService.recoverFailedScoreUpdates();
+
+    // Then
+    verify(rankingRedisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    verify(rankerMembershipCache, never()).publishChanged();
+  }
+}
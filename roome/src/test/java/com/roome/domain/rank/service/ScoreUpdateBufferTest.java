@@ -0,0 +1,93 @@
+package com.roome.domain.rank.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.roome.global.service.RedisService;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class ScoreUpdateBufferTest {
+
+  @Mock
+  private RedisTemplate<String, String> rankingRedisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Mock
+  private RedisService redisService;
+
+  @Mock
+  private ScoreRecoveryLog scoreRecoveryLog;
+
+  @Mock
+  private RankerMembershipCache rankerMembershipCache;
+
+  @Test
+  @DisplayName("같은 사용자의 증가분은 한 번의 파이프라인으로 반영")
+  void flushCoalescesIncrements() {
+    // Given
+    ScoreUpdateBuffer buffer = new ScoreUpdateBuffer(rankingRedisTemplate, redisService,
+        scoreRecoveryLog, rankerMembershipCache, true);
+    buffer.add(1L, 5);
+    buffer.add(1L, 10);
+    buffer.add(2L, 1);
+
+    // When
+    buffer.flush();
+    buffer.flush(); // 비어 있으면 아무 것도 하지 않음
+
+    // Then
+    verify(rankingRedisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    verify(redisService, never()).updateUserScoreAsync(anyLong(), anyInt());
+  }
+
+  @Test
+  @DisplayName("일괄 반영 실패 시 복구 로그에 기록")
+  void flushFailureFallsBackToTask() {
+    // Given
+    ScoreUpdateBuffer buffer = new ScoreUpdateBuffer(rankingRedisTemplate, redisService,
+        scoreRecoveryLog, rankerMembershipCache, true);
+    when(rankingRedisTemplate.executePipelined(any(SessionCallback.class)))
+        .thenThrow(new RedisConnectionFailureException("Connection refused"));
+    buffer.add(1L, 5);
+    buffer.add(2L, 1);
+
+    // When
+    buffer.flush();
+
+    // Then
+    verify(scoreRecoveryLog).recordAll(Map.of(1L, 5L, 2L, 1L), true);
+  }
+
+  @Test
+  @DisplayName("락 모드에서는 기존 방식으로 즉시 반영")
+  void lockedModeDelegatesToRedisService() {
+    // Given
+    ScoreUpdateBuffer buffer = new ScoreUpdateBuffer(rankingRedisTemplate, redisService,
+        scoreRecoveryLog, rankerMembershipCache, false);
+    when(rankingRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+    // When
+    buffer.add(1L, 5);
+
+    // Then
+    verify(valueOperations).increment("user:total:1", 5);
+    verify(redisService).updateUserScoreAsync(1L, 5);
+  }
+}
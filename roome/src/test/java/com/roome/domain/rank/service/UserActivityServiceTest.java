@@ -1,12 +1,11 @@
 package com.roome.domain.rank.service;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
@@ -16,61 +15,52 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.roome.domain.rank.entity.ActivityType;
-import com.roome.domain.rank.entity.UserActivity;
-import com.roome.domain.rank.repository.UserActivityRepository;
-import com.roome.domain.room.entity.Room;
-import com.roome.domain.room.repository.RoomRepository;
 import com.roome.domain.user.entity.User;
 import com.roome.domain.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 @ExtendWith(MockitoExtension.class)
 public class UserActivityServiceTest {
 
   @Mock
-  private RedisTemplate<String, Object> redisTemplate;
+  private StringRedisTemplate redisTemplate;
 
   @Mock
-  private UserActivityRepository userActivityRepository;
+  private UserActivityWriter userActivityWriter;
 
   @Mock
   private UserRepository userRepository;
 
   @Mock
-  private RoomRepository roomRepository;
+  private ValueOperations<String, String> valueOperations;
 
   @Mock
-  private ValueOperations<String, Object> valueOperations;
-
-  @Mock
-  private ZSetOperations<String, Object> zSetOperations;
+  private ScoreUpdateBuffer scoreUpdateBuffer;
 
   @InjectMocks
   private UserActivityService userActivityService;
 
   private User testUser;
-  private Room testRoom;
 
   @BeforeEach
   void setUp() {
     testUser = User.builder().id(1L).name("Test User").build();
 
-    testRoom = Room.builder().id(1L).user(testUser).build();
-
     lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-    lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
   }
 
   @Test
@@ -78,10 +68,9 @@ public class UserActivityServiceTest {
   void testAttendanceActivityMorningAfternoon() {
     // Given
     Long userId = 1L;
-    when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
 
-    // 오전 출석 (키가 없는 경우)
-    when(redisTemplate.hasKey(anyString())).thenReturn(false);
+    // 오전 출석 (마커가 없는 경우)
+    givenAdmission(1L);
 
     // When
     boolean morningResult = userActivityService.recordUserActivity(userId, ActivityType.ATTENDANCE,
@@ -89,22 +78,20 @@ public class UserActivityServiceTest {
 
     // Then
     assertTrue(morningResult);
-    verify(userActivityRepository).save(any(UserActivity.class));
-    verify(redisTemplate.opsForZSet()).incrementScore(eq("user:ranking"), eq(userId.toString()),
-        eq(1.0));
-
-    // Given - 오후 출석 시도
-    when(redisTemplate.hasKey(anyString())).thenReturn(false);
+    verify(userActivityWriter).enqueue(anyLong(), any(ActivityType.class), any(),
+        any(LocalDateTime.class));
+    verify(scoreUpdateBuffer).add(eq(userId), eq(1));
 
+    // Given - 오후 출석 시도 (다른 시간대 마커)
     // When
     boolean afternoonResult = userActivityService.recordUserActivity(userId,
         ActivityType.ATTENDANCE, null);
 
     // Then
     assertTrue(afternoonResult);
-    verify(userActivityRepository, times(2)).save(any(UserActivity.class));
-    verify(redisTemplate.opsForZSet(), times(2)).incrementScore(eq("user:ranking"),
-        eq(userId.toString()), eq(1.0));
+    verify(userActivityWriter, times(2)).enqueue(anyLong(), any(ActivityType.class), any(),
+        any(LocalDateTime.class));
+    verify(scoreUpdateBuffer, times(2)).add(eq(userId), eq(1));
   }
 
   @Test
@@ -112,10 +99,9 @@ public class UserActivityServiceTest {
   void testAttendanceActivityDuplicatePrevention() {
     // Given
     Long userId = 1L;
-    when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
 
-    // 첫 출석 (키가 없는 경우)
-    when(redisTemplate.hasKey(anyString())).thenReturn(false).thenReturn(true);
+    // 첫 출석만 허용, 같은 시간대 마커가 있으면 스크립트가 0 반환
+    givenAdmission(1L, 0L);
 
     // When
     boolean firstResult = userActivityService.recordUserActivity(userId, ActivityType.ATTENDANCE,
@@ -126,9 +112,9 @@ public class UserActivityServiceTest {
     // Then
     assertTrue(firstResult);
     assertFalse(secondResult);
-    verify(userActivityRepository, times(1)).save(any(UserActivity.class));
-    verify(redisTemplate.opsForZSet(), times(1)).incrementScore(anyString(), anyString(),
-        anyDouble());
+    verify(userActivityWriter, times(1)).enqueue(anyLong(), any(ActivityType.class), any(),
+        any(LocalDateTime.class));
+    verify(scoreUpdateBuffer, times(1)).add(anyLong(), anyInt());
   }
 
   @Test
@@ -137,7 +123,7 @@ public class UserActivityServiceTest {
     // Given
     Long userId = 1L;
     Long bookId = 1L;
-    when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+    givenAdmission(1L);
 
     // When - 30자 미만
     boolean shortReviewResult = userActivityService.recordUserActivity(userId,
@@ -145,7 +131,8 @@ public class UserActivityServiceTest {
 
     // Then
     assertFalse(shortReviewResult);
-    verify(userActivityRepository, never()).save(any(UserActivity.class));
+    verify(userActivityWriter, never()).enqueue(anyLong(), any(ActivityType.class), any(),
+        any(LocalDateTime.class));
 
     // When -30자 이상
     boolean validReviewResult = userActivityService.recordUserActivity(userId,
@@ -153,9 +140,9 @@ public class UserActivityServiceTest {
 
     // Then
     assertTrue(validReviewResult);
-    verify(userActivityRepository).save(any(UserActivity.class));
-    verify(redisTemplate.opsForZSet()).incrementScore(eq("user:ranking"), eq(userId.toString()),
-        eq(15.0));
+    verify(userActivityWriter).enqueue(anyLong(), any(ActivityType.class), any(),
+        any(LocalDateTime.class));
+    verify(scoreUpdateBuffer).add(eq(userId), eq(15));
   }
 
   @Test
@@ -164,7 +151,7 @@ public class UserActivityServiceTest {
     // Given
     Long userId = 1L;
     Long roomId = 1L;
-    when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+    givenAdmission(1L);
 
     // When - 15자 미만
     boolean shortGuestbookResult = userActivityService.recordUserActivity(userId,
@@ -172,7 +159,8 @@ public class UserActivityServiceTest {
 
     // Then
     assertFalse(shortGuestbookResult);
-    verify(userActivityRepository, never()).save(any(UserActivity.class));
+    verify(userActivityWriter, never()).enqueue(anyLong(), any(ActivityType.class), any(),
+        any(LocalDateTime.class));
 
     // When - 15자 이상
     boolean validGuestbookResult = userActivityService.recordUserActivity(userId,
@@ -180,76 +168,9 @@ public class UserActivityServiceTest {
 
     // Then
     assertTrue(validGuestbookResult);
-    verify(userActivityRepository).save(any(UserActivity.class));
-    verify(redisTemplate.opsForZSet()).incrementScore(eq("user:ranking"), eq(userId.toString()),
-        eq(5.0));
-  }
-
-  @Test
-  @DisplayName("방 방문 - 방문자/호스트 모두에게 점수 부여")
-  void testRoomVisit() {
-    // Given
-    Long visitorId = 1L;
-    Long hostId = 2L;
-    User host = User.builder().id(hostId).name("Host User").build();
-    Room room = Room.builder().id(1L).user(host).build();
-
-    when(userRepository.findById(visitorId)).thenReturn(Optional.of(testUser));
-    when(userRepository.findById(hostId)).thenReturn(Optional.of(host));
-    when(roomRepository.findByUserId(hostId)).thenReturn(Optional.of(room));
-    when(redisTemplate.hasKey(anyString())).thenReturn(false);
-
-    // When
-    boolean result = userActivityService.recordVisit(visitorId, hostId);
-
-    // Then
-    assertTrue(result);
-
-    // 방문자에게 ROOM_VISIT 활동 기록 및 +1점
-    ArgumentCaptor<UserActivity> visitorActivityCaptor = ArgumentCaptor.forClass(
-        UserActivity.class);
-    verify(userActivityRepository, times(2)).save(visitorActivityCaptor.capture());
-    UserActivity visitorActivity = visitorActivityCaptor.getAllValues().get(0);
-    assertEquals(ActivityType.ROOM_VISIT, visitorActivity.getActivityType());
-    assertEquals(visitorId, visitorActivity.getUser().getId());
-    verify(redisTemplate.opsForZSet()).incrementScore(eq("user:ranking"), eq(visitorId.toString()),
-        eq(1.0));
-
-    // 호스트에게 VISITOR_COUNT 활동 기록 및 +2점
-    UserActivity hostActivity = visitorActivityCaptor.getAllValues().get(1);
-    assertEquals(ActivityType.VISITOR_COUNT, hostActivity.getActivityType());
-    assertEquals(hostId, hostActivity.getUser().getId());
-    verify(redisTemplate.opsForZSet()).incrementScore(eq("user:ranking"), eq(hostId.toString()),
-        eq(2.0));
-  }
-
-  @Test
-  @DisplayName("방 방문 - 24시간 내 중복 방문 방지")
-  void testRoomVisitDuplicatePrevention() {
-    // Given
-    Long visitorId = 1L;
-    Long hostId = 2L;
-    User host = User.builder().id(hostId).name("Host User").build();
-    Room room = Room.builder().id(1L).user(host).build();
-
-    when(userRepository.findById(visitorId)).thenReturn(Optional.of(testUser));
-    when(userRepository.findById(hostId)).thenReturn(Optional.of(host));
-    when(roomRepository.findByUserId(hostId)).thenReturn(Optional.of(room));
-
-    // 첫 방문 (키가 없는 경우)
-    when(redisTemplate.hasKey(anyString())).thenReturn(false).thenReturn(true);
-
-    // When
-    boolean firstVisitResult = userActivityService.recordVisit(visitorId, hostId);
-    boolean secondVisitResult = userActivityService.recordVisit(visitorId, hostId);
-
-    // Then
-    assertTrue(firstVisitResult);
-    assertFalse(secondVisitResult);
-    verify(userActivityRepository, times(2)).save(
-        any(UserActivity.class)); // 첫 방문에서 visitor와 host 각각 한 번씩
-    verify(redisTemplate.opsForZSet(), times(2)).incrementScore(anyString(), anyString(),
-        anyDouble());
+    verify(userActivityWriter).enqueue(anyLong(), any(ActivityType.class), any(),
+        any(LocalDateTime.class));
+    verify(scoreUpdateBuffer).add(eq(userId), eq(5));
   }
 
   @Test
@@ -264,13 +185,15 @@ public class UserActivityServiceTest {
 
     when(userRepository.findById(followerId)).thenReturn(Optional.of(follower));
     when(userRepository.findById(followingId)).thenReturn(Optional.of(following));
+    givenAdmission(1L);
 
     // When
     boolean result = userActivityService.recordFollowActivity(followerId, followingId);
 
     // Then
     assertTrue(result);
-    verify(userActivityRepository, times(1)).save(any());
+    verify(userActivityWriter, times(1)).enqueue(eq(followingId),
+        eq(ActivityType.FOLLOWER_INCREASE), eq(followerId), any(LocalDateTime.class));
   }
 
   @Test
@@ -310,13 +233,8 @@ public class UserActivityServiceTest {
     Long followerId = 1L;
     Long followingId = 2L;
 
-    User follower = User.builder().id(followerId).build();
-    User following = User.builder().id(followingId).build();
-
-    when(userRepository.findById(followerId)).thenReturn(Optional.of(follower));
-    when(userRepository.findById(followingId)).thenReturn(Optional.of(following));
     doThrow(new DataAccessException("테스트 DB 오류") {
-    }).when(userActivityRepository).save(any());
+    }).when(userRepository).findById(followingId);
 
     // When
     boolean result = userActivityService.recordFollowActivity(followerId, followingId);
@@ -331,9 +249,8 @@ public class UserActivityServiceTest {
     // Given
     Long userId = 1L;
     Long bookId = 1L;
-    when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-    when(redisTemplate.opsForValue().increment(anyString(), eq(0L))).thenReturn(0L).thenReturn(1L)
-        .thenReturn(2L).thenReturn(3L);
+    // 스크립트가 한도(3회)까지만 허용
+    givenAdmission(1L, 1L, 1L, 0L);
 
     // When & Then - 3번까지는 성공
     for (int i = 0; i < 3; i++) {
@@ -347,8 +264,34 @@ public class UserActivityServiceTest {
         bookId, 35);
     assertFalse(fourthResult);
 
-    verify(userActivityRepository, times(3)).save(any(UserActivity.class));
-    verify(redisTemplate.opsForZSet(), times(3)).incrementScore(anyString(), anyString(),
-        anyDouble());
+    verify(userActivityWriter, times(3)).enqueue(anyLong(), any(ActivityType.class), any(),
+        any(LocalDateTime.class));
+    verify(scoreUpdateBuffer, times(3)).add(anyLong(), anyInt());
+  }
+
+  @Test
+  @DisplayName("방명록 작성 - 방 단위 마커와 한도를 스크립트 한 번으로 전달")
+  void testGuestbookAdmissionArguments() {
+    // Given
+    Long userId = 1L;
+    Long roomId = 7L;
+    givenAdmission(1L);
+
+    // When
+    boolean result = userActivityService.recordUserActivity(userId, ActivityType.GUESTBOOK, roomId,
+        20);
+
+    // Then
+    assertTrue(result);
+    verify(redisTemplate, times(1)).execute(any(RedisScript.class),
+        eq(List.of("user:daily:1:" + LocalDate.now())), eq("GUESTBOOK"), eq("5"),
+        eq("GUESTBOOK:room:7"), eq("86400"));
+  }
+
+  // 일일 활동 스크립트 결과 (1: 허용, 0: 거절)
+  @SuppressWarnings("unchecked")
+  private void givenAdmission(Long first, Long... rest) {
+    when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .thenReturn(first, (Object[]) rest);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+package com.roome.domain.rank.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.roome.domain.rank.entity.ActivityType;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+@ExtendWith(MockitoExtension.class)
+class UserActivityWriterTest {
+
+  private static final String RAW_INSERT = "insert into user_activities ";
+  private static final String DAILY_UPSERT = "insert into user_activity_daily ";
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private UserActivityWriter userActivityWriter;
+
+  @BeforeEach
+  void setUp() {
+    userActivityWriter = new UserActivityWriter(jdbcTemplate, transactionManager, 10, 2, true);
+  }
+
+  @Test
+  @DisplayName("큐에 쌓인 활동을 배치 크기 단위로 저장하고 일별 집계 갱신")
+  void flushWritesInBatches() {
+    // Given
+    for (long userId = 1; userId <= 3; userId++) {
+      userActivityWriter.enqueue(userId, ActivityType.ATTENDANCE, null, LocalDateTime.now());
+    }
+
+    // When
+    userActivityWriter.flush();
+
+    // Then
+    verify(jdbcTemplate).batchUpdate(startsWith(RAW_INSERT), anyList(), eq(2),
+        any(ParameterizedPreparedStatementSetter.class));
+    verify(jdbcTemplate).batchUpdate(startsWith(RAW_INSERT), anyList(), eq(1),
+        any(ParameterizedPreparedStatementSetter.class));
+    verify(jdbcTemplate, times(2)).batchUpdate(startsWith(DAILY_UPSERT), anyList(), anyInt(),
+        any(ParameterizedPreparedStatementSetter.class));
+    assertThat(userActivityWriter.pendingCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("원본 저장을 끄면 일별 집계만 갱신")
+  void flushWritesOnlyRollupWhenRawDisabled() {
+    // Given
+    userActivityWriter = new UserActivityWriter(jdbcTemplate, transactionManager, 10, 2, false);
+    userActivityWriter.enqueue(1L, ActivityType.GUESTBOOK, 3L, LocalDateTime.now());
+    userActivityWriter.enqueue(1L, ActivityType.GUESTBOOK, 4L, LocalDateTime.now());
+
+    // When
+    userActivityWriter.flush();
+
+    // Then
+    verify(jdbcTemplate, never()).batchUpdate(startsWith(RAW_INSERT), anyList(), anyInt(),
+        any(ParameterizedPreparedStatementSetter.class));
+    // 같은 사용자, 날짜, 활동 유형은 한 행으로 합산
+    verify(jdbcTemplate).batchUpdate(startsWith(DAILY_UPSERT), anyList(), eq(1),
+        any(ParameterizedPreparedStatementSetter.class));
+  }
+
+  @Test
+  @DisplayName("일괄 저장 실패 시 한 건씩 재시도하고 실패 건수 기록")
+  void flushRetriesRowByRowOnFailure() {
+    // Given
+    userActivityWriter.enqueue(1L, ActivityType.BOOK_REVIEW, 10L, LocalDateTime.now());
+    userActivityWriter.enqueue(2L, ActivityType.BOOK_REVIEW, 11L, LocalDateTime.now());
+    when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(),
+        any(ParameterizedPreparedStatementSetter.class)))
+        .thenThrow(new DataIntegrityViolationException("fk"))   // 배치 원본 저장
+        .thenReturn(new int[][]{{1}})                            // 1번 원본
+        .thenReturn(new int[][]{{1}})                            // 1번 집계
+        .thenThrow(new DataIntegrityViolationException("fk"));  // 2번 원본
+
+    // When
+    userActivityWriter.flush();
+
+    // Then
+    verify(jdbcTemplate, times(4)).batchUpdate(anyString(), anyList(), anyInt(),
+        any(ParameterizedPreparedStatementSetter.class));
+    assertThat(userActivityWriter.failedCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("큐가 가득 차면 호출 스레드가 새 트랜잭션으로 직접 저장")
+  void enqueuePersistsInlineInNewTransactionWhenQueueIsFull() {
+    // Given
+    userActivityWriter = new UserActivityWriter(jdbcTemplate, transactionManager, 1, 2, true);
+    userActivityWriter.enqueue(1L, ActivityType.ATTENDANCE, null, LocalDateTime.now());
+
+    // When
+    userActivityWriter.enqueue(2L, ActivityType.ATTENDANCE, null, LocalDateTime.now());
+
+    // Then
+    verify(transactionManager).getTransaction(argThat(definition ->
+        definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    verify(jdbcTemplate).batchUpdate(startsWith(DAILY_UPSERT), anyList(), eq(1),
+        any(ParameterizedPreparedStatementSetter.class));
+    assertThat(userActivityWriter.pendingCount()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,128 @@
+package com.roome.domain.room.listener;
+
+import com.roome.domain.cdtemplate.event.CdTemplateEvent;
+import com.roome.domain.mybook.event.BookCollectionEvent;
+import com.roome.domain.mybookreview.event.MyBookReviewEvent;
+import com.roome.domain.mycd.event.CdCollectionEvent;
+import com.roome.domain.room.event.RoomLayoutChangedEvent;
+import com.roome.domain.room.repository.RoomSummaryRedisRepository;
+import com.roome.domain.room.repository.RoomSummaryRedisRepository.Field;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RoomSummaryEventListenerTest {
+
+    @Mock
+    private RoomSummaryRedisRepository roomSummaryRedisRepository;
+
+    @InjectMocks
+    private RoomSummaryEventListener eventListener;
+
+    @Test
+    @DisplayName("CD 여러 개를 삭제하면 음악 개수를 삭제한 수만큼 줄이고 CD 장르와 음악 로그 개수를 무효화한다")
+    void handleCdRemoved() {
+        // Given
+        CdCollectionEvent.CdRemovedEvent event = new CdCollectionEvent.CdRemovedEvent(this, 1L, 3);
+
+        // When
+        eventListener.handleCdRemoved(event);
+
+        // Then
+        verify(roomSummaryRedisRepository).update(1L, Map.of(Field.SAVED_MUSIC, -3L),
+                List.of(Field.TOP_CD_GENRES, Field.WRITTEN_MUSIC_LOGS));
+    }
+
+    @Test
+    @DisplayName("책을 삭제하면 책 개수와 함께 삭제된 서평 수만큼 리뷰 개수를 줄인다")
+    void handleBookRemoved() {
+        // Given
+        BookCollectionEvent.BookRemovedEvent event = new BookCollectionEvent.BookRemovedEvent(this, 1L, 2, 1);
+
+        // When
+        eventListener.handleBookRemoved(event);
+
+        // Then
+        verify(roomSummaryRedisRepository).update(1L,
+                Map.of(Field.SAVED_BOOKS, -2L, Field.WRITTEN_REVIEWS, -1L),
+                List.of(Field.TOP_BOOK_GENRES));
+    }
+
+    @Test
+    @DisplayName("음악 로그를 작성하면 음악 로그 개수를 1 늘린다")
+    void handleTemplateCreated() {
+        // When
+        eventListener.handleTemplateCreated(new CdTemplateEvent.CdTemplateCreatedEvent(this, 1L));
+
+        // Then
+        verify(roomSummaryRedisRepository).update(1L, Map.of(Field.WRITTEN_MUSIC_LOGS, 1L), List.of());
+    }
+
+    @Test
+    @DisplayName("방 구성이 바뀌면 구성 정보만 무효화한다")
+    void handleLayoutChanged() {
+        // When
+        eventListener.handleLayoutChanged(new RoomLayoutChangedEvent(this, 1L));
+
+        // Then
+        verify(roomSummaryRedisRepository).update(1L, Map.of(), List.of(Field.LAYOUT));
+    }
+
+    @Test
+    @DisplayName("요약 갱신에 실패하면 요약 전체를 삭제한다")
+    void update_FallsBackToEvict() {
+        // Given
+        doThrow(new RuntimeException("Redis 오류"))
+                .when(roomSummaryRedisRepository).update(anyLong(), any(), any());
+
+        // When
+        eventListener.handleCdAdded(new CdCollectionEvent.CdAddedEvent(this, 1L));
+
+        // Then
+        verify(roomSummaryRedisRepository).evict(1L);
+    }
+
+    @Test
+    @DisplayName("반영 전에 요약 채우기를 막고 반영 후 해제한다")
+    void update_ReservesAroundUpdate() {
+        // When
+        eventListener.handleReviewCreated(new MyBookReviewEvent.MyBookReviewCreatedEvent(this, 1L));
+
+        // Then
+        InOrder order = inOrder(roomSummaryRedisRepository);
+        order.verify(roomSummaryRedisRepository).reserve(1L);
+        order.verify(roomSummaryRedisRepository).update(1L, Map.of(Field.WRITTEN_REVIEWS, 1L), List.of());
+        order.verify(roomSummaryRedisRepository).release(1L);
+    }
+
+    @Test
+    @DisplayName("요약 채우기를 막지 못하면 증감하지 않고 요약 전체를 삭제한다")
+    void update_EvictsWhenReserveFails() {
+        // Given
+        doThrow(new RuntimeException("Redis 오류"))
+                .when(roomSummaryRedisRepository).reserve(anyLong());
+
+        // When
+        eventListener.handleCdAdded(new CdCollectionEvent.CdAddedEvent(this, 1L));
+
+        // Then
+        verify(roomSummaryRedisRepository, never()).update(anyLong(), any(), any());
+        verify(roomSummaryRedisRepository, never()).release(anyLong());
+        verify(roomSummaryRedisRepository).evict(1L);
+    }
+}
@@ -0,0 +1,137 @@
+package com.roome.domain.room.service;
+
+import com.roome.domain.book.entity.repository.GenreRepository;
+import com.roome.domain.cd.repository.CdGenreTypeRepository;
+import com.roome.domain.room.repository.GenreHistogramRedisRepository;
+import com.roome.domain.userGenrePreference.entity.GenreType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GenreHistogramServiceTest {
+
+    @InjectMocks
+    private GenreHistogramService genreHistogramService;
+
+    @Mock
+    private GenreHistogramRedisRepository genreHistogramRedisRepository;
+    @Mock
+    private GenreRepository genreRepository;
+    @Mock
+    private CdGenreTypeRepository cdGenreTypeRepository;
+
+    private static final Long USER_ID = 1L;
+
+    @Test
+    @DisplayName("상위 장르는 분포 카운터에서 개수 내림차순, 같으면 이름순으로 계산한다")
+    void getTopGenres_FromCounters() {
+        // Given
+        when(genreHistogramRedisRepository.read(GenreType.CD, USER_ID))
+                .thenReturn(Optional.of(Map.of("POP", 3L, "ROCK", 5L, "JAZZ", 3L, "K-POP", 1L)));
+
+        // When
+        List<String> topGenres = genreHistogramService.getTopGenres(GenreType.CD, USER_ID, 3);
+
+        // Then
+        assertThat(topGenres).containsExactly("ROCK", "JAZZ", "POP");
+        verifyNoInteractions(cdGenreTypeRepository);
+    }
+
+    @Test
+    @DisplayName("분포가 없으면 DB 집계로 조회 전 버전과 함께 채운다")
+    void readHistogram_FillsOnMiss() {
+        // Given
+        when(genreHistogramRedisRepository.read(GenreType.BOOK, USER_ID)).thenReturn(Optional.empty());
+        when(genreHistogramRedisRepository.readVersion(GenreType.BOOK, USER_ID)).thenReturn(3L);
+        when(genreRepository.countGenresByUserId(USER_ID))
+                .thenReturn(List.of(row("소설", 4L), row("에세이", 2L)));
+
+        // When
+        Map<String, Long> histogram = genreHistogramService.readHistogram(GenreType.BOOK, USER_ID);
+
+        // Then
+        assertThat(histogram).containsExactlyInAnyOrderEntriesOf(Map.of("소설", 4L, "에세이", 2L));
+        verify(genreHistogramRedisRepository).fill(GenreType.BOOK, USER_ID, 3L, histogram);
+    }
+
+    @Test
+    @DisplayName("여러 항목의 장르는 장르별로 합쳐 한 번에 증감한다")
+    void apply_AggregatesGenres() {
+        // When
+        genreHistogramService.apply(GenreType.CD, USER_ID, List.of("POP", "ROCK", "POP"), -1L);
+
+        // Then
+        verify(genreHistogramRedisRepository).increment(GenreType.CD, USER_ID, Map.of("POP", -2L, "ROCK", -1L));
+    }
+
+    @Test
+    @DisplayName("장르를 알 수 없는 변경이면 분포를 지운다")
+    void apply_UnknownGenresEvicts() {
+        // When
+        genreHistogramService.apply(GenreType.BOOK, USER_ID, null, 1L);
+
+        // Then
+        verify(genreHistogramRedisRepository).evict(GenreType.BOOK, USER_ID);
+        verify(genreHistogramRedisRepository, never()).increment(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("재구성은 집계 전 버전으로 DB 값을 덮어쓴다")
+    void rebuild_ReplacesWithDatabaseCounts() {
+        // Given
+        when(genreHistogramRedisRepository.readVersion(GenreType.CD, USER_ID)).thenReturn(9L);
+        when(cdGenreTypeRepository.countGenresByUserId(USER_ID)).thenReturn(List.of(cdRow("POP", 2L)));
+        when(genreHistogramRedisRepository.replace(GenreType.CD, USER_ID, 9L, Map.of("POP", 2L)))
+                .thenReturn(true);
+
+        // When
+        boolean rebuilt = genreHistogramService.rebuild(GenreType.CD, USER_ID);
+
+        // Then
+        assertThat(rebuilt).isTrue();
+    }
+
+    private GenreRepository.GenreCountRow row(String name, Long count) {
+        return new GenreRepository.GenreCountRow() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+
+    private CdGenreTypeRepository.GenreCountRow cdRow(String name, Long count) {
+        return new CdGenreTypeRepository.GenreCountRow() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -1,7 +1,5 @@
 package com.roome.domain.room.service;
 
-import com.roome.domain.book.entity.repository.GenreRepository;
-import com.roome.domain.cd.repository.CdGenreTypeRepository;
 import com.roome.domain.cdcomment.repository.CdCommentRepository;
 import com.roome.domain.furniture.dto.FurnitureResponseDto;
 import com.roome.domain.furniture.entity.Furniture;
@@ -14,17 +12,21 @@ import com.roome.domain.mycd.entity.MyCdCount;
 import com.roome.domain.mycd.repository.MyCdCountRepository;
 import com.roome.domain.point.entity.Point;
 import com.roome.domain.point.service.PointService;
-import com.roome.domain.rank.service.UserActivityService;
+import com.roome.domain.rank.service.RoomVisitIngestor;
 import com.roome.domain.room.dto.RoomResponseDto;
 import com.roome.domain.room.entity.Room;
+import com.roome.domain.room.entity.RoomSummary;
 import com.roome.domain.room.entity.RoomTheme;
 import com.roome.domain.room.entity.RoomThemeUnlock;
+import com.roome.domain.room.event.RoomLayoutChangedEvent;
 import com.roome.domain.room.exception.RoomAuthorizationException;
 import com.roome.domain.room.exception.RoomNoFoundException;
 import com.roome.domain.room.repository.RoomRepository;
+import com.roome.domain.room.repository.RoomSummaryRedisRepository;
 import com.roome.domain.room.repository.RoomThemeUnlockRepository;
 import com.roome.domain.user.entity.User;
 import com.roome.domain.user.repository.UserRepository;
+import com.roome.domain.userGenrePreference.entity.GenreType;
 import com.roome.global.exception.BusinessException;
 import com.roome.global.exception.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,6 +36,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import java.time.LocalDateTime;
@@ -66,15 +69,17 @@ public class RoomServiceTest {
     @Mock
     private FurnitureRepository furnitureRepository;
     @Mock
-    private GenreRepository genreRepository;
-    @Mock
-    private CdGenreTypeRepository cdGenreTypeRepository;
+    private GenreHistogramService genreHistogramService;
     @Mock
     private RoomThemeUnlockRepository roomThemeUnlockRepository;
     @Mock
     private PointService pointService;
     @Mock
-    private UserActivityService userActivityService;
+    private RoomVisitIngestor roomVisitIngestor;
+    @Mock
+    private RoomSummaryRedisRepository roomSummaryRedisRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
 
 
@@ -601,7 +606,6 @@ public class RoomServiceTest {
         Long roomId = room.getId();
 
         when(roomRepository.findById(roomId)).thenReturn(Optional.of(room));
-        when(userActivityService.recordVisit(visitorId, user.getId())).thenReturn(true);
 
         RoomResponseDto response = roomService.visitRoomByRoomId(visitorId, roomId);
 
@@ -610,7 +614,7 @@ public class RoomServiceTest {
         assertEquals(user.getId(), response.getUserId());
 
         verify(roomRepository, times(1)).findById(roomId);
-        verify(userActivityService, times(1)).recordVisit(visitorId, user.getId());
+        verify(roomVisitIngestor, times(1)).enqueue(visitorId, user.getId(), roomId);
     }
 
     @Test
@@ -620,8 +624,6 @@ public class RoomServiceTest {
         Long hostId = user.getId();
 
         when(roomRepository.findByUserId(hostId)).thenReturn(Optional.of(room));
-        when(roomRepository.findById(room.getId())).thenReturn(Optional.of(room));
-        when(userActivityService.recordVisit(visitorId, hostId)).thenReturn(true);
 
         RoomResponseDto response = roomService.visitRoomByHostId(visitorId, hostId);
 
@@ -630,8 +632,8 @@ public class RoomServiceTest {
         assertEquals(hostId, response.getUserId());
 
         verify(roomRepository, times(1)).findByUserId(hostId);
-        verify(roomRepository, times(1)).findById(room.getId());
-        verify(userActivityService, times(1)).recordVisit(visitorId, hostId);
+        verify(roomRepository, never()).findById(anyLong());
+        verify(roomVisitIngestor, times(1)).enqueue(visitorId, hostId, room.getId());
     }
 
     @Test
@@ -648,7 +650,7 @@ public class RoomServiceTest {
         assertEquals(ErrorCode.ROOM_NOT_FOUND, exception.getErrorCode());
 
         verify(roomRepository, times(1)).findById(roomId);
-        verify(userActivityService, never()).recordVisit(anyLong(), anyLong());
+        verify(roomVisitIngestor, never()).enqueue(anyLong(), anyLong(), anyLong());
     }
 
     @Test
@@ -665,7 +667,95 @@ public class RoomServiceTest {
         assertEquals(ErrorCode.ROOM_NOT_FOUND, exception.getErrorCode());
 
         verify(roomRepository, times(1)).findByUserId(hostId);
-        verify(userActivityService, never()).recordVisit(anyLong(), anyLong());
+        verify(roomVisitIngestor, never()).enqueue(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("방 조회 요약이 모두 캐시되어 있으면 DB를 조회하지 않는다")
+    void testGetRoomByUserId_SummaryHit() {
+        // Given
+        Long userId = user.getId();
+        RoomSummary summary = RoomSummary.builder()
+                .layout(RoomSummary.Layout.create(room))
+                .savedMusic(7L)
+                .savedBooks(2L)
+                .writtenReviews(1L)
+                .writtenMusicLogs(3L)
+                .topBookGenres(List.of("소설"))
+                .topCdGenres(List.of("POP", "ROCK"))
+                .build();
+        when(roomSummaryRedisRepository.read(userId)).thenReturn(Optional.of(summary));
+
+        // When
+        RoomResponseDto response = roomService.getRoomByUserId(userId);
+
+        // Then
+        assertEquals(room.getId(), response.getRoomId());
+        assertEquals(7L, response.getUserStorage().getSavedMusic());
+        assertEquals(List.of("POP", "ROCK"), response.getTopCdGenres());
+        verifyNoInteractions(roomRepository, myCdCountRepository, myBookCountRepository,
+                myBookReviewRepository, genreHistogramService);
+        verify(roomSummaryRedisRepository, never()).fill(anyLong(), anyLong(), any());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("방 조회 요약에 비어 있는 항목만 DB에서 계산해 조회 전 버전으로 채운다")
+    void testGetRoomByUserId_PartialSummary() {
+        // Given
+        Long userId = user.getId();
+        RoomSummary cached = RoomSummary.builder()
+                .layout(RoomSummary.Layout.create(room))
+                .savedMusic(7L)
+                .savedBooks(2L)
+                .writtenReviews(1L)
+                .writtenMusicLogs(3L)
+                .topBookGenres(List.of("소설"))
+                .build();
+        when(roomSummaryRedisRepository.read(userId)).thenReturn(Optional.of(cached));
+        when(roomSummaryRedisRepository.readVersion(userId)).thenReturn(4L);
+        when(roomRepository.findByUserId(userId)).thenReturn(Optional.of(room));
+        when(genreHistogramService.getTopGenres(GenreType.CD, userId, 3))
+                .thenReturn(List.of("ROCK", "POP"));
+
+        // When
+        RoomResponseDto response = roomService.getRoomByUserId(userId);
+
+        // Then
+        assertEquals(List.of("ROCK", "POP"), response.getTopCdGenres());
+        assertEquals(List.of("소설"), response.getTopBookGenres());
+        assertEquals(7L, response.getUserStorage().getSavedMusic());
+        verify(roomSummaryRedisRepository).fill(eq(userId), eq(4L), argThat(filled ->
+                filled.getTopCdGenres() != null && filled.getLayout() == null
+                        && filled.getSavedMusic() == null && filled.getTopBookGenres() == null));
+        verifyNoInteractions(myCdCountRepository, myBookCountRepository);
+        verify(genreHistogramService, never()).getTopGenres(eq(GenreType.BOOK), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("방 테마를 변경하면 방 구성 변경 이벤트를 발행한다")
+    void testUpdateRoomTheme_PublishesLayoutChanged() {
+        // Given
+        when(roomRepository.findById(room.getId())).thenReturn(Optional.of(room));
+
+        // When
+        roomService.updateRoomTheme(user.getId(), room.getId(), "basic");
+
+        // Then
+        verify(eventPublisher).publishEvent(any(RoomLayoutChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("가구를 토글하면 장르 분포에서 해당 가구의 상위 장르를 읽는다")
+    void testToggleCdRack_TopGenresFromHistogram() {
+        // Given
+        when(roomRepository.findById(room.getId())).thenReturn(Optional.of(room));
+        when(genreHistogramService.getTopGenres(GenreType.CD, user.getId(), 3))
+                .thenReturn(List.of("JAZZ", "POP"));
+
+        // When
+        FurnitureResponseDto response = roomService.toggleFurnitureVisibility(user.getId(), room.getId(), "CD_RACK");
+
+        // Then
+        assertEquals(List.of("JAZZ", "POP"), response.getTopGenres());
+    }
+}
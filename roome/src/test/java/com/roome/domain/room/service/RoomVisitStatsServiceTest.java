@@ -0,0 +1,95 @@
+package com.roome.domain.room.service;
+
+import com.roome.domain.room.dto.RoomVisitStatsResponseDto;
+import com.roome.domain.room.entity.Room;
+import com.roome.domain.room.repository.RoomRepository;
+import com.roome.domain.room.repository.RoomVisitStatsRedisRepository;
+import com.roome.domain.room.repository.RoomVisitStatsRedisRepository.Counts;
+import com.roome.domain.room.repository.RoomVisitStatsRedisRepository.Snapshot;
+import com.roome.domain.user.entity.User;
+import com.roome.global.exception.BusinessException;
+import com.roome.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoomVisitStatsServiceTest {
+
+    @InjectMocks
+    private RoomVisitStatsService roomVisitStatsService;
+
+    @Mock
+    private RoomRepository roomRepository;
+    @Mock
+    private RoomVisitStatsRedisRepository roomVisitStatsRedisRepository;
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long ROOM_ID = 10L;
+
+    @Test
+    @DisplayName("방 소유자는 최근 7일/30일 일별 통계와 기간 고유 방문자 수를 조회한다")
+    void getVisitStats_Owner() {
+        // Given
+        when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.of(room(OWNER_ID)));
+        LocalDate today = LocalDate.now();
+        List<Counts> daily = new ArrayList<>();
+        for (int i = 29; i >= 0; i--) {
+            daily.add(new Counts(today.minusDays(i), 1L, 2L));
+        }
+        when(roomVisitStatsRedisRepository.read(eq(ROOM_ID), any(LocalDate.class), eq(List.of(7, 30))))
+                .thenReturn(new Snapshot(daily, Map.of(7, 5L, 30, 12L),
+                        new Counts(today, 4L, 9L), new Counts(today.withDayOfMonth(1), 11L, 40L)));
+
+        // When
+        RoomVisitStatsResponseDto stats = roomVisitStatsService.getVisitStats(OWNER_ID, ROOM_ID);
+
+        // Then
+        assertThat(stats.getLast7Days().getDaily()).hasSize(7);
+        assertThat(stats.getLast7Days().getDaily().get(6).getDate()).isEqualTo(today);
+        assertThat(stats.getLast7Days().getUniqueVisitors()).isEqualTo(5L);
+        assertThat(stats.getLast7Days().getTotalVisits()).isEqualTo(14L);
+        assertThat(stats.getLast30Days().getDaily()).hasSize(30);
+        assertThat(stats.getLast30Days().getUniqueVisitors()).isEqualTo(12L);
+        assertThat(stats.getLast30Days().getTotalVisits()).isEqualTo(60L);
+        assertThat(stats.getThisMonth().getTotalVisits()).isEqualTo(40L);
+    }
+
+    @Test
+    @DisplayName("방 소유자가 아니면 방문 통계를 조회할 수 없다")
+    void getVisitStats_NotOwner() {
+        // Given
+        when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.of(room(OWNER_ID)));
+
+        // When & Then
+        assertThatThrownBy(() -> roomVisitStatsService.getVisitStats(2L, ROOM_ID))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ROOM_ACCESS_DENIED);
+        verify(roomVisitStatsRedisRepository, never()).read(anyLong(), any(), anyList());
+    }
+
+    private Room room(Long ownerId) {
+        User owner = User.builder().id(ownerId).build();
+        return Room.builder().id(ROOM_ID).user(owner).build();
+    }
+}
@@ -43,6 +43,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -77,6 +78,8 @@ class UserServiceTest {
   private PointRepository pointRepository;
   @Mock
   private MyBookCountRepository myBookCountRepository; // 추가
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
 
   private static final Long USER_ID = 1L;
   private static final Long ROOM_ID = 1L;
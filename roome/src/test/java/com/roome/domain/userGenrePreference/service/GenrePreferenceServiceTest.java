@@ -136,17 +136,17 @@ class GenrePreferenceServiceTest {
     void updateCdGenrePreferences_WithCds_ShouldSavePreferences() {
         // Given
         Long userId = 1L;
-        List<MyCd> myCds = Arrays.asList(testMyCd1, testMyCd2, testMyCd3);
 
         when(userRepository.findById(eq(userId))).thenReturn(Optional.of(testUser));
-        when(myCdRepository.findByUserId(eq(userId))).thenReturn(myCds);
+        when(myCdRepository.findTopCdGenreNames(eq(userId), eq(3)))
+                .thenReturn(List.of("Pop", "Rock", "Jazz"));
 
         // When
         genrePreferenceService.updateCdGenrePreferences(userId);
 
         // Then
         verify(userRepository).findById(eq(userId));
-        verify(myCdRepository).findByUserId(eq(userId));
+        verify(myCdRepository).findTopCdGenreNames(eq(userId), eq(3));
         verify(userGenrePreferenceRepository).deleteByUserIdAndGenreType(eq(userId), eq(GenreType.CD));
         verify(userGenrePreferenceRepository, times(3)).save(any(UserGenrePreference.class));
     }
@@ -156,17 +156,16 @@ class GenrePreferenceServiceTest {
     void updateCdGenrePreferences_WithoutCds_ShouldDeleteExistingPreferences() {
         // Given
         Long userId = 1L;
-        List<MyCd> myCds = Collections.emptyList();
 
         when(userRepository.findById(eq(userId))).thenReturn(Optional.of(testUser));
-        when(myCdRepository.findByUserId(eq(userId))).thenReturn(myCds);
+        when(myCdRepository.findTopCdGenreNames(eq(userId), eq(3))).thenReturn(Collections.emptyList());
 
         // When
         genrePreferenceService.updateCdGenrePreferences(userId);
 
         // Then
         verify(userRepository).findById(eq(userId));
-        verify(myCdRepository).findByUserId(eq(userId));
+        verify(myCdRepository).findTopCdGenreNames(eq(userId), eq(3));
         verify(userGenrePreferenceRepository).deleteByUserIdAndGenreType(eq(userId), eq(GenreType.CD));
         verify(userGenrePreferenceRepository, never()).save(any(UserGenrePreference.class));
     }
@@ -224,7 +223,7 @@ class GenrePreferenceServiceTest {
         });
 
         verify(userRepository).findById(eq(userId));
-        verify(myCdRepository, never()).findByUserId(any());
+        verify(myCdRepository, never()).findTopCdGenreNames(any(), anyInt());
     }
 
     // Helper methods
@@ -0,0 +1,213 @@
+package com.roome.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.roome.global.exception.BusinessException;
+import com.roome.global.exception.ErrorCode;
+import com.roome.global.service.RedisLockService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogCacheTest {
+
+  @Mock
+  private RedisLockService redisLockService;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private final AtomicLong now = new AtomicLong(1_000);
+  private final AtomicReference<String> stored = new AtomicReference<>();
+  private final AtomicInteger finds = new AtomicInteger();
+  private final AtomicInteger creates = new AtomicInteger();
+  private final List<String> detached = new CopyOnWriteArrayList<>();
+
+  private CatalogCache<String> cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new CatalogCache<>("test", redisLockService, transactionManager, detached::add, 2, 100,
+        Duration.ofMinutes(1), Duration.ofSeconds(10), now::get);
+  }
+
+  @Test
+  @DisplayName("생성한 항목은 캐시되어 이후 조회 시 DB를 읽지 않음")
+  void cachesCreatedValue() {
+    // Given
+    givenLockRunsSupplier();
+
+    // When
+    String first = cache.resolve("isbn", this::find, this::create);
+    String second = cache.resolve("isbn", this::find, this::create);
+
+    // Then
+    assertThat(first).isEqualTo("created");
+    assertThat(second).isEqualTo("created");
+    assertThat(creates).hasValue(1);
+    // 락 밖 조회 1번 + 락 안 재확인 1번
+    assertThat(finds).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("음성 캐시된 키는 락 안에서만 다시 확인하여 다른 노드가 만든 항목을 찾음")
+  void negativeEntryRechecksUnderLock() {
+    // Given: 조회 결과가 없어 음성 캐시된 상태 (생성은 실패)
+    givenLockRunsSupplier();
+    assertThatThrownBy(() -> cache.resolve("isbn", this::find, () -> {
+      throw new IllegalStateException("create failed");
+    })).isInstanceOf(IllegalStateException.class);
+
+    // When: 다른 노드가 생성한 뒤 다시 조회
+    stored.set("other-node");
+    String value = cache.resolve("isbn", this::find, this::create);
+
+    // Then: 락 밖 조회 없이 락 안에서 한 번만 확인
+    assertThat(value).isEqualTo("other-node");
+    assertThat(finds).hasValue(3);
+    assertThat(creates).hasValue(0);
+  }
+
+  @Test
+  @DisplayName("같은 키의 동시 최초 생성은 한 번만 수행")
+  void collapsesConcurrentCreates() throws Exception {
+    // Given
+    givenLockRunsSupplier();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    Supplier<String> slowCreate = () -> {
+      sleep();
+      return create();
+    };
+
+    // When
+    List<Future<String>> results = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      results.add(executor.submit(() -> {
+        start.await();
+        return cache.resolve("cd", this::find, slowCreate);
+      }));
+    }
+    start.countDown();
+
+    // Then
+    for (Future<String> result : results) {
+      assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("created");
+    }
+    executor.shutdown();
+    assertThat(creates).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("호출 측 트랜잭션에서 찾은 항목은 영속성 컨텍스트에서 분리한 뒤 캐시")
+  void detachesValueFoundInCallerTransaction() {
+    // Given
+    stored.set("existing");
+
+    // When
+    String value = cache.resolve("isbn", this::find, this::create);
+
+    // Then
+    assertThat(value).isEqualTo("existing");
+    assertThat(detached).containsExactly("existing");
+  }
+
+  @Test
+  @DisplayName("동시 생성 한도를 넘으면 커넥션을 더 잡지 않고 실패")
+  void rejectsCreatesOverPermitLimit() throws Exception {
+    // Given: 다른 키 두 개가 생성 중 (한도 2)
+    CountDownLatch creating = new CountDownLatch(2);
+    CountDownLatch release = new CountDownLatch(1);
+    givenLockRunsSupplier();
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    for (String key : List.of("a", "b")) {
+      executor.submit(() -> cache.resolve(key, Optional::empty, () -> {
+        creating.countDown();
+        await(release);
+        return key;
+      }));
+    }
+    assertThat(creating.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // When & Then
+    assertThatThrownBy(() -> cache.resolve("c", Optional::empty, () -> "c"))
+        .isInstanceOf(BusinessException.class)
+        .extracting("errorCode")
+        .isEqualTo(ErrorCode.CATALOG_CREATION_BUSY);
+    release.countDown();
+    executor.shutdown();
+  }
+
+  @Test
+  @DisplayName("키가 없으면 캐시/락 없이 매번 바로 생성")
+  void createsDirectlyWithoutKey() {
+    // When
+    String withNull = cache.resolve(null, this::find, this::create);
+    String withBlank = cache.resolve(" ", this::find, this::create);
+
+    // Then
+    assertThat(withNull).isEqualTo("created");
+    assertThat(withBlank).isEqualTo("created");
+    assertThat(creates).hasValue(2);
+    assertThat(finds).hasValue(0);
+    verifyNoInteractions(redisLockService, transactionManager);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void givenLockRunsSupplier() {
+    when(redisLockService.executeWithLock(anyString(), anyLong(), anyLong(), any()))
+        .thenAnswer(invocation -> ((Supplier<String>) invocation.getArgument(3)).get());
+  }
+
+  private Optional<String> find() {
+    finds.incrementAndGet();
+    return Optional.ofNullable(stored.get());
+  }
+
+  private String create() {
+    creates.incrementAndGet();
+    stored.set("created");
+    return "created";
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleep() {
+    try {
+      Thread.sleep(100);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
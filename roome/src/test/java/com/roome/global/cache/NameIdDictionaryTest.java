@@ -0,0 +1,164 @@
+package com.roome.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class NameIdDictionaryTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private NameIdDictionary dictionary;
+
+  @BeforeEach
+  void setUp() {
+    dictionary = new NameIdDictionary("genre", jdbcTemplate, transactionManager);
+  }
+
+  @Test
+  @DisplayName("시작 시 적재된 이름은 DB 조회 없이 ID로 변환")
+  void resolvesWarmedNamesWithoutQuery() {
+    // Given
+    doAnswer(rows(Map.of(1L, "소설", 2L, "Pop")))
+        .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+    dictionary.warmUp();
+
+    // When
+    List<NameIdDictionary.Entry> entries = dictionary.resolve(List.of("pop", "소설", "POP"));
+
+    // Then
+    assertThat(entries).containsExactly(new NameIdDictionary.Entry(2L, "Pop"),
+        new NameIdDictionary.Entry(1L, "소설"));
+    verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+  }
+
+  @Test
+  @DisplayName("없는 이름은 한 번의 upsert로 추가하고 이후에는 다시 조회하지 않음")
+  void insertsMissingNamesInOneStatement() {
+    // Given
+    doAnswer(lookupRows(List.of(row(10L, "재즈", "재즈"), row(11L, "락", "락"))))
+        .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+    // When
+    List<NameIdDictionary.Entry> first = dictionary.resolve(List.of("재즈", "", "락", "재즈"));
+    List<NameIdDictionary.Entry> second = dictionary.resolve(List.of("락"));
+
+    // Then
+    assertThat(first).extracting(NameIdDictionary.Entry::id).containsExactly(10L, 11L);
+    assertThat(second).extracting(NameIdDictionary.Entry::id).containsExactly(11L);
+    verify(jdbcTemplate, times(1)).update(
+        eq("insert into genre (name) values (?),(?) on duplicate key update name = name"),
+        eq(new Object[]{"재즈", "락"}));
+  }
+
+  @Test
+  @DisplayName("공백을 제거하고, DB 콜레이션이 같다고 본 다른 표기는 기존 항목으로 연결")
+  void mapsCollationEqualNamesToExistingRows() {
+    // Given
+    doAnswer(lookupRows(List.of(row(10L, "Jazz", "jazz"), row(11L, "Café", "cafe"))))
+        .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+    // When
+    List<NameIdDictionary.Entry> first = dictionary.resolve(List.of(" jazz  ", "cafe", "JAZZ"));
+    List<NameIdDictionary.Entry> second = dictionary.resolve(List.of("CAFE", "Café"));
+
+    // Then
+    assertThat(first).containsExactly(new NameIdDictionary.Entry(10L, "Jazz"),
+        new NameIdDictionary.Entry(11L, "Café"));
+    assertThat(second).containsExactly(new NameIdDictionary.Entry(11L, "Café"));
+    verify(jdbcTemplate, times(1)).update(
+        eq("insert into genre (name) values (?),(?) on duplicate key update name = name"),
+        eq(new Object[]{"jazz", "cafe"}));
+  }
+
+  @Test
+  @DisplayName("추가 후에도 찾지 못한 이름은 예외 없이 제외")
+  void skipsNamesNotFoundAfterInsert() {
+    // Given
+    doAnswer(lookupRows(List.of(row(10L, "재즈", "재즈"))))
+        .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+    // When
+    List<NameIdDictionary.Entry> entries = dictionary.resolve(List.of("재즈", "락"));
+
+    // Then
+    assertThat(entries).extracting(NameIdDictionary.Entry::id).containsExactly(10L);
+  }
+
+  @Test
+  @DisplayName("사전 적재에 실패해도 예외 없이 조회 시점에 채움")
+  void warmUpFailureIsIgnored() {
+    // Given
+    doAnswer(invocation -> {
+      throw new IllegalStateException("db down");
+    }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+    // When
+    dictionary.warmUp();
+
+    // Then
+    assertThat(dictionary.size()).isZero();
+    assertThat(dictionary.resolve(null)).isEmpty();
+  }
+
+  private static Answer<Void> rows(Map<Long, String> rows) {
+    return invocation -> {
+      RowCallbackHandler handler = invocation.getArgument(1);
+      for (Map.Entry<Long, String> row : rows.entrySet()) {
+        handler.processRow(resultSet(row.getKey(), row.getValue()));
+      }
+      return null;
+    };
+  }
+
+  // 추가 후 조회 결과 (id, 저장된 이름, 요청한 이름)
+  private static Answer<Void> lookupRows(List<Object[]> rows) {
+    return invocation -> {
+      RowCallbackHandler handler = invocation.getArgument(1);
+      for (Object[] row : rows) {
+        ResultSet resultSet = resultSet((Long) row[0], (String) row[1]);
+        when(resultSet.getString("requested")).thenReturn((String) row[2]);
+        handler.processRow(resultSet);
+      }
+      return null;
+    };
+  }
+
+  private static Object[] row(Long id, String name, String requested) {
+    return new Object[]{id, name, requested};
+  }
+
+  private static ResultSet resultSet(Long id, String name) throws SQLException {
+    ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.getLong("id")).thenReturn(id);
+    when(resultSet.getString("name")).thenReturn(name);
+    return resultSet;
+  }
+}
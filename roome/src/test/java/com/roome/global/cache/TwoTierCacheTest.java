@@ -0,0 +1,241 @@
+package com.roome.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheTest {
+
+  @Mock
+  private RemoteCacheStore<Long, String> remote;
+
+  @Mock
+  private VersionedRedisCache versions;
+
+  private final AtomicLong now = new AtomicLong(1_000);
+  private final List<String> published = new ArrayList<>();
+  private final AtomicInteger loads = new AtomicInteger();
+  private final Function<Long, String> loader = key -> {
+    loads.incrementAndGet();
+    return "value-" + key;
+  };
+
+  private TwoTierCache<Long, String> cache;
+
+  @BeforeEach
+  void setUp() {
+    // 기본: 조회 중 변경 없음 (모든 버전 0)
+    lenient().when(versions.readVersions(anyList()))
+        .thenAnswer(invocation -> Collections.nCopies(invocation.<List<?>>getArgument(0).size(), 0L));
+    cache = new TwoTierCache<>("test",
+        TwoTierCacheSettings.<String>builder()
+            .localMaxWeightBytes(800)
+            .localTtl(Duration.ofSeconds(10))
+            .localAdmissionFrequency(3)
+            .remoteAdmissionFrequency(2)
+            .weigher(value -> 100)
+            .build(),
+        remote, versions, published::add, now::get);
+  }
+
+  @Test
+  @DisplayName("한 번만 조회된 키는 L2에 저장하지 않고 반복 조회되면 저장")
+  void writesRemoteOnlyForFrequentKeys() {
+    // When
+    cache.get(1L, loader);
+    cache.get(1L, loader);
+
+    // Then
+    verify(remote, times(1)).write(eq(1L), eq("value-1"), any(Duration.class));
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("빈도가 충분한 키는 L1에서 응답하고 L1 만료 후에는 L2 조회")
+  void servesFrequentKeysFromLocal() {
+    // Given
+    cache.get(1L, loader);
+    cache.get(1L, loader);
+    cache.get(1L, loader); // 세 번째 조회에서 L1 저장
+
+    // When
+    String value = cache.get(1L, loader);
+
+    // Then
+    assertThat(value).isEqualTo("value-1");
+    assertThat(cache.stats().localHits()).isEqualTo(1);
+
+    // L1 만료 후
+    now.addAndGet(Duration.ofSeconds(11).toMillis());
+    when(remote.read(1L)).thenReturn("value-1");
+    cache.get(1L, loader);
+    assertThat(cache.stats().remoteHits()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("L1 크기 상한을 넘으면 가장 오래 사용되지 않은 항목부터 제거")
+  void evictsLeastRecentlyUsedWhenOverWeight() {
+    // Given: 항목당 100바이트, 상한 800바이트
+    for (long key = 1; key <= 9; key++) {
+      for (int i = 0; i < 3; i++) {
+        cache.get(key, loader);
+      }
+    }
+
+    // Then
+    CacheStats stats = cache.stats();
+    assertThat(stats.localSize()).isEqualTo(8);
+    assertThat(stats.localWeightBytes()).isLessThanOrEqualTo(800);
+    assertThat(stats.localEvictions()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("삭제 시 L2와 L1에서 제거하고 다른 노드에 무효화 메시지 발행")
+  void evictRemovesBothTiersAndPublishes() {
+    // Given
+    for (int i = 0; i < 3; i++) {
+      cache.get(1L, loader);
+    }
+
+    // When
+    cache.evict(1L);
+    cache.get(1L, loader);
+
+    // Then
+    InOrder order = inOrder(versions, remote);
+    order.verify(versions).increaseVersion("cache:test:1:version");
+    order.verify(remote).delete(1L);
+    assertThat(published).containsExactly("1");
+    assertThat(cache.stats().localHits()).isZero();
+  }
+
+  @Test
+  @DisplayName("DB 조회 중 값이 변경되면 채운 L2/L1 값을 지움")
+  void discardsFillWhenVersionChangesDuringLoad() {
+    // Given: 조회 전 버전 0, 채운 뒤 버전 1 (다른 요청이 커밋 후 삭제)
+    cache.get(1L, loader);
+    cache.get(1L, loader);
+    when(versions.readVersions(List.of("cache:test:1:version")))
+        .thenReturn(List.of(0L), List.of(1L));
+
+    // When
+    String value = cache.get(1L, loader);
+    cache.get(1L, loader);
+
+    // Then: 조회 결과는 그대로 반환하지만 L2에서 지우고 L1에도 남기지 않음
+    assertThat(value).isEqualTo("value-1");
+    verify(remote).delete(1L);
+    assertThat(cache.stats().localHits()).isZero();
+  }
+
+  @Test
+  @DisplayName("버전을 읽지 못하면 DB 조회 결과를 캐시에 채우지 않음")
+  void skipsFillWhenVersionUnavailable() {
+    // Given
+    when(versions.readVersions(anyList())).thenThrow(new IllegalStateException("redis down"));
+
+    // When
+    cache.get(1L, loader);
+    String value = cache.get(1L, loader);
+
+    // Then
+    assertThat(value).isEqualTo("value-1");
+    verify(remote, never()).write(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("다른 노드의 무효화 메시지를 받으면 L1 항목 제거")
+  void invalidationMessageRemovesLocalEntry() {
+    // Given
+    for (int i = 0; i < 3; i++) {
+      cache.get(1L, loader);
+    }
+
+    // When
+    cache.onInvalidation("1");
+    cache.get(1L, loader);
+
+    // Then
+    assertThat(cache.stats().localHits()).isZero();
+    assertThat(published).isEmpty();
+  }
+
+  @Test
+  @DisplayName("여러 키 조회 시 L2 일괄 조회 후 없는 키만 한 번에 로드하고 요청 순서 유지")
+  void getAllPreservesOrder() {
+    // Given
+    when(remote.readAll(anyList())).thenReturn(Map.of(2L, "remote-2"));
+    List<List<Long>> batches = new ArrayList<>();
+
+    // When
+    Map<Long, String> result = cache.getAll(List.of(3L, 2L, 1L, 4L), keys -> {
+      batches.add(keys);
+      // 4번은 삭제된 항목
+      return Map.of(1L, "value-1", 3L, "value-3");
+    });
+
+    // Then
+    assertThat(result.keySet()).containsExactly(3L, 2L, 1L);
+    assertThat(result.get(2L)).isEqualTo("remote-2");
+    assertThat(batches).containsExactly(List.of(3L, 1L, 4L));
+    verify(remote, never()).writeAll(any(), any());
+  }
+
+  @Test
+  @DisplayName("여러 키 조회 시 반복 조회된 키만 모아서 L2에 한 번에 저장")
+  void getAllWritesFrequentMissesInOneBatch() {
+    // Given
+    Function<List<Long>, Map<Long, String>> batchLoader = keys -> {
+      Map<Long, String> values = new HashMap<>();
+      keys.forEach(key -> values.put(key, "value-" + key));
+      return values;
+    };
+    cache.getAll(List.of(1L, 2L), batchLoader);
+
+    // When
+    cache.getAll(List.of(1L, 2L, 3L), batchLoader);
+
+    // Then
+    verify(remote, times(1)).writeAll(eq(Map.of(1L, "value-1", 2L, "value-2")),
+        any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("Redis 장애 시 DB 조회 결과를 그대로 반환")
+  void fallsBackToLoaderWhenRemoteFails() {
+    // Given
+    when(remote.read(1L)).thenThrow(new IllegalStateException("redis down"));
+
+    // When
+    String value = cache.get(1L, loader);
+
+    // Then
+    assertThat(value).isEqualTo("value-1");
+    assertThat(cache.stats().remoteErrors()).isEqualTo(1);
+  }
+}
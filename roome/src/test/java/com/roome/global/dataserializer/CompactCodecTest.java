@@ -0,0 +1,156 @@
+package com.roome.global.dataserializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.roome.domain.mycd.dto.MyCdListResponse;
+import com.roome.domain.mycd.dto.MyCdResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class CompactCodecTest {
+
+  private static final Logger log = LoggerFactory.getLogger(CompactCodecTest.class);
+
+  // 기존 RedisConfig의 JSON 직렬화와 같은 설정
+  private final ObjectMapper jsonMapper = new ObjectMapper()
+      .registerModule(new JavaTimeModule())
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+  @Test
+  @DisplayName("직렬화 후 역직렬화하면 같은 값이 복원된다")
+  void roundTrip() {
+    // Given
+    CompactCodec<MyCdResponse> codec = CompactCodec.of(MyCdResponse.class, 1);
+    MyCdResponse response = cd(1L);
+
+    // When
+    MyCdResponse restored = codec.deserialize(codec.serialize(response));
+
+    // Then
+    assertThat(restored).usingRecursiveComparison().isEqualTo(response);
+  }
+
+  @Test
+  @DisplayName("이전 JSON 형식으로 저장된 값도 읽을 수 있다")
+  void deserialize_LegacyJson() throws Exception {
+    // Given
+    CompactCodec<MyCdListResponse> codec = CompactCodec.of(MyCdListResponse.class, 1);
+    MyCdListResponse response = list(3);
+    byte[] json = jsonMapper.writeValueAsBytes(response);
+
+    // When
+    MyCdListResponse restored = codec.deserialize(json);
+
+    // Then
+    assertThat(restored).usingRecursiveComparison().isEqualTo(response);
+  }
+
+  @Test
+  @DisplayName("스키마 버전이 다르거나 해석할 수 없는 값은 null(캐시 미스)로 처리한다")
+  void deserialize_SchemaMismatch() {
+    // Given
+    byte[] v1 = CompactCodec.of(MyCdResponse.class, 1).serialize(cd(1L));
+    CompactCodec<MyCdResponse> v2 = CompactCodec.of(MyCdResponse.class, 2);
+
+    // When & Then
+    assertThat(v2.deserialize(v1)).isNull();
+    assertThat(v2.deserialize(new byte[]{1, 2, 3})).isNull();
+    assertThat(v2.deserialize(new byte[0])).isNull();
+  }
+
+  @Test
+  @DisplayName("임계값 이상인 값은 압축하여 저장하고 그대로 복원한다")
+  void serialize_CompressesLargeValue() {
+    // Given
+    CompactCodec<MyCdListResponse> codec = CompactCodec.of(MyCdListResponse.class, 1, 256);
+    MyCdListResponse response = list(20);
+
+    // When
+    byte[] bytes = codec.serialize(response);
+
+    // Then
+    assertThat(bytes[0]).isEqualTo(CompactCodec.MAGIC);
+    assertThat(bytes[2] & CompactCodec.FLAG_COMPRESSED).isEqualTo(CompactCodec.FLAG_COMPRESSED);
+    assertThat(codec.deserialize(bytes)).usingRecursiveComparison().isEqualTo(response);
+  }
+
+  @Test
+  @DisplayName("CD 목록 응답은 JSON보다 작게 저장된다")
+  void serialize_SmallerThanJson() throws Exception {
+    // Given
+    CompactCodec<MyCdListResponse> codec = CompactCodec.of(MyCdListResponse.class, 1);
+    MyCdListResponse response = list(20);
+
+    // When
+    byte[] compact = codec.serialize(response);
+    byte[] json = jsonMapper.writeValueAsBytes(response);
+
+    // Then
+    assertThat(compact.length).isLessThan(json.length);
+  }
+
+  // ./gradlew test --tests CompactCodecTest -Dbenchmark=true
+  @Test
+  @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+  @DisplayName("JSON 대비 크기와 직렬화/역직렬화 시간 비교")
+  void benchmark() throws Exception {
+    CompactCodec<MyCdListResponse> codec = CompactCodec.of(MyCdListResponse.class, 1);
+    MyCdListResponse response = list(20);
+    int iterations = 50_000;
+
+    byte[] json = jsonMapper.writeValueAsBytes(response);
+    byte[] compact = codec.serialize(response);
+
+    // 워밍업
+    for (int i = 0; i < iterations; i++) {
+      jsonMapper.readValue(jsonMapper.writeValueAsBytes(response), MyCdListResponse.class);
+      codec.deserialize(codec.serialize(response));
+    }
+
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      jsonMapper.readValue(jsonMapper.writeValueAsBytes(response), MyCdListResponse.class);
+    }
+    long jsonNanos = (System.nanoTime() - start) / iterations;
+
+    start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      codec.deserialize(codec.serialize(response));
+    }
+    long compactNanos = (System.nanoTime() - start) / iterations;
+
+    log.info("JSON    : {} bytes, {} ns/op", json.length, jsonNanos);
+    log.info("Compact : {} bytes, {} ns/op", compact.length, compactNanos);
+  }
+
+  private MyCdListResponse list(int size) {
+    List<MyCdResponse> data = new ArrayList<>();
+    for (long id = 1; id <= size; id++) {
+      data.add(cd(id));
+    }
+    return MyCdListResponse.of(data, size, 1L, size);
+  }
+
+  private MyCdResponse cd(Long id) {
+    return MyCdResponse.builder()
+        .myCdId(id)
+        .title("Title " + id)
+        .artist("Artist")
+        .album("Album " + id)
+        .releaseDate(LocalDate.of(2024, 1, 1).plusDays(id))
+        .genres(List.of("Pop", "Rock"))
+        .coverUrl("https://example.com/cover/" + id + ".jpg")
+        .youtubeUrl("https://youtube.com/watch?v=" + id)
+        .duration(180 + id)
+        .build();
+  }
+}
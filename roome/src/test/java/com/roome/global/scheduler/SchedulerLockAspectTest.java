@@ -0,0 +1,103 @@
+package com.roome.global.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerLockAspectTest {
+
+  @Mock
+  private RedissonClient redissonClient;
+
+  @Mock
+  private RLock lock;
+
+  @Mock
+  private RMap<String, String> jobMap;
+
+  @Mock
+  private ProceedingJoinPoint joinPoint;
+
+  private SchedulerLockAspect schedulerLockAspect;
+  private SchedulerLock schedulerLock;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    schedulerLockAspect = new SchedulerLockAspect(redissonClient);
+    schedulerLock = SchedulerLockAspectTest.class.getDeclaredMethod("sampleJob")
+        .getAnnotation(SchedulerLock.class);
+    when(redissonClient.getLock("scheduler:lock:sample")).thenReturn(lock);
+  }
+
+  @SchedulerLock(name = "sample", minIntervalSeconds = 60)
+  void sampleJob() {
+  }
+
+  @Test
+  @DisplayName("락을 얻은 노드만 작업을 실행하고 실행 기록을 남김")
+  void runsWhenLockAcquired() throws Throwable {
+    // Given
+    when(lock.tryLock(0, TimeUnit.MILLISECONDS)).thenReturn(true);
+    when(lock.isHeldByCurrentThread()).thenReturn(true);
+    when(redissonClient.<String, String>getMap(eq("scheduler:job:sample"), any(StringCodec.class)))
+        .thenReturn(jobMap);
+
+    // When
+    schedulerLockAspect.runOnSingleNode(joinPoint, schedulerLock);
+
+    // Then
+    verify(joinPoint).proceed();
+    verify(jobMap, times(2)).putAll(anyMap());
+    verify(lock).unlock();
+  }
+
+  @Test
+  @DisplayName("다른 노드가 실행 중이면 건너뜀")
+  void skipsWhenLockHeldElsewhere() throws Throwable {
+    // Given
+    when(lock.tryLock(0, TimeUnit.MILLISECONDS)).thenReturn(false);
+
+    // When
+    schedulerLockAspect.runOnSingleNode(joinPoint, schedulerLock);
+
+    // Then
+    verify(joinPoint, never()).proceed();
+    verify(lock, never()).unlock();
+  }
+
+  @Test
+  @DisplayName("최소 실행 간격 안에 이미 실행되었으면 건너뜀")
+  void skipsWhenRanRecently() throws Throwable {
+    // Given
+    when(lock.tryLock(0, TimeUnit.MILLISECONDS)).thenReturn(true);
+    when(lock.isHeldByCurrentThread()).thenReturn(true);
+    when(redissonClient.<String, String>getMap(eq("scheduler:job:sample"), any(StringCodec.class)))
+        .thenReturn(jobMap);
+    when(jobMap.get("lastStartedAt")).thenReturn(String.valueOf(System.currentTimeMillis()));
+
+    // When
+    schedulerLockAspect.runOnSingleNode(joinPoint, schedulerLock);
+
+    // Then
+    verify(joinPoint, never()).proceed();
+    verify(lock).unlock();
+  }
+}
@@ -0,0 +1,54 @@
+package com.roome.global.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NgramTokenizerTest {
+
+  @Test
+  @DisplayName("공백을 제거하고 소문자로 정규화")
+  void normalize() {
+    assertThat(NgramTokenizer.normalize(" Harry  Potter ")).isEqualTo("harrypotter");
+    assertThat(NgramTokenizer.normalize(null)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("문서 gram은 필드별 1/2-gram과 한글 초성 gram을 포함")
+  void documentGrams() {
+    // Given
+    List<String> fields = List.of(NgramTokenizer.normalize("채식주의자"),
+        NgramTokenizer.normalize("한강"));
+
+    // When
+    Set<String> grams = NgramTokenizer.documentGrams(fields);
+
+    // Then
+    assertThat(grams).contains("채", "채식", "주의", "한강", "c:ㅊㅅ", "c:ㅎㄱ");
+    // 필드 경계를 넘는 gram은 없음
+    assertThat(grams).doesNotContain("자한");
+  }
+
+  @Test
+  @DisplayName("검색어 gram은 한 글자면 1-gram, 초성 검색어면 초성 gram")
+  void queryGrams() {
+    assertThat(NgramTokenizer.queryGrams("iu")).containsExactly("iu");
+    assertThat(NgramTokenizer.queryGrams("강")).containsExactly("강");
+    assertThat(NgramTokenizer.queryGrams("ㅎㄱ")).containsExactly("c:ㅎㄱ");
+  }
+
+  @Test
+  @DisplayName("후보 문서는 검색어를 실제로 포함할 때만 일치")
+  void matches() {
+    List<String> fields = List.of("abcab", "iu");
+
+    assertThat(NgramTokenizer.matches(fields, "abc")).isTrue();
+    // 2-gram(ab, ba)은 모두 있지만 "aba"는 포함하지 않음
+    assertThat(NgramTokenizer.matches(List.of("abxba"), "aba")).isFalse();
+    assertThat(NgramTokenizer.matches(List.of(NgramTokenizer.normalize("한강 작가")), "ㅎㄱㅈ"))
+        .isTrue();
+  }
+}
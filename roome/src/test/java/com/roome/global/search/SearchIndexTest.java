@@ -0,0 +1,44 @@
+package com.roome.global.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SearchIndexTest {
+
+  private final Function<Long, Stream<SearchDocument>> source = ownerId -> Stream.of(
+      SearchDocument.of(3L, "Harry Potter", "J.K. Rowling"),
+      SearchDocument.of(1L, "채식주의자", "한강"),
+      SearchDocument.of(5L, "소년이 온다", "한강"),
+      SearchDocument.of(4L, "Palette", "IU"));
+
+  @Test
+  @DisplayName("색인 없이 검사해도 공백을 무시하고 초성 검색을 지원")
+  void scanUsesIndexMatchingRules() {
+    // Given
+    SearchIndex index = new SearchIndex("test", null, false);
+
+    // When & Then
+    assertThat(index.scan(1L, "harrypot ter", null, 10, source)).containsExactly(3L);
+    assertThat(index.scan(1L, "ㅎㄱ", null, 10, source)).containsExactly(1L, 5L);
+  }
+
+  @Test
+  @DisplayName("색인 없이 검사한 결과도 정렬 방향과 커서, 개수 제한을 따름")
+  void scanFollowsOrderAndCursor() {
+    // Given
+    SearchIndex index = new SearchIndex("test", null, true);
+
+    // When
+    List<Long> firstPage = index.scan(1L, "한강", null, 1, source);
+    List<Long> nextPage = index.scan(1L, "한강", firstPage.get(0), 1, source);
+
+    // Then
+    assertThat(firstPage).containsExactly(5L);
+    assertThat(nextPage).containsExactly(1L);
+  }
+}